@@ -0,0 +1,304 @@
+package io.github.wmnjuguna.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor generating a JsonCodec for every record annotated with
+ * {@code io.github.wmnjuguna.codec.GenerateJsonCodec}.
+ *
+ * For a record Foo it writes FooJsonCodec next to it, with the JSON property names as
+ * precomputed SerializedStrings and a single switch over the field names for reading, and lists
+ * every generated codec in META-INF/services/io.github.wmnjuguna.codec.JsonCodec.
+ *
+ * The processor only knows the SDK's types by name, so it has no dependencies of its own.
+ */
+@SupportedAnnotationTypes(JsonCodecProcessor.ANNOTATION)
+public class JsonCodecProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "io.github.wmnjuguna.codec.GenerateJsonCodec";
+
+    private static final String CODEC = "io.github.wmnjuguna.codec.JsonCodec";
+    private static final String SUPPORT = "io.github.wmnjuguna.codec.JsonCodecSupport";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.RECORD) {
+                    error(element, "@GenerateJsonCodec can only be applied to records");
+                    continue;
+                }
+                generate((TypeElement) element);
+            }
+        }
+        if (roundEnv.processingOver() && !generated.isEmpty()) {
+            writeServiceFile();
+        }
+        return true;
+    }
+
+    private void generate(TypeElement record) {
+        List<Property> properties = new ArrayList<>();
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            ValueType valueType = ValueType.of(component.asType());
+            if (valueType == null) {
+                error(component, "Unsupported component type " + component.asType()
+                    + " for @GenerateJsonCodec; use String, int, long or boolean");
+                return;
+            }
+            properties.add(new Property(component.getSimpleName().toString(), jsonName(record, component), valueType));
+        }
+
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(record);
+        String packageName = packageElement.getQualifiedName().toString();
+        String qualifiedName = record.getQualifiedName().toString();
+        String recordName = packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+        String codecName = codecName(record);
+        String qualifiedCodecName = packageName.isEmpty() ? codecName : packageName + "." + codecName;
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedCodecName, record);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source(packageName, recordName, codecName, properties));
+            }
+            generated.add(qualifiedCodecName);
+        } catch (IOException e) {
+            error(record, "Failed to write " + qualifiedCodecName + ": " + e.getMessage());
+        }
+    }
+
+    private String source(String packageName, String recordName, String codecName, List<Property> properties) {
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("import com.fasterxml.jackson.core.JsonGenerator;\n")
+            .append("import com.fasterxml.jackson.core.JsonParser;\n")
+            .append("import com.fasterxml.jackson.core.JsonToken;\n")
+            .append("import com.fasterxml.jackson.core.io.SerializedString;\n")
+            .append("import ").append(CODEC).append(";\n")
+            .append("import ").append(SUPPORT).append(";\n\n")
+            .append("import java.io.IOException;\n\n")
+            .append("@javax.annotation.processing.Generated(\"").append(JsonCodecProcessor.class.getName()).append("\")\n")
+            .append("public final class ").append(codecName).append(" implements JsonCodec")
+            .append('<').append(recordName).append("> {\n\n");
+
+        out.append("    private static final Class<").append(recordName).append("> TYPE = ")
+            .append(recordName).append(".class;\n");
+        for (int i = 0; i < properties.size(); i++) {
+            out.append("    private static final SerializedString NAME_").append(i)
+                .append(" = new SerializedString(").append(literal(properties.get(i).jsonName())).append(");\n");
+        }
+        out.append('\n');
+
+        out.append("    @Override\n")
+            .append("    public Class<").append(recordName).append("> type() {\n")
+            .append("        return TYPE;\n")
+            .append("    }\n\n");
+
+        out.append("    @Override\n")
+            .append("    public void write(JsonGenerator generator, ").append(recordName).append(" value) throws IOException {\n")
+            .append("        generator.writeStartObject(value);\n");
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            String accessor = "value." + property.name() + "()";
+            if (property.type() == ValueType.STRING) {
+                out.append("        if (").append(accessor).append(" != null) {\n")
+                    .append("            generator.writeFieldName(NAME_").append(i).append(");\n")
+                    .append("            generator.writeString(").append(accessor).append(");\n")
+                    .append("        }\n");
+            } else {
+                out.append("        generator.writeFieldName(NAME_").append(i).append(");\n")
+                    .append("        generator.").append(property.type().writeMethod).append('(').append(accessor).append(");\n");
+            }
+        }
+        out.append("        generator.writeEndObject();\n")
+            .append("    }\n\n");
+
+        out.append("    @Override\n")
+            .append("    public ").append(recordName).append(" read(JsonParser parser) throws IOException {\n");
+        for (Property property : properties) {
+            out.append("        ").append(property.type().javaType).append(' ').append(local(property))
+                .append(" = ").append(property.type().defaultValue).append(";\n");
+        }
+        out.append("        JsonToken token = JsonCodecSupport.startObject(parser, TYPE);\n")
+            .append("        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {\n")
+            .append("            String name = parser.currentName();\n")
+            .append("            parser.nextToken();\n")
+            .append("            switch (name) {\n");
+        for (Property property : properties) {
+            out.append("                case ").append(literal(property.jsonName())).append(" -> ").append(local(property))
+                .append(" = JsonCodecSupport.").append(property.type().readMethod)
+                .append("(parser, TYPE);\n");
+        }
+        out.append("                default -> parser.skipChildren();\n")
+            .append("            }\n")
+            .append("        }\n")
+            .append("        JsonCodecSupport.endObject(parser, token, TYPE);\n")
+            .append("        return new ").append(recordName).append('(');
+        for (int i = 0; i < properties.size(); i++) {
+            out.append(i == 0 ? "" : ", ").append(local(properties.get(i)));
+        }
+        out.append(");\n")
+            .append("    }\n")
+            .append("}\n");
+        return out.toString();
+    }
+
+    private void writeServiceFile() {
+        try {
+            FileObject file = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + CODEC);
+            try (Writer writer = file.openWriter()) {
+                for (String codec : generated) {
+                    writer.write(codec);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Failed to write META-INF/services/" + CODEC + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finds the JSON name of a component. {@code @JsonProperty} does not target record
+     * components, so javac propagates it to the accessor and the field only.
+     */
+    private String jsonName(TypeElement record, RecordComponentElement component) {
+        String name = component.getSimpleName().toString();
+        ExecutableElement accessor = component.getAccessor();
+        String value = accessor == null ? null : jsonPropertyValue(accessor);
+        if (value == null) {
+            for (VariableElement field : ElementFilter.fieldsIn(record.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC) && field.getSimpleName().contentEquals(name)) {
+                    value = jsonPropertyValue(field);
+                }
+            }
+        }
+        return value == null || value.isEmpty() ? name : value;
+    }
+
+    private static String jsonPropertyValue(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (!type.getQualifiedName().contentEquals(JSON_PROPERTY)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    return (String) entry.getValue().getValue();
+                }
+            }
+            return null;
+        }
+        return null;
+    }
+
+    /**
+     * Names the codec after the record, prefixed with its enclosing types for nested records.
+     */
+    private static String codecName(TypeElement record) {
+        StringBuilder name = new StringBuilder(record.getSimpleName());
+        Element enclosing = record.getEnclosingElement();
+        while (enclosing instanceof TypeElement type) {
+            name.insert(0, type.getSimpleName() + "_");
+            enclosing = type.getEnclosingElement();
+        }
+        return name.append("JsonCodec").toString();
+    }
+
+    private static String local(Property property) {
+        return "_" + property.name();
+    }
+
+    private static String literal(String value) {
+        StringBuilder out = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private record Property(String name, String jsonName, ValueType type) {}
+
+    private enum ValueType {
+        STRING("String", "null", "writeString", "readString"),
+        INT("int", "0", "writeNumber", "readInt"),
+        LONG("long", "0L", "writeNumber", "readLong"),
+        BOOLEAN("boolean", "false", "writeBoolean", "readBoolean");
+
+        private final String javaType;
+        private final String defaultValue;
+        private final String writeMethod;
+        private final String readMethod;
+
+        ValueType(String javaType, String defaultValue, String writeMethod, String readMethod) {
+            this.javaType = javaType;
+            this.defaultValue = defaultValue;
+            this.writeMethod = writeMethod;
+            this.readMethod = readMethod;
+        }
+
+        static ValueType of(TypeMirror type) {
+            return switch (type.getKind()) {
+                case INT -> INT;
+                case LONG -> LONG;
+                case BOOLEAN -> BOOLEAN;
+                case DECLARED -> type.toString().equals("java.lang.String") ? STRING : null;
+                default -> null;
+            };
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.wmnjuguna.benchmark;
+
+import io.github.wmnjuguna.auth.AuthResponse;
+import io.github.wmnjuguna.auth.DarajaAuthInterceptor;
+import feign.RequestTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Cost of adding the bearer token to a request when many threads share one interceptor
+ * and the cached token is valid, which is the case for almost every request.
+ */
+@State(Scope.Benchmark)
+public class DarajaAuthInterceptorBenchmark {
+
+    private DarajaAuthInterceptor interceptor;
+
+    @Setup
+    public void setUp() {
+        interceptor = new DarajaAuthInterceptor(
+            authorization -> new AuthResponse("benchmark_token", "3599"), "consumer_key", "consumer_secret");
+        interceptor.apply(template());
+    }
+
+    @TearDown
+    public void tearDown() {
+        interceptor.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public RequestTemplate applyUncontended() {
+        RequestTemplate template = template();
+        interceptor.apply(template);
+        return template;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public RequestTemplate applyContended() {
+        RequestTemplate template = template();
+        interceptor.apply(template);
+        return template;
+    }
+
+    private static RequestTemplate template() {
+        return new RequestTemplate().uri("/mpesa/stkpush/v1/processrequest");
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.wmnjuguna.benchmark;
+
+import io.github.wmnjuguna.error.DarajaErrorDecoder;
+import feign.Request;
+import feign.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+/**
+ * Cost of turning a Daraja error response into an exception.
+ */
+@State(Scope.Benchmark)
+public class DarajaErrorDecoderBenchmark {
+
+    private static final Request REQUEST = Request.create(
+        Request.HttpMethod.POST, "https://sandbox.safaricom.co.ke/mpesa/stkpush/v1/processrequest",
+        Collections.emptyMap(), null, StandardCharsets.UTF_8, null
+    );
+
+    @Param({"400", "503"})
+    public int status;
+
+    private DarajaErrorDecoder decoder;
+    private DarajaErrorDecoder decoderWithoutStackTraces;
+    private byte[] body;
+    private byte[] gatewayPage;
+
+    @Setup
+    public void setUp() {
+        decoder = new DarajaErrorDecoder();
+        decoderWithoutStackTraces = new DarajaErrorDecoder(DarajaErrorDecoder.DEFAULT_MAX_BODY_BYTES, false);
+        body = ("{\"requestId\":\"11728-2929992-1\",\"errorCode\":\"" + status
+            + ".002.02\",\"errorMessage\":\"Bad Request - Invalid Amount\"}").getBytes(StandardCharsets.UTF_8);
+        gatewayPage = ("<html><head><title>" + status + "</title></head><body>"
+            + "<p>The upstream server is temporarily unavailable.</p>".repeat(4_000) + "</body></html>")
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Exception decode() {
+        return decoder.decode("DarajaApiClient#initiateStkPush(StkPushRequest)", response(body));
+    }
+
+    /**
+     * The same decode with stack trace capture disabled, as configured by
+     * DarajaClientFactory#omitErrorStackTraces.
+     */
+    @Benchmark
+    public Exception decodeWithoutStackTrace() {
+        return decoderWithoutStackTraces.decode("DarajaApiClient#initiateStkPush(StkPushRequest)", response(body));
+    }
+
+    /**
+     * A 200 KB HTML page from a gateway in front of Daraja, of which only the first
+     * DEFAULT_MAX_BODY_BYTES are read.
+     */
+    @Benchmark
+    public Exception decodeGatewayPage() {
+        return decoder.decode("DarajaApiClient#initiateStkPush(StkPushRequest)", response(gatewayPage));
+    }
+
+    private Response response(byte[] responseBody) {
+        return Response.builder()
+            .status(status)
+            .reason("Error")
+            .request(REQUEST)
+            .headers(Collections.emptyMap())
+            .body(responseBody)
+            .build();
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.wmnjuguna.benchmark;
+
+import io.github.wmnjuguna.stkpush.StkPushCallback;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cost of deserializing an STK Push callback and reading its metadata items.
+ */
+@State(Scope.Benchmark)
+public class StkPushCallbackBenchmark {
+
+    static final byte[] SUCCESSFUL_CALLBACK = """
+        {"Body":{"stkCallback":{
+          "MerchantRequestID":"29115-34620561-1",
+          "CheckoutRequestID":"ws_CO_191220191020363925",
+          "ResultCode":0,
+          "ResultDesc":"The service request is processed successfully.",
+          "CallbackMetadata":{"Item":[
+            {"Name":"Amount","Value":1.00},
+            {"Name":"MpesaReceiptNumber","Value":"NLJ7RT61SV"},
+            {"Name":"TransactionDate","Value":20191219102115},
+            {"Name":"PhoneNumber","Value":254708374149}
+          ]}
+        }}}
+        """.getBytes(StandardCharsets.UTF_8);
+
+    private ObjectMapper objectMapper;
+    private StkPushCallback.CallbackMetadata metadata;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        metadata = deserialize().body().stkCallback().callbackMetadata();
+    }
+
+    @Benchmark
+    public StkPushCallback deserialize() throws IOException {
+        return objectMapper.readValue(SUCCESSFUL_CALLBACK, StkPushCallback.class);
+    }
+
+    @Benchmark
+    public void readMetadata(Blackhole blackhole) {
+        blackhole.consume(metadata.getAmount());
+        blackhole.consume(metadata.getAmountMinorUnits());
+        blackhole.consume(metadata.getReceiptNumber());
+        blackhole.consume(metadata.getTransactionDate());
+        blackhole.consume(metadata.getPhoneNumber());
+    }
+
+    @Benchmark
+    public Object getItemValueMissing() {
+        return metadata.getItemValue("Balance", null);
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.wmnjuguna.benchmark;
+
+import io.github.wmnjuguna.stkpush.StkPushCallback;
+import io.github.wmnjuguna.webhook.StkPushCallbackFields;
+import io.github.wmnjuguna.webhook.StkPushCallbackParser;
+import io.github.wmnjuguna.webhook.StkPushCallbackStreamParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of turning a raw STK Push callback body into the fields a payment handler reads,
+ * through the record model and through the streaming parser.
+ *
+ * Ingesting 50,000 callbacks per second on one core leaves 20,000 ns per callback for
+ * parsing and handling together. Run with {@code -prof gc} to compare allocation per callback.
+ */
+@State(Scope.Thread)
+public class StkPushCallbackParserBenchmark {
+
+    private final StkPushCallbackFields fields = new StkPushCallbackFields();
+
+    @Benchmark
+    public void parseRecords(Blackhole blackhole) {
+        StkPushCallback.StkCallback callback = StkPushCallbackParser.parse(StkPushCallbackBenchmark.SUCCESSFUL_CALLBACK)
+            .body().stkCallback();
+        StkPushCallback.CallbackMetadata metadata = callback.callbackMetadata();
+        blackhole.consume(callback.checkoutRequestID());
+        blackhole.consume(callback.resultCode());
+        blackhole.consume(metadata.getAmountMinorUnits());
+        blackhole.consume(metadata.getReceiptNumber());
+        blackhole.consume(metadata.getTransactionDate());
+        blackhole.consume(metadata.getPhoneNumber());
+    }
+
+    @Benchmark
+    public void parseStreaming(Blackhole blackhole) {
+        StkPushCallbackStreamParser.parse(StkPushCallbackBenchmark.SUCCESSFUL_CALLBACK, fields);
+        blackhole.consume(fields.getCheckoutRequestId());
+        blackhole.consume(fields.getResultCode());
+        blackhole.consume(fields.getAmountMinorUnits());
+        blackhole.consume(fields.getReceiptNumber());
+        blackhole.consume(fields.getTransactionDate());
+        blackhole.consume(fields.getPhoneNumber());
+    }
+}
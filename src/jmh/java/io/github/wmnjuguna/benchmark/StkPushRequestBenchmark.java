@@ -0,0 +1,70 @@
+package io.github.wmnjuguna.benchmark;
+
+import io.github.wmnjuguna.codec.DarajaJsonEncoder;
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import feign.RequestTemplate;
+import feign.codec.Encoder;
+import feign.jackson.JacksonEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of building an STK Push request and serializing it the way the Feign client does.
+ * Run with {@code -prof gc} and compare gc.alloc.rate.norm of encode and encodeFeignJackson
+ * for the bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+public class StkPushRequestBenchmark {
+
+    private Encoder encoder;
+    private Encoder jacksonEncoder;
+    private StkPushRequest request;
+
+    @Setup
+    public void setUp() {
+        encoder = new DarajaJsonEncoder();
+        jacksonEncoder = new JacksonEncoder();
+        request = build();
+    }
+
+    @Benchmark
+    public StkPushRequest build() {
+        return StkPushRequest.builder()
+            .businessShortCode("174379")
+            .password("MTc0Mzc5YmZiMjc5ZjlhYTliZGJjZjE1OGU5N2RkNzFhNDY3Y2QyZTBjODkzMDU5YjEwZjc4ZTZiNzJhZGExZWQyYzkxOTIwMjUwOTE1MTAwMDAw")
+            .timestamp("20250915100000")
+            .amount(1)
+            .phoneNumber("254708374149")
+            .callBackURL("https://example.com/callback")
+            .accountReference("account")
+            .transactionDesc("description")
+            .build();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        RequestTemplate template = new RequestTemplate();
+        encoder.encode(request, StkPushRequest.class, template);
+        return template.body();
+    }
+
+    /**
+     * Baseline: Feign's JacksonEncoder with reflection-based serialization, which the clients used
+     * before the shared DarajaJson configuration and the generated codecs.
+     */
+    @Benchmark
+    public byte[] encodeFeignJackson() {
+        RequestTemplate template = new RequestTemplate();
+        jacksonEncoder.encode(request, StkPushRequest.class, template);
+        return template.body();
+    }
+
+    @Benchmark
+    public byte[] buildAndEncode() {
+        RequestTemplate template = new RequestTemplate();
+        encoder.encode(build(), StkPushRequest.class, template);
+        return template.body();
+    }
+}
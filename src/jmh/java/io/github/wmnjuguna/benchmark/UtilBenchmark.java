@@ -0,0 +1,29 @@
+package io.github.wmnjuguna.benchmark;
+
+import io.github.wmnjuguna.util.CallbackUrlValidator;
+import io.github.wmnjuguna.util.StkPushPasswordUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of the request-preparation utilities called for every STK Push.
+ */
+@State(Scope.Benchmark)
+public class UtilBenchmark {
+
+    @Param({"https://example.com/mpesa/callback", "http://localhost:8080/callback"})
+    public String callbackUrl;
+
+    @Benchmark
+    public String generatePassword() {
+        return StkPushPasswordUtil.generatePassword(
+            "174379", "bfb279f9aa9bdbcf158e97dd71a467cd2e0c893059b10f78e6b72ada1ed2c919", "20250915100000");
+    }
+
+    @Benchmark
+    public CallbackUrlValidator.ValidationResult validateCallbackUrl() {
+        return CallbackUrlValidator.validate(callbackUrl);
+    }
+}
@@ -2,22 +2,96 @@ package io.github.wmnjuguna;
 
 import io.github.wmnjuguna.auth.DarajaAuthClient;
 import io.github.wmnjuguna.auth.DarajaAuthInterceptor;
+import io.github.wmnjuguna.auth.InMemoryTokenStore;
+import io.github.wmnjuguna.auth.TokenRefreshConfig;
+import io.github.wmnjuguna.auth.TokenRefreshStats;
+import io.github.wmnjuguna.auth.TokenStore;
+import io.github.wmnjuguna.circuitbreaker.CircuitBreakerInvocationHandlerFactory;
+import io.github.wmnjuguna.circuitbreaker.CircuitBreakerRegistry;
+import io.github.wmnjuguna.codec.DarajaJsonDecoder;
+import io.github.wmnjuguna.codec.DarajaJsonEncoder;
 import io.github.wmnjuguna.error.DarajaErrorDecoder;
+import io.github.wmnjuguna.jfr.FlightRecorderClient;
+import io.github.wmnjuguna.metrics.DarajaMetricsRecorder;
+import io.github.wmnjuguna.metrics.MetricsInvocationHandlerFactory;
+import io.github.wmnjuguna.ratelimit.RateLimitInterceptor;
+import io.github.wmnjuguna.ratelimit.RateLimiterRegistry;
+import io.github.wmnjuguna.reactive.ReactiveDarajaApiClient;
+import io.github.wmnjuguna.retry.DarajaRetryer;
+import io.github.wmnjuguna.retry.RetryBudget;
+import io.github.wmnjuguna.retry.RetryConfig;
+import io.github.wmnjuguna.retry.RetryableErrorDecoder;
+import io.github.wmnjuguna.timeout.TimeoutClient;
+import io.github.wmnjuguna.timeout.TimeoutConfig;
+import io.github.wmnjuguna.tracing.DarajaTracing;
+import io.github.wmnjuguna.transport.ConnectionPoolConfig;
+import io.github.wmnjuguna.transport.PooledTransport;
+import feign.AsyncFeign;
+import feign.Client;
+import feign.ExceptionPropagationPolicy;
 import feign.Feign;
-import feign.jackson.JacksonDecoder;
-import feign.jackson.JacksonEncoder;
+import feign.InvocationHandlerFactory;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.Retryer;
+import feign.codec.ErrorDecoder;
+import feign.http2client.Http2Client;
 import feign.slf4j.Slf4jLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Factory class for creating and configuring Daraja API clients.
  * Centralizes client construction and handles authentication setup.
+ *
+ * By default clients use Feign's built-in HttpURLConnection transport.
+ * Call {@link #connectionPool(ConnectionPoolConfig)} before creating clients to
+ * use a pooled keep-alive transport instead, and {@link #close()} the factory
+ * when the clients are no longer needed.
+ *
+ * Call {@link #virtualThreads()} to run the SDK on virtual threads instead: clients then use
+ * the java.net.http transport, which parks rather than pins virtual threads.
+ *
+ * All clients created by one factory share a single authentication interceptor,
+ * so they reuse the same cached access token. All clients in the JVM share one JSON
+ * configuration, see {@link io.github.wmnjuguna.codec.DarajaJson}.
  */
-public class DarajaClientFactory {
+public class DarajaClientFactory implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DarajaClientFactory.class);
+
+    private static final DarajaJsonEncoder ENCODER = new DarajaJsonEncoder();
+    private static final DarajaJsonDecoder DECODER = new DarajaJsonDecoder();
 
     private final String baseUrl;
     private final String consumerKey;
     private final String consumerSecret;
 
+    private ConnectionPoolConfig connectionPoolConfig;
+    private boolean virtualThreads;
+    private TokenRefreshConfig tokenRefreshConfig;
+    private TokenStore tokenStore = new InMemoryTokenStore();
+    private RateLimiterRegistry rateLimiterRegistry;
+    private RetryConfig retryConfig;
+    private RetryBudget retryBudget;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private TimeoutConfig timeoutConfig = TimeoutConfig.defaults();
+    private DarajaMetricsRecorder metricsRecorder;
+    private DarajaTracing tracing;
+    private boolean errorStackTraces = true;
+    private PooledTransport pooledTransport;
+    private ExecutorService virtualThreadExecutor;
+    private HttpClient asyncHttpClient;
+    private DarajaAuthInterceptor authInterceptor;
+
     public DarajaClientFactory(DarajaEnvironment environment, String consumerKey, String consumerSecret) {
         this(environment.getBaseUrl(), consumerKey, consumerSecret);
     }
@@ -38,27 +112,514 @@ public class DarajaClientFactory {
         this.consumerSecret = consumerSecret.trim();
     }
 
-    public DarajaApiClient createApiClient() {
-        DarajaAuthClient authClient = createAuthClient();
+    /**
+     * Configures the factory to use a pooled keep-alive HTTP transport.
+     * The pool is shared by every client this factory creates, including the
+     * authentication client, and is released when the factory is closed.
+     *
+     * @param config the connection pool configuration
+     * @return this factory
+     * @throws IllegalArgumentException if config is null
+     * @throws IllegalStateException    if the pooled transport has already been created
+     */
+    public synchronized DarajaClientFactory connectionPool(ConnectionPoolConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Connection pool configuration cannot be null");
+        }
+        if (pooledTransport != null || authInterceptor != null) {
+            throw new IllegalStateException("Connection pool cannot be changed after clients have been created");
+        }
+        if (virtualThreads) {
+            throw new IllegalStateException("Connection pool cannot be combined with virtual-thread mode");
+        }
+        this.connectionPoolConfig = config;
+        return this;
+    }
 
-        DarajaAuthInterceptor authInterceptor = new DarajaAuthInterceptor(
-            authClient, consumerKey, consumerSecret
-        );
+    /**
+     * Configures the factory to renew access tokens in the background ahead of expiry.
+     * Without this, the token is refreshed lazily by the first request that finds it
+     * about to expire, and concurrent requests wait for that OAuth round trip.
+     *
+     * @param config the refresh-ahead configuration
+     * @return this factory
+     * @throws IllegalArgumentException if config is null
+     * @throws IllegalStateException    if clients have already been created
+     */
+    public synchronized DarajaClientFactory tokenRefresh(TokenRefreshConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Token refresh configuration cannot be null");
+        }
+        if (authInterceptor != null) {
+            throw new IllegalStateException("Token refresh cannot be changed after clients have been created");
+        }
+        this.tokenRefreshConfig = config;
+        return this;
+    }
+
+    /**
+     * Configures where access tokens are kept.
+     * Pass a shared store, such as a JdbcTokenStore, so that all nodes using the same
+     * credentials share one token and only one of them refreshes it at a time.
+     *
+     * @param tokenStore the token store
+     * @return this factory
+     * @throws IllegalArgumentException if tokenStore is null
+     * @throws IllegalStateException    if clients have already been created
+     */
+    public synchronized DarajaClientFactory tokenStore(TokenStore tokenStore) {
+        if (tokenStore == null) {
+            throw new IllegalArgumentException("Token store cannot be null");
+        }
+        if (authInterceptor != null) {
+            throw new IllegalStateException("Token store cannot be changed after clients have been created");
+        }
+        this.tokenStore = tokenStore;
+        return this;
+    }
+
+    /**
+     * Configures client-side rate limits for the API clients created by this factory.
+     * Requests take a permit from their endpoint's limiter before being sent, so bursts are
+     * smoothed to the configured quota instead of being answered with HTTP 429.
+     * The limiters are shared by every client of this factory.
+     *
+     * @param registry the per-endpoint rate limiters
+     * @return this factory
+     * @throws IllegalArgumentException if registry is null
+     * @throws IllegalStateException    if clients have already been created
+     */
+    public synchronized DarajaClientFactory rateLimits(RateLimiterRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Rate limiter registry cannot be null");
+        }
+        if (authInterceptor != null) {
+            throw new IllegalStateException("Rate limits cannot be changed after clients have been created");
+        }
+        this.rateLimiterRegistry = registry;
+        return this;
+    }
+
+    /**
+     * Configures retries of transient failures for the API clients created by this factory.
+     * Idempotent operations are retried on HTTP 429/500/502/503/504 and I/O errors; operations
+     * that move money only on 429 or when no connection could be made. All clients of this
+     * factory share one retry budget. Without this, Feign's default retryer is used.
+     *
+     * @param config the retry configuration
+     * @return this factory
+     * @throws IllegalArgumentException if config is null
+     * @throws IllegalStateException    if clients have already been created
+     */
+    public synchronized DarajaClientFactory retry(RetryConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Retry configuration cannot be null");
+        }
+        if (authInterceptor != null) {
+            throw new IllegalStateException("Retry cannot be changed after clients have been created");
+        }
+        this.retryConfig = config;
+        this.retryBudget = new RetryBudget(config.getBudgetRatio(), config.getBudgetCapacity());
+        return this;
+    }
+
+    /**
+     * Configures per-endpoint circuit breakers for the API clients created by this factory.
+     * While an endpoint's circuit is open, calls to it fail immediately with
+     * DarajaCircuitOpenException instead of waiting on a degraded Safaricom service.
+     * A call and its retries count as a single outcome.
+     *
+     * @param registry the per-endpoint circuit breakers
+     * @return this factory
+     * @throws IllegalArgumentException if registry is null
+     * @throws IllegalStateException    if clients have already been created
+     */
+    public synchronized DarajaClientFactory circuitBreakers(CircuitBreakerRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Circuit breaker registry cannot be null");
+        }
+        if (authInterceptor != null) {
+            throw new IllegalStateException("Circuit breakers cannot be changed after clients have been created");
+        }
+        this.circuitBreakerRegistry = registry;
+        return this;
+    }
+
+    /**
+     * Configures the connect timeout and the per-operation read timeouts of the clients created
+     * by this factory, including the client that requests access tokens.
+     * Without this, Feign's defaults of 10 seconds to connect and 60 seconds to read apply.
+     * Blocking calls made within a {@link io.github.wmnjuguna.timeout.Deadline} are additionally
+     * limited to the time remaining on it.
+     *
+     * @param config the timeout configuration
+     * @return this factory
+     * @throws IllegalArgumentException if config is null
+     * @throws IllegalStateException    if clients have already been created
+     */
+    public synchronized DarajaClientFactory timeouts(TimeoutConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Timeout configuration cannot be null");
+        }
+        if (authInterceptor != null || asyncHttpClient != null) {
+            throw new IllegalStateException("Timeouts cannot be changed after clients have been created");
+        }
+        this.timeoutConfig = config;
+        return this;
+    }
+
+    /**
+     * Records metrics of the clients created by this factory: the duration and outcome of every
+     * API call, access token refreshes and, with a connection pool, the pool's connections.
+     * Use {@link io.github.wmnjuguna.metrics.MicrometerMetricsRecorder} to publish them to Micrometer.
+     *
+     * @param recorder the metrics recorder
+     * @return this factory
+     * @throws IllegalArgumentException if recorder is null
+     * @throws IllegalStateException    if clients have already been created
+     */
+    public synchronized DarajaClientFactory metrics(DarajaMetricsRecorder recorder) {
+        if (recorder == null) {
+            throw new IllegalArgumentException("Metrics recorder cannot be null");
+        }
+        if (authInterceptor != null || pooledTransport != null) {
+            throw new IllegalStateException("Metrics cannot be changed after clients have been created");
+        }
+        this.metricsRecorder = recorder;
+        return this;
+    }
+
+    /**
+     * Traces the clients created by this factory with OpenTelemetry: every API call gets a
+     * client span, and access token refreshes made for a call become its child spans.
+     * Use the same DarajaTracing to wrap your STK Push callback handler, so that callbacks
+     * continue the trace of the request that initiated the payment.
+     *
+     * @param tracing the OpenTelemetry tracing
+     * @return this factory
+     * @throws IllegalArgumentException if tracing is null
+     * @throws IllegalStateException    if clients have already been created
+     */
+    public synchronized DarajaClientFactory tracing(DarajaTracing tracing) {
+        if (tracing == null) {
+            throw new IllegalArgumentException("Tracing cannot be null");
+        }
+        if (authInterceptor != null) {
+            throw new IllegalStateException("Tracing cannot be changed after clients have been created");
+        }
+        this.tracing = tracing;
+        return this;
+    }
+
+    /**
+     * Creates the exceptions decoded from Daraja error responses without a stack trace.
+     * Their trace only shows Feign's internals, and filling it in is the largest cost of
+     * decoding an error, which adds up when a failing upstream is called at high rates.
+     *
+     * @return this factory
+     * @throws IllegalStateException if clients have already been created
+     */
+    public synchronized DarajaClientFactory omitErrorStackTraces() {
+        if (authInterceptor != null) {
+            throw new IllegalStateException("Error stack traces cannot be changed after clients have been created");
+        }
+        this.errorStackTraces = false;
+        return this;
+    }
+
+    /**
+     * Configures the factory to run on virtual threads.
+     * Both blocking and asynchronous clients send requests with java.net.http.HttpClient,
+     * whose blocking calls park virtual threads instead of pinning their carrier threads
+     * (unlike HttpURLConnection), and response handling runs on a virtual-thread-per-task
+     * executor. Blocking calls can be dispatched on the same executor through
+     * {@link #virtualThreadExecutor()}.
+     *
+     * @return this factory
+     * @throws IllegalStateException if clients have already been created or a connection pool is configured
+     */
+    public synchronized DarajaClientFactory virtualThreads() {
+        if (authInterceptor != null || asyncHttpClient != null) {
+            throw new IllegalStateException("Virtual-thread mode cannot be enabled after clients have been created");
+        }
+        if (connectionPoolConfig != null) {
+            throw new IllegalStateException("Virtual-thread mode cannot be combined with a connection pool");
+        }
+        this.virtualThreads = true;
+        return this;
+    }
+
+    /**
+     * Gets the virtual-thread-per-task executor used in virtual-thread mode.
+     * Submitting blocking DarajaApiClient calls to this executor runs each call on its own
+     * virtual thread, so thousands of pending calls only need a handful of carrier threads.
+     *
+     * @return the shared virtual-thread executor
+     * @throws IllegalStateException if virtual-thread mode is not enabled
+     */
+    public synchronized ExecutorService virtualThreadExecutor() {
+        if (!virtualThreads) {
+            throw new IllegalStateException("Virtual-thread mode is not enabled");
+        }
+        return taskExecutor();
+    }
 
+    public DarajaApiClient createApiClient() {
         return Feign.builder()
-            .encoder(new JacksonEncoder())
-            .decoder(new JacksonDecoder())
-            .errorDecoder(new DarajaErrorDecoder())
+            .client(httpClient())
+            .options(requestOptions())
+            .encoder(ENCODER)
+            .decoder(DECODER)
+            .errorDecoder(errorDecoder())
+            .retryer(retryer())
+            .exceptionPropagationPolicy(exceptionPropagationPolicy())
+            .invocationHandlerFactory(invocationHandlerFactory())
             .logger(new Slf4jLogger(DarajaApiClient.class))
-            .requestInterceptor(authInterceptor)
+            .requestInterceptors(requestInterceptors())
             .target(DarajaApiClient.class, baseUrl);
     }
 
+    /**
+     * Creates an asynchronous Daraja API client.
+     * Requests are sent with the non-blocking java.net.http.HttpClient, so waiting for
+     * Safaricom does not hold a thread. The client shares this factory's authentication
+     * interceptor and error decoding with the blocking client.
+     *
+     * @return a new AsyncDarajaApiClient
+     */
+    public AsyncDarajaApiClient createAsyncApiClient() {
+        return AsyncFeign.builder()
+            .client(TimeoutClient.async(FlightRecorderClient.async(new Http2Client(asyncHttpClient())), timeoutConfig))
+            .options(http2RequestOptions())
+            .encoder(ENCODER)
+            .decoder(DECODER)
+            .errorDecoder(errorDecoder())
+            .retryer(retryer())
+            .exceptionPropagationPolicy(exceptionPropagationPolicy())
+            .invocationHandlerFactory(invocationHandlerFactory())
+            .logger(new Slf4jLogger(AsyncDarajaApiClient.class))
+            .requestInterceptors(requestInterceptors())
+            .target(AsyncDarajaApiClient.class, baseUrl);
+    }
+
+    /**
+     * Creates a reactive Daraja API client whose operations are JDK Flow publishers.
+     * Requests are sent with the asynchronous client, and token refreshes run on a
+     * virtual thread so that subscribers are never blocked on the OAuth call.
+     *
+     * @return a new ReactiveDarajaApiClient
+     */
+    public ReactiveDarajaApiClient createReactiveApiClient() {
+        return new ReactiveDarajaApiClient(createAsyncApiClient(), authInterceptor(), taskExecutor());
+    }
+
+    /**
+     * Gets the access token refresh counters of the clients created by this factory.
+     *
+     * @return the token refresh statistics
+     */
+    public TokenRefreshStats tokenRefreshStats() {
+        return authInterceptor().getRefreshStats();
+    }
+
+    /**
+     * Stops background token refresh and releases the HTTP transports created by this factory.
+     * Clients created by this factory must not be used after it is closed.
+     */
+    @Override
+    public synchronized void close() {
+        if (authInterceptor != null) {
+            authInterceptor.close();
+        }
+        if (asyncHttpClient != null) {
+            asyncHttpClient.close();
+            asyncHttpClient = null;
+        }
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+            virtualThreadExecutor = null;
+        }
+        if (pooledTransport == null) {
+            return;
+        }
+        try {
+            pooledTransport.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close pooled Daraja HTTP transport", e);
+        } finally {
+            pooledTransport = null;
+        }
+    }
+
+    /**
+     * Gets the authentication interceptor shared by all clients of this factory.
+     *
+     * @return the shared DarajaAuthInterceptor
+     */
+    private synchronized DarajaAuthInterceptor authInterceptor() {
+        if (authInterceptor == null) {
+            authInterceptor = new DarajaAuthInterceptor(
+                createAuthClient(), consumerKey, consumerSecret, tokenRefreshConfig, tokenStore
+            );
+            if (metricsRecorder != null) {
+                authInterceptor.addRefreshListener(metricsRecorder::recordTokenRefresh);
+            }
+            if (tracing != null) {
+                authInterceptor.addRefreshListener(tracing.tokenRefreshListener());
+            }
+        }
+        return authInterceptor;
+    }
+
+    /**
+     * Gets the request interceptors of the API clients: the rate limiter, if configured,
+     * runs first so that requests waiting for a permit do not hold a freshly read token.
+     *
+     * @return the ordered request interceptors
+     */
+    private List<RequestInterceptor> requestInterceptors() {
+        List<RequestInterceptor> interceptors = new ArrayList<>();
+        if (rateLimiterRegistry != null) {
+            interceptors.add(new RateLimitInterceptor(rateLimiterRegistry));
+        }
+        interceptors.add(authInterceptor());
+        return interceptors;
+    }
+
+    private ErrorDecoder errorDecoder() {
+        DarajaErrorDecoder decoder = new DarajaErrorDecoder(DarajaErrorDecoder.DEFAULT_MAX_BODY_BYTES, errorStackTraces);
+        return retryConfig == null ? decoder : new RetryableErrorDecoder(decoder);
+    }
+
+    private Retryer retryer() {
+        return retryConfig == null ? new Retryer.Default() : new DarajaRetryer(retryConfig, retryBudget);
+    }
+
+    /**
+     * Gets the exception propagation policy of the API clients. With retries configured, the
+     * decoded Daraja exception is unwrapped from Feign's RetryableException once retrying stops.
+     *
+     * @return the exception propagation policy
+     */
+    private ExceptionPropagationPolicy exceptionPropagationPolicy() {
+        return retryConfig == null ? ExceptionPropagationPolicy.NONE : ExceptionPropagationPolicy.UNWRAP;
+    }
+
+    /**
+     * Gets the invocation handler factory of the API clients. Metrics are recorded outside the
+     * circuit breaker, so calls rejected by an open circuit are measured as well, and the tracing
+     * span encloses everything, so it is current while request interceptors refresh the token.
+     *
+     * @return the invocation handler factory
+     */
+    private InvocationHandlerFactory invocationHandlerFactory() {
+        InvocationHandlerFactory factory = new InvocationHandlerFactory.Default();
+        if (circuitBreakerRegistry != null) {
+            factory = new CircuitBreakerInvocationHandlerFactory(circuitBreakerRegistry, factory);
+        }
+        if (metricsRecorder != null) {
+            factory = new MetricsInvocationHandlerFactory(metricsRecorder, factory);
+        }
+        if (tracing != null) {
+            factory = tracing.invocationHandlerFactory(factory);
+        }
+        return factory;
+    }
+
     private DarajaAuthClient createAuthClient() {
         return Feign.builder()
-            .encoder(new JacksonEncoder())
-            .decoder(new JacksonDecoder())
+            .client(httpClient())
+            .options(requestOptions())
+            .encoder(ENCODER)
+            .decoder(DECODER)
             .logger(new Slf4jLogger(DarajaAuthClient.class))
             .target(DarajaAuthClient.class, baseUrl);
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the Feign request options of the blocking clients. In virtual-thread mode they send
+     * with Http2Client and need its options; otherwise Feign's defaults apply, so
+     * HttpURLConnection and the pooled client keep following redirects.
+     *
+     * @return the request options
+     */
+    private Request.Options requestOptions() {
+        return virtualThreads ? http2RequestOptions() : new Request.Options();
+    }
+
+    /**
+     * Gets the Feign request options of clients sending with Http2Client. They must agree with
+     * the shared HttpClient's redirect policy and connect timeout: Http2Client only sends with
+     * the HttpClient it is given while they do, and otherwise builds and caches a client of its own.
+     *
+     * @return the request options
+     */
+    private Request.Options http2RequestOptions() {
+        return new Request.Options(
+            timeoutConfig.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+            timeoutConfig.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS,
+            false
+        );
+    }
+
+    /**
+     * Gets the Feign client used to execute HTTP requests, with the configured timeouts applied
+     * and every exchange recorded as a JFR event.
+     *
+     * @return the java.net.http client in virtual-thread mode, the pooled client if a connection
+     *         pool is configured, otherwise Feign's default client
+     */
+    private Client httpClient() {
+        // Http2Client needs a constant connect timeout to keep sending with the shared HttpClient
+        return new TimeoutClient(new FlightRecorderClient(transportClient()), timeoutConfig, virtualThreads);
+    }
+
+    private synchronized Client transportClient() {
+        if (virtualThreads) {
+            return new Http2Client(asyncHttpClient());
+        }
+        if (connectionPoolConfig == null) {
+            return new Client.Default(null, null);
+        }
+        if (pooledTransport == null) {
+            pooledTransport = PooledTransport.create(connectionPoolConfig);
+            if (metricsRecorder != null) {
+                metricsRecorder.bindConnectionPool(pooledTransport::getPoolStats);
+            }
+        }
+        return pooledTransport.client();
+    }
+
+    /**
+     * Gets the virtual-thread-per-task executor shared by virtual-thread mode and
+     * reactive token refreshes.
+     *
+     * @return the shared virtual-thread executor
+     */
+    private synchronized ExecutorService taskExecutor() {
+        if (virtualThreadExecutor == null) {
+            virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        }
+        return virtualThreadExecutor;
+    }
+
+    /**
+     * Gets the non-blocking HTTP client used by asynchronous clients, and by all clients
+     * in virtual-thread mode.
+     *
+     * @return the shared java.net.http.HttpClient
+     */
+    private synchronized HttpClient asyncHttpClient() {
+        if (asyncHttpClient == null) {
+            // Must agree with http2RequestOptions(), or Http2Client bypasses this client
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(timeoutConfig.getConnectTimeout());
+            if (virtualThreads) {
+                builder.executor(taskExecutor());
+            }
+            asyncHttpClient = builder.build();
+        }
+        return asyncHttpClient;
+    }
+}
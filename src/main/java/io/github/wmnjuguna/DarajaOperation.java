@@ -0,0 +1,121 @@
+package io.github.wmnjuguna;
+
+import feign.RequestLine;
+
+import java.lang.reflect.Method;
+
+/**
+ * Enumeration of the Daraja API operations exposed by {@link DarajaApiClient}.
+ * Used to apply per-endpoint policies such as rate limits, since Safaricom
+ * enforces separate quotas for each API.
+ */
+public enum DarajaOperation {
+
+    /**
+     * STK Push (M-Pesa Express) payment request.
+     */
+    STK_PUSH("/mpesa/stkpush/v1/processrequest", false),
+
+    /**
+     * C2B validation and confirmation URL registration.
+     */
+    C2B_REGISTER_URLS("/mpesa/c2b/v1/registerurl", true),
+
+    /**
+     * B2C payment request.
+     */
+    B2C_PAYMENT("/mpesa/b2c/v1/paymentrequest", false),
+
+    /**
+     * B2B payment request.
+     */
+    B2B_PAYMENT("/mpesa/b2b/v1/paymentrequest", false),
+
+    /**
+     * Transaction status query.
+     */
+    TRANSACTION_STATUS("/mpesa/transactionstatus/v1/query", true),
+
+    /**
+     * Account balance query.
+     */
+    ACCOUNT_BALANCE("/mpesa/accountbalance/v1/query", true),
+
+    /**
+     * Transaction reversal.
+     */
+    REVERSAL("/mpesa/reversal/v1/request", false);
+
+    private static final DarajaOperation[] VALUES = values();
+
+    private final String path;
+    private final boolean idempotent;
+
+    /**
+     * Constructs a DarajaOperation with the specified endpoint path.
+     *
+     * @param path       the endpoint path relative to the environment base URL
+     * @param idempotent whether repeating the request has no effect beyond the first
+     */
+    DarajaOperation(String path, boolean idempotent) {
+        this.path = path;
+        this.idempotent = idempotent;
+    }
+
+    /**
+     * Gets the endpoint path of this operation.
+     *
+     * @return the endpoint path relative to the environment base URL
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Checks whether the operation can safely be sent more than once.
+     * Queries and URL registration are idempotent; operations that move money are not,
+     * because a repeated request may be processed as a second payment or reversal.
+     *
+     * @return true if the operation is idempotent
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    /**
+     * Resolves the operation for a request path or URL.
+     * Any query string is ignored.
+     *
+     * @param url the request path or URL
+     * @return the matching operation, or null if the URL is not a Daraja API operation
+     */
+    public static DarajaOperation fromPath(String url) {
+        if (url == null) {
+            return null;
+        }
+        int queryStart = url.indexOf('?');
+        String path = queryStart >= 0 ? url.substring(0, queryStart) : url;
+        for (DarajaOperation operation : VALUES) {
+            if (path.endsWith(operation.path)) {
+                return operation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the operation of a client interface method from its request line.
+     *
+     * @param method a method of DarajaApiClient or AsyncDarajaApiClient
+     * @return the matching operation, or null if the method is not a Daraja API operation
+     */
+    public static DarajaOperation fromMethod(Method method) {
+        RequestLine requestLine = method.getAnnotation(RequestLine.class);
+        if (requestLine == null) {
+            return null;
+        }
+        String value = requestLine.value().trim();
+        int pathStart = value.indexOf(' ');
+        return fromPath(pathStart >= 0 ? value.substring(pathStart + 1).trim() : value);
+    }
+}
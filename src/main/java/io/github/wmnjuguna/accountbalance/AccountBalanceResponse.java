@@ -1,7 +1,9 @@
 package io.github.wmnjuguna.accountbalance;
 
+import io.github.wmnjuguna.codec.GenerateJsonCodec;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+@GenerateJsonCodec
 public record AccountBalanceResponse(
     @JsonProperty("ConversationID")
     String conversationID,
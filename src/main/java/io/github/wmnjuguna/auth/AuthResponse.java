@@ -1,5 +1,6 @@
 package io.github.wmnjuguna.auth;
 
+import io.github.wmnjuguna.codec.GenerateJsonCodec;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -9,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * @param accessToken the OAuth2 access token
  * @param expiresIn   the token expiration time in seconds
  */
+@GenerateJsonCodec
 public record AuthResponse(
     @JsonProperty("access_token")
     String accessToken,
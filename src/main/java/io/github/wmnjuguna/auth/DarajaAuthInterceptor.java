@@ -1,41 +1,129 @@
 package io.github.wmnjuguna.auth;
 
 import io.github.wmnjuguna.exception.DarajaAuthenticationException;
+import io.github.wmnjuguna.exception.DarajaDeadlineExceededException;
+import io.github.wmnjuguna.jfr.DarajaTokenRefreshEvent;
+import io.github.wmnjuguna.timeout.Deadline;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Feign request interceptor that automatically handles Daraja API authentication.
  * Manages OAuth2 token lifecycle including caching, refresh, and Base64 encoding of credentials.
+ *
+ * Tokens are refreshed lazily by default. When created with a {@link TokenRefreshConfig},
+ * the interceptor also renews the token in the background ahead of expiry, so requests
+ * only block on the OAuth endpoint if the token has actually expired.
+ *
+ * Tokens are kept in a {@link TokenStore}. With a shared store, interceptors on different
+ * nodes use the same token: the node holding the store's refresh lease calls the OAuth
+ * endpoint and the others read the new token from the store.
  */
-public class DarajaAuthInterceptor implements RequestInterceptor {
+public class DarajaAuthInterceptor implements RequestInterceptor, AutoCloseable {
 
     private static final Logger logger = LoggerFactory.getLogger(DarajaAuthInterceptor.class);
 
+    private static final long LAZY_REFRESH_BUFFER_MILLIS = 60000; // 1 minute buffer
+    private static final long EXPIRY_SKEW_MILLIS = 5000; // clock skew allowance with refresh-ahead
+    private static final Duration REFRESH_LEASE_DURATION = Duration.ofSeconds(30);
+    private static final long MIN_REFRESH_DELAY_MILLIS = 1000; // floor for background refresh scheduling
+    private static final long LEADER_WAIT_MILLIS = 10000;
+    private static final long LEADER_POLL_MILLIS = 100;
+
     private final DarajaAuthClient authClient;
     private final String encodedCredentials;
     private final ReentrantLock tokenLock = new ReentrantLock();
+    private final TokenRefreshConfig refreshConfig;
+    private final ScheduledExecutorService refreshScheduler;
+    private final TokenStore tokenStore;
+    private final String tokenKey;
+    private final String leaseOwner = UUID.randomUUID().toString();
+
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong backgroundRefreshCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong lastRefreshNanos = new AtomicLong();
+    private final AtomicLong maxRefreshNanos = new AtomicLong();
+    private final AtomicLong totalRefreshNanos = new AtomicLong();
+    private final AtomicReference<CompletableFuture<String>> pendingAsyncRefresh = new AtomicReference<>();
+    private final CopyOnWriteArrayList<TokenRefreshListener> refreshListeners = new CopyOnWriteArrayList<>();
 
     private volatile String cachedAccessToken;
     private volatile long tokenExpirationTime;
+    private String clearedAccessToken; // guarded by tokenLock
+    private ScheduledFuture<?> scheduledRefresh;
 
     /**
-     * Creates a new DarajaAuthInterceptor.
+     * Creates a new DarajaAuthInterceptor that refreshes tokens lazily.
      *
      * @param authClient      the Feign client for authentication requests
      * @param consumerKey     the Daraja API consumer key
      * @param consumerSecret  the Daraja API consumer secret
      */
     public DarajaAuthInterceptor(DarajaAuthClient authClient, String consumerKey, String consumerSecret) {
+        this(authClient, consumerKey, consumerSecret, null);
+    }
+
+    /**
+     * Creates a new DarajaAuthInterceptor.
+     *
+     * @param authClient      the Feign client for authentication requests
+     * @param consumerKey     the Daraja API consumer key
+     * @param consumerSecret  the Daraja API consumer secret
+     * @param refreshConfig   the refresh-ahead configuration, or null to refresh lazily
+     */
+    public DarajaAuthInterceptor(DarajaAuthClient authClient, String consumerKey, String consumerSecret,
+                                 TokenRefreshConfig refreshConfig) {
+        this(authClient, consumerKey, consumerSecret, refreshConfig, new InMemoryTokenStore());
+    }
+
+    /**
+     * Creates a new DarajaAuthInterceptor that keeps tokens in the specified store.
+     *
+     * @param authClient      the Feign client for authentication requests
+     * @param consumerKey     the Daraja API consumer key
+     * @param consumerSecret  the Daraja API consumer secret
+     * @param refreshConfig   the refresh-ahead configuration, or null to refresh lazily
+     * @param tokenStore      the token store, shared with other interceptors using the same credentials
+     */
+    public DarajaAuthInterceptor(DarajaAuthClient authClient, String consumerKey, String consumerSecret,
+                                 TokenRefreshConfig refreshConfig, TokenStore tokenStore) {
+        if (tokenStore == null) {
+            throw new IllegalArgumentException("Token store cannot be null");
+        }
         this.authClient = authClient;
+        this.tokenStore = tokenStore;
+        this.tokenKey = tokenKey(consumerKey);
         this.encodedCredentials = Base64.getEncoder().encodeToString(
             (consumerKey + ":" + consumerSecret).getBytes()
         );
+        this.refreshConfig = refreshConfig;
+        this.refreshScheduler = refreshConfig == null ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "daraja-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
@@ -49,6 +137,39 @@ public class DarajaAuthInterceptor implements RequestInterceptor {
         template.header("Authorization", "Bearer " + accessToken);
     }
 
+    /**
+     * Gets a valid access token without blocking the calling thread.
+     * Completes immediately if the cached token is valid. Otherwise the refresh runs on the
+     * specified executor, and concurrent callers share a single pending refresh.
+     *
+     * @param executor the executor on which a blocking refresh may run
+     * @return a future of a valid access token
+     */
+    public CompletableFuture<String> getAccessTokenAsync(Executor executor) {
+        if (isTokenValid()) {
+            return CompletableFuture.completedFuture(cachedAccessToken);
+        }
+        while (true) {
+            CompletableFuture<String> pending = pendingAsyncRefresh.get();
+            if (pending != null) {
+                return pending;
+            }
+            CompletableFuture<String> refresh = new CompletableFuture<>();
+            if (pendingAsyncRefresh.compareAndSet(null, refresh)) {
+                executor.execute(() -> {
+                    try {
+                        refresh.complete(getValidAccessToken());
+                    } catch (Throwable e) {
+                        refresh.completeExceptionally(e);
+                    } finally {
+                        pendingAsyncRefresh.compareAndSet(refresh, null);
+                    }
+                });
+                return refresh;
+            }
+        }
+    }
+
     /**
      * Gets a valid access token, refreshing if necessary.
      *
@@ -61,61 +182,371 @@ public class DarajaAuthInterceptor implements RequestInterceptor {
             return cachedAccessToken;
         }
 
+        DarajaTokenRefreshEvent event = new DarajaTokenRefreshEvent();
+        event.begin();
+
         // Acquire lock for token refresh
-        tokenLock.lock();
+        long lockStart = System.nanoTime();
+        lockWithinDeadline();
+        event.setLockWait(System.nanoTime() - lockStart);
         try {
             // Double-check pattern - another thread might have refreshed the token
             if (isTokenValid()) {
+                event.setOutcome(DarajaTokenRefreshEvent.CACHED);
                 return cachedAccessToken;
             }
 
-            logger.debug("Refreshing Daraja access token");
-            AuthResponse authResponse = authClient.generateAccessToken(encodedCredentials);
+            // Another node might have refreshed the shared token
+            if (adoptStoredToken()) {
+                event.setOutcome(DarajaTokenRefreshEvent.ADOPTED);
+                return cachedAccessToken;
+            }
+
+            if (!tryAcquireRefreshLease() && awaitLeaderRefresh()) {
+                event.setOutcome(DarajaTokenRefreshEvent.ADOPTED);
+                return cachedAccessToken;
+            }
+            return refreshToken(false, event);
+
+        } catch (DarajaAuthenticationException | DarajaDeadlineExceededException e) {
+            // Re-throw authentication and deadline exceptions as-is
+            event.setOutcome(DarajaTokenRefreshEvent.FAILED);
+            throw e;
+        } catch (Exception e) {
+            event.setOutcome(DarajaTokenRefreshEvent.FAILED);
+            logger.error("Failed to refresh Daraja access token", e);
+            throw new DarajaAuthenticationException("Authentication failed", e);
+        } finally {
+            tokenLock.unlock();
+            event.commit();
+        }
+    }
+
+    /**
+     * Requests a new access token from the OAuth endpoint, caches it and publishes it to the token store.
+     * Must be called while holding the token lock; releases the refresh lease when done.
+     *
+     * @param background true if this refresh runs ahead of expiry on the refresh scheduler
+     * @param event      the JFR event recording this pass through the refresh path
+     * @return the new access token
+     */
+    private String refreshToken(boolean background, DarajaTokenRefreshEvent event) {
+        try {
+            // The previous lease holder may have published a token just before we took over
+            if (adoptStoredToken()) {
+                event.setOutcome(DarajaTokenRefreshEvent.ADOPTED);
+                return cachedAccessToken;
+            }
+
+            logger.debug("Refreshing Daraja access token{}", background ? " ahead of expiry" : "");
+            long start = System.nanoTime();
+            AuthResponse authResponse;
+            try {
+                authResponse = authClient.generateAccessToken(encodedCredentials);
+            } catch (RuntimeException e) {
+                recordRefresh(event, System.nanoTime() - start, false, background);
+                throw e;
+            }
 
             if (authResponse == null || authResponse.accessToken() == null || authResponse.accessToken().isEmpty()) {
+                recordRefresh(event, System.nanoTime() - start, false, background);
                 throw new DarajaAuthenticationException("Failed to obtain access token from Daraja API");
             }
 
             cachedAccessToken = authResponse.accessToken();
             tokenExpirationTime = authResponse.getExpirationTimestamp();
+            clearedAccessToken = null;
+            recordRefresh(event, System.nanoTime() - start, true, background);
+            saveStoredToken();
 
             logger.debug("Successfully refreshed Daraja access token, expires at: {}", tokenExpirationTime);
+            scheduleRefresh();
             return cachedAccessToken;
+        } finally {
+            releaseRefreshLease();
+        }
+    }
 
-        } catch (DarajaAuthenticationException e) {
-            // Re-throw authentication exceptions as-is
-            throw e;
+    /**
+     * Adopts the token from the store if it is newer than the cached one and still usable.
+     *
+     * @return true if the stored token was adopted
+     */
+    private boolean adoptStoredToken() {
+        StoredToken stored;
+        try {
+            stored = tokenStore.load(tokenKey);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read Daraja access token from token store", e);
+            return false;
+        }
+        if (stored == null || stored.expiresAt() <= tokenExpirationTime || !stored.isUsable(tokenBufferMillis())
+                || stored.accessToken().equals(clearedAccessToken)) {
+            return false;
+        }
+        cachedAccessToken = stored.accessToken();
+        tokenExpirationTime = stored.expiresAt();
+        logger.debug("Using shared Daraja access token from token store, expires at: {}", tokenExpirationTime);
+        scheduleRefresh();
+        return true;
+    }
+
+    private void saveStoredToken() {
+        try {
+            tokenStore.save(tokenKey, new StoredToken(cachedAccessToken, tokenExpirationTime));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to write Daraja access token to token store", e);
+        }
+    }
+
+    /**
+     * Attempts to become the node that refreshes the shared token.
+     * If the store cannot be reached, this node refreshes on its own.
+     *
+     * @return true if this interceptor may refresh the token
+     */
+    private boolean tryAcquireRefreshLease() {
+        try {
+            return tokenStore.tryAcquireRefreshLease(tokenKey, leaseOwner, REFRESH_LEASE_DURATION);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to acquire token refresh lease, refreshing without it", e);
+            return true;
+        }
+    }
+
+    private void releaseRefreshLease() {
+        try {
+            tokenStore.releaseRefreshLease(tokenKey, leaseOwner);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to release token refresh lease", e);
+        }
+    }
+
+    /**
+     * Acquires the token lock, waiting no longer than the current thread's deadline, if any.
+     */
+    private void lockWithinDeadline() {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            tokenLock.lock();
+            return;
+        }
+        try {
+            if (!tokenLock.tryLock(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new DarajaDeadlineExceededException("Deadline exceeded while waiting for access token refresh");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DarajaAuthenticationException("Interrupted while waiting for access token refresh", e);
+        }
+    }
+
+    /**
+     * Waits for the node holding the refresh lease to publish a new token.
+     *
+     * @return true if a new token was adopted, false if the wait timed out
+     */
+    private boolean awaitLeaderRefresh() {
+        logger.debug("Waiting for another node to refresh the shared Daraja access token");
+        long deadline = System.currentTimeMillis() + Deadline.limit(
+            Duration.ofMillis(LEADER_WAIT_MILLIS), "waiting for access token refresh").toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LEADER_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DarajaAuthenticationException("Interrupted while waiting for access token refresh", e);
+            }
+            if (adoptStoredToken()) {
+                return true;
+            }
+            if (tryAcquireRefreshLease()) {
+                // The leader gave up or its lease expired
+                return false;
+            }
+        }
+        logger.warn("Timed out waiting for shared Daraja access token, refreshing locally");
+        return false;
+    }
+
+    /**
+     * Schedules the next background refresh ahead of the current token's expiry.
+     * Does nothing unless refresh-ahead is configured.
+     *
+     * The refresh is never scheduled before half of the token's remaining lifetime, nor
+     * sooner than MIN_REFRESH_DELAY_MILLIS. Otherwise a lead time plus jitter at least as long
+     * as the lifetime Safaricom grants would schedule every refresh immediately, and the
+     * background thread would call the OAuth endpoint in a loop.
+     */
+    private void scheduleRefresh() {
+        if (refreshScheduler == null || refreshScheduler.isShutdown()) {
+            return;
+        }
+        long jitterMillis = refreshConfig.getJitter().toMillis();
+        long randomJitter = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+        long now = System.currentTimeMillis();
+        long refreshAt = tokenExpirationTime - refreshConfig.getLeadTime().toMillis() - randomJitter;
+        long minimumDelay = Math.max(MIN_REFRESH_DELAY_MILLIS, (tokenExpirationTime - now) / 2);
+        schedule(Math.max(minimumDelay, refreshAt - now));
+    }
+
+    private void schedule(long delayMillis) {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+        }
+        scheduledRefresh = refreshScheduler.schedule(this::refreshInBackground, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Background refresh task. Failures are logged and retried after the configured delay;
+     * requests keep using the current token until it actually expires.
+     */
+    private void refreshInBackground() {
+        DarajaTokenRefreshEvent event = new DarajaTokenRefreshEvent();
+        event.setBackground(true);
+        event.begin();
+        long lockStart = System.nanoTime();
+        tokenLock.lock();
+        event.setLockWait(System.nanoTime() - lockStart);
+        try {
+            if (adoptStoredToken()) {
+                event.setOutcome(DarajaTokenRefreshEvent.ADOPTED);
+                return;
+            }
+            if (!tryAcquireRefreshLease()) {
+                // Another node is refreshing; pick its token up on the next attempt
+                event.setOutcome(DarajaTokenRefreshEvent.DEFERRED);
+                schedule(refreshConfig.getRetryDelay().toMillis());
+                return;
+            }
+            refreshToken(true, event);
         } catch (Exception e) {
-            logger.error("Failed to refresh Daraja access token", e);
-            throw new DarajaAuthenticationException("Authentication failed", e);
+            event.setOutcome(DarajaTokenRefreshEvent.FAILED);
+            long retryDelay = refreshConfig.getRetryDelay().toMillis();
+            logger.warn("Background refresh of Daraja access token failed, retrying in {} ms", retryDelay, e);
+            if (!refreshScheduler.isShutdown()) {
+                schedule(retryDelay);
+            }
         } finally {
             tokenLock.unlock();
+            event.commit();
+        }
+    }
+
+    private void recordRefresh(DarajaTokenRefreshEvent event, long latencyNanos, boolean success, boolean background) {
+        event.setOauthLatency(latencyNanos);
+        event.setOutcome(success ? DarajaTokenRefreshEvent.REFRESHED : DarajaTokenRefreshEvent.FAILED);
+        lastRefreshNanos.set(latencyNanos);
+        maxRefreshNanos.accumulateAndGet(latencyNanos, Math::max);
+        totalRefreshNanos.addAndGet(latencyNanos);
+        if (!success) {
+            failureCount.incrementAndGet();
+        } else {
+            refreshCount.incrementAndGet();
+            if (background) {
+                backgroundRefreshCount.incrementAndGet();
+            }
+        }
+        for (TokenRefreshListener listener : refreshListeners) {
+            try {
+                listener.onRefresh(latencyNanos, success, background);
+            } catch (RuntimeException e) {
+                logger.warn("Token refresh listener failed", e);
+            }
         }
     }
 
     /**
      * Checks if the current cached token is valid and not expired.
+     * With refresh-ahead enabled the token is used until it actually expires, since a
+     * background refresh is already scheduled; otherwise it is refreshed one minute early.
      *
      * @return true if token is valid, false otherwise
      */
     private boolean isTokenValid() {
         return cachedAccessToken != null
             && !cachedAccessToken.isEmpty()
-            && System.currentTimeMillis() < (tokenExpirationTime - 60000); // 1 minute buffer
+            && System.currentTimeMillis() < (tokenExpirationTime - tokenBufferMillis());
+    }
+
+    private long tokenBufferMillis() {
+        return refreshConfig != null ? EXPIRY_SKEW_MILLIS : LAZY_REFRESH_BUFFER_MILLIS;
+    }
+
+    /**
+     * Derives the token store key from the consumer key, so the key itself is not stored.
+     */
+    private static String tokenKey(String consumerKey) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(consumerKey.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Gets a snapshot of the token refresh counters.
+     *
+     * @return the current token refresh statistics
+     */
+    public TokenRefreshStats getRefreshStats() {
+        return new TokenRefreshStats(
+            refreshCount.get(),
+            backgroundRefreshCount.get(),
+            failureCount.get(),
+            Duration.ofNanos(lastRefreshNanos.get()),
+            Duration.ofNanos(maxRefreshNanos.get()),
+            Duration.ofNanos(totalRefreshNanos.get())
+        );
+    }
+
+    /**
+     * Registers a listener notified of every token refresh attempt.
+     *
+     * @param listener the refresh listener
+     * @throws IllegalArgumentException if listener is null
+     */
+    public void addRefreshListener(TokenRefreshListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Refresh listener cannot be null");
+        }
+        refreshListeners.add(listener);
     }
 
     /**
      * Clears the cached token, forcing a refresh on next use.
+     * Only this interceptor's copy is cleared: the token store is left alone, so other
+     * interceptors sharing it keep their token. The cleared token is not adopted back from
+     * the store, and the refreshed one replaces it there.
      * Useful for testing or when credentials change.
      */
     public void clearCache() {
         tokenLock.lock();
         try {
+            if (cachedAccessToken != null) {
+                clearedAccessToken = cachedAccessToken;
+            }
             cachedAccessToken = null;
             tokenExpirationTime = 0;
+            if (scheduledRefresh != null) {
+                scheduledRefresh.cancel(false);
+                scheduledRefresh = null;
+            }
             logger.debug("Cleared cached Daraja access token");
         } finally {
             tokenLock.unlock();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Stops the background refresh scheduler, if refresh-ahead is configured.
+     * The interceptor keeps working afterwards, refreshing lazily.
+     */
+    @Override
+    public void close() {
+        if (refreshScheduler != null) {
+            refreshScheduler.shutdownNow();
+        }
+    }
+}
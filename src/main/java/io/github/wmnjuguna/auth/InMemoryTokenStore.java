@@ -0,0 +1,44 @@
+package io.github.wmnjuguna.auth;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default TokenStore that keeps tokens in memory.
+ * Tokens are shared only by interceptors that use the same instance within one JVM.
+ */
+public class InMemoryTokenStore implements TokenStore {
+
+    private final Map<String, StoredToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+    @Override
+    public StoredToken load(String key) {
+        return tokens.get(key);
+    }
+
+    @Override
+    public void save(String key, StoredToken token) {
+        tokens.put(key, token);
+    }
+
+    @Override
+    public boolean tryAcquireRefreshLease(String key, String owner, Duration leaseDuration) {
+        long now = System.currentTimeMillis();
+        Lease lease = leases.compute(key, (k, current) -> {
+            if (current == null || current.owner().equals(owner) || current.expiresAt() <= now) {
+                return new Lease(owner, now + leaseDuration.toMillis());
+            }
+            return current;
+        });
+        return lease.owner().equals(owner);
+    }
+
+    @Override
+    public void releaseRefreshLease(String key, String owner) {
+        leases.computeIfPresent(key, (k, current) -> current.owner().equals(owner) ? null : current);
+    }
+
+    private record Lease(String owner, long expiresAt) {}
+}
@@ -0,0 +1,191 @@
+package io.github.wmnjuguna.auth;
+
+import io.github.wmnjuguna.exception.DarajaException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * TokenStore backed by a relational database table, for sharing one access token
+ * across all nodes that point at the same database.
+ *
+ * The table can be created with {@link #initializeSchema()} or with the equivalent DDL:
+ * <pre>
+ * CREATE TABLE daraja_access_token (
+ *     token_key        VARCHAR(128)  NOT NULL PRIMARY KEY,
+ *     access_token     VARCHAR(2048),
+ *     expires_at       BIGINT,
+ *     lease_owner      VARCHAR(128),
+ *     lease_expires_at BIGINT
+ * )
+ * </pre>
+ * Times are stored as epoch milliseconds. Every operation is a single auto-committed
+ * statement, so lease acquisition relies on the atomicity of a conditional UPDATE.
+ */
+public class JdbcTokenStore implements TokenStore {
+
+    /**
+     * Default table name.
+     */
+    public static final String DEFAULT_TABLE_NAME = "daraja_access_token";
+
+    private static final Pattern TABLE_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_.]*");
+
+    private final DataSource dataSource;
+    private final String tableName;
+
+    /**
+     * Creates a new JdbcTokenStore using the default table name.
+     *
+     * @param dataSource the data source for the shared database
+     */
+    public JdbcTokenStore(DataSource dataSource) {
+        this(dataSource, DEFAULT_TABLE_NAME);
+    }
+
+    /**
+     * Creates a new JdbcTokenStore.
+     *
+     * @param dataSource the data source for the shared database
+     * @param tableName  the name of the token table
+     * @throws IllegalArgumentException if dataSource is null or tableName is not a plain identifier
+     */
+    public JdbcTokenStore(DataSource dataSource, String tableName) {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Data source cannot be null");
+        }
+        if (tableName == null || !TABLE_NAME_PATTERN.matcher(tableName).matches()) {
+            throw new IllegalArgumentException("Table name must be a plain SQL identifier");
+        }
+        this.dataSource = dataSource;
+        this.tableName = tableName;
+    }
+
+    /**
+     * Creates the token table if it does not already exist.
+     *
+     * @throws DarajaException if the table cannot be created
+     */
+    public void initializeSchema() {
+        String ddl = "CREATE TABLE IF NOT EXISTS " + tableName + " ("
+            + "token_key VARCHAR(128) NOT NULL PRIMARY KEY, "
+            + "access_token VARCHAR(2048), "
+            + "expires_at BIGINT, "
+            + "lease_owner VARCHAR(128), "
+            + "lease_expires_at BIGINT)";
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(ddl);
+        } catch (SQLException e) {
+            throw new DarajaException("Failed to create token table " + tableName, e);
+        }
+    }
+
+    @Override
+    public StoredToken load(String key) {
+        String sql = "SELECT access_token, expires_at FROM " + tableName + " WHERE token_key = ?";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                String accessToken = resultSet.getString(1);
+                long expiresAt = resultSet.getLong(2);
+                return accessToken == null ? null : new StoredToken(accessToken, expiresAt);
+            }
+        } catch (SQLException e) {
+            throw new DarajaException("Failed to load access token from " + tableName, e);
+        }
+    }
+
+    @Override
+    public void save(String key, StoredToken token) {
+        String sql = "UPDATE " + tableName + " SET access_token = ?, expires_at = ? WHERE token_key = ?";
+        try (Connection connection = dataSource.getConnection()) {
+            ensureRow(connection, key);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, token.accessToken());
+                statement.setLong(2, token.expiresAt());
+                statement.setString(3, key);
+                statement.executeUpdate();
+            }
+        } catch (SQLException e) {
+            throw new DarajaException("Failed to save access token to " + tableName, e);
+        }
+    }
+
+    @Override
+    public boolean tryAcquireRefreshLease(String key, String owner, Duration leaseDuration) {
+        String sql = "UPDATE " + tableName + " SET lease_owner = ?, lease_expires_at = ? "
+            + "WHERE token_key = ? AND (lease_owner IS NULL OR lease_owner = ? OR lease_expires_at <= ?)";
+        long now = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            ensureRow(connection, key);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, owner);
+                statement.setLong(2, now + leaseDuration.toMillis());
+                statement.setString(3, key);
+                statement.setString(4, owner);
+                statement.setLong(5, now);
+                return statement.executeUpdate() == 1;
+            }
+        } catch (SQLException e) {
+            throw new DarajaException("Failed to acquire token refresh lease in " + tableName, e);
+        }
+    }
+
+    @Override
+    public void releaseRefreshLease(String key, String owner) {
+        String sql = "UPDATE " + tableName + " SET lease_owner = NULL, lease_expires_at = NULL "
+            + "WHERE token_key = ? AND lease_owner = ?";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, key);
+            statement.setString(2, owner);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new DarajaException("Failed to release token refresh lease in " + tableName, e);
+        }
+    }
+
+    /**
+     * Inserts an empty row for the key if none exists yet.
+     * A concurrent insert by another node surfaces as an integrity constraint violation, which is ignored.
+     */
+    private void ensureRow(Connection connection, String key) throws SQLException {
+        String select = "SELECT 1 FROM " + tableName + " WHERE token_key = ?";
+        try (PreparedStatement statement = connection.prepareStatement(select)) {
+            statement.setString(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return;
+                }
+            }
+        }
+
+        String insert = "INSERT INTO " + tableName
+            + " (token_key, access_token, expires_at, lease_owner, lease_expires_at) VALUES (?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(insert)) {
+            statement.setString(1, key);
+            statement.setNull(2, Types.VARCHAR);
+            statement.setNull(3, Types.BIGINT);
+            statement.setNull(4, Types.VARCHAR);
+            statement.setNull(5, Types.BIGINT);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            // SQLState class 23 is an integrity constraint violation: the row was inserted concurrently
+            if (e.getSQLState() == null || !e.getSQLState().startsWith("23")) {
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.wmnjuguna.auth;
+
+/**
+ * Access token as held in a {@link TokenStore}.
+ *
+ * @param accessToken the OAuth2 access token
+ * @param expiresAt   the expiration time in epoch milliseconds
+ */
+public record StoredToken(
+    String accessToken,
+    long expiresAt
+) {
+
+    /**
+     * Checks if this token can still be used, leaving the specified buffer before expiry.
+     *
+     * @param bufferMillis how long before expiry the token should be considered unusable
+     * @return true if the token is present and does not expire within the buffer
+     */
+    public boolean isUsable(long bufferMillis) {
+        return accessToken != null
+            && !accessToken.isEmpty()
+            && System.currentTimeMillis() < (expiresAt - bufferMillis);
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.wmnjuguna.auth;
+
+import java.time.Duration;
+
+/**
+ * Configuration for proactive (refresh-ahead) access token renewal.
+ * When enabled, DarajaAuthInterceptor renews the token in the background
+ * {@code leadTime} before it expires, minus a random jitter, so requests
+ * only wait on the OAuth endpoint if the token has actually expired.
+ * A refresh is never scheduled before half of the token's remaining lifetime,
+ * so a lead time longer than the lifetime does not cause a refresh loop.
+ */
+public final class TokenRefreshConfig {
+
+    private final Duration leadTime;
+    private final Duration jitter;
+    private final Duration retryDelay;
+
+    private TokenRefreshConfig(Builder builder) {
+        this.leadTime = builder.leadTime;
+        this.jitter = builder.jitter;
+        this.retryDelay = builder.retryDelay;
+    }
+
+    /**
+     * Creates a configuration with the default refresh-ahead settings.
+     *
+     * @return the default token refresh configuration
+     */
+    public static TokenRefreshConfig defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a new token refresh configuration builder.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets how long before expiry the background refresh is scheduled.
+     *
+     * @return the refresh lead time
+     */
+    public Duration getLeadTime() {
+        return leadTime;
+    }
+
+    /**
+     * Gets the maximum random amount subtracted from the scheduled refresh time,
+     * which spreads refreshes from many clients apart.
+     *
+     * @return the maximum jitter
+     */
+    public Duration getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Gets the delay before retrying a failed background refresh.
+     *
+     * @return the retry delay
+     */
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    @Override
+    public String toString() {
+        return "TokenRefreshConfig{" +
+               "leadTime=" + leadTime +
+               ", jitter=" + jitter +
+               ", retryDelay=" + retryDelay +
+               '}';
+    }
+
+    /**
+     * Builder class for creating TokenRefreshConfig instances.
+     */
+    public static class Builder {
+        private Duration leadTime = Duration.ofMinutes(5);
+        private Duration jitter = Duration.ofSeconds(30);
+        private Duration retryDelay = Duration.ofSeconds(10);
+
+        private Builder() {}
+
+        public Builder leadTime(Duration leadTime) {
+            if (leadTime == null || leadTime.isNegative()) {
+                throw new IllegalArgumentException("Lead time cannot be null or negative");
+            }
+            this.leadTime = leadTime;
+            return this;
+        }
+
+        public Builder jitter(Duration jitter) {
+            if (jitter == null || jitter.isNegative()) {
+                throw new IllegalArgumentException("Jitter cannot be null or negative");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        public Builder retryDelay(Duration retryDelay) {
+            if (retryDelay == null || retryDelay.isZero() || retryDelay.isNegative()) {
+                throw new IllegalArgumentException("Retry delay must be a positive duration");
+            }
+            this.retryDelay = retryDelay;
+            return this;
+        }
+
+        public TokenRefreshConfig build() {
+            return new TokenRefreshConfig(this);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.wmnjuguna.auth;
+
+/**
+ * Receives the outcome of every access token refresh attempt made by DarajaAuthInterceptor.
+ * Called on the refreshing thread while it holds the token lock, so implementations must be quick.
+ */
+@FunctionalInterface
+public interface TokenRefreshListener {
+
+    /**
+     * Called after a call to the OAuth endpoint completes or fails.
+     *
+     * @param durationNanos the OAuth round trip time in nanoseconds
+     * @param success       true if a token was obtained
+     * @param background    true if the refresh ran ahead of expiry on the refresh scheduler
+     */
+    void onRefresh(long durationNanos, boolean success, boolean background);
+}
@@ -0,0 +1,33 @@
+package io.github.wmnjuguna.auth;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of access token refresh counters from DarajaAuthInterceptor.
+ *
+ * @param refreshCount           the number of successful refreshes
+ * @param backgroundRefreshCount the number of successful refreshes performed ahead of expiry in the background
+ * @param failureCount           the number of failed refresh attempts
+ * @param lastRefreshLatency     the OAuth round trip time of the most recent refresh attempt
+ * @param maxRefreshLatency      the slowest OAuth round trip observed
+ * @param totalRefreshLatency    the summed OAuth round trip time of all refresh attempts
+ */
+public record TokenRefreshStats(
+    long refreshCount,
+    long backgroundRefreshCount,
+    long failureCount,
+    Duration lastRefreshLatency,
+    Duration maxRefreshLatency,
+    Duration totalRefreshLatency
+) {
+
+    /**
+     * Gets the mean OAuth round trip time over all refresh attempts.
+     *
+     * @return the average refresh latency, or zero if no refresh was attempted
+     */
+    public Duration averageRefreshLatency() {
+        long attempts = refreshCount + failureCount;
+        return attempts == 0 ? Duration.ZERO : totalRefreshLatency.dividedBy(attempts);
+    }
+}
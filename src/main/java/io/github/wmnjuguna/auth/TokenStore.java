@@ -0,0 +1,52 @@
+package io.github.wmnjuguna.auth;
+
+import java.time.Duration;
+
+/**
+ * Storage for Daraja access tokens shared by one or more DarajaAuthInterceptor instances.
+ * A shared implementation lets a fleet of nodes use a single token instead of each node
+ * requesting its own from the OAuth endpoint.
+ *
+ * A refresh lease ensures that only one node refreshes an expiring token at a time;
+ * the others wait for the new token to appear in the store. Leases expire on their own,
+ * so a node that dies while refreshing does not block the rest.
+ *
+ * Implementations must be thread-safe.
+ */
+public interface TokenStore {
+
+    /**
+     * Loads the stored token for the specified key.
+     *
+     * @param key the token key, derived from the consumer key
+     * @return the stored token, or null if none is stored
+     */
+    StoredToken load(String key);
+
+    /**
+     * Stores a token for the specified key, replacing any existing token.
+     *
+     * @param key   the token key, derived from the consumer key
+     * @param token the token to store
+     */
+    void save(String key, StoredToken token);
+
+    /**
+     * Attempts to acquire the refresh lease for the specified key.
+     * Succeeds if no lease is held, the current lease has expired, or the owner already holds it.
+     *
+     * @param key           the token key
+     * @param owner         a unique identifier of the caller
+     * @param leaseDuration how long the lease is held unless released earlier
+     * @return true if the caller now holds the lease
+     */
+    boolean tryAcquireRefreshLease(String key, String owner, Duration leaseDuration);
+
+    /**
+     * Releases the refresh lease for the specified key if the owner holds it.
+     *
+     * @param key   the token key
+     * @param owner the identifier passed when the lease was acquired
+     */
+    void releaseRefreshLease(String key, String owner);
+}
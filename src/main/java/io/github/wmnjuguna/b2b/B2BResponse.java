@@ -1,7 +1,9 @@
 package io.github.wmnjuguna.b2b;
 
+import io.github.wmnjuguna.codec.GenerateJsonCodec;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+@GenerateJsonCodec
 public record B2BResponse(
     @JsonProperty("ConversationID")
     String conversationID,
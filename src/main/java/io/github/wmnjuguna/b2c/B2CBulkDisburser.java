@@ -0,0 +1,353 @@
+package io.github.wmnjuguna.b2c;
+
+import io.github.wmnjuguna.DarajaApiClient;
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.ratelimit.RateLimitConfig;
+import io.github.wmnjuguna.ratelimit.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Submits large batches of B2C payments with bounded parallelism and an optional rate cap.
+ *
+ * Requests are pulled from the source one at a time and only as fast as permits free up,
+ * so memory use is bounded by the parallelism rather than the batch size. Results are
+ * folded into a {@link DisbursementReport} as they complete; per-payment outcomes are
+ * passed to a {@link DisbursementListener} instead of being retained.
+ *
+ * By default each payment runs on its own virtual thread.
+ */
+public final class B2CBulkDisburser {
+
+    private static final Logger logger = LoggerFactory.getLogger(B2CBulkDisburser.class);
+
+    private static final String ACCEPTED_RESPONSE_CODE = "0";
+
+    private final DarajaApiClient client;
+    private final int parallelism;
+    private final RateLimiter rateLimiter;
+    private final int maxRecordedFailures;
+    private final Executor executor;
+
+    private B2CBulkDisburser(Builder builder) {
+        this.client = builder.client;
+        this.parallelism = builder.parallelism;
+        this.rateLimiter = builder.rateLimiter;
+        this.maxRecordedFailures = builder.maxRecordedFailures;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Creates a new bulk disburser builder.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Disburses every payment in the stream. The stream is consumed lazily and closed when done.
+     *
+     * @param requests the payment requests
+     * @return the run summary
+     * @throws InterruptedException if interrupted while submitting; in-flight payments are awaited first
+     */
+    public DisbursementReport disburse(Stream<B2CRequest> requests) throws InterruptedException {
+        return disburse(requests, new DisbursementListener() {});
+    }
+
+    /**
+     * Disburses every payment in the stream, reporting each outcome to the listener.
+     * The stream is consumed lazily and closed when done.
+     *
+     * @param requests the payment requests
+     * @param listener the listener notified of each outcome
+     * @return the run summary
+     * @throws InterruptedException if interrupted while submitting; in-flight payments are awaited first
+     */
+    public DisbursementReport disburse(Stream<B2CRequest> requests, DisbursementListener listener)
+            throws InterruptedException {
+        if (requests == null) {
+            throw new IllegalArgumentException("Requests cannot be null");
+        }
+        try (requests) {
+            return disburse(requests.iterator(), listener);
+        }
+    }
+
+    /**
+     * Disburses every payment returned by the iterator.
+     *
+     * @param requests the payment requests
+     * @return the run summary
+     * @throws InterruptedException if interrupted while submitting; in-flight payments are awaited first
+     */
+    public DisbursementReport disburse(Iterator<B2CRequest> requests) throws InterruptedException {
+        return disburse(requests, new DisbursementListener() {});
+    }
+
+    /**
+     * Disburses every payment returned by the iterator, reporting each outcome to the listener.
+     * The iterator is only advanced from the calling thread.
+     *
+     * @param requests the payment requests
+     * @param listener the listener notified of each outcome
+     * @return the run summary
+     * @throws InterruptedException if interrupted while submitting; in-flight payments are awaited first
+     */
+    public DisbursementReport disburse(Iterator<B2CRequest> requests, DisbursementListener listener)
+            throws InterruptedException {
+        if (requests == null) {
+            throw new IllegalArgumentException("Requests cannot be null");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+
+        if (executor != null) {
+            return run(requests, listener, executor);
+        }
+        try (ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            return run(requests, listener, virtualThreads);
+        }
+    }
+
+    private DisbursementReport run(Iterator<B2CRequest> requests, DisbursementListener listener, Executor workers)
+            throws InterruptedException {
+        Run run = new Run(listener);
+        Semaphore permits = new Semaphore(parallelism);
+        long start = System.nanoTime();
+
+        try {
+            while (requests.hasNext()) {
+                B2CRequest request = requests.next();
+                permits.acquire();
+                if (rateLimiter != null) {
+                    try {
+                        rateLimiter.acquire();
+                    } catch (InterruptedException e) {
+                        permits.release();
+                        throw e;
+                    }
+                }
+
+                run.submitted.increment();
+                try {
+                    workers.execute(() -> {
+                        try {
+                            run.complete(request, client);
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    permits.release();
+                    run.fail(request, e);
+                }
+            }
+        } finally {
+            permits.acquireUninterruptibly(parallelism);
+        }
+
+        DisbursementReport report = run.report(Duration.ofNanos(System.nanoTime() - start));
+        logger.info("B2C disbursement finished: {} submitted, {} accepted, {} rejected, {} failed in {}",
+            report.submitted(), report.accepted(), report.rejected(), report.failed(), report.elapsed());
+        return report;
+    }
+
+    /**
+     * Mutable counters of a single disbursement run.
+     */
+    private final class Run {
+        private final DisbursementListener listener;
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final AtomicReference<BigDecimal> acceptedAmount = new AtomicReference<>(BigDecimal.ZERO);
+        private final Queue<DisbursementFailure> failureSample = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger recordedFailures = new AtomicInteger();
+
+        private Run(DisbursementListener listener) {
+            this.listener = listener;
+        }
+
+        private void complete(B2CRequest request, DarajaApiClient client) {
+            B2CResponse response;
+            try {
+                response = client.b2cPayment(request);
+            } catch (RuntimeException e) {
+                fail(request, e);
+                return;
+            }
+
+            if (response != null && ACCEPTED_RESPONSE_CODE.equals(response.responseCode())) {
+                accepted.increment();
+                addAmount(request.amount());
+                notify(() -> listener.onAccepted(request, response));
+            } else {
+                rejected.increment();
+                record(new DisbursementFailure(
+                    request,
+                    response == null ? null : response.responseCode(),
+                    response == null ? "Empty response" : response.responseDescription()
+                ));
+                notify(() -> listener.onRejected(request, response));
+            }
+        }
+
+        private void fail(B2CRequest request, RuntimeException error) {
+            failed.increment();
+            String errorCode = error instanceof DarajaException darajaException ? darajaException.getErrorCode() : null;
+            record(new DisbursementFailure(request, errorCode, error.getMessage()));
+            notify(() -> listener.onFailed(request, error));
+        }
+
+        private void record(DisbursementFailure failure) {
+            if (recordedFailures.getAndIncrement() < maxRecordedFailures) {
+                failureSample.add(failure);
+            }
+        }
+
+        private void addAmount(String amount) {
+            if (amount == null) {
+                return;
+            }
+            try {
+                BigDecimal value = new BigDecimal(amount.trim());
+                acceptedAmount.accumulateAndGet(value, BigDecimal::add);
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring non-numeric B2C amount in disbursement total: {}", amount);
+            }
+        }
+
+        private void notify(Runnable callback) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                logger.warn("Disbursement listener failed", e);
+            }
+        }
+
+        private DisbursementReport report(Duration elapsed) {
+            return new DisbursementReport(
+                submitted.sum(),
+                accepted.sum(),
+                rejected.sum(),
+                failed.sum(),
+                acceptedAmount.get(),
+                elapsed,
+                List.copyOf(failureSample)
+            );
+        }
+    }
+
+    /**
+     * Builder class for creating B2CBulkDisburser instances.
+     */
+    public static class Builder {
+        private DarajaApiClient client;
+        private int parallelism = 32;
+        private RateLimiter rateLimiter;
+        private int maxRecordedFailures = 100;
+        private Executor executor;
+
+        private Builder() {}
+
+        public Builder client(DarajaApiClient client) {
+            if (client == null) {
+                throw new IllegalArgumentException("Client cannot be null");
+            }
+            this.client = client;
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Caps the submission rate with a dedicated rate limiter. By default submissions are not capped.
+         *
+         * @param maxRequestsPerSecond the maximum number of payments submitted per second
+         * @return this builder
+         */
+        public Builder maxRequestsPerSecond(double maxRequestsPerSecond) {
+            this.rateLimiter = RateLimiter.create(RateLimitConfig.perSecond(maxRequestsPerSecond));
+            return this;
+        }
+
+        /**
+         * Caps the submission rate with an existing rate limiter, such as the B2C limiter of a
+         * RateLimiterRegistry, so that the bulk run and other B2C traffic share one quota.
+         * Do not combine this with a client that is already rate limited by the same limiter,
+         * or each payment takes two permits.
+         *
+         * @param rateLimiter the rate limiter to take a permit from before each payment
+         * @return this builder
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            if (rateLimiter == null) {
+                throw new IllegalArgumentException("Rate limiter cannot be null");
+            }
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        public Builder maxRecordedFailures(int maxRecordedFailures) {
+            if (maxRecordedFailures < 0) {
+                throw new IllegalArgumentException("Max recorded failures cannot be negative");
+            }
+            this.maxRecordedFailures = maxRecordedFailures;
+            return this;
+        }
+
+        /**
+         * Runs payments on the specified executor instead of a virtual thread per payment.
+         * The executor is not shut down by the disburser.
+         *
+         * @param executor the executor for payment calls
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            if (executor == null) {
+                throw new IllegalArgumentException("Executor cannot be null");
+            }
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds the B2CBulkDisburser instance.
+         *
+         * @return a new B2CBulkDisburser
+         * @throws IllegalStateException if no client has been set
+         */
+        public B2CBulkDisburser build() {
+            if (client == null) {
+                throw new IllegalStateException("Client is required");
+            }
+            return new B2CBulkDisburser(this);
+        }
+    }
+}
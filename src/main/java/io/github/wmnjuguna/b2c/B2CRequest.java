@@ -1,7 +1,9 @@
 package io.github.wmnjuguna.b2c;
 
+import io.github.wmnjuguna.codec.GenerateJsonCodec;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+@GenerateJsonCodec
 public record B2CRequest(
     @JsonProperty("InitiatorName")
     String initiatorName,
@@ -0,0 +1,11 @@
+package io.github.wmnjuguna.b2c;
+
+/**
+ * A payment that was rejected by Daraja or failed with an exception during a bulk disbursement.
+ *
+ * @param request   the submitted request
+ * @param errorCode the Daraja response or error code, if available
+ * @param message   the response description or exception message
+ */
+public record DisbursementFailure(B2CRequest request, String errorCode, String message) {
+}
@@ -0,0 +1,37 @@
+package io.github.wmnjuguna.b2c;
+
+/**
+ * Receives the outcome of each payment in a bulk disbursement as it completes.
+ * Callbacks are invoked concurrently from the worker threads, so implementations must be thread-safe.
+ * Use a listener to persist per-payment results while the run is in progress, since the
+ * {@link DisbursementReport} only keeps totals and a bounded sample of failures.
+ */
+public interface DisbursementListener {
+
+    /**
+     * Called when Daraja accepts a payment request (ResponseCode "0").
+     *
+     * @param request  the submitted request
+     * @param response the Daraja response
+     */
+    default void onAccepted(B2CRequest request, B2CResponse response) {
+    }
+
+    /**
+     * Called when Daraja responds to a payment request with a non-zero ResponseCode.
+     *
+     * @param request  the submitted request
+     * @param response the Daraja response
+     */
+    default void onRejected(B2CRequest request, B2CResponse response) {
+    }
+
+    /**
+     * Called when a payment request fails with an exception.
+     *
+     * @param request the submitted request
+     * @param error   the failure, usually a DarajaException
+     */
+    default void onFailed(B2CRequest request, Throwable error) {
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.wmnjuguna.b2c;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Summary of a bulk B2C disbursement run.
+ *
+ * @param submitted      the number of payment requests submitted
+ * @param accepted       the number of requests accepted by Daraja (ResponseCode "0")
+ * @param rejected       the number of requests answered with a non-zero ResponseCode
+ * @param failed         the number of requests that failed with an exception
+ * @param acceptedAmount the sum of the amounts of accepted requests
+ * @param elapsed        the wall-clock duration of the run
+ * @param failureSample  the first rejected and failed payments, up to the configured limit
+ */
+public record DisbursementReport(
+    long submitted,
+    long accepted,
+    long rejected,
+    long failed,
+    BigDecimal acceptedAmount,
+    Duration elapsed,
+    List<DisbursementFailure> failureSample
+) {
+
+    /**
+     * Gets the average number of requests completed per second.
+     *
+     * @return the throughput, or 0 if the run took no measurable time
+     */
+    public double throughputPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : submitted * 1_000_000_000.0 / nanos;
+    }
+}
@@ -1,7 +1,9 @@
 package io.github.wmnjuguna.c2b;
 
+import io.github.wmnjuguna.codec.GenerateJsonCodec;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+@GenerateJsonCodec
 public record C2BRegisterUrlResponse(
     @JsonProperty("ConversationID")
     String conversationID,
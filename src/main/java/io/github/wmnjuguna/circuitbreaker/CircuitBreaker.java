@@ -0,0 +1,253 @@
+package io.github.wmnjuguna.circuitbreaker;
+
+import io.github.wmnjuguna.DarajaOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Count-based circuit breaker for one Daraja endpoint.
+ *
+ * Callers ask for permission before each call and report the outcome afterwards. State is
+ * guarded by a ReentrantLock rather than synchronized, so virtual threads are not pinned while
+ * contending for it, and listeners are notified after the lock is released.
+ */
+public final class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final DarajaOperation operation;
+    private final CircuitBreakerConfig config;
+    private final List<CircuitBreakerListener> listeners;
+    private final long slowCallNanos;
+    private final long waitInOpenNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder notPermittedCalls = new LongAdder();
+
+    private volatile CircuitState state = CircuitState.CLOSED;
+    private final byte[] window;
+    private int windowIndex;
+    private int bufferedCalls;
+    private int failedCalls;
+    private int slowCalls;
+    private long openedAtNanos;
+    private int halfOpenPermitted;
+    private int halfOpenCompleted;
+    private int halfOpenFailed;
+    private int halfOpenSlow;
+
+    CircuitBreaker(DarajaOperation operation, CircuitBreakerConfig config, List<CircuitBreakerListener> listeners) {
+        this.operation = operation;
+        this.config = config;
+        this.listeners = listeners;
+        this.slowCallNanos = config.getSlowCallDuration().toNanos();
+        this.waitInOpenNanos = config.getWaitDurationInOpenState().toNanos();
+        this.window = new byte[config.getSlidingWindowSize()];
+    }
+
+    /**
+     * Asks for permission to make a call. Every permitted call must be followed by
+     * {@link #onResult(long, Throwable)}.
+     *
+     * @return true if the call may proceed, false if the circuit rejects it
+     */
+    public boolean tryAcquirePermission() {
+        CircuitState from = null;
+        CircuitState to = null;
+        boolean permitted;
+
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED -> permitted = true;
+                case OPEN -> {
+                    permitted = System.nanoTime() - openedAtNanos >= waitInOpenNanos;
+                    if (permitted) {
+                        from = state;
+                        to = transitionTo(CircuitState.HALF_OPEN);
+                        halfOpenPermitted = 1;
+                    }
+                }
+                case HALF_OPEN -> {
+                    permitted = halfOpenPermitted < config.getPermittedCallsInHalfOpenState();
+                    if (permitted) {
+                        halfOpenPermitted++;
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown circuit state " + state);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!permitted) {
+            notPermittedCalls.increment();
+        }
+        notify(from, to);
+        return permitted;
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     * Exceptions rejected by the configured failure predicate are ignored and release the permission.
+     *
+     * @param durationNanos the call duration in nanoseconds
+     * @param error         the exception thrown by the call, or null if it succeeded
+     */
+    public void onResult(long durationNanos, Throwable error) {
+        boolean failed = error != null && config.getRecordFailure().test(error);
+        boolean ignored = error != null && !failed;
+        boolean slow = durationNanos >= slowCallNanos;
+        CircuitState from = null;
+        CircuitState to = null;
+
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED -> {
+                    if (!ignored) {
+                        record(failed, slow);
+                        if (bufferedCalls >= config.getMinimumNumberOfCalls()
+                            && exceedsThresholds(failedCalls, slowCalls, bufferedCalls)) {
+                            from = state;
+                            to = open();
+                        }
+                    }
+                }
+                case HALF_OPEN -> {
+                    if (ignored) {
+                        halfOpenPermitted--;
+                    } else {
+                        halfOpenCompleted++;
+                        halfOpenFailed += failed ? 1 : 0;
+                        halfOpenSlow += slow ? 1 : 0;
+                        if (halfOpenCompleted >= config.getPermittedCallsInHalfOpenState()) {
+                            from = state;
+                            to = exceedsThresholds(halfOpenFailed, halfOpenSlow, halfOpenCompleted)
+                                ? open()
+                                : close();
+                        }
+                    }
+                }
+                case OPEN -> {
+                    // Late result of a call permitted before the circuit opened
+                }
+                default -> throw new IllegalStateException("Unknown circuit state " + state);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        notify(from, to);
+    }
+
+    /**
+     * Gets the operation this circuit breaker protects.
+     *
+     * @return the Daraja operation
+     */
+    public DarajaOperation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets the current state.
+     *
+     * @return the circuit state
+     */
+    public CircuitState getState() {
+        return state;
+    }
+
+    /**
+     * Gets a snapshot of the state and sliding-window counters.
+     *
+     * @return the circuit breaker metrics
+     */
+    public CircuitBreakerMetrics getMetrics() {
+        lock.lock();
+        try {
+            boolean evaluated = bufferedCalls >= config.getMinimumNumberOfCalls();
+            return new CircuitBreakerMetrics(
+                state,
+                evaluated ? percentage(failedCalls, bufferedCalls) : -1,
+                evaluated ? percentage(slowCalls, bufferedCalls) : -1,
+                bufferedCalls,
+                failedCalls,
+                slowCalls,
+                notPermittedCalls.sum()
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (bufferedCalls == window.length) {
+            byte evicted = window[windowIndex];
+            failedCalls -= (evicted & FAILED) != 0 ? 1 : 0;
+            slowCalls -= (evicted & SLOW) != 0 ? 1 : 0;
+        } else {
+            bufferedCalls++;
+        }
+        window[windowIndex] = (byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0));
+        failedCalls += failed ? 1 : 0;
+        slowCalls += slow ? 1 : 0;
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private boolean exceedsThresholds(int failed, int slow, int total) {
+        return percentage(failed, total) >= config.getFailureRateThreshold()
+            || percentage(slow, total) >= config.getSlowCallRateThreshold();
+    }
+
+    private CircuitState open() {
+        openedAtNanos = System.nanoTime();
+        return transitionTo(CircuitState.OPEN);
+    }
+
+    private CircuitState close() {
+        windowIndex = 0;
+        bufferedCalls = 0;
+        failedCalls = 0;
+        slowCalls = 0;
+        return transitionTo(CircuitState.CLOSED);
+    }
+
+    private CircuitState transitionTo(CircuitState next) {
+        halfOpenPermitted = 0;
+        halfOpenCompleted = 0;
+        halfOpenFailed = 0;
+        halfOpenSlow = 0;
+        state = next;
+        return next;
+    }
+
+    private void notify(CircuitState from, CircuitState to) {
+        if (to == null) {
+            return;
+        }
+        if (to == CircuitState.OPEN) {
+            logger.warn("Circuit for {} opened after {} -> {}", operation, from, to);
+        } else {
+            logger.info("Circuit for {} changed {} -> {}", operation, from, to);
+        }
+        for (CircuitBreakerListener listener : listeners) {
+            try {
+                listener.onStateTransition(operation, from, to);
+            } catch (RuntimeException e) {
+                logger.warn("Circuit breaker listener failed", e);
+            }
+        }
+    }
+
+    private static float percentage(int count, int total) {
+        return total == 0 ? 0 : count * 100.0f / total;
+    }
+}
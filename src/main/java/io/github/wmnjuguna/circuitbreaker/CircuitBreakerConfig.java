@@ -0,0 +1,273 @@
+package io.github.wmnjuguna.circuitbreaker;
+
+import io.github.wmnjuguna.exception.DarajaAuthenticationException;
+import io.github.wmnjuguna.exception.DarajaCircuitOpenException;
+import io.github.wmnjuguna.exception.DarajaDeadlineExceededException;
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.exception.DarajaRateLimitException;
+import io.github.wmnjuguna.exception.InvalidDarajaRequestException;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * Configuration of a count-based circuit breaker for one Daraja endpoint.
+ *
+ * The breaker records the outcome of the last slidingWindowSize calls. Once at least
+ * minimumNumberOfCalls are recorded, the circuit opens when the failure rate or the slow-call
+ * rate reaches its threshold. After waitDurationInOpenState a few trial calls are let through
+ * in the half-open state, and their outcome decides whether the circuit closes or opens again.
+ *
+ * By default only failures that indicate a degraded Safaricom endpoint are counted: 5xx
+ * responses, I/O errors and timeouts. Rejected requests (400, 422), authentication failures,
+ * HTTP 429, client-side rate limiting and expired caller deadlines are not.
+ */
+public final class CircuitBreakerConfig {
+
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final Duration slowCallDuration;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final Duration waitDurationInOpenState;
+    private final int permittedCallsInHalfOpenState;
+    private final Predicate<Throwable> recordFailure;
+
+    private CircuitBreakerConfig(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallDuration = builder.slowCallDuration;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumNumberOfCalls = builder.minimumNumberOfCalls;
+        this.waitDurationInOpenState = builder.waitDurationInOpenState;
+        this.permittedCallsInHalfOpenState = builder.permittedCallsInHalfOpenState;
+        this.recordFailure = builder.recordFailure;
+    }
+
+    /**
+     * Creates a configuration with the default circuit breaker settings.
+     *
+     * @return the default circuit breaker configuration
+     */
+    public static CircuitBreakerConfig defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a new circuit breaker configuration builder.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Default failure classification: counts server errors, I/O errors and other unexpected
+     * exceptions, and ignores errors caused by the request or the caller's own limits.
+     *
+     * @param error the exception thrown by a call
+     * @return true if the exception indicates a degraded endpoint
+     */
+    public static boolean isEndpointFailure(Throwable error) {
+        if (error instanceof InvalidDarajaRequestException
+            || error instanceof DarajaAuthenticationException
+            || error instanceof DarajaRateLimitException
+            || error instanceof DarajaCircuitOpenException
+            || error instanceof DarajaDeadlineExceededException) {
+            return false;
+        }
+        if (error instanceof DarajaException darajaException) {
+            int status = darajaException.getHttpStatus();
+            return status == 0 || status >= 500;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the failure rate, in percent, at which the circuit opens.
+     *
+     * @return the failure rate threshold
+     */
+    public float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * Gets the slow-call rate, in percent, at which the circuit opens.
+     *
+     * @return the slow-call rate threshold
+     */
+    public float getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    /**
+     * Gets the duration above which a call counts as slow.
+     *
+     * @return the slow-call duration
+     */
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    /**
+     * Gets the number of most recent calls whose outcomes are recorded.
+     *
+     * @return the sliding window size
+     */
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    /**
+     * Gets the number of recorded calls required before the rates are evaluated.
+     *
+     * @return the minimum number of calls
+     */
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    /**
+     * Gets how long the circuit stays open before trial calls are permitted.
+     *
+     * @return the open-state wait
+     */
+    public Duration getWaitDurationInOpenState() {
+        return waitDurationInOpenState;
+    }
+
+    /**
+     * Gets the number of trial calls permitted in the half-open state.
+     *
+     * @return the permitted half-open calls
+     */
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+    /**
+     * Gets the rule deciding which exceptions count as failures.
+     *
+     * @return the failure predicate
+     */
+    public Predicate<Throwable> getRecordFailure() {
+        return recordFailure;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreakerConfig{" +
+               "failureRateThreshold=" + failureRateThreshold +
+               ", slowCallRateThreshold=" + slowCallRateThreshold +
+               ", slowCallDuration=" + slowCallDuration +
+               ", slidingWindowSize=" + slidingWindowSize +
+               ", minimumNumberOfCalls=" + minimumNumberOfCalls +
+               ", waitDurationInOpenState=" + waitDurationInOpenState +
+               ", permittedCallsInHalfOpenState=" + permittedCallsInHalfOpenState +
+               '}';
+    }
+
+    /**
+     * Builder class for creating CircuitBreakerConfig instances.
+     */
+    public static class Builder {
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 100;
+        private Duration slowCallDuration = Duration.ofSeconds(10);
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpenState = 3;
+        private Predicate<Throwable> recordFailure = CircuitBreakerConfig::isEndpointFailure;
+
+        private Builder() {}
+
+        public Builder failureRateThreshold(float failureRateThreshold) {
+            this.failureRateThreshold = requirePercentage(failureRateThreshold, "Failure rate threshold");
+            return this;
+        }
+
+        public Builder slowCallRateThreshold(float slowCallRateThreshold) {
+            this.slowCallRateThreshold = requirePercentage(slowCallRateThreshold, "Slow call rate threshold");
+            return this;
+        }
+
+        public Builder slowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = requirePositive(slowCallDuration, "Slow call duration");
+            return this;
+        }
+
+        public Builder slidingWindowSize(int slidingWindowSize) {
+            if (slidingWindowSize <= 0) {
+                throw new IllegalArgumentException("Sliding window size must be positive");
+            }
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        public Builder minimumNumberOfCalls(int minimumNumberOfCalls) {
+            if (minimumNumberOfCalls <= 0) {
+                throw new IllegalArgumentException("Minimum number of calls must be positive");
+            }
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+        public Builder waitDurationInOpenState(Duration waitDurationInOpenState) {
+            this.waitDurationInOpenState = requirePositive(waitDurationInOpenState, "Wait duration in open state");
+            return this;
+        }
+
+        public Builder permittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+            if (permittedCallsInHalfOpenState <= 0) {
+                throw new IllegalArgumentException("Permitted calls in half-open state must be positive");
+            }
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+            return this;
+        }
+
+        /**
+         * Replaces the rule deciding which exceptions count as failures.
+         * Exceptions that do not count are ignored entirely rather than recorded as successes.
+         *
+         * @param recordFailure returns true for exceptions that count as failures
+         * @return this builder
+         */
+        public Builder recordFailure(Predicate<Throwable> recordFailure) {
+            if (recordFailure == null) {
+                throw new IllegalArgumentException("Failure predicate cannot be null");
+            }
+            this.recordFailure = recordFailure;
+            return this;
+        }
+
+        /**
+         * Builds the CircuitBreakerConfig instance.
+         *
+         * @return a new CircuitBreakerConfig
+         * @throws IllegalStateException if the minimum number of calls exceeds the window size
+         */
+        public CircuitBreakerConfig build() {
+            if (minimumNumberOfCalls > slidingWindowSize) {
+                throw new IllegalStateException("Minimum number of calls cannot exceed sliding window size");
+            }
+            return new CircuitBreakerConfig(this);
+        }
+
+        private static float requirePercentage(float value, String name) {
+            if (!(value > 0 && value <= 100)) {
+                throw new IllegalArgumentException(name + " must be greater than 0 and at most 100");
+            }
+            return value;
+        }
+
+        private static Duration requirePositive(Duration duration, String name) {
+            if (duration == null || duration.isZero() || duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must be a positive duration");
+            }
+            return duration;
+        }
+    }
+}
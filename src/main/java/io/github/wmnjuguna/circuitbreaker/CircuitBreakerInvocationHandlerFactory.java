@@ -0,0 +1,108 @@
+package io.github.wmnjuguna.circuitbreaker;
+
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.exception.DarajaCircuitOpenException;
+import feign.InvocationHandlerFactory;
+import feign.Target;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Feign InvocationHandlerFactory that guards every Daraja operation with its circuit breaker.
+ *
+ * The breaker sits outside Feign's retryer, so a call and all of its retries count as one
+ * outcome. Exceptions are classified after DarajaErrorDecoder has decoded them, which lets the
+ * breaker tell a Safaricom 5xx from a rejected request. Calls returning a CompletableFuture are
+ * recorded when the future completes, and are rejected with a failed future while the circuit
+ * is open.
+ */
+public class CircuitBreakerInvocationHandlerFactory implements InvocationHandlerFactory {
+
+    private final CircuitBreakerRegistry registry;
+    private final InvocationHandlerFactory delegate;
+
+    /**
+     * Creates a new CircuitBreakerInvocationHandlerFactory wrapping Feign's default handler.
+     *
+     * @param registry the circuit breakers to apply
+     */
+    public CircuitBreakerInvocationHandlerFactory(CircuitBreakerRegistry registry) {
+        this(registry, new InvocationHandlerFactory.Default());
+    }
+
+    /**
+     * Creates a new CircuitBreakerInvocationHandlerFactory.
+     *
+     * @param registry the circuit breakers to apply
+     * @param delegate the factory creating the underlying invocation handler
+     * @throws IllegalArgumentException if registry or delegate is null
+     */
+    public CircuitBreakerInvocationHandlerFactory(CircuitBreakerRegistry registry, InvocationHandlerFactory delegate) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Circuit breaker registry cannot be null");
+        }
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate invocation handler factory cannot be null");
+        }
+        this.registry = registry;
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public InvocationHandler create(Target target, Map<Method, MethodHandler> dispatch) {
+        InvocationHandler handler = delegate.create(target, dispatch);
+        Map<Method, CircuitBreaker> circuitBreakers = new HashMap<>();
+        for (Method method : dispatch.keySet()) {
+            DarajaOperation operation = DarajaOperation.fromMethod(method);
+            if (operation != null) {
+                circuitBreakers.put(method, registry.circuitBreaker(operation));
+            }
+        }
+
+        return (proxy, method, args) -> {
+            CircuitBreaker circuitBreaker = circuitBreakers.get(method);
+            if (circuitBreaker == null) {
+                return handler.invoke(proxy, method, args);
+            }
+            return invoke(circuitBreaker, handler, proxy, method, args);
+        };
+    }
+
+    private static Object invoke(CircuitBreaker circuitBreaker, InvocationHandler handler,
+                                 Object proxy, Method method, Object[] args) throws Throwable {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            DarajaCircuitOpenException rejection = new DarajaCircuitOpenException(
+                "Circuit breaker for " + circuitBreaker.getOperation() + " is " + circuitBreaker.getState());
+            // Asynchronous clients report every failure through the returned future
+            if (CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
+                return CompletableFuture.failedFuture(rejection);
+            }
+            throw rejection;
+        }
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = handler.invoke(proxy, method, args);
+        } catch (Throwable e) {
+            circuitBreaker.onResult(System.nanoTime() - start, e);
+            throw e;
+        }
+
+        if (result instanceof CompletableFuture<?> future) {
+            future.whenComplete((ignored, error) -> circuitBreaker.onResult(
+                System.nanoTime() - start,
+                error instanceof CompletionException && error.getCause() != null ? error.getCause() : error
+            ));
+        } else {
+            circuitBreaker.onResult(System.nanoTime() - start, null);
+        }
+        return result;
+    }
+}
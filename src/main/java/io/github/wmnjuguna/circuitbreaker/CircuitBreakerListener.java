@@ -0,0 +1,20 @@
+package io.github.wmnjuguna.circuitbreaker;
+
+import io.github.wmnjuguna.DarajaOperation;
+
+/**
+ * Receives circuit breaker state transitions.
+ * Called on the thread whose call caused the transition, after the breaker's lock is released.
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+
+    /**
+     * Called when a circuit breaker changes state.
+     *
+     * @param operation the operation whose circuit changed
+     * @param from      the previous state
+     * @param to        the new state
+     */
+    void onStateTransition(DarajaOperation operation, CircuitState from, CircuitState to);
+}
@@ -0,0 +1,23 @@
+package io.github.wmnjuguna.circuitbreaker;
+
+/**
+ * Snapshot of a circuit breaker's state and sliding-window counters.
+ *
+ * @param state             the current state
+ * @param failureRate       the percentage of failed calls in the window, or -1 below the minimum number of calls
+ * @param slowCallRate      the percentage of slow calls in the window, or -1 below the minimum number of calls
+ * @param bufferedCalls     the number of calls in the window
+ * @param failedCalls       the number of failed calls in the window
+ * @param slowCalls         the number of slow calls in the window
+ * @param notPermittedCalls the total number of calls rejected while the circuit was open or half-open
+ */
+public record CircuitBreakerMetrics(
+    CircuitState state,
+    float failureRate,
+    float slowCallRate,
+    int bufferedCalls,
+    int failedCalls,
+    int slowCalls,
+    long notPermittedCalls
+) {
+}
@@ -0,0 +1,129 @@
+package io.github.wmnjuguna.circuitbreaker;
+
+import io.github.wmnjuguna.DarajaOperation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-endpoint circuit breakers for the Daraja API.
+ * Every operation gets its own breaker, so an outage of the B2C endpoint does not stop
+ * STK Push requests from being sent.
+ */
+public final class CircuitBreakerRegistry {
+
+    private final Map<DarajaOperation, CircuitBreaker> circuitBreakers;
+
+    private CircuitBreakerRegistry(Builder builder) {
+        List<CircuitBreakerListener> listeners = List.copyOf(builder.listeners);
+        Map<DarajaOperation, CircuitBreaker> created = new EnumMap<>(DarajaOperation.class);
+        for (DarajaOperation operation : DarajaOperation.values()) {
+            CircuitBreakerConfig config = builder.configs.getOrDefault(operation, builder.defaultConfig);
+            created.put(operation, new CircuitBreaker(operation, config, listeners));
+        }
+        this.circuitBreakers = Collections.unmodifiableMap(created);
+    }
+
+    /**
+     * Creates a registry with the default configuration for every operation.
+     *
+     * @return a new CircuitBreakerRegistry
+     */
+    public static CircuitBreakerRegistry ofDefaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a new circuit breaker registry builder.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the circuit breaker for an operation.
+     *
+     * @param operation the Daraja operation
+     * @return the operation's circuit breaker
+     */
+    public CircuitBreaker circuitBreaker(DarajaOperation operation) {
+        return circuitBreakers.get(operation);
+    }
+
+    /**
+     * Gets a snapshot of the state and counters of every circuit breaker.
+     *
+     * @return the metrics keyed by operation
+     */
+    public Map<DarajaOperation, CircuitBreakerMetrics> metrics() {
+        Map<DarajaOperation, CircuitBreakerMetrics> metrics = new EnumMap<>(DarajaOperation.class);
+        circuitBreakers.forEach((operation, circuitBreaker) -> metrics.put(operation, circuitBreaker.getMetrics()));
+        return metrics;
+    }
+
+    /**
+     * Builder class for creating CircuitBreakerRegistry instances.
+     */
+    public static class Builder {
+        private final Map<DarajaOperation, CircuitBreakerConfig> configs = new EnumMap<>(DarajaOperation.class);
+        private final List<CircuitBreakerListener> listeners = new ArrayList<>();
+        private CircuitBreakerConfig defaultConfig = CircuitBreakerConfig.defaults();
+
+        private Builder() {}
+
+        /**
+         * Sets the configuration used by every operation without an explicit one.
+         *
+         * @param config the default circuit breaker configuration
+         * @return this builder
+         */
+        public Builder defaultConfig(CircuitBreakerConfig config) {
+            if (config == null) {
+                throw new IllegalArgumentException("Default circuit breaker configuration cannot be null");
+            }
+            this.defaultConfig = config;
+            return this;
+        }
+
+        /**
+         * Sets the configuration for one operation.
+         *
+         * @param operation the Daraja operation
+         * @param config    the operation's circuit breaker configuration
+         * @return this builder
+         */
+        public Builder config(DarajaOperation operation, CircuitBreakerConfig config) {
+            if (operation == null) {
+                throw new IllegalArgumentException("Operation cannot be null");
+            }
+            if (config == null) {
+                throw new IllegalArgumentException("Circuit breaker configuration cannot be null");
+            }
+            configs.put(operation, config);
+            return this;
+        }
+
+        /**
+         * Adds a listener notified of state transitions of every circuit breaker.
+         *
+         * @param listener the state transition listener
+         * @return this builder
+         */
+        public Builder listener(CircuitBreakerListener listener) {
+            if (listener == null) {
+                throw new IllegalArgumentException("Listener cannot be null");
+            }
+            listeners.add(listener);
+            return this;
+        }
+
+        public CircuitBreakerRegistry build() {
+            return new CircuitBreakerRegistry(this);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.wmnjuguna.circuitbreaker;
+
+/**
+ * State of a circuit breaker.
+ */
+public enum CircuitState {
+
+    /**
+     * Calls are permitted and their outcomes recorded.
+     */
+    CLOSED,
+
+    /**
+     * Calls are rejected until the open-state wait has elapsed.
+     */
+    OPEN,
+
+    /**
+     * A limited number of trial calls are permitted to decide whether to close or reopen the circuit.
+     */
+    HALF_OPEN
+}
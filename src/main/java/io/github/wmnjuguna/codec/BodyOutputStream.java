@@ -0,0 +1,56 @@
+package io.github.wmnjuguna.codec;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * OutputStream collecting a request body that a JsonGenerator flushes from its pooled buffer.
+ *
+ * Daraja request bodies fit in the generator's buffer, so the generator flushes once on close,
+ * and that flush is copied straight into the final, exactly sized body array. Larger bodies
+ * are appended as they are flushed.
+ */
+final class BodyOutputStream extends OutputStream {
+
+    private byte[] body;
+    private int size;
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(size + 1);
+        body[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        if (body == null) {
+            body = Arrays.copyOfRange(bytes, offset, offset + length);
+            size = length;
+            return;
+        }
+        ensureCapacity(size + length);
+        System.arraycopy(bytes, offset, body, size, length);
+        size += length;
+    }
+
+    /**
+     * Gets the collected body. The array is returned as is when it is exactly filled, which is
+     * the case when the generator flushed once.
+     *
+     * @return the body bytes
+     */
+    byte[] toByteArray() {
+        if (body == null) {
+            return new byte[0];
+        }
+        return size == body.length ? body : Arrays.copyOf(body, size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (body == null) {
+            body = new byte[Math.max(capacity, 256)];
+        } else if (capacity > body.length) {
+            body = Arrays.copyOf(body, Math.max(capacity, body.length * 2));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.wmnjuguna.codec;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The SDK-wide JSON configuration.
+ *
+ * Every client, the error decoder and the callback parsers share one ObjectMapper, so Jackson
+ * introspects each DTO record once per JVM rather than once per factory, and its serializer
+ * caches stay warm. The mapper uses the Blackbird module to replace reflective property access
+ * with generated lambdas, ignores unknown properties so that additions to Daraja responses do
+ * not break clients, and omits null fields from requests.
+ *
+ * Records annotated with {@link GenerateJsonCodec} are read and written by codecs generated at
+ * build time, which skip reflection and introspection altogether; Blackbird covers the rest.
+ *
+ * Readers and writers are cached per type, so the codecs do not resolve the JavaType and
+ * create a new ObjectReader or ObjectWriter on every call. Generator and parser buffers come
+ * from a pool shared by all threads, including virtual threads.
+ */
+public final class DarajaJson {
+
+    // Jackson's default buffer recycler is thread-local, which recycles nothing for virtual
+    // threads; a shared pool lets every thread reuse generator and parser buffers
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+        .recyclerPool(JsonRecyclerPools.newConcurrentDequePool())
+        .build();
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder(JSON_FACTORY)
+        .addModule(new BlackbirdModule())
+        .addModule(new JsonCodecModule())
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .serializationInclusion(JsonInclude.Include.NON_NULL)
+        .build();
+
+    private static final Map<Type, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Type, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+    private DarajaJson() {}
+
+    /**
+     * Gets the shared ObjectMapper. It is used concurrently by every client and must not be
+     * reconfigured; use {@link ObjectMapper#copy()} to derive a differently configured mapper.
+     *
+     * @return the shared ObjectMapper
+     */
+    public static ObjectMapper objectMapper() {
+        return OBJECT_MAPPER;
+    }
+
+    /**
+     * Gets the cached reader for a type.
+     *
+     * @param type the type to read
+     * @return the shared ObjectReader for the type
+     * @throws IllegalArgumentException if type is null
+     */
+    public static ObjectReader reader(Type type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type cannot be null");
+        }
+        return READERS.computeIfAbsent(type, key -> OBJECT_MAPPER.readerFor(javaType(key)));
+    }
+
+    /**
+     * Gets the cached writer for a type.
+     *
+     * @param type the type to write
+     * @return the shared ObjectWriter for the type
+     * @throws IllegalArgumentException if type is null
+     */
+    public static ObjectWriter writer(Type type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type cannot be null");
+        }
+        return WRITERS.computeIfAbsent(type, key -> OBJECT_MAPPER.writerFor(javaType(key)));
+    }
+
+    private static JavaType javaType(Type type) {
+        return OBJECT_MAPPER.getTypeFactory().constructType(type);
+    }
+}
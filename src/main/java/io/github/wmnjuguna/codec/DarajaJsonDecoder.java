@@ -0,0 +1,45 @@
+package io.github.wmnjuguna.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import feign.Response;
+import feign.Util;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Feign Decoder reading response bodies with the shared {@link DarajaJson} configuration.
+ * Empty bodies, 204 and 404 responses decode to the empty value of the type, as with
+ * Feign's JacksonDecoder.
+ *
+ * The body is parsed as UTF-8 bytes straight from the response stream, in buffers from the
+ * shared recycler pool, so it is neither buffered in full nor decoded to characters first.
+ */
+public class DarajaJsonDecoder implements Decoder {
+
+    @Override
+    public Object decode(Response response, Type type) throws IOException {
+        if (response.status() == 404 || response.status() == 204) {
+            return Util.emptyValueOf(type);
+        }
+        if (response.body() == null) {
+            return null;
+        }
+        try (InputStream body = response.body().asInputStream();
+             JsonParser parser = DarajaJson.objectMapper().getFactory().createParser(body)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return DarajaJson.reader(type).readValue(parser);
+        } catch (RuntimeJsonMappingException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new DecodeException(response.status(), e.getMessage(), response.request(), e);
+        }
+    }
+}
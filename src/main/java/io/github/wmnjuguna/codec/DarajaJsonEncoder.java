@@ -0,0 +1,33 @@
+package io.github.wmnjuguna.codec;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import feign.RequestTemplate;
+import feign.Util;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Feign Encoder writing request bodies with the shared {@link DarajaJson} configuration.
+ *
+ * The record is written with a JsonGenerator whose output buffer comes from the shared
+ * recycler pool, and the generated bytes are copied once, into the body array Feign sends.
+ * No String or intermediate byte array is created, and all of the SDK's transports pass the
+ * body array to the socket without copying it again.
+ */
+public class DarajaJsonEncoder implements Encoder {
+
+    @Override
+    public void encode(Object object, Type bodyType, RequestTemplate template) {
+        BodyOutputStream body = new BodyOutputStream();
+        try (JsonGenerator generator = DarajaJson.objectMapper().getFactory().createGenerator(body, JsonEncoding.UTF8)) {
+            DarajaJson.writer(bodyType).writeValue(generator, object);
+        } catch (IOException e) {
+            throw new EncodeException(e.getMessage(), e);
+        }
+        template.body(body.toByteArray(), Util.UTF_8);
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.wmnjuguna.codec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a Daraja DTO record for which the daraja-codegen annotation processor generates a
+ * {@link JsonCodec} at build time.
+ *
+ * The record's components must be String, int, long or boolean. JSON names are taken from
+ * {@code @JsonProperty} on the components, or the component name when there is none.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateJsonCodec {
+}
@@ -0,0 +1,45 @@
+package io.github.wmnjuguna.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * Hand-rolled JSON serialization of one record type, generated at build time for records
+ * annotated with {@link GenerateJsonCodec}.
+ *
+ * Generated codecs are listed in META-INF/services and registered with the shared
+ * {@link DarajaJson} mapper, so the encoder, the decoder and anything else using that mapper
+ * read and write the record without reflection or bean introspection.
+ *
+ * @param <T> the record type
+ */
+public interface JsonCodec<T> {
+
+    /**
+     * Gets the record type this codec reads and writes.
+     *
+     * @return the record type
+     */
+    Class<T> type();
+
+    /**
+     * Writes a record as a JSON object, leaving out null components.
+     *
+     * @param generator the generator to write to
+     * @param value     the record to write
+     * @throws IOException if writing fails
+     */
+    void write(JsonGenerator generator, T value) throws IOException;
+
+    /**
+     * Reads a record from a JSON object, ignoring unknown properties.
+     * The parser is positioned at the START_OBJECT token or at the first FIELD_NAME.
+     *
+     * @param parser the parser to read from
+     * @return the record read
+     * @throws IOException if the input is not a valid object for the record
+     */
+    T read(JsonParser parser) throws IOException;
+}
@@ -0,0 +1,41 @@
+package io.github.wmnjuguna.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.ServiceLoader;
+
+/**
+ * Jackson module registering the generated {@link JsonCodec}s found on the class path, so the
+ * mapper uses them instead of introspecting the record types.
+ */
+final class JsonCodecModule extends SimpleModule {
+
+    JsonCodecModule() {
+        super("DarajaJsonCodecs");
+        for (JsonCodec<?> codec : ServiceLoader.load(JsonCodec.class, JsonCodecModule.class.getClassLoader())) {
+            register(codec);
+        }
+    }
+
+    private <T> void register(JsonCodec<T> codec) {
+        addSerializer(codec.type(), new StdSerializer<>(codec.type()) {
+            @Override
+            public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+                codec.write(generator, value);
+            }
+        });
+        addDeserializer(codec.type(), new StdDeserializer<>(codec.type()) {
+            @Override
+            public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                return codec.read(parser);
+            }
+        });
+    }
+}
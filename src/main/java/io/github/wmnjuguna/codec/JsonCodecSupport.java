@@ -0,0 +1,172 @@
+package io.github.wmnjuguna.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Value conversions shared by generated {@link JsonCodec}s. They accept the same scalar
+ * coercions Jackson applies by default, such as a number sent where a String is declared.
+ * Numbers are stricter in one respect: a fractional value read as an int or long is rejected
+ * instead of truncated. Values that do not fit are reported as MismatchedInputException.
+ */
+public final class JsonCodecSupport {
+
+    private JsonCodecSupport() {}
+
+    /**
+     * Moves the parser from the START_OBJECT token to the first property.
+     *
+     * @param parser the parser positioned at the start of an object
+     * @param type   the record type being read
+     * @return the current token, FIELD_NAME or END_OBJECT
+     * @throws IOException if the parser is not positioned at an object
+     */
+    public static JsonToken startObject(JsonParser parser, Class<?> type) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            throw MismatchedInputException.from(parser, type,
+                "Cannot deserialize " + type.getSimpleName() + " from " + token);
+        }
+        return token;
+    }
+
+    /**
+     * Reads the current value as a String.
+     *
+     * @param parser the parser positioned at the value
+     * @param type   the record type being read
+     * @return the value, or null for a JSON null
+     * @throws IOException if the value is an object or array
+     */
+    public static String readString(JsonParser parser, Class<?> type) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        throw mismatch(parser, type, "String");
+    }
+
+    /**
+     * Reads the current value as an int.
+     *
+     * @param parser the parser positioned at the value
+     * @param type   the record type being read
+     * @return the value, or 0 for a JSON null
+     * @throws IOException if the value is not a whole number in int range, as a number or String
+     */
+    public static int readInt(JsonParser parser, Class<?> type) throws IOException {
+        long value = readLong(parser, type, "int");
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw mismatch(parser, type, "int");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads the current value as a long.
+     *
+     * @param parser the parser positioned at the value
+     * @param type   the record type being read
+     * @return the value, or 0 for a JSON null
+     * @throws IOException if the value is not a whole number in long range, as a number or String
+     */
+    public static long readLong(JsonParser parser, Class<?> type) throws IOException {
+        return readLong(parser, type, "long");
+    }
+
+    private static long readLong(JsonParser parser, Class<?> type, String expected) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                throw mismatch(parser, type, expected);
+            }
+            return parser.getLongValue();
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return wholeNumber(parser.getDecimalValue(), parser, type, expected);
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                // Not a plain integer; "100.0" and "1e3" are still whole numbers
+            }
+            try {
+                return wholeNumber(new BigDecimal(text), parser, type, expected);
+            } catch (NumberFormatException e) {
+                throw mismatch(parser, type, expected);
+            }
+        }
+        throw mismatch(parser, type, expected);
+    }
+
+    /**
+     * Reads the current value as a boolean.
+     *
+     * @param parser the parser positioned at the value
+     * @param type   the record type being read
+     * @return the value, or false for a JSON null
+     * @throws IOException if the value is not a boolean or boolean String
+     */
+    public static boolean readBoolean(JsonParser parser, Class<?> type) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE || token == JsonToken.VALUE_NULL) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            if ("true".equals(text) || "false".equals(text)) {
+                return "true".equals(text);
+            }
+        }
+        throw mismatch(parser, type, "boolean");
+    }
+
+    /**
+     * Checks that the object ended where the generated reader stopped.
+     *
+     * @param parser the parser
+     * @param token  the token the property loop stopped at
+     * @param type   the record type being read
+     * @throws IOException if the token is not END_OBJECT
+     */
+    public static void endObject(JsonParser parser, JsonToken token, Class<?> type) throws IOException {
+        if (token != JsonToken.END_OBJECT) {
+            throw MismatchedInputException.from(parser, type,
+                "Unexpected " + token + " in " + type.getSimpleName());
+        }
+    }
+
+    private static long wholeNumber(BigDecimal value, JsonParser parser, Class<?> type, String expected)
+            throws IOException {
+        try {
+            return value.longValueExact();
+        } catch (ArithmeticException e) {
+            // Fractional or out of range
+            throw mismatch(parser, type, expected);
+        }
+    }
+
+    private static MismatchedInputException mismatch(JsonParser parser, Class<?> type, String expected) throws IOException {
+        return MismatchedInputException.from(parser, type,
+            "Cannot read property '" + parser.currentName() + "' of " + type.getSimpleName()
+                + " as " + expected + " from " + parser.currentToken());
+    }
+}
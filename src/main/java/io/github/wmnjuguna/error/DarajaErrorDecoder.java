@@ -1,11 +1,14 @@
 package io.github.wmnjuguna.error;
 
+import io.github.wmnjuguna.codec.DarajaJson;
 import io.github.wmnjuguna.exception.DarajaApiException;
 import io.github.wmnjuguna.exception.DarajaAuthenticationException;
 import io.github.wmnjuguna.exception.DarajaException;
 import io.github.wmnjuguna.exception.InvalidDarajaRequestException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.wmnjuguna.jfr.DarajaErrorDecodeEvent;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import feign.Response;
 import feign.codec.ErrorDecoder;
 import org.slf4j.Logger;
@@ -14,90 +17,182 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Custom Feign ErrorDecoder for Daraja API responses.
  * Converts HTTP error responses into specific Daraja exception types.
+ * Each decode is recorded as a {@link DarajaErrorDecodeEvent} when Flight Recorder has it enabled.
+ *
+ * At most maxBodyBytes of an error body are read and retained, so a large HTML page from a
+ * gateway in front of Daraja does not become a memory spike during an outage. Bodies that are
+ * not JSON are not parsed, and only a short excerpt of them is used in the exception message.
+ *
+ * JSON bodies are read in a single streaming pass that picks out the error code and message
+ * fields. The exceptions build their messages only when first asked for, and can be created
+ * without a stack trace for services that handle errors as values at high rates.
  */
 public class DarajaErrorDecoder implements ErrorDecoder {
 
+    /**
+     * The default maximum number of error body bytes read and retained.
+     */
+    public static final int DEFAULT_MAX_BODY_BYTES = 16 * 1024;
+
+    private static final int MAX_RAW_MESSAGE_LENGTH = 512;
+
+    private static final JsonFactory JSON_FACTORY = DarajaJson.objectMapper().getFactory();
+
+    // Common field names used in Daraja API error responses, in order of preference
+    private static final Map<String, Integer> ERROR_CODE_FIELDS = ranks(
+            "errorCode", "error_code", "code",
+            "responseCode", "response_code",
+            "resultCode", "result_code"
+    );
+    private static final Map<String, Integer> ERROR_MESSAGE_FIELDS = ranks(
+            "errorMessage", "error_message", "message",
+            "responseDescription", "response_description",
+            "resultDesc", "result_desc", "description",
+            "error", "reason"
+    );
+
     private static final Logger logger = LoggerFactory.getLogger(DarajaErrorDecoder.class);
-    private final ObjectMapper objectMapper = new ObjectMapper();
     private final ErrorDecoder defaultErrorDecoder = new Default();
+    private final int maxBodyBytes;
+    private final boolean stackTraces;
+
+    /**
+     * Creates a new DarajaErrorDecoder retaining up to {@link #DEFAULT_MAX_BODY_BYTES} of each error body.
+     */
+    public DarajaErrorDecoder() {
+        this(DEFAULT_MAX_BODY_BYTES);
+    }
+
+    /**
+     * Creates a new DarajaErrorDecoder.
+     *
+     * @param maxBodyBytes the maximum number of error body bytes read and retained
+     * @throws IllegalArgumentException if maxBodyBytes is not positive
+     */
+    public DarajaErrorDecoder(int maxBodyBytes) {
+        this(maxBodyBytes, true);
+    }
+
+    /**
+     * Creates a new DarajaErrorDecoder.
+     *
+     * @param maxBodyBytes the maximum number of error body bytes read and retained
+     * @param stackTraces  whether the decoded exceptions capture a stack trace; the trace of a
+     *                     decoded exception only shows Feign internals, so it can be skipped
+     * @throws IllegalArgumentException if maxBodyBytes is not positive
+     */
+    public DarajaErrorDecoder(int maxBodyBytes, boolean stackTraces) {
+        if (maxBodyBytes <= 0) {
+            throw new IllegalArgumentException("Maximum body bytes must be positive");
+        }
+        this.maxBodyBytes = maxBodyBytes;
+        this.stackTraces = stackTraces;
+    }
 
     @Override
     public Exception decode(String methodKey, Response response) {
-        String responseBody = null;
+        DarajaErrorDecodeEvent event = new DarajaErrorDecodeEvent();
+        event.begin();
+
+        ErrorBody errorBody = null;
         try {
-            responseBody = extractResponseBody(response);
+            errorBody = extractResponseBody(response);
         } catch (IOException e) {
             logger.warn("Failed to read error response body", e);
         }
+        byte[] body = errorBody == null ? null : errorBody.bytes();
+        // Only DarajaApiException and non-JSON excerpts need the body as a String
+        String responseBody = null;
 
         int status = response.status();
         String errorCode = null;
         String errorMessage = "API request failed";
 
         // Try to parse error details from response body
-        if (responseBody != null && !responseBody.trim().isEmpty()) {
-            try {
-                JsonNode jsonNode = objectMapper.readTree(responseBody);
-                errorCode = extractErrorCode(jsonNode);
-                String parsedMessage = extractErrorMessage(jsonNode);
-                if (parsedMessage != null && !parsedMessage.trim().isEmpty()) {
-                    errorMessage = parsedMessage;
+        if (body != null && !isBlank(body)) {
+            if (isJson(body) && !errorBody.truncated()) {
+                long parseStart = System.nanoTime();
+                try {
+                    ErrorFields fields = parseFields(body);
+                    errorCode = fields.code();
+                    if (fields.message() != null) {
+                        errorMessage = fields.message();
+                    }
+                } catch (IOException e) {
+                    logger.warn("Failed to parse error response JSON", e);
+                    // Use the raw response body as the error message if JSON parsing fails
+                    responseBody = new String(body, StandardCharsets.UTF_8);
+                    errorMessage = excerpt(responseBody, false);
                 }
-            } catch (Exception e) {
-                logger.warn("Failed to parse error response JSON", e);
-                // Use the raw response body as the error message if JSON parsing fails
-                errorMessage = responseBody;
+                event.setParseTime(System.nanoTime() - parseStart);
+            } else {
+                responseBody = new String(body, StandardCharsets.UTF_8);
+                errorMessage = excerpt(responseBody, errorBody.truncated());
             }
         }
 
-        // Create appropriate exception based on status code
+        event.end();
+        if (event.shouldCommit()) {
+            event.setStatus(status);
+            event.setBodyBytes(body == null ? 0 : body.length);
+            event.setErrorCode(errorCode);
+            event.commit();
+        }
+
+        if (responseBody == null && body != null && (status == 404 || status == 429 || status >= 500)) {
+            responseBody = new String(body, StandardCharsets.UTF_8);
+        }
+
+        // Create appropriate exception based on status code; messages are joined on first use
         return switch (status) {
             case 400 -> new InvalidDarajaRequestException(
-                    "Bad Request: " + errorMessage, errorCode, status
+                    "Bad Request", errorMessage, errorCode, status, stackTraces
             );
             case 401 -> new DarajaAuthenticationException(
-                    "Unauthorized: " + errorMessage, errorCode, status
+                    "Unauthorized", errorMessage, errorCode, status, stackTraces
             );
             case 403 -> new DarajaAuthenticationException(
-                    "Forbidden: " + errorMessage, errorCode, status
+                    "Forbidden", errorMessage, errorCode, status, stackTraces
             );
             case 404 -> new DarajaApiException(
-                    "Not Found: " + errorMessage, responseBody, errorCode, status
+                    "Not Found", errorMessage, responseBody, errorCode, status, stackTraces
             );
             case 422 -> new InvalidDarajaRequestException(
-                    "Unprocessable Entity: " + errorMessage, errorCode, status
+                    "Unprocessable Entity", errorMessage, errorCode, status, stackTraces
             );
             case 429 -> new DarajaApiException(
-                    "Rate Limited: " + errorMessage, responseBody, errorCode, status
+                    "Rate Limited", errorMessage, responseBody, errorCode, status, stackTraces
             );
             case 500 -> new DarajaApiException(
-                    "Internal Server Error: " + errorMessage, responseBody, errorCode, status
+                    "Internal Server Error", errorMessage, responseBody, errorCode, status, stackTraces
             );
             case 502 -> new DarajaApiException(
-                    "Bad Gateway: " + errorMessage, responseBody, errorCode, status
+                    "Bad Gateway", errorMessage, responseBody, errorCode, status, stackTraces
             );
             case 503 -> new DarajaApiException(
-                    "Service Unavailable: " + errorMessage, responseBody, errorCode, status
+                    "Service Unavailable", errorMessage, responseBody, errorCode, status, stackTraces
             );
             case 504 -> new DarajaApiException(
-                    "Gateway Timeout: " + errorMessage, responseBody, errorCode, status
+                    "Gateway Timeout", errorMessage, responseBody, errorCode, status, stackTraces
             );
             default -> {
                 if (status >= 400 && status < 500) {
                     yield new InvalidDarajaRequestException(
-                            "Client Error (" + status + "): " + errorMessage, errorCode, status
+                            "Client Error (" + status + ")", errorMessage, errorCode, status, stackTraces
                     );
                 } else if (status >= 500) {
                     yield new DarajaApiException(
-                            "Server Error (" + status + "): " + errorMessage, responseBody, errorCode, status
+                            "Server Error (" + status + ")", errorMessage, responseBody, errorCode, status, stackTraces
                     );
                 } else {
                     yield new DarajaException(
-                            "Unexpected Error (" + status + "): " + errorMessage, errorCode, status
+                            "Unexpected Error (" + status + ")", errorMessage, errorCode, status, stackTraces
                     );
                 }
             }
@@ -105,73 +200,120 @@ public class DarajaErrorDecoder implements ErrorDecoder {
     }
 
     /**
-     * Extracts the response body as a string from the Feign response.
+     * Extracts the response body from the Feign response, reading at most maxBodyBytes.
+     * The rest of an oversized body is left for the transport to discard when the stream closes.
      *
      * @param response the Feign response
-     * @return the response body as a string
+     * @return the retained response body, or null if there is none
      * @throws IOException if reading the response body fails
      */
-    private String extractResponseBody(Response response) throws IOException {
+    private ErrorBody extractResponseBody(Response response) throws IOException {
         if (response.body() == null) {
             return null;
         }
 
         try (InputStream inputStream = response.body().asInputStream()) {
-            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            byte[] bytes = inputStream.readNBytes(maxBodyBytes);
+            return new ErrorBody(bytes, bytes.length == maxBodyBytes && inputStream.read() != -1);
         }
     }
 
     /**
-     * Extracts the error code from the JSON response.
-     * Tries common field names used in Daraja API responses.
-     *
-     * @param jsonNode the JSON response
-     * @return the error code, or null if not found
+     * Checks whether the body starts like a JSON object or array, so that HTML and plain-text
+     * bodies are not handed to the JSON parser only to fail.
      */
-    private String extractErrorCode(JsonNode jsonNode) {
-        // Try different possible field names for error codes
-        String[] errorCodeFields = {
-                "errorCode", "error_code", "code",
-                "responseCode", "response_code",
-                "resultCode", "result_code"
-        };
-
-        for (String field : errorCodeFields) {
-            JsonNode codeNode = jsonNode.get(field);
-            if (codeNode != null && !codeNode.isNull()) {
-                return codeNode.asText();
+    private static boolean isJson(byte[] body) {
+        for (byte b : body) {
+            if (b == '{' || b == '[') {
+                return true;
+            }
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return false;
             }
         }
+        return false;
+    }
 
-        return null;
+    /**
+     * Shortens a raw, non-JSON body for use in an exception message.
+     */
+    private static String excerpt(String responseBody, boolean truncated) {
+        String message = responseBody.trim();
+        if (message.length() > MAX_RAW_MESSAGE_LENGTH) {
+            return message.substring(0, MAX_RAW_MESSAGE_LENGTH) + "... [truncated]";
+        }
+        return truncated ? message + "... [truncated]" : message;
     }
 
     /**
-     * Extracts the error message from the JSON response.
-     * Tries common field names used in Daraja API responses.
+     * Reads the error code and message from a JSON body in one pass over its top-level fields.
+     * Each field name is looked up once in the rank tables; when several candidates are present,
+     * the one ranked first wins, so the result does not depend on field order. Nested objects and
+     * arrays are skipped without being materialized.
      *
-     * @param jsonNode the JSON response
-     * @return the error message, or null if not found
+     * @param body the JSON response body
+     * @return the error code and message found, either of which may be null
+     * @throws IOException if the body is not valid JSON
      */
-    private String extractErrorMessage(JsonNode jsonNode) {
-        // Try different possible field names for error messages
-        String[] errorMessageFields = {
-                "errorMessage", "error_message", "message",
-                "responseDescription", "response_description",
-                "resultDesc", "result_desc", "description",
-                "error", "reason"
-        };
+    private static ErrorFields parseFields(byte[] body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return ErrorFields.NONE;
+            }
+            String code = null;
+            int codeRank = Integer.MAX_VALUE;
+            String message = null;
+            int messageRank = Integer.MAX_VALUE;
 
-        for (String field : errorMessageFields) {
-            JsonNode messageNode = jsonNode.get(field);
-            if (messageNode != null && !messageNode.isNull()) {
-                String message = messageNode.asText();
-                if (message != null && !message.trim().isEmpty()) {
-                    return message;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!value.isScalarValue() || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                Integer rank = ERROR_CODE_FIELDS.get(name);
+                if (rank != null && rank < codeRank) {
+                    code = parser.getText();
+                    codeRank = rank;
                 }
+                rank = ERROR_MESSAGE_FIELDS.get(name);
+                if (rank != null && rank < messageRank) {
+                    String text = parser.getText();
+                    if (!text.isBlank()) {
+                        message = text;
+                        messageRank = rank;
+                    }
+                }
+            }
+            return new ErrorFields(code, message);
+        }
+    }
+
+    /**
+     * Maps each field name to its position, so that a lookup returns its priority.
+     */
+    private static Map<String, Integer> ranks(String... fields) {
+        Map<String, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < fields.length; i++) {
+            ranks.put(fields[i], i);
+        }
+        return Map.copyOf(ranks);
+    }
+
+    private static boolean isBlank(byte[] body) {
+        for (byte b : body) {
+            // Multi-byte UTF-8 sequences are negative, and never whitespace for String.trim
+            if (b < 0 || b > ' ') {
+                return false;
             }
         }
+        return true;
+    }
 
-        return null;
+    private record ErrorFields(String code, String message) {
+        static final ErrorFields NONE = new ErrorFields(null, null);
     }
-}
\ No newline at end of file
+
+    private record ErrorBody(byte[] bytes, boolean truncated) {}
+}
@@ -54,6 +54,23 @@ public class DarajaApiException extends DarajaException {
         this.responseBody = responseBody;
     }
 
+    /**
+     * Constructs a new DarajaApiException whose message is built from a summary and a detail
+     * only when first requested, optionally without capturing a stack trace.
+     *
+     * @param summary            the message summary
+     * @param detail             the message detail, or null
+     * @param responseBody       the API response body
+     * @param errorCode          the Daraja API error code
+     * @param httpStatus         the HTTP status code
+     * @param writableStackTrace whether the stack trace is captured
+     */
+    public DarajaApiException(String summary, String detail, String responseBody, String errorCode, int httpStatus,
+                              boolean writableStackTrace) {
+        super(summary, detail, errorCode, httpStatus, writableStackTrace);
+        this.responseBody = responseBody;
+    }
+
     /**
      * Gets the API response body if available.
      *
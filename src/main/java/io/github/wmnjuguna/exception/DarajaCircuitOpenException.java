@@ -0,0 +1,17 @@
+package io.github.wmnjuguna.exception;
+
+/**
+ * Exception thrown when a request is rejected without being sent because the circuit breaker
+ * for its endpoint is open, after too many recent calls to that endpoint failed or were slow.
+ */
+public class DarajaCircuitOpenException extends DarajaException {
+
+    /**
+     * Constructs a new DarajaCircuitOpenException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public DarajaCircuitOpenException(String message) {
+        super(message);
+    }
+}
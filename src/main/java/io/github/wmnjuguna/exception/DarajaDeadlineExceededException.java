@@ -0,0 +1,18 @@
+package io.github.wmnjuguna.exception;
+
+/**
+ * Exception thrown when a caller-supplied deadline expires before a request could be sent,
+ * or while waiting for an access token refresh.
+ * The request did not reach Safaricom after the deadline expired.
+ */
+public class DarajaDeadlineExceededException extends DarajaException {
+
+    /**
+     * Constructs a new DarajaDeadlineExceededException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public DarajaDeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -8,6 +8,9 @@ public class DarajaException extends RuntimeException {
 
     private final String errorCode;
     private final int httpStatus;
+    private final String summary;
+    private final String detail;
+    private String message;
 
     /**
      * Constructs a new DarajaException with the specified detail message.
@@ -51,6 +54,41 @@ public class DarajaException extends RuntimeException {
         super(message, cause);
         this.errorCode = errorCode;
         this.httpStatus = httpStatus;
+        this.summary = null;
+        this.detail = null;
+    }
+
+    /**
+     * Constructs a new DarajaException whose message, "summary: detail", is only built when first
+     * requested, optionally without capturing a stack trace. Used for exceptions decoded from
+     * error responses, which are created for every failed call even when nobody reads them.
+     *
+     * @param summary            the message summary, such as "Bad Request"
+     * @param detail             the message detail, or null for the summary alone
+     * @param errorCode          the Daraja API error code
+     * @param httpStatus         the HTTP status code
+     * @param writableStackTrace whether the stack trace is captured
+     */
+    public DarajaException(String summary, String detail, String errorCode, int httpStatus, boolean writableStackTrace) {
+        super(null, null, true, writableStackTrace);
+        this.errorCode = errorCode;
+        this.httpStatus = httpStatus;
+        this.summary = summary;
+        this.detail = detail;
+    }
+
+    @Override
+    public String getMessage() {
+        if (summary == null) {
+            return super.getMessage();
+        }
+        // Racing threads build equal strings, so the field needs no synchronization
+        String built = message;
+        if (built == null) {
+            built = detail == null ? summary : summary + ": " + detail;
+            message = built;
+        }
+        return built;
     }
 
     /**
@@ -0,0 +1,29 @@
+package io.github.wmnjuguna.exception;
+
+/**
+ * Exception thrown when a request is rejected by the SDK's client-side rate limiter
+ * before it is sent to the Daraja API.
+ * Unlike a DarajaApiException with HTTP status 429, the request never reached Safaricom
+ * and can safely be retried later.
+ */
+public class DarajaRateLimitException extends DarajaException {
+
+    /**
+     * Constructs a new DarajaRateLimitException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public DarajaRateLimitException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new DarajaRateLimitException with the specified detail message and cause.
+     *
+     * @param message the detail message
+     * @param cause   the cause
+     */
+    public DarajaRateLimitException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
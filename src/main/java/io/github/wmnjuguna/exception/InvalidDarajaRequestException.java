@@ -48,4 +48,18 @@ public class InvalidDarajaRequestException extends DarajaException {
     public InvalidDarajaRequestException(String message, Throwable cause, String errorCode, int httpStatus) {
         super(message, cause, errorCode, httpStatus);
     }
+
+    /**
+     * Constructs a new InvalidDarajaRequestException whose message is built from a summary and a detail
+     * only when first requested, optionally without capturing a stack trace.
+     *
+     * @param summary            the message summary
+     * @param detail             the message detail, or null
+     * @param errorCode          the Daraja API error code
+     * @param httpStatus         the HTTP status code
+     * @param writableStackTrace whether the stack trace is captured
+     */
+    public InvalidDarajaRequestException(String summary, String detail, String errorCode, int httpStatus, boolean writableStackTrace) {
+        super(summary, detail, errorCode, httpStatus, writableStackTrace);
+    }
 }
\ No newline at end of file
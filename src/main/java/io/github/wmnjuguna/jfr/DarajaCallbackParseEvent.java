@@ -0,0 +1,42 @@
+package io.github.wmnjuguna.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for the deserialization of a callback body received from Safaricom.
+ */
+@Name("io.github.wmnjuguna.daraja.CallbackParse")
+@Label("Daraja Callback Deserialization")
+@Category({"Daraja", "Codec"})
+@Description("Deserialization of a Daraja callback body")
+@StackTrace(false)
+public final class DarajaCallbackParseEvent extends Event {
+
+    @Label("Callback Type")
+    String type;
+
+    @Label("Body Size")
+    @DataAmount
+    long bodyBytes;
+
+    @Label("Success")
+    boolean success;
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public void setBodyBytes(long bodyBytes) {
+        this.bodyBytes = bodyBytes;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+}
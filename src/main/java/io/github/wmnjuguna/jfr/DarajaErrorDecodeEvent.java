@@ -0,0 +1,53 @@
+package io.github.wmnjuguna.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for the decoding of a Daraja error response by DarajaErrorDecoder, covering
+ * reading the body and parsing it.
+ */
+@Name("io.github.wmnjuguna.daraja.ErrorDecode")
+@Label("Daraja Error Decode")
+@Category({"Daraja", "Codec"})
+@Description("Decoding of a Daraja error response into an exception")
+@StackTrace(false)
+public final class DarajaErrorDecodeEvent extends Event {
+
+    @Label("Status")
+    int status;
+
+    @Label("Body Size")
+    @DataAmount
+    long bodyBytes;
+
+    @Label("Parse Time")
+    @Description("Time spent parsing the body as JSON")
+    @Timespan(Timespan.NANOSECONDS)
+    long parseTime;
+
+    @Label("Error Code")
+    String errorCode;
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public void setBodyBytes(long bodyBytes) {
+        this.bodyBytes = bodyBytes;
+    }
+
+    public void setParseTime(long parseTimeNanos) {
+        this.parseTime = parseTimeNanos;
+    }
+
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.wmnjuguna.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one HTTP exchange with the Daraja API, from sending the request until the
+ * response headers are received. Each retry attempt is a separate event.
+ */
+@Name("io.github.wmnjuguna.daraja.HttpCall")
+@Label("Daraja HTTP Call")
+@Category({"Daraja", "HTTP"})
+@Description("HTTP exchange with the Daraja API")
+@StackTrace(false)
+public final class DarajaHttpCallEvent extends Event {
+
+    @Label("Operation")
+    @Description("Daraja operation, or null for the OAuth endpoint")
+    String operation;
+
+    @Label("Path")
+    String path;
+
+    @Label("Status")
+    @Description("HTTP status, or 0 if no response was received")
+    int status;
+
+    @Label("Request Size")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Size")
+    @Description("Response Content-Length, or -1 if unknown")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Failure")
+    @Description("Exception thrown if no response was received")
+    String failure;
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public void setRequestBytes(long requestBytes) {
+        this.requestBytes = requestBytes;
+    }
+
+    public void setResponseBytes(long responseBytes) {
+        this.responseBytes = responseBytes;
+    }
+
+    public void setFailure(String failure) {
+        this.failure = failure;
+    }
+}
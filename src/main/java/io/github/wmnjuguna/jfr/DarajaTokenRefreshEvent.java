@@ -0,0 +1,66 @@
+package io.github.wmnjuguna.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for a pass through the token refresh path of DarajaAuthInterceptor, emitted
+ * whenever a request or the background scheduler finds the cached token needing renewal.
+ * The lock wait shows time spent queued behind another refresh; the OAuth latency shows the
+ * round trip to the OAuth endpoint, if one was made.
+ */
+@Name("io.github.wmnjuguna.daraja.TokenRefresh")
+@Label("Daraja Token Refresh")
+@Category({"Daraja", "Authentication"})
+@Description("Access token renewal by DarajaAuthInterceptor")
+@StackTrace(false)
+public final class DarajaTokenRefreshEvent extends Event {
+
+    /** Another thread refreshed the token while this one waited for the lock. */
+    public static final String CACHED = "cached";
+    /** A token refreshed by another node was taken from the token store. */
+    public static final String ADOPTED = "adopted";
+    /** Another node holds the refresh lease, so the background refresh was rescheduled. */
+    public static final String DEFERRED = "deferred";
+    /** A new token was obtained from the OAuth endpoint. */
+    public static final String REFRESHED = "refreshed";
+    /** The refresh failed. */
+    public static final String FAILED = "failed";
+
+    @Label("Background")
+    @Description("Whether the refresh ran ahead of expiry on the refresh scheduler")
+    boolean background;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Lock Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long lockWait;
+
+    @Label("OAuth Latency")
+    @Description("Round trip to the OAuth endpoint, or 0 if it was not called")
+    @Timespan(Timespan.NANOSECONDS)
+    long oauthLatency;
+
+    public void setBackground(boolean background) {
+        this.background = background;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    public void setLockWait(long lockWaitNanos) {
+        this.lockWait = lockWaitNanos;
+    }
+
+    public void setOauthLatency(long oauthLatencyNanos) {
+        this.oauthLatency = oauthLatencyNanos;
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.wmnjuguna.jfr;
+
+import io.github.wmnjuguna.DarajaOperation;
+import feign.AsyncClient;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Feign client decorator emitting a {@link DarajaHttpCallEvent} for every HTTP exchange.
+ *
+ * When no recording has the event enabled, the check costs next to nothing, so the decorator is
+ * installed unconditionally and a recording can be started in production with jcmd or JDK
+ * Mission Control whenever latency needs to be attributed.
+ */
+public class FlightRecorderClient implements Client {
+
+    private final Client delegate;
+
+    /**
+     * Creates a new FlightRecorderClient.
+     *
+     * @param delegate the client executing the requests
+     * @throws IllegalArgumentException if delegate is null
+     */
+    public FlightRecorderClient(Client delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate client cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    /**
+     * Decorates an asynchronous client. The event is committed when the response future completes.
+     *
+     * @param delegate the asynchronous client executing the requests
+     * @return the decorated asynchronous client
+     * @throws IllegalArgumentException if delegate is null
+     */
+    public static AsyncClient<Object> async(AsyncClient<Object> delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate client cannot be null");
+        }
+        return (request, options, requestContext) -> {
+            DarajaHttpCallEvent event = new DarajaHttpCallEvent();
+            if (!event.isEnabled()) {
+                return delegate.execute(request, options, requestContext);
+            }
+            event.begin();
+            CompletableFuture<Response> future = delegate.execute(request, options, requestContext);
+            return future.whenComplete((response, error) -> commit(event, request, response, error));
+        };
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        DarajaHttpCallEvent event = new DarajaHttpCallEvent();
+        if (!event.isEnabled()) {
+            return delegate.execute(request, options);
+        }
+        event.begin();
+        Response response;
+        try {
+            response = delegate.execute(request, options);
+        } catch (IOException | RuntimeException e) {
+            commit(event, request, null, e);
+            throw e;
+        }
+        commit(event, request, response, null);
+        return response;
+    }
+
+    private static void commit(DarajaHttpCallEvent event, Request request, Response response, Throwable error) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        String url = request.url();
+        DarajaOperation operation = DarajaOperation.fromPath(url);
+        event.setOperation(operation == null ? null : operation.name());
+        event.setPath(path(url));
+        event.setRequestBytes(request.body() == null ? 0 : request.body().length);
+        if (response != null) {
+            event.setStatus(response.status());
+            Integer length = response.body() == null ? Integer.valueOf(0) : response.body().length();
+            event.setResponseBytes(length == null ? -1 : length);
+        }
+        if (error != null) {
+            event.setFailure(error.getClass().getName());
+        }
+        event.commit();
+    }
+
+    /**
+     * Strips the scheme, host and query string from a request URL.
+     */
+    private static String path(String url) {
+        int schemeEnd = url.indexOf("://");
+        int pathStart = schemeEnd >= 0 ? url.indexOf('/', schemeEnd + 3) : 0;
+        if (pathStart < 0) {
+            return "/";
+        }
+        int queryStart = url.indexOf('?', pathStart);
+        return queryStart >= 0 ? url.substring(pathStart, queryStart) : url.substring(pathStart);
+    }
+}
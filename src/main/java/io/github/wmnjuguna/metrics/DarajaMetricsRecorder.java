@@ -0,0 +1,53 @@
+package io.github.wmnjuguna.metrics;
+
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.transport.ConnectionPoolStats;
+import io.github.wmnjuguna.webhook.DeduplicationStats;
+
+import java.util.function.Supplier;
+
+/**
+ * Receives the measurements of a DarajaClientFactory: the duration and outcome of every API
+ * call, every access token refresh, and the state of the connection pool.
+ *
+ * Implementations are called on the request path and must not block.
+ * {@link MicrometerMetricsRecorder} records them as Micrometer meters.
+ */
+public interface DarajaMetricsRecorder {
+
+    /**
+     * Records a completed API call, including any retries.
+     *
+     * @param operation     the Daraja operation
+     * @param durationNanos the call duration in nanoseconds
+     * @param error         the exception the call failed with, or null if it succeeded
+     */
+    void recordCall(DarajaOperation operation, long durationNanos, Throwable error);
+
+    /**
+     * Records an access token refresh attempt.
+     *
+     * @param durationNanos the OAuth round trip time in nanoseconds
+     * @param success       true if a token was obtained
+     * @param background    true if the refresh ran ahead of expiry in the background
+     */
+    void recordTokenRefresh(long durationNanos, boolean success, boolean background);
+
+    /**
+     * Binds the connection pool of the factory's pooled transport, once it is created.
+     * Does nothing by default.
+     *
+     * @param poolStats supplies a snapshot of the connection pool on demand
+     */
+    default void bindConnectionPool(Supplier<ConnectionPoolStats> poolStats) {
+    }
+
+    /**
+     * Binds the counters of a callback de-duplication cache, such as
+     * DeduplicatingStkPushCallbackHandler#getStats. Does nothing by default.
+     *
+     * @param deduplicationStats supplies a snapshot of the de-duplication counters on demand
+     */
+    default void bindCallbackDeduplication(Supplier<DeduplicationStats> deduplicationStats) {
+    }
+}
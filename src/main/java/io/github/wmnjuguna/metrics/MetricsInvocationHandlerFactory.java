@@ -0,0 +1,93 @@
+package io.github.wmnjuguna.metrics;
+
+import io.github.wmnjuguna.DarajaOperation;
+import feign.InvocationHandlerFactory;
+import feign.Target;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Feign InvocationHandlerFactory that times every Daraja operation and reports it to a
+ * {@link DarajaMetricsRecorder}.
+ *
+ * Operations are resolved once per client method when the client is created, so a call adds
+ * only a map lookup and two clock reads. Calls returning a CompletableFuture are recorded
+ * when the future completes.
+ */
+public class MetricsInvocationHandlerFactory implements InvocationHandlerFactory {
+
+    private final DarajaMetricsRecorder recorder;
+    private final InvocationHandlerFactory delegate;
+
+    /**
+     * Creates a new MetricsInvocationHandlerFactory wrapping Feign's default handler.
+     *
+     * @param recorder the recorder receiving the measurements
+     */
+    public MetricsInvocationHandlerFactory(DarajaMetricsRecorder recorder) {
+        this(recorder, new InvocationHandlerFactory.Default());
+    }
+
+    /**
+     * Creates a new MetricsInvocationHandlerFactory.
+     *
+     * @param recorder the recorder receiving the measurements
+     * @param delegate the factory creating the underlying invocation handler
+     * @throws IllegalArgumentException if recorder or delegate is null
+     */
+    public MetricsInvocationHandlerFactory(DarajaMetricsRecorder recorder, InvocationHandlerFactory delegate) {
+        if (recorder == null) {
+            throw new IllegalArgumentException("Metrics recorder cannot be null");
+        }
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate invocation handler factory cannot be null");
+        }
+        this.recorder = recorder;
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public InvocationHandler create(Target target, Map<Method, MethodHandler> dispatch) {
+        InvocationHandler handler = delegate.create(target, dispatch);
+        Map<Method, DarajaOperation> operations = new HashMap<>();
+        for (Method method : dispatch.keySet()) {
+            DarajaOperation operation = DarajaOperation.fromMethod(method);
+            if (operation != null) {
+                operations.put(method, operation);
+            }
+        }
+
+        return (proxy, method, args) -> {
+            DarajaOperation operation = operations.get(method);
+            if (operation == null) {
+                return handler.invoke(proxy, method, args);
+            }
+
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = handler.invoke(proxy, method, args);
+            } catch (Throwable e) {
+                recorder.recordCall(operation, System.nanoTime() - start, e);
+                throw e;
+            }
+
+            if (result instanceof CompletableFuture<?> future) {
+                future.whenComplete((ignored, error) -> recorder.recordCall(
+                    operation,
+                    System.nanoTime() - start,
+                    error instanceof CompletionException && error.getCause() != null ? error.getCause() : error
+                ));
+            } else {
+                recorder.recordCall(operation, System.nanoTime() - start, null);
+            }
+            return result;
+        };
+    }
+}
@@ -0,0 +1,167 @@
+package io.github.wmnjuguna.metrics;
+
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.transport.ConnectionPoolStats;
+import io.github.wmnjuguna.webhook.DeduplicationStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * Records Daraja client measurements as Micrometer meters.
+ *
+ * <ul>
+ *   <li>{@code daraja.client.requests} timer, tagged with operation and outcome</li>
+ *   <li>{@code daraja.client.errors} counter, tagged with operation, exception type, Daraja error code and HTTP status</li>
+ *   <li>{@code daraja.auth.token.refresh} timer, tagged with outcome and mode (lazy or background)</li>
+ *   <li>{@code daraja.pool.connections} gauges, tagged with state (leased, available, pending, max)</li>
+ *   <li>{@code daraja.callback.deduplication} counters, tagged with result (duplicate or unique), and the
+ *       {@code daraja.callback.deduplication.size} gauge</li>
+ * </ul>
+ *
+ * All tags have a small, fixed set of values: error codes that do not look like Daraja codes
+ * are reported as "other". Success timers are created up front, so recording a successful call
+ * does not allocate. Gauges and function counters hold the bound suppliers strongly, since
+ * callers usually pass a method reference that nothing else keeps alive, and Micrometer's
+ * default weak reference would let it be collected. Micrometer is an optional dependency that
+ * must be on the classpath to use this class.
+ */
+public final class MicrometerMetricsRecorder implements DarajaMetricsRecorder {
+
+    private static final Pattern ERROR_CODE = Pattern.compile("\\d{3}(\\.\\d{1,3}){0,2}");
+
+    private final MeterRegistry registry;
+    private final Map<DarajaOperation, Timer> successTimers = new EnumMap<>(DarajaOperation.class);
+    private final Map<DarajaOperation, Timer> failureTimers = new EnumMap<>(DarajaOperation.class);
+    private final Map<ErrorKey, Counter> errorCounters = new ConcurrentHashMap<>();
+    private final Timer lazyRefreshes;
+    private final Timer backgroundRefreshes;
+    private final Timer failedRefreshes;
+
+    /**
+     * Creates a new MicrometerMetricsRecorder.
+     *
+     * @param registry the registry to create meters in
+     * @throws IllegalArgumentException if registry is null
+     */
+    public MicrometerMetricsRecorder(MeterRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Meter registry cannot be null");
+        }
+        this.registry = registry;
+        for (DarajaOperation operation : DarajaOperation.values()) {
+            successTimers.put(operation, requestTimer(operation, "success"));
+            failureTimers.put(operation, requestTimer(operation, "failure"));
+        }
+        this.lazyRefreshes = refreshTimer("success", "lazy");
+        this.backgroundRefreshes = refreshTimer("success", "background");
+        this.failedRefreshes = refreshTimer("failure", "any");
+    }
+
+    @Override
+    public void recordCall(DarajaOperation operation, long durationNanos, Throwable error) {
+        if (error == null) {
+            successTimers.get(operation).record(durationNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+        failureTimers.get(operation).record(durationNanos, TimeUnit.NANOSECONDS);
+        errorCounters.computeIfAbsent(ErrorKey.of(operation, error), this::errorCounter).increment();
+    }
+
+    @Override
+    public void recordTokenRefresh(long durationNanos, boolean success, boolean background) {
+        Timer timer = !success ? failedRefreshes : background ? backgroundRefreshes : lazyRefreshes;
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void bindConnectionPool(Supplier<ConnectionPoolStats> poolStats) {
+        poolGauge(poolStats, "leased", ConnectionPoolStats::leased);
+        poolGauge(poolStats, "available", ConnectionPoolStats::available);
+        poolGauge(poolStats, "pending", ConnectionPoolStats::pending);
+        poolGauge(poolStats, "max", ConnectionPoolStats::max);
+    }
+
+    @Override
+    public void bindCallbackDeduplication(Supplier<DeduplicationStats> deduplicationStats) {
+        deduplicationCounter(deduplicationStats, "duplicate", DeduplicationStats::duplicates);
+        deduplicationCounter(deduplicationStats, "unique", DeduplicationStats::unique);
+        Gauge.builder("daraja.callback.deduplication.size", deduplicationStats, stats -> stats.get().size())
+            .description("Callback keys remembered by the de-duplication cache")
+            .strongReference(true)
+            .register(registry);
+    }
+
+    private Timer requestTimer(DarajaOperation operation, String outcome) {
+        return Timer.builder("daraja.client.requests")
+            .description("Daraja API calls, including retries")
+            .tag("operation", operation.name())
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private Timer refreshTimer(String outcome, String mode) {
+        return Timer.builder("daraja.auth.token.refresh")
+            .description("Daraja OAuth access token requests")
+            .tag("outcome", outcome)
+            .tag("mode", mode)
+            .register(registry);
+    }
+
+    private Counter errorCounter(ErrorKey key) {
+        return Counter.builder("daraja.client.errors")
+            .description("Failed Daraja API calls by exception type and Daraja error code")
+            .tag("operation", key.operation().name())
+            .tag("exception", key.exception())
+            .tag("error.code", key.errorCode())
+            .tag("http.status", key.httpStatus())
+            .register(registry);
+    }
+
+    private void poolGauge(Supplier<ConnectionPoolStats> poolStats, String state, ToIntFunction<ConnectionPoolStats> value) {
+        Gauge.builder("daraja.pool.connections", poolStats, stats -> value.applyAsInt(stats.get()))
+            .description("Connections of the pooled Daraja HTTP transport")
+            .tag("state", state)
+            .strongReference(true)
+            .register(registry);
+    }
+
+    private void deduplicationCounter(Supplier<DeduplicationStats> deduplicationStats, String result,
+                                      ToDoubleFunction<DeduplicationStats> value) {
+        FunctionCounter.builder("daraja.callback.deduplication", deduplicationStats, stats -> value.applyAsDouble(stats.get()))
+            .description("Callbacks checked against the de-duplication cache")
+            .tag("result", result)
+            .strongReference(true)
+            .register(registry);
+    }
+
+    private record ErrorKey(DarajaOperation operation, String exception, String errorCode, String httpStatus) {
+
+        static ErrorKey of(DarajaOperation operation, Throwable error) {
+            String errorCode = "none";
+            String httpStatus = "none";
+            if (error instanceof DarajaException darajaException) {
+                String code = darajaException.getErrorCode();
+                if (code != null) {
+                    errorCode = ERROR_CODE.matcher(code).matches() ? code : "other";
+                }
+                if (darajaException.getHttpStatus() > 0) {
+                    httpStatus = Integer.toString(darajaException.getHttpStatus());
+                }
+            }
+            return new ErrorKey(operation, error.getClass().getSimpleName(), errorCode, httpStatus);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.wmnjuguna.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Configuration of a token-bucket rate limit for one Daraja endpoint.
+ * Permits are replenished at a steady rate up to the burst capacity, so a quiet
+ * endpoint can absorb a short burst without exceeding its sustained quota.
+ */
+public final class RateLimitConfig {
+
+    private final double permitsPerSecond;
+    private final int burstCapacity;
+    private final RateLimitMode mode;
+    private final Duration maxWait;
+
+    private RateLimitConfig(Builder builder) {
+        this.permitsPerSecond = builder.permitsPerSecond;
+        this.burstCapacity = builder.burstCapacity;
+        this.mode = builder.mode;
+        this.maxWait = builder.maxWait;
+    }
+
+    /**
+     * Creates a blocking rate limit with the specified sustained rate and no burst allowance.
+     *
+     * @param permitsPerSecond the sustained number of requests per second
+     * @return the rate limit configuration
+     */
+    public static RateLimitConfig perSecond(double permitsPerSecond) {
+        return builder().permitsPerSecond(permitsPerSecond).build();
+    }
+
+    /**
+     * Creates a new rate limit configuration builder.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the sustained number of requests allowed per second.
+     *
+     * @return the permit rate
+     */
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Gets the number of permits that can accumulate while the endpoint is idle.
+     *
+     * @return the burst capacity
+     */
+    public int getBurstCapacity() {
+        return burstCapacity;
+    }
+
+    /**
+     * Gets how requests behave when no permit is available.
+     *
+     * @return the rate limit mode
+     */
+    public RateLimitMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the longest a request waits for a permit in {@link RateLimitMode#QUEUE} mode.
+     *
+     * @return the maximum wait
+     */
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimitConfig{" +
+               "permitsPerSecond=" + permitsPerSecond +
+               ", burstCapacity=" + burstCapacity +
+               ", mode=" + mode +
+               ", maxWait=" + maxWait +
+               '}';
+    }
+
+    /**
+     * Builder class for creating RateLimitConfig instances.
+     */
+    public static class Builder {
+        private double permitsPerSecond;
+        private int burstCapacity = 1;
+        private RateLimitMode mode = RateLimitMode.BLOCK;
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        private Builder() {}
+
+        public Builder permitsPerSecond(double permitsPerSecond) {
+            if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond)) {
+                throw new IllegalArgumentException("Permits per second must be a positive number");
+            }
+            this.permitsPerSecond = permitsPerSecond;
+            return this;
+        }
+
+        public Builder burstCapacity(int burstCapacity) {
+            if (burstCapacity <= 0) {
+                throw new IllegalArgumentException("Burst capacity must be positive");
+            }
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public Builder mode(RateLimitMode mode) {
+            if (mode == null) {
+                throw new IllegalArgumentException("Rate limit mode cannot be null");
+            }
+            this.mode = mode;
+            return this;
+        }
+
+        public Builder maxWait(Duration maxWait) {
+            if (maxWait == null || maxWait.isNegative()) {
+                throw new IllegalArgumentException("Max wait cannot be null or negative");
+            }
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Builds the RateLimitConfig instance.
+         *
+         * @return a new RateLimitConfig
+         * @throws IllegalStateException if the permit rate has not been set
+         */
+        public RateLimitConfig build() {
+            if (permitsPerSecond == 0) {
+                throw new IllegalStateException("Permits per second is required");
+            }
+            return new RateLimitConfig(this);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.wmnjuguna.ratelimit;
+
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.exception.DarajaRateLimitException;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+/**
+ * Feign RequestInterceptor that takes a permit from the endpoint's rate limiter before each request.
+ * Depending on the endpoint's {@link RateLimitMode}, a request without a permit waits for one or
+ * fails with a {@link DarajaRateLimitException} before anything is sent to Daraja.
+ *
+ * Interceptors run on the calling thread, so blocking and queueing modes also delay the caller
+ * of an asynchronous client.
+ */
+public class RateLimitInterceptor implements RequestInterceptor {
+
+    private final RateLimiterRegistry registry;
+
+    /**
+     * Creates a new RateLimitInterceptor.
+     *
+     * @param registry the per-endpoint rate limiters
+     * @throws IllegalArgumentException if registry is null
+     */
+    public RateLimitInterceptor(RateLimiterRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("Rate limiter registry cannot be null");
+        }
+        this.registry = registry;
+    }
+
+    @Override
+    public void apply(RequestTemplate template) {
+        DarajaOperation operation = DarajaOperation.fromPath(template.url());
+        if (operation == null) {
+            return;
+        }
+        RateLimiter limiter = registry.limiter(operation);
+        if (limiter == null) {
+            return;
+        }
+
+        RateLimitConfig config = limiter.getConfig();
+        boolean permitted;
+        try {
+            permitted = switch (config.getMode()) {
+                case BLOCK -> {
+                    limiter.acquire();
+                    yield true;
+                }
+                case QUEUE -> limiter.tryAcquire(config.getMaxWait());
+                case FAIL_FAST -> limiter.tryAcquire();
+            };
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DarajaRateLimitException("Interrupted while waiting for " + operation + " rate limit permit", e);
+        }
+
+        if (!permitted) {
+            throw new DarajaRateLimitException("Client-side rate limit exceeded for " + operation
+                + " (" + config.getPermitsPerSecond() + " requests per second)");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.wmnjuguna.ratelimit;
+
+/**
+ * How a request behaves when its endpoint's rate limit has no permit available.
+ */
+public enum RateLimitMode {
+
+    /**
+     * Wait as long as needed for a permit.
+     */
+    BLOCK,
+
+    /**
+     * Wait in line for a permit, but reject the request if the wait would exceed the configured maximum.
+     */
+    QUEUE,
+
+    /**
+     * Reject the request immediately if no permit is available.
+     */
+    FAIL_FAST
+}
@@ -0,0 +1,158 @@
+package io.github.wmnjuguna.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token-bucket rate limiter.
+ *
+ * Permits accumulate at the configured rate up to the burst capacity. A caller that finds
+ * the bucket empty reserves the next free slot while holding the lock and then sleeps outside it,
+ * so waiting callers are served in the order they arrived and never hold the lock while waiting.
+ * A reservation made before an interrupt is not returned to the bucket.
+ */
+public final class RateLimiter {
+
+    private final RateLimitConfig config;
+    private final double intervalNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double storedPermits;
+    private long bucketTimeNanos;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private RateLimiter(RateLimitConfig config) {
+        this.config = config;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getPermitsPerSecond();
+        this.storedPermits = config.getBurstCapacity();
+        this.bucketTimeNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a new rate limiter with a full bucket.
+     *
+     * @param config the rate limit configuration
+     * @return a new RateLimiter
+     * @throws IllegalArgumentException if config is null
+     */
+    public static RateLimiter create(RateLimitConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Rate limit configuration cannot be null");
+        }
+        return new RateLimiter(config);
+    }
+
+    /**
+     * Acquires a permit, waiting as long as needed.
+     *
+     * @return how long the caller waited
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Duration acquire() throws InterruptedException {
+        long waitNanos = reserve(Long.MAX_VALUE);
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+        return Duration.ofNanos(waitNanos);
+    }
+
+    /**
+     * Acquires a permit only if one is available immediately.
+     *
+     * @return true if a permit was acquired
+     */
+    public boolean tryAcquire() {
+        return reserve(0) == 0;
+    }
+
+    /**
+     * Acquires a permit if one becomes available within the timeout.
+     * Returns false immediately, without waiting, if the permit would come too late.
+     *
+     * @param timeout the maximum time to wait
+     * @return true if a permit was acquired
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean tryAcquire(Duration timeout) throws InterruptedException {
+        if (timeout == null || timeout.isNegative()) {
+            throw new IllegalArgumentException("Timeout cannot be null or negative");
+        }
+        long waitNanos = reserve(timeout.toNanos());
+        if (waitNanos < 0) {
+            return false;
+        }
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+        return true;
+    }
+
+    /**
+     * Gets the configuration this limiter was created with.
+     *
+     * @return the rate limit configuration
+     */
+    public RateLimitConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Gets a snapshot of this limiter's counters.
+     *
+     * @return the rate limiter statistics
+     */
+    public RateLimiterStats getStats() {
+        return new RateLimiterStats(
+            acquired.sum(),
+            rejected.sum(),
+            throttled.sum(),
+            Duration.ofNanos(totalWaitNanos.sum()),
+            Duration.ofNanos(maxWaitNanos.get())
+        );
+    }
+
+    /**
+     * Reserves the next permit if it is available within the timeout.
+     *
+     * @return the time to wait for the reserved permit in nanoseconds, or -1 if none was reserved
+     */
+    private long reserve(long timeoutNanos) {
+        long now = System.nanoTime();
+        long waitNanos;
+
+        lock.lock();
+        try {
+            if (now > bucketTimeNanos) {
+                storedPermits = Math.min(config.getBurstCapacity(),
+                    storedPermits + (now - bucketTimeNanos) / intervalNanos);
+                bucketTimeNanos = now;
+            }
+
+            long availableAt = storedPermits >= 1
+                ? bucketTimeNanos
+                : bucketTimeNanos + (long) Math.ceil((1 - storedPermits) * intervalNanos);
+            waitNanos = Math.max(availableAt - now, 0);
+            if (waitNanos > timeoutNanos) {
+                rejected.increment();
+                return -1;
+            }
+
+            storedPermits = Math.max(storedPermits - 1, 0);
+            bucketTimeNanos = availableAt;
+        } finally {
+            lock.unlock();
+        }
+
+        acquired.increment();
+        if (waitNanos > 0) {
+            throttled.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+        return waitNanos;
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.wmnjuguna.ratelimit;
+
+import io.github.wmnjuguna.DarajaOperation;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint rate limiters for the Daraja API.
+ * Each operation gets its own limiter, configured explicitly or from the default limit,
+ * because Safaricom enforces separate quotas for STK Push, B2C, transaction status and so on.
+ * Operations without a limit are not throttled.
+ */
+public final class RateLimiterRegistry {
+
+    private final Map<DarajaOperation, RateLimiter> limiters;
+
+    private RateLimiterRegistry(Builder builder) {
+        Map<DarajaOperation, RateLimiter> created = new EnumMap<>(DarajaOperation.class);
+        for (DarajaOperation operation : DarajaOperation.values()) {
+            RateLimitConfig config = builder.limits.getOrDefault(operation, builder.defaultLimit);
+            if (config != null) {
+                created.put(operation, RateLimiter.create(config));
+            }
+        }
+        this.limiters = Collections.unmodifiableMap(created);
+    }
+
+    /**
+     * Creates a new rate limiter registry builder.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the rate limiter for an operation.
+     *
+     * @param operation the Daraja operation
+     * @return the operation's rate limiter, or null if the operation is not limited
+     */
+    public RateLimiter limiter(DarajaOperation operation) {
+        return limiters.get(operation);
+    }
+
+    /**
+     * Gets a snapshot of the counters of every configured limiter.
+     *
+     * @return the statistics keyed by operation
+     */
+    public Map<DarajaOperation, RateLimiterStats> stats() {
+        Map<DarajaOperation, RateLimiterStats> stats = new EnumMap<>(DarajaOperation.class);
+        limiters.forEach((operation, limiter) -> stats.put(operation, limiter.getStats()));
+        return stats;
+    }
+
+    /**
+     * Builder class for creating RateLimiterRegistry instances.
+     */
+    public static class Builder {
+        private final Map<DarajaOperation, RateLimitConfig> limits = new EnumMap<>(DarajaOperation.class);
+        private RateLimitConfig defaultLimit;
+
+        private Builder() {}
+
+        /**
+         * Sets the limit applied to every operation without an explicit limit.
+         *
+         * @param config the default rate limit
+         * @return this builder
+         */
+        public Builder defaultLimit(RateLimitConfig config) {
+            if (config == null) {
+                throw new IllegalArgumentException("Default rate limit cannot be null");
+            }
+            this.defaultLimit = config;
+            return this;
+        }
+
+        /**
+         * Sets the limit for one operation.
+         *
+         * @param operation the Daraja operation
+         * @param config    the operation's rate limit
+         * @return this builder
+         */
+        public Builder limit(DarajaOperation operation, RateLimitConfig config) {
+            if (operation == null) {
+                throw new IllegalArgumentException("Operation cannot be null");
+            }
+            if (config == null) {
+                throw new IllegalArgumentException("Rate limit cannot be null");
+            }
+            limits.put(operation, config);
+            return this;
+        }
+
+        public RateLimiterRegistry build() {
+            return new RateLimiterRegistry(this);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.wmnjuguna.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the counters of a RateLimiter.
+ *
+ * @param acquired  the number of permits granted
+ * @param rejected  the number of requests rejected without a permit
+ * @param throttled the number of granted permits that had to wait
+ * @param totalWait the summed time callers waited for granted permits
+ * @param maxWait   the longest time a caller waited for a permit
+ */
+public record RateLimiterStats(
+    long acquired,
+    long rejected,
+    long throttled,
+    Duration totalWait,
+    Duration maxWait
+) {
+
+    /**
+     * Gets the mean wait per granted permit.
+     *
+     * @return the average wait, or zero if no permit was granted
+     */
+    public Duration averageWait() {
+        return acquired == 0 ? Duration.ZERO : totalWait.dividedBy(acquired);
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.wmnjuguna.reactive;
+
+/**
+ * Outcome of one request in a bulk submission.
+ * Exactly one of response and error is set, so a failed request does not terminate the stream.
+ *
+ * @param <T> the request type
+ * @param <R> the response type
+ */
+public record BulkResult<T, R>(T request, R response, Throwable error) {
+
+    /**
+     * Checks whether the request completed with a response.
+     *
+     * @return true if the request succeeded
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
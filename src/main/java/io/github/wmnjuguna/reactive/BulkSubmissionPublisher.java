@@ -0,0 +1,198 @@
+package io.github.wmnjuguna.reactive;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Publisher that submits each request from an upstream publisher and emits one
+ * {@link BulkResult} per request, in completion order.
+ *
+ * Backpressure is honoured in both directions: at most maxConcurrency requests are in flight,
+ * and requests are only pulled from upstream while the downstream subscriber has unfilled demand,
+ * so a slow consumer throttles submission instead of buffering results without bound.
+ * When upstream completes or fails, the stream terminates only after in-flight requests have
+ * reported their results.
+ *
+ * @param <T> the request type
+ * @param <R> the response type
+ */
+final class BulkSubmissionPublisher<T, R> implements Flow.Publisher<BulkResult<T, R>> {
+
+    private final Flow.Publisher<T> requests;
+    private final Function<T, CompletableFuture<R>> operation;
+    private final int maxConcurrency;
+
+    BulkSubmissionPublisher(Flow.Publisher<T> requests, Function<T, CompletableFuture<R>> operation, int maxConcurrency) {
+        this.requests = requests;
+        this.operation = operation;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super BulkResult<T, R>> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        requests.subscribe(new BulkSubmission<>(subscriber, operation, maxConcurrency));
+    }
+
+    private static final class BulkSubmission<T, R> implements Flow.Subscriber<T>, Flow.Subscription {
+
+        private final Flow.Subscriber<? super BulkResult<T, R>> downstream;
+        private final Function<T, CompletableFuture<R>> operation;
+        private final int maxConcurrency;
+
+        private final Queue<BulkResult<T, R>> completed = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger completedCount = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong awaitingUpstream = new AtomicLong();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile Flow.Subscription upstream;
+        private volatile boolean upstreamDone;
+        private volatile Throwable upstreamError;
+        private volatile Throwable requestError;
+        private volatile boolean cancelled;
+
+        BulkSubmission(Flow.Subscriber<? super BulkResult<T, R>> downstream,
+                       Function<T, CompletableFuture<R>> operation, int maxConcurrency) {
+            this.downstream = downstream;
+            this.operation = operation;
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T request) {
+            awaitingUpstream.decrementAndGet();
+            inFlight.incrementAndGet();
+
+            CompletableFuture<R> future;
+            try {
+                future = operation.apply(request);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((response, error) -> {
+                completed.offer(error == null
+                    ? new BulkResult<>(request, response, null)
+                    : new BulkResult<>(request, null, SingleResultPublisher.unwrap(error)));
+                completedCount.incrementAndGet();
+                inFlight.decrementAndGet();
+                drain();
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            upstreamError = throwable;
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                requestError = new IllegalArgumentException("Requested items must be positive, got " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstream.cancel();
+        }
+
+        /**
+         * Emits completed results and pulls more requests from upstream.
+         * Serialized by the work-in-progress counter, so only one thread signals downstream at a time.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (cancelled) {
+                    completed.clear();
+                    return;
+                }
+                if (requestError != null) {
+                    cancelled = true;
+                    upstream.cancel();
+                    downstream.onError(requestError);
+                    return;
+                }
+
+                long requested = demand.get();
+                long emitted = 0;
+                while (emitted != requested) {
+                    BulkResult<T, R> result = completed.poll();
+                    if (result == null) {
+                        break;
+                    }
+                    completedCount.decrementAndGet();
+                    downstream.onNext(result);
+                    emitted++;
+                    if (cancelled) {
+                        completed.clear();
+                        return;
+                    }
+                }
+                if (emitted != 0 && requested != Long.MAX_VALUE) {
+                    requested = demand.addAndGet(-emitted);
+                }
+
+                if (upstreamDone) {
+                    if (inFlight.get() == 0 && completed.isEmpty()) {
+                        cancelled = true;
+                        Throwable error = upstreamError;
+                        if (error != null) {
+                            downstream.onError(error);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                } else {
+                    long outstanding = inFlight.get() + awaitingUpstream.get();
+                    long unfilled = requested - completedCount.get() - outstanding;
+                    long toRequest = Math.min(maxConcurrency - outstanding, unfilled);
+                    if (toRequest > 0) {
+                        awaitingUpstream.addAndGet(toRequest);
+                        upstream.request(toRequest);
+                    }
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
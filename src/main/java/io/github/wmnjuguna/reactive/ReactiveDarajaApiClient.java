@@ -0,0 +1,206 @@
+package io.github.wmnjuguna.reactive;
+
+import io.github.wmnjuguna.AsyncDarajaApiClient;
+import io.github.wmnjuguna.accountbalance.AccountBalanceRequest;
+import io.github.wmnjuguna.accountbalance.AccountBalanceResponse;
+import io.github.wmnjuguna.auth.DarajaAuthInterceptor;
+import io.github.wmnjuguna.b2b.B2BRequest;
+import io.github.wmnjuguna.b2b.B2BResponse;
+import io.github.wmnjuguna.b2c.B2CRequest;
+import io.github.wmnjuguna.b2c.B2CResponse;
+import io.github.wmnjuguna.c2b.C2BRegisterUrlRequest;
+import io.github.wmnjuguna.c2b.C2BRegisterUrlResponse;
+import io.github.wmnjuguna.reversal.ReversalRequest;
+import io.github.wmnjuguna.reversal.ReversalResponse;
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import io.github.wmnjuguna.stkpush.StkPushResponse;
+import io.github.wmnjuguna.transactionstatus.TransactionStatusRequest;
+import io.github.wmnjuguna.transactionstatus.TransactionStatusResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * Reactive Daraja API client exposing every operation as a {@link Flow.Publisher}.
+ *
+ * Each publisher is cold and emits a single response: the request is sent when the
+ * subscriber requests an item, and a new request is sent for every subscription.
+ * No thread is held while waiting for Safaricom. When the access token has to be refreshed,
+ * the blocking OAuth call runs on the token executor rather than the subscriber's thread,
+ * and concurrent subscribers wait on the same refresh.
+ *
+ * The publishers are standard JDK Flow publishers, so Project Reactor users can adapt them with
+ * {@code JdkFlowAdapter.flowPublisherToFlux(publisher)} and {@code Mono.from(...)} without
+ * this SDK depending on Reactor.
+ */
+public class ReactiveDarajaApiClient {
+
+    private final AsyncDarajaApiClient client;
+    private final DarajaAuthInterceptor authInterceptor;
+    private final Executor tokenExecutor;
+
+    /**
+     * Creates a new ReactiveDarajaApiClient.
+     * Prefer {@code DarajaClientFactory.createReactiveApiClient()}, which wires these together.
+     *
+     * @param client          the asynchronous client used to send requests
+     * @param authInterceptor the authentication interceptor used by the client
+     * @param tokenExecutor   the executor on which blocking token refreshes run
+     * @throws IllegalArgumentException if any argument is null
+     */
+    public ReactiveDarajaApiClient(AsyncDarajaApiClient client, DarajaAuthInterceptor authInterceptor,
+                                   Executor tokenExecutor) {
+        if (client == null) {
+            throw new IllegalArgumentException("Async client cannot be null");
+        }
+        if (authInterceptor == null) {
+            throw new IllegalArgumentException("Auth interceptor cannot be null");
+        }
+        if (tokenExecutor == null) {
+            throw new IllegalArgumentException("Token executor cannot be null");
+        }
+        this.client = client;
+        this.authInterceptor = authInterceptor;
+        this.tokenExecutor = tokenExecutor;
+    }
+
+    /**
+     * Initiates an STK Push payment request.
+     *
+     * @param request the STK Push request
+     * @return a publisher of the STK Push response
+     */
+    public Flow.Publisher<StkPushResponse> initiateStkPush(StkPushRequest request) {
+        return single(client::initiateStkPush, request);
+    }
+
+    /**
+     * Registers C2B validation and confirmation URLs.
+     *
+     * @param request the C2B registration request
+     * @return a publisher of the C2B registration response
+     */
+    public Flow.Publisher<C2BRegisterUrlResponse> registerC2BUrls(C2BRegisterUrlRequest request) {
+        return single(client::registerC2BUrls, request);
+    }
+
+    /**
+     * Initiates a B2C payment request.
+     *
+     * @param request the B2C payment request
+     * @return a publisher of the B2C payment response
+     */
+    public Flow.Publisher<B2CResponse> b2cPayment(B2CRequest request) {
+        return single(client::b2cPayment, request);
+    }
+
+    /**
+     * Initiates a B2B payment request.
+     *
+     * @param request the B2B payment request
+     * @return a publisher of the B2B payment response
+     */
+    public Flow.Publisher<B2BResponse> b2bPayment(B2BRequest request) {
+        return single(client::b2bPayment, request);
+    }
+
+    /**
+     * Queries the status of a transaction.
+     *
+     * @param request the transaction status request
+     * @return a publisher of the transaction status response
+     */
+    public Flow.Publisher<TransactionStatusResponse> transactionStatus(TransactionStatusRequest request) {
+        return single(client::transactionStatus, request);
+    }
+
+    /**
+     * Queries the account balance.
+     *
+     * @param request the account balance request
+     * @return a publisher of the account balance response
+     */
+    public Flow.Publisher<AccountBalanceResponse> accountBalance(AccountBalanceRequest request) {
+        return single(client::accountBalance, request);
+    }
+
+    /**
+     * Reverses a transaction.
+     *
+     * @param request the reversal request
+     * @return a publisher of the reversal response
+     */
+    public Flow.Publisher<ReversalResponse> reversal(ReversalRequest request) {
+        return single(client::reversal, request);
+    }
+
+    /**
+     * Submits a stream of STK Push requests with bounded concurrency.
+     *
+     * @param requests       the STK Push requests
+     * @param maxConcurrency the maximum number of requests in flight
+     * @return a publisher of one result per request, in completion order
+     * @throws IllegalArgumentException if requests is null or maxConcurrency is not positive
+     */
+    public Flow.Publisher<BulkResult<StkPushRequest, StkPushResponse>> initiateStkPushes(
+            Flow.Publisher<StkPushRequest> requests, int maxConcurrency) {
+        return submitAll(requests, client::initiateStkPush, maxConcurrency);
+    }
+
+    /**
+     * Submits a stream of B2C payment requests with bounded concurrency.
+     *
+     * @param requests       the B2C payment requests
+     * @param maxConcurrency the maximum number of requests in flight
+     * @return a publisher of one result per request, in completion order
+     * @throws IllegalArgumentException if requests is null or maxConcurrency is not positive
+     */
+    public Flow.Publisher<BulkResult<B2CRequest, B2CResponse>> b2cPayments(
+            Flow.Publisher<B2CRequest> requests, int maxConcurrency) {
+        return submitAll(requests, client::b2cPayment, maxConcurrency);
+    }
+
+    /**
+     * Submits a stream of requests to any asynchronous operation with bounded concurrency.
+     * At most maxConcurrency requests are in flight, and requests are pulled from upstream
+     * only as fast as the subscriber consumes results. A failed request is reported as a
+     * {@link BulkResult} with an error and does not terminate the stream.
+     *
+     * @param requests       the requests to submit
+     * @param operation      the asynchronous operation, e.g. {@code asyncClient::b2bPayment}
+     * @param maxConcurrency the maximum number of requests in flight
+     * @param <T>            the request type
+     * @param <R>            the response type
+     * @return a publisher of one result per request, in completion order
+     * @throws IllegalArgumentException if requests or operation is null, or maxConcurrency is not positive
+     */
+    public <T, R> Flow.Publisher<BulkResult<T, R>> submitAll(Flow.Publisher<T> requests,
+                                                            Function<T, CompletableFuture<R>> operation,
+                                                            int maxConcurrency) {
+        if (requests == null) {
+            throw new IllegalArgumentException("Requests publisher cannot be null");
+        }
+        if (operation == null) {
+            throw new IllegalArgumentException("Operation cannot be null");
+        }
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        return new BulkSubmissionPublisher<>(requests, request -> withToken(operation, request), maxConcurrency);
+    }
+
+    private <T, R> Flow.Publisher<R> single(Function<T, CompletableFuture<R>> operation, T request) {
+        return new SingleResultPublisher<>(() -> withToken(operation, request));
+    }
+
+    /**
+     * Ensures a valid access token is cached before sending the request, so that the
+     * interceptor does not block the HTTP client's thread on an OAuth round trip.
+     */
+    private <T, R> CompletableFuture<R> withToken(Function<T, CompletableFuture<R>> operation, T request) {
+        return authInterceptor.getAccessTokenAsync(tokenExecutor)
+            .thenCompose(token -> operation.apply(request));
+    }
+}
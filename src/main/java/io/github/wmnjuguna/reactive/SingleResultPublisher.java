@@ -0,0 +1,102 @@
+package io.github.wmnjuguna.reactive;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Cold publisher of a single asynchronous result.
+ * The call is started when a subscriber first requests an item, not when it subscribes,
+ * and every subscriber starts its own call. Cancelling before the first request means the
+ * call is never made; cancelling before the result arrives cancels the pending future.
+ * A null result completes the subscriber without an item.
+ *
+ * @param <T> the result type
+ */
+final class SingleResultPublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<CompletableFuture<T>> call;
+
+    SingleResultPublisher(Supplier<CompletableFuture<T>> call) {
+        this.call = call;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        subscriber.onSubscribe(new SingleResultSubscription<>(subscriber, call));
+    }
+
+    private static final class SingleResultSubscription<T> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Supplier<CompletableFuture<T>> call;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile CompletableFuture<T> future;
+
+        SingleResultSubscription(Flow.Subscriber<? super T> subscriber, Supplier<CompletableFuture<T>> call) {
+            this.subscriber = subscriber;
+            this.call = call;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (done.compareAndSet(false, true)) {
+                    subscriber.onError(new IllegalArgumentException("Requested items must be positive, got " + n));
+                }
+                return;
+            }
+            if (done.get() || !started.compareAndSet(false, true)) {
+                return;
+            }
+            CompletableFuture<T> pending;
+            try {
+                pending = call.get();
+            } catch (RuntimeException e) {
+                pending = CompletableFuture.failedFuture(e);
+            }
+            future = pending;
+            if (done.get()) {
+                // Cancelled while the call was being started, before cancel() could see the future
+                pending.cancel(false);
+                return;
+            }
+            pending.whenComplete((result, error) -> {
+                if (!done.compareAndSet(false, true)) {
+                    return;
+                }
+                if (error != null) {
+                    subscriber.onError(unwrap(error));
+                } else {
+                    if (result != null) {
+                        subscriber.onNext(result);
+                    }
+                    subscriber.onComplete();
+                }
+            });
+        }
+
+        @Override
+        public void cancel() {
+            if (done.compareAndSet(false, true)) {
+                CompletableFuture<T> pending = future;
+                if (pending != null) {
+                    pending.cancel(false);
+                }
+            }
+        }
+    }
+
+    static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.wmnjuguna.retry;
+
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.timeout.Deadline;
+import feign.RetryableException;
+import feign.Retryer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign Retryer for the Daraja API.
+ *
+ * Idempotent operations (queries and URL registration) are retried on every retryable status
+ * and on I/O errors. Operations that move money are only retried when Daraja certainly did not
+ * process the request: on HTTP 429, or when the connection could not be established. A timeout or
+ * 5xx on a payment may mean the payment went through, so it is surfaced to the caller instead.
+ *
+ * Delays follow decorrelated-jitter exponential backoff unless Daraja sends a Retry-After header,
+ * and every retry must be paid for from the shared {@link RetryBudget}. Feign clones the retryer
+ * for every request, which is when the request's deposit is made. No retry is attempted if the
+ * caller's {@link Deadline} would expire before it.
+ */
+public class DarajaRetryer implements Retryer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DarajaRetryer.class);
+
+    private final RetryConfig config;
+    private final RetryBudget budget;
+    private int attempt = 1;
+    private long previousDelayMillis;
+
+    /**
+     * Creates a new DarajaRetryer with its own retry budget.
+     *
+     * @param config the retry configuration
+     */
+    public DarajaRetryer(RetryConfig config) {
+        this(config, new RetryBudget(config.getBudgetRatio(), config.getBudgetCapacity()));
+    }
+
+    /**
+     * Creates a new DarajaRetryer drawing on a shared retry budget.
+     *
+     * @param config the retry configuration
+     * @param budget the retry budget shared with other retryers
+     * @throws IllegalArgumentException if config or budget is null
+     */
+    public DarajaRetryer(RetryConfig config, RetryBudget budget) {
+        if (config == null) {
+            throw new IllegalArgumentException("Retry configuration cannot be null");
+        }
+        if (budget == null) {
+            throw new IllegalArgumentException("Retry budget cannot be null");
+        }
+        this.config = config;
+        this.budget = budget;
+        this.previousDelayMillis = config.getBaseDelay().toMillis();
+    }
+
+    /**
+     * Gets the retry budget this retryer draws on.
+     *
+     * @return the retry budget
+     */
+    public RetryBudget getBudget() {
+        return budget;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        DarajaOperation operation = e.request() == null ? null : DarajaOperation.fromPath(e.request().url());
+        if (attempt >= config.getMaxAttempts() || !isRetryable(operation, e)) {
+            throw propagate(e);
+        }
+
+        long delayMillis;
+        Long retryAfter = e.retryAfter();
+        if (retryAfter != null) {
+            delayMillis = Math.max(retryAfter - System.currentTimeMillis(), 0);
+            if (delayMillis > config.getMaxDelay().toMillis()) {
+                logger.debug("Not retrying {}: Retry-After of {} ms exceeds max delay", operation, delayMillis);
+                throw propagate(e);
+            }
+        } else {
+            delayMillis = nextBackoffMillis();
+        }
+
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.remaining().toMillis() <= delayMillis) {
+            logger.debug("Not retrying {}: deadline expires before the next attempt", operation);
+            throw propagate(e);
+        }
+
+        if (!budget.tryWithdraw()) {
+            logger.debug("Not retrying {}: retry budget exhausted", operation);
+            throw propagate(e);
+        }
+
+        logger.debug("Retrying {} after {} ms (attempt {} of {}): {}",
+            operation, delayMillis, attempt + 1, config.getMaxAttempts(), e.getMessage());
+        try {
+            TimeUnit.MILLISECONDS.sleep(delayMillis);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw propagate(e);
+        }
+        attempt++;
+    }
+
+    @Override
+    public Retryer clone() {
+        budget.deposit();
+        return new DarajaRetryer(config, budget);
+    }
+
+    /**
+     * Decides whether the failure may be retried for the operation.
+     */
+    private boolean isRetryable(DarajaOperation operation, RetryableException e) {
+        boolean idempotent = operation != null && operation.isIdempotent();
+        Throwable cause = e.getCause();
+
+        if (cause instanceof IOException) {
+            return idempotent || cause instanceof ConnectException || cause instanceof UnknownHostException;
+        }
+        if (cause instanceof DarajaException darajaException) {
+            int status = darajaException.getHttpStatus();
+            return idempotent ? RetryableErrorDecoder.isRetryableStatus(status) : status == 429;
+        }
+        return false;
+    }
+
+    /**
+     * Computes the next decorrelated-jitter delay: uniform between the base delay and
+     * three times the previous delay, capped at the maximum delay.
+     */
+    private long nextBackoffMillis() {
+        long base = config.getBaseDelay().toMillis();
+        long upper = Math.max(previousDelayMillis * 3, base + 1);
+        long delay = Math.min(ThreadLocalRandom.current().nextLong(base, upper), config.getMaxDelay().toMillis());
+        previousDelayMillis = delay;
+        return delay;
+    }
+
+    /**
+     * Prepares the exception Feign rethrows once retrying stops. Clients are built with
+     * ExceptionPropagationPolicy.UNWRAP, so the cause is what the caller sees; a checked I/O cause
+     * is wrapped in a DarajaException so that it can be thrown from the client interface.
+     */
+    private static RetryableException propagate(RetryableException e) {
+        Throwable cause = e.getCause();
+        if (cause == null || cause instanceof RuntimeException || cause instanceof Error) {
+            return e;
+        }
+        return new RetryableException(
+            e.status(),
+            e.getMessage(),
+            e.method(),
+            new DarajaException(e.getMessage(), cause),
+            (Long) null,
+            e.request()
+        );
+    }
+}
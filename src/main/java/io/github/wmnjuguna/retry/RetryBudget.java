@@ -0,0 +1,80 @@
+package io.github.wmnjuguna.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared allowance of retries across all requests of a factory.
+ * Each request deposits a fraction of a retry and each retry withdraws a whole one; the balance
+ * is capped so that a long quiet period cannot save up a retry storm.
+ */
+public final class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositUnits;
+    private final long capacityUnits;
+    private final AtomicLong balanceUnits;
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * Creates a new full retry budget.
+     *
+     * @param ratio    the fraction of a retry deposited per request
+     * @param capacity the maximum number of retries the budget can hold
+     */
+    public RetryBudget(double ratio, int capacity) {
+        if (!(ratio >= 0) || Double.isInfinite(ratio)) {
+            throw new IllegalArgumentException("Budget ratio cannot be negative");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Budget capacity cannot be negative");
+        }
+        this.depositUnits = Math.round(ratio * SCALE);
+        this.capacityUnits = capacity * SCALE;
+        this.balanceUnits = new AtomicLong(capacityUnits);
+    }
+
+    /**
+     * Records a new request.
+     */
+    public void deposit() {
+        balanceUnits.accumulateAndGet(depositUnits, (balance, deposit) -> Math.min(balance + deposit, capacityUnits));
+    }
+
+    /**
+     * Takes one retry from the budget if the balance allows it.
+     *
+     * @return true if the retry may proceed
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long balance = balanceUnits.get();
+            if (balance < SCALE) {
+                exhausted.increment();
+                return false;
+            }
+            if (balanceUnits.compareAndSet(balance, balance - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of whole retries currently available.
+     *
+     * @return the available retries
+     */
+    public long available() {
+        return balanceUnits.get() / SCALE;
+    }
+
+    /**
+     * Gets how many retries were refused because the budget was empty.
+     *
+     * @return the number of refused retries
+     */
+    public long exhaustedCount() {
+        return exhausted.sum();
+    }
+}
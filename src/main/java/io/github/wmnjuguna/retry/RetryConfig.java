@@ -0,0 +1,173 @@
+package io.github.wmnjuguna.retry;
+
+import java.time.Duration;
+
+/**
+ * Configuration for retrying failed Daraja requests.
+ *
+ * Backoff uses decorrelated jitter: each delay is drawn uniformly between the base delay and
+ * three times the previous delay, capped at the maximum delay. A Retry-After header sent by
+ * Daraja takes precedence over the computed delay.
+ *
+ * Retries are paid for from a retry budget shared by all clients of a factory. Every request
+ * deposits a fraction of a retry into the budget and every retry withdraws one, so during an
+ * outage retries add at most that fraction on top of normal traffic.
+ */
+public final class RetryConfig {
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final double budgetRatio;
+    private final int budgetCapacity;
+
+    private RetryConfig(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelay = builder.baseDelay;
+        this.maxDelay = builder.maxDelay;
+        this.budgetRatio = builder.budgetRatio;
+        this.budgetCapacity = builder.budgetCapacity;
+    }
+
+    /**
+     * Creates a configuration with the default retry settings.
+     *
+     * @return the default retry configuration
+     */
+    public static RetryConfig defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a new retry configuration builder.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the maximum number of attempts per request, including the first.
+     *
+     * @return the maximum attempts
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Gets the smallest backoff delay.
+     *
+     * @return the base delay
+     */
+    public Duration getBaseDelay() {
+        return baseDelay;
+    }
+
+    /**
+     * Gets the largest backoff delay. A Retry-After header asking for a longer
+     * wait ends the retries instead of blocking the caller.
+     *
+     * @return the maximum delay
+     */
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Gets the fraction of a retry each request deposits into the retry budget.
+     *
+     * @return the budget ratio
+     */
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    /**
+     * Gets the most retries the budget can hold, which is also its initial balance.
+     *
+     * @return the budget capacity
+     */
+    public int getBudgetCapacity() {
+        return budgetCapacity;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryConfig{" +
+               "maxAttempts=" + maxAttempts +
+               ", baseDelay=" + baseDelay +
+               ", maxDelay=" + maxDelay +
+               ", budgetRatio=" + budgetRatio +
+               ", budgetCapacity=" + budgetCapacity +
+               '}';
+    }
+
+    /**
+     * Builder class for creating RetryConfig instances.
+     */
+    public static class Builder {
+        private int maxAttempts = 3;
+        private Duration baseDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(5);
+        private double budgetRatio = 0.1;
+        private int budgetCapacity = 10;
+
+        private Builder() {}
+
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts <= 0) {
+                throw new IllegalArgumentException("Max attempts must be positive");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder baseDelay(Duration baseDelay) {
+            this.baseDelay = requirePositive(baseDelay, "Base delay");
+            return this;
+        }
+
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = requirePositive(maxDelay, "Max delay");
+            return this;
+        }
+
+        public Builder budgetRatio(double budgetRatio) {
+            if (!(budgetRatio >= 0) || Double.isInfinite(budgetRatio)) {
+                throw new IllegalArgumentException("Budget ratio cannot be negative");
+            }
+            this.budgetRatio = budgetRatio;
+            return this;
+        }
+
+        public Builder budgetCapacity(int budgetCapacity) {
+            if (budgetCapacity < 0) {
+                throw new IllegalArgumentException("Budget capacity cannot be negative");
+            }
+            this.budgetCapacity = budgetCapacity;
+            return this;
+        }
+
+        /**
+         * Builds the RetryConfig instance.
+         *
+         * @return a new RetryConfig
+         * @throws IllegalStateException if the base delay exceeds the maximum delay
+         */
+        public RetryConfig build() {
+            if (baseDelay.compareTo(maxDelay) > 0) {
+                throw new IllegalStateException("Base delay cannot exceed max delay");
+            }
+            return new RetryConfig(this);
+        }
+
+        private static Duration requirePositive(Duration duration, String name) {
+            if (duration == null || duration.isZero() || duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must be a positive duration");
+            }
+            return duration;
+        }
+    }
+}
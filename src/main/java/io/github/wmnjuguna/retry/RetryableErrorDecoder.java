@@ -0,0 +1,88 @@
+package io.github.wmnjuguna.retry;
+
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.ErrorDecoder;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * ErrorDecoder that marks transient Daraja failures as retryable.
+ * Responses with status 429, 500, 502, 503 or 504 are decoded by the delegate and the resulting
+ * exception is wrapped in a {@link RetryableException} carrying the Retry-After time, if any.
+ * Whether the request is actually retried is decided by {@link DarajaRetryer}, which knows
+ * which operations are safe to repeat. Other statuses are returned exactly as the delegate decodes them.
+ */
+public class RetryableErrorDecoder implements ErrorDecoder {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 500, 502, 503, 504);
+    private static final String RETRY_AFTER = "Retry-After";
+
+    private final ErrorDecoder delegate;
+
+    /**
+     * Creates a new RetryableErrorDecoder.
+     *
+     * @param delegate the decoder producing the underlying Daraja exceptions
+     * @throws IllegalArgumentException if delegate is null
+     */
+    public RetryableErrorDecoder(ErrorDecoder delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate error decoder cannot be null");
+        }
+        this.delegate = delegate;
+    }
+
+    /**
+     * Checks whether an HTTP status indicates a transient failure.
+     *
+     * @param status the HTTP status code
+     * @return true if the status is retryable
+     */
+    public static boolean isRetryableStatus(int status) {
+        return RETRYABLE_STATUSES.contains(status);
+    }
+
+    @Override
+    public Exception decode(String methodKey, Response response) {
+        Exception exception = delegate.decode(methodKey, response);
+        if (!isRetryableStatus(response.status()) || exception instanceof RetryableException) {
+            return exception;
+        }
+        return new RetryableException(
+            response.status(),
+            exception.getMessage(),
+            response.request().httpMethod(),
+            exception,
+            retryAfter(response),
+            response.request()
+        );
+    }
+
+    /**
+     * Parses the Retry-After header, given either as delta-seconds or as an HTTP date.
+     *
+     * @return the retry time in epoch milliseconds, or null if absent or malformed
+     */
+    private Long retryAfter(Response response) {
+        Collection<String> values = response.headers().get(RETRY_AFTER);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        String value = values.iterator().next().trim();
+        try {
+            long seconds = Long.parseLong(value);
+            return System.currentTimeMillis() + Math.max(seconds, 0) * 1000;
+        } catch (NumberFormatException e) {
+            try {
+                return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package io.github.wmnjuguna.reversal;
 
+import io.github.wmnjuguna.codec.GenerateJsonCodec;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+@GenerateJsonCodec
 public record ReversalResponse(
     @JsonProperty("ConversationID")
     String conversationID,
@@ -1,8 +1,17 @@
 package io.github.wmnjuguna.stkpush;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 
 /**
  * Callback DTO for STK Push (M-Pesa Express) payment completion notifications.
@@ -73,19 +82,47 @@ public record StkPushCallback(
     /**
      * Metadata containing transaction details for successful payments.
      * This will be null for failed transactions.
+     *
+     * The items are indexed once when the metadata is created: the well-known items are
+     * converted to primitive fields and all items are kept in a map by name, so the accessors
+     * neither scan the list nor parse values on every call. Values that cannot be converted
+     * are reported as absent. A record cannot hold state besides its components, so the index
+     * travels with an unmodifiable copy of the items list.
+     *
+     * @param items the metadata items as sent by Safaricom
      */
     public record CallbackMetadata(
         @JsonProperty("Item")
         List<CallbackItem> items
     ) {
 
+        public CallbackMetadata {
+            if (items != null && !(items instanceof IndexedItems)) {
+                items = new IndexedItems(items);
+            }
+        }
+
+        private Index index() {
+            return items instanceof IndexedItems indexed ? indexed.index : Index.EMPTY;
+        }
+
+        /**
+         * Gets the transaction amount in cents. Fractions of a cent are rounded half up.
+         *
+         * @return the amount in minor units, or 0 if not found
+         */
+        @JsonIgnore
+        public long getAmountMinorUnits() {
+            return index().amountMinorUnits();
+        }
+
         /**
-         * Gets the transaction amount.
+         * Gets the transaction amount as sent, without rounding.
          *
          * @return the amount as a double, or 0.0 if not found
          */
         public double getAmount() {
-            return getItemValue("Amount", 0.0);
+            return index().amount();
         }
 
         /**
@@ -94,7 +131,7 @@ public record StkPushCallback(
          * @return the receipt number, or null if not found
          */
         public String getReceiptNumber() {
-            return getItemValue("MpesaReceiptNumber", null);
+            return index().receiptNumber();
         }
 
         /**
@@ -103,7 +140,7 @@ public record StkPushCallback(
          * @return the transaction date as a long timestamp, or 0 if not found
          */
         public long getTransactionDate() {
-            return getItemValue("TransactionDate", 0L);
+            return index().transactionDate();
         }
 
         /**
@@ -112,7 +149,8 @@ public record StkPushCallback(
          * @return the phone number, or null if not found
          */
         public String getPhoneNumber() {
-            return getItemValue("PhoneNumber", null);
+            long phoneNumber = index().phoneNumber();
+            return phoneNumber == 0 ? null : Long.toString(phoneNumber);
         }
 
         /**
@@ -124,27 +162,133 @@ public record StkPushCallback(
          */
         @SuppressWarnings("unchecked")
         public <T> T getItemValue(String name, T defaultValue) {
-            if (items == null) return defaultValue;
-
-            return items.stream()
-                .filter(item -> name.equals(item.name()))
-                .map(item -> {
-                    try {
-                        if (defaultValue instanceof Double) {
-                            return (T) Double.valueOf(item.value().toString());
-                        } else if (defaultValue instanceof Long) {
-                            return (T) Long.valueOf(item.value().toString());
-                        } else if (defaultValue instanceof Integer) {
-                            return (T) Integer.valueOf(item.value().toString());
-                        } else {
-                            return (T) item.value();
-                        }
-                    } catch (Exception e) {
-                        return defaultValue;
+            Object value = index().values().get(name);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                if (defaultValue instanceof Double) {
+                    return (T) (value instanceof Number number
+                        ? Double.valueOf(number.doubleValue())
+                        : Double.valueOf(value.toString()));
+                } else if (defaultValue instanceof Long) {
+                    return (T) (value instanceof Long || value instanceof Integer
+                        ? Long.valueOf(((Number) value).longValue())
+                        : Long.valueOf(value.toString()));
+                } else if (defaultValue instanceof Integer) {
+                    return (T) (value instanceof Integer
+                        ? value
+                        : Integer.valueOf(value.toString()));
+                } else {
+                    return (T) value;
+                }
+            } catch (RuntimeException e) {
+                return defaultValue;
+            }
+        }
+
+        /**
+         * Unmodifiable copy of the items that carries their index. Equal to, and printed like,
+         * any other list with the same items.
+         */
+        private static final class IndexedItems extends AbstractList<CallbackItem> implements RandomAccess {
+
+            private final List<CallbackItem> items;
+            private final Index index;
+
+            IndexedItems(List<CallbackItem> items) {
+                this.items = new ArrayList<>(items);
+                this.index = Index.of(this.items);
+            }
+
+            @Override
+            public CallbackItem get(int i) {
+                return items.get(i);
+            }
+
+            @Override
+            public int size() {
+                return items.size();
+            }
+        }
+
+        /**
+         * The item values by name, and the well-known items converted to primitives.
+         */
+        private record Index(
+            Map<String, Object> values,
+            double amount,
+            long amountMinorUnits,
+            String receiptNumber,
+            long transactionDate,
+            long phoneNumber
+        ) {
+
+            static final Index EMPTY = new Index(Collections.emptyMap(), 0.0, 0, null, 0, 0);
+
+            static Index of(List<CallbackItem> items) {
+                if (items.isEmpty()) {
+                    return EMPTY;
+                }
+                Map<String, Object> values = new HashMap<>();
+                for (CallbackItem item : items) {
+                    // Keep the first occurrence, like the list lookup did
+                    if (item != null && item.name() != null && item.value() != null) {
+                        values.putIfAbsent(item.name(), item.value());
                     }
-                })
-                .findFirst()
-                .orElse(defaultValue);
+                }
+                return new Index(
+                    Collections.unmodifiableMap(values),
+                    toDouble(values.get("Amount")),
+                    toMinorUnits(values.get("Amount")),
+                    values.get("MpesaReceiptNumber") instanceof String receipt ? receipt : null,
+                    toLong(values.get("TransactionDate")),
+                    toLong(values.get("PhoneNumber"))
+                );
+            }
+        }
+
+        private static double toDouble(Object value) {
+            if (value instanceof Number number) {
+                return number.doubleValue();
+            }
+            if (value != null) {
+                try {
+                    return Double.parseDouble(value.toString());
+                } catch (NumberFormatException e) {
+                    return 0.0;
+                }
+            }
+            return 0.0;
+        }
+
+        private static long toMinorUnits(Object value) {
+            try {
+                if (value instanceof Integer || value instanceof Long) {
+                    return Math.multiplyExact(((Number) value).longValue(), 100L);
+                }
+                if (value instanceof Number || value instanceof String) {
+                    return new BigDecimal(value.toString()).movePointRight(2)
+                        .setScale(0, RoundingMode.HALF_UP).longValueExact();
+                }
+            } catch (ArithmeticException | NumberFormatException e) {
+                // Reported as absent
+            }
+            return 0;
+        }
+
+        private static long toLong(Object value) {
+            if (value instanceof Integer || value instanceof Long) {
+                return ((Number) value).longValue();
+            }
+            if (value instanceof String text) {
+                try {
+                    return Long.parseLong(text.trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+            return 0;
         }
     }
 
@@ -1,5 +1,6 @@
 package io.github.wmnjuguna.stkpush;
 
+import io.github.wmnjuguna.codec.GenerateJsonCodec;
 import io.github.wmnjuguna.util.CallbackUrlValidator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -19,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * @param accountReference  the account reference for the transaction
  * @param transactionDesc   the description of the transaction
  */
+@GenerateJsonCodec
 public record StkPushRequest(
     @JsonProperty("BusinessShortCode")
     String businessShortCode,
@@ -1,5 +1,6 @@
 package io.github.wmnjuguna.stkpush;
 
+import io.github.wmnjuguna.codec.GenerateJsonCodec;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
@@ -12,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * @param responseDescription the response description
  * @param customerMessage    the message to display to the customer
  */
+@GenerateJsonCodec
 public record StkPushResponse(
     @JsonProperty("MerchantRequestID")
     String merchantRequestID,
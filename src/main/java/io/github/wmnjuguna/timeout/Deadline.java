@@ -0,0 +1,130 @@
+package io.github.wmnjuguna.timeout;
+
+import io.github.wmnjuguna.exception.DarajaDeadlineExceededException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Overall time limit for a unit of work spanning several Daraja HTTP calls.
+ *
+ * A deadline is bound to the calling thread for the duration of {@link #call(Supplier)} or
+ * {@link #run(Runnable)}. Blocking clients created by DarajaClientFactory shorten each request's
+ * read timeout to the time remaining, so an access token refresh and the API call that needed
+ * it share one budget, and retries stop once it is spent. Nested deadlines never extend an
+ * enclosing one.
+ *
+ * <pre>{@code
+ * TransactionStatusResponse response = Deadline.after(Duration.ofSeconds(3))
+ *     .call(() -> client.transactionStatus(request));
+ * }</pre>
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a deadline expiring after the specified duration from now.
+     *
+     * @param timeout the time allowed
+     * @return the deadline
+     * @throws IllegalArgumentException if timeout is null or negative
+     */
+    public static Deadline after(Duration timeout) {
+        if (timeout == null || timeout.isNegative()) {
+            throw new IllegalArgumentException("Deadline timeout cannot be null or negative");
+        }
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Gets the deadline bound to the current thread.
+     *
+     * @return the current deadline, or null if none is set
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Limits a timeout to the time remaining until the current thread's deadline.
+     *
+     * @param timeout the timeout that applies without a deadline
+     * @param action  what is about to wait, used in the exception message
+     * @return the shorter of timeout and the remaining time
+     * @throws DarajaDeadlineExceededException if the current deadline has expired
+     */
+    public static Duration limit(Duration timeout, String action) {
+        Deadline deadline = current();
+        if (deadline == null) {
+            return timeout;
+        }
+        Duration remaining = deadline.remaining();
+        if (remaining.isZero()) {
+            throw new DarajaDeadlineExceededException("Deadline exceeded before " + action);
+        }
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    /**
+     * Gets the time remaining until this deadline.
+     *
+     * @return the remaining time, or zero if the deadline has expired
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(deadlineNanos - System.nanoTime(), 0));
+    }
+
+    /**
+     * Checks whether this deadline has expired.
+     *
+     * @return true if no time remains
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Runs an action with this deadline bound to the current thread.
+     *
+     * @param action the action to run
+     * @param <T>    the result type
+     * @return the action's result
+     */
+    public <T> T call(Supplier<T> action) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(previous != null && previous.deadlineNanos - deadlineNanos < 0 ? previous : this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Runs an action with this deadline bound to the current thread.
+     *
+     * @param action the action to run
+     */
+    public void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + remaining() + '}';
+    }
+}
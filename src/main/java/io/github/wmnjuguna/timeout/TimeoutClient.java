@@ -0,0 +1,110 @@
+package io.github.wmnjuguna.timeout;
+
+import io.github.wmnjuguna.DarajaOperation;
+import feign.AsyncClient;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign client decorator applying {@link TimeoutConfig} and the current {@link Deadline}.
+ *
+ * Each request gets the connect timeout and the read timeout of its operation, both shortened to
+ * the time left on the calling thread's deadline. A request whose deadline has already expired
+ * is not sent. The redirect setting is passed through unchanged.
+ *
+ * The java.net.http transport is the exception: it creates a new HttpClient for every distinct
+ * connect timeout it is given, so on that transport the connect timeout is kept constant and
+ * only the read timeout observes the deadline. Connecting can then outlast the deadline by up
+ * to the configured connect timeout.
+ */
+public class TimeoutClient implements Client {
+
+    private final Client delegate;
+    private final TimeoutConfig config;
+    private final boolean fixedConnectTimeout;
+
+    /**
+     * Creates a new TimeoutClient that shortens the connect timeout to the current deadline.
+     *
+     * @param delegate the client executing the requests
+     * @param config   the timeouts to apply
+     * @throws IllegalArgumentException if delegate or config is null
+     */
+    public TimeoutClient(Client delegate, TimeoutConfig config) {
+        this(delegate, config, false);
+    }
+
+    /**
+     * Creates a new TimeoutClient.
+     *
+     * @param delegate            the client executing the requests
+     * @param config              the timeouts to apply
+     * @param fixedConnectTimeout whether the connect timeout is always the configured one, for
+     *                            delegates sending with a shared java.net.http.HttpClient
+     * @throws IllegalArgumentException if delegate or config is null
+     */
+    public TimeoutClient(Client delegate, TimeoutConfig config, boolean fixedConnectTimeout) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate client cannot be null");
+        }
+        if (config == null) {
+            throw new IllegalArgumentException("Timeout configuration cannot be null");
+        }
+        this.delegate = delegate;
+        this.config = config;
+        this.fixedConnectTimeout = fixedConnectTimeout;
+    }
+
+    /**
+     * Decorates an asynchronous client with the operation timeouts. Asynchronous requests
+     * observe a deadline only if it is bound to the thread that submits them. The asynchronous
+     * transport is java.net.http, so the connect timeout is kept constant.
+     *
+     * @param delegate the asynchronous client executing the requests
+     * @param config   the timeouts to apply
+     * @return the decorated asynchronous client
+     */
+    public static AsyncClient<Object> async(AsyncClient<Object> delegate, TimeoutConfig config) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate client cannot be null");
+        }
+        if (config == null) {
+            throw new IllegalArgumentException("Timeout configuration cannot be null");
+        }
+        return (request, options, requestContext) -> {
+            Request.Options requestOptions;
+            try {
+                requestOptions = options(config, true, request, options);
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            return delegate.execute(request, requestOptions, requestContext);
+        };
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        return delegate.execute(request, options(config, fixedConnectTimeout, request, options));
+    }
+
+    private static Request.Options options(TimeoutConfig config, boolean fixedConnectTimeout,
+                                           Request request, Request.Options options) {
+        DarajaOperation operation = DarajaOperation.fromPath(request.url());
+        String action = operation == null ? "sending " + request.url() : "sending " + operation;
+        Duration readTimeout = Deadline.limit(config.getReadTimeout(operation), action);
+        Duration connectTimeout = fixedConnectTimeout
+            ? config.getConnectTimeout()
+            : Deadline.limit(config.getConnectTimeout(), action);
+        return new Request.Options(
+            Math.max(connectTimeout.toMillis(), 1), TimeUnit.MILLISECONDS,
+            Math.max(readTimeout.toMillis(), 1), TimeUnit.MILLISECONDS,
+            options.isFollowRedirects()
+        );
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.wmnjuguna.timeout;
+
+import io.github.wmnjuguna.DarajaOperation;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Connect and read timeouts for Daraja API requests.
+ *
+ * The read timeout can be set per operation, so that quick queries such as transaction status
+ * fail fast while B2C payments are given longer. The connect timeout applies to every request,
+ * including access token requests, which use the default read timeout.
+ */
+public final class TimeoutConfig {
+
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final Map<DarajaOperation, Duration> readTimeouts;
+
+    private TimeoutConfig(Builder builder) {
+        this.connectTimeout = builder.connectTimeout;
+        this.readTimeout = builder.readTimeout;
+        this.readTimeouts = Collections.unmodifiableMap(new EnumMap<>(builder.readTimeouts));
+    }
+
+    /**
+     * Creates a configuration with Feign's default timeouts: 10 seconds to connect and 60 seconds to read.
+     *
+     * @return the default timeout configuration
+     */
+    public static TimeoutConfig defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a new timeout configuration builder.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the connect timeout.
+     *
+     * @return the connect timeout
+     */
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Gets the read timeout of requests without an operation-specific timeout.
+     *
+     * @return the default read timeout
+     */
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Gets the read timeout for an operation.
+     *
+     * @param operation the Daraja operation, or null for requests that are not API operations
+     * @return the operation's read timeout, or the default read timeout
+     */
+    public Duration getReadTimeout(DarajaOperation operation) {
+        return operation == null ? readTimeout : readTimeouts.getOrDefault(operation, readTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return "TimeoutConfig{" +
+               "connectTimeout=" + connectTimeout +
+               ", readTimeout=" + readTimeout +
+               ", readTimeouts=" + readTimeouts +
+               '}';
+    }
+
+    /**
+     * Builder class for creating TimeoutConfig instances.
+     */
+    public static class Builder {
+        private final Map<DarajaOperation, Duration> readTimeouts = new EnumMap<>(DarajaOperation.class);
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration readTimeout = Duration.ofSeconds(60);
+
+        private Builder() {}
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = requirePositive(connectTimeout, "Connect timeout");
+            return this;
+        }
+
+        public Builder readTimeout(Duration readTimeout) {
+            this.readTimeout = requirePositive(readTimeout, "Read timeout");
+            return this;
+        }
+
+        /**
+         * Sets the read timeout for one operation.
+         *
+         * @param operation   the Daraja operation
+         * @param readTimeout the operation's read timeout
+         * @return this builder
+         */
+        public Builder readTimeout(DarajaOperation operation, Duration readTimeout) {
+            if (operation == null) {
+                throw new IllegalArgumentException("Operation cannot be null");
+            }
+            readTimeouts.put(operation, requirePositive(readTimeout, "Read timeout"));
+            return this;
+        }
+
+        public TimeoutConfig build() {
+            return new TimeoutConfig(this);
+        }
+
+        private static Duration requirePositive(Duration duration, String name) {
+            if (duration == null || duration.isZero() || duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must be a positive duration");
+            }
+            return duration;
+        }
+    }
+}
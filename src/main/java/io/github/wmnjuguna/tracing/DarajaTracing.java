@@ -0,0 +1,132 @@
+package io.github.wmnjuguna.tracing;
+
+import io.github.wmnjuguna.auth.TokenRefreshListener;
+import io.github.wmnjuguna.webhook.StkPushCallbackHandler;
+import feign.InvocationHandlerFactory;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+
+import java.time.Instant;
+
+/**
+ * OpenTelemetry tracing of the Daraja SDK.
+ *
+ * Pass an instance to DarajaClientFactory#tracing to get a client span for every API call, with
+ * access token refreshes as child spans. Wrap your STK Push callback handler with
+ * {@link #callbackHandler(StkPushCallbackHandler)} to process each callback in a span that
+ * continues the trace of the request that initiated the payment, so the whole payment, from
+ * initiateStkPush to the callback, shows as one trace.
+ *
+ * OpenTelemetry is an optional dependency: the application must provide opentelemetry-api.
+ * Trace context is not sent to Safaricom, which does not propagate it.
+ */
+public final class DarajaTracing {
+
+    /** Instrumentation scope name of the SDK's spans. */
+    public static final String INSTRUMENTATION_NAME = "io.github.wmnjuguna.daraja";
+
+    static final AttributeKey<String> OPERATION = AttributeKey.stringKey("daraja.operation");
+    static final AttributeKey<String> CHECKOUT_REQUEST_ID = AttributeKey.stringKey("daraja.checkout_request_id");
+    static final AttributeKey<String> MERCHANT_REQUEST_ID = AttributeKey.stringKey("daraja.merchant_request_id");
+    static final AttributeKey<Long> RESULT_CODE = AttributeKey.longKey("daraja.result_code");
+    static final AttributeKey<Boolean> CALLBACK_LINKED = AttributeKey.booleanKey("daraja.callback.linked");
+    static final AttributeKey<String> ERROR_CODE = AttributeKey.stringKey("daraja.error_code");
+    static final AttributeKey<Boolean> BACKGROUND = AttributeKey.booleanKey("daraja.token_refresh.background");
+    static final AttributeKey<Long> HTTP_STATUS = AttributeKey.longKey("http.response.status_code");
+    static final AttributeKey<String> ERROR_TYPE = AttributeKey.stringKey("error.type");
+
+    private final Tracer tracer;
+    private final SpanContextStore spanContextStore;
+
+    private DarajaTracing(Tracer tracer, SpanContextStore spanContextStore) {
+        this.tracer = tracer;
+        this.spanContextStore = spanContextStore;
+    }
+
+    /**
+     * Creates tracing that remembers STK Push request spans in an {@link InMemorySpanContextStore}.
+     *
+     * @param openTelemetry the OpenTelemetry instance providing the tracer
+     * @return a new DarajaTracing
+     * @throws IllegalArgumentException if openTelemetry is null
+     */
+    public static DarajaTracing create(OpenTelemetry openTelemetry) {
+        return create(openTelemetry, new InMemorySpanContextStore());
+    }
+
+    /**
+     * Creates tracing that remembers STK Push request spans in the given store.
+     * Use a shared store when callbacks may be received by a different node than the one
+     * that sent the request.
+     *
+     * @param openTelemetry    the OpenTelemetry instance providing the tracer
+     * @param spanContextStore the store remembering STK Push request spans
+     * @return a new DarajaTracing
+     * @throws IllegalArgumentException if openTelemetry or spanContextStore is null
+     */
+    public static DarajaTracing create(OpenTelemetry openTelemetry, SpanContextStore spanContextStore) {
+        if (openTelemetry == null) {
+            throw new IllegalArgumentException("OpenTelemetry cannot be null");
+        }
+        if (spanContextStore == null) {
+            throw new IllegalArgumentException("Span context store cannot be null");
+        }
+        return new DarajaTracing(openTelemetry.getTracer(INSTRUMENTATION_NAME), spanContextStore);
+    }
+
+    /**
+     * Wraps an STK Push callback handler so that every callback is processed in a span that
+     * continues the trace of its request.
+     *
+     * @param handler the application's callback handler
+     * @return the traced callback handler
+     * @throws IllegalArgumentException if handler is null
+     */
+    public StkPushCallbackHandler callbackHandler(StkPushCallbackHandler handler) {
+        return new TracingStkPushCallbackHandler(handler, tracer, spanContextStore);
+    }
+
+    /**
+     * Wraps an invocation handler factory so that every API call is traced.
+     *
+     * @param delegate the factory creating the underlying invocation handler
+     * @return the tracing invocation handler factory
+     */
+    public InvocationHandlerFactory invocationHandlerFactory(InvocationHandlerFactory delegate) {
+        return new TracingInvocationHandlerFactory(tracer, spanContextStore, delegate);
+    }
+
+    /**
+     * Gets a listener recording every access token refresh as a span. A refresh made for an API
+     * call becomes a child of the call's span; a background refresh starts its own trace.
+     *
+     * @return the token refresh listener
+     */
+    public TokenRefreshListener tokenRefreshListener() {
+        return (durationNanos, success, background) -> {
+            Instant end = Instant.now();
+            Span span = tracer.spanBuilder("Daraja token refresh")
+                .setSpanKind(SpanKind.CLIENT)
+                .setStartTimestamp(end.minusNanos(durationNanos))
+                .setAttribute(BACKGROUND, background)
+                .startSpan();
+            if (!success) {
+                span.setStatus(StatusCode.ERROR, "Access token refresh failed");
+            }
+            span.end(end);
+        };
+    }
+
+    /**
+     * Gets the store remembering STK Push request spans.
+     *
+     * @return the span context store
+     */
+    public SpanContextStore getSpanContextStore() {
+        return spanContextStore;
+    }
+}
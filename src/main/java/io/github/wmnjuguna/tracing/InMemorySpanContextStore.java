@@ -0,0 +1,110 @@
+package io.github.wmnjuguna.tracing;
+
+import io.opentelemetry.api.trace.SpanContext;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-memory SpanContextStore.
+ *
+ * Entries expire after a time to live, since Safaricom gives up on an STK Push after about
+ * a minute and a late callback is not worth linking. Once the store is full, the oldest entry
+ * is evicted, so requests whose callbacks never arrive cannot grow the heap.
+ */
+public final class InMemorySpanContextStore implements SpanContextStore {
+
+    /** Default number of requests remembered. */
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    /** Default time a request is remembered for. */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final long timeToLiveNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Entry> entries;
+
+    /**
+     * Creates a store with the default size and time to live.
+     */
+    public InMemorySpanContextStore() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Creates a new InMemorySpanContextStore.
+     *
+     * @param maxSize    the maximum number of requests remembered
+     * @param timeToLive how long a request is remembered for
+     * @throws IllegalArgumentException if maxSize is not positive or timeToLive is not a positive duration
+     */
+    public InMemorySpanContextStore(int maxSize, Duration timeToLive) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        if (timeToLive == null || timeToLive.isZero() || timeToLive.isNegative()) {
+            throw new IllegalArgumentException("Time to live must be a positive duration");
+        }
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public void save(String requestId, SpanContext spanContext) {
+        if (requestId == null || spanContext == null) {
+            return;
+        }
+        Entry entry = new Entry(spanContext, System.nanoTime() + timeToLiveNanos);
+        lock.lock();
+        try {
+            entries.remove(requestId);
+            entries.put(requestId, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public SpanContext find(String requestId) {
+        if (requestId == null) {
+            return null;
+        }
+        lock.lock();
+        try {
+            Entry entry = entries.get(requestId);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.expiresAtNanos >= 0) {
+                entries.remove(requestId);
+                return null;
+            }
+            return entry.spanContext;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of requests currently remembered, including expired ones not yet evicted.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(SpanContext spanContext, long expiresAtNanos) {}
+}
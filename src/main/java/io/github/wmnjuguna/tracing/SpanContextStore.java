@@ -0,0 +1,31 @@
+package io.github.wmnjuguna.tracing;
+
+import io.opentelemetry.api.trace.SpanContext;
+
+/**
+ * Remembers the span of every STK Push request until its callback arrives, keyed by the
+ * CheckoutRequestID and MerchantRequestID returned by Safaricom.
+ *
+ * The default {@link InMemorySpanContextStore} only links callbacks received by the node that
+ * sent the request. When callbacks are load-balanced across nodes, implement this interface
+ * on a shared store; a SpanContext can be kept as its W3C traceparent value.
+ */
+public interface SpanContextStore {
+
+    /**
+     * Saves the span context of a request.
+     *
+     * @param requestId   the CheckoutRequestID or MerchantRequestID of the request
+     * @param spanContext the span context of the request
+     */
+    void save(String requestId, SpanContext spanContext);
+
+    /**
+     * Finds the span context of a request. Safaricom may deliver a callback more than once,
+     * so an entry is kept until it expires rather than removed on first lookup.
+     *
+     * @param requestId the CheckoutRequestID or MerchantRequestID of the request
+     * @return the span context, or null if unknown or expired
+     */
+    SpanContext find(String requestId);
+}
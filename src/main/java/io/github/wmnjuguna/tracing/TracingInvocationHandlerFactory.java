@@ -0,0 +1,133 @@
+package io.github.wmnjuguna.tracing;
+
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.stkpush.StkPushResponse;
+import feign.InvocationHandlerFactory;
+import feign.Target;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Feign InvocationHandlerFactory that traces every Daraja operation with an OpenTelemetry
+ * client span.
+ *
+ * The span is current while Feign runs the request interceptors, so a lazy access token
+ * refresh made for the call is recorded as its child. For STK Push requests, the span context
+ * is saved under the returned CheckoutRequestID and MerchantRequestID, which lets
+ * {@link TracingStkPushCallbackHandler} continue the trace when the callback arrives.
+ */
+public class TracingInvocationHandlerFactory implements InvocationHandlerFactory {
+
+    private final Tracer tracer;
+    private final SpanContextStore spanContextStore;
+    private final InvocationHandlerFactory delegate;
+
+    /**
+     * Creates a new TracingInvocationHandlerFactory.
+     *
+     * @param tracer           the tracer creating the spans
+     * @param spanContextStore the store remembering STK Push request spans
+     * @param delegate         the factory creating the underlying invocation handler
+     * @throws IllegalArgumentException if any argument is null
+     */
+    public TracingInvocationHandlerFactory(Tracer tracer, SpanContextStore spanContextStore,
+                                           InvocationHandlerFactory delegate) {
+        if (tracer == null) {
+            throw new IllegalArgumentException("Tracer cannot be null");
+        }
+        if (spanContextStore == null) {
+            throw new IllegalArgumentException("Span context store cannot be null");
+        }
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate invocation handler factory cannot be null");
+        }
+        this.tracer = tracer;
+        this.spanContextStore = spanContextStore;
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public InvocationHandler create(Target target, Map<Method, MethodHandler> dispatch) {
+        InvocationHandler handler = delegate.create(target, dispatch);
+        Map<Method, DarajaOperation> operations = new HashMap<>();
+        for (Method method : dispatch.keySet()) {
+            DarajaOperation operation = DarajaOperation.fromMethod(method);
+            if (operation != null) {
+                operations.put(method, operation);
+            }
+        }
+
+        return (proxy, method, args) -> {
+            DarajaOperation operation = operations.get(method);
+            if (operation == null) {
+                return handler.invoke(proxy, method, args);
+            }
+            return invoke(operation, handler, proxy, method, args);
+        };
+    }
+
+    private Object invoke(DarajaOperation operation, InvocationHandler handler,
+                          Object proxy, Method method, Object[] args) throws Throwable {
+        Span span = tracer.spanBuilder("Daraja " + operation)
+            .setSpanKind(SpanKind.CLIENT)
+            .setAttribute(DarajaTracing.OPERATION, operation.name())
+            .startSpan();
+
+        Object result;
+        try (Scope ignored = span.makeCurrent()) {
+            result = handler.invoke(proxy, method, args);
+        } catch (Throwable e) {
+            end(span, null, e);
+            throw e;
+        }
+
+        if (result instanceof CompletableFuture<?> future) {
+            future.whenComplete((response, error) -> end(
+                span,
+                response,
+                error instanceof CompletionException && error.getCause() != null ? error.getCause() : error
+            ));
+        } else {
+            end(span, result, null);
+        }
+        return result;
+    }
+
+    private void end(Span span, Object response, Throwable error) {
+        if (error != null) {
+            span.setAttribute(DarajaTracing.ERROR_TYPE, error.getClass().getName());
+            if (error instanceof DarajaException darajaException) {
+                if (darajaException.hasHttpStatus()) {
+                    span.setAttribute(DarajaTracing.HTTP_STATUS, darajaException.getHttpStatus());
+                }
+                if (darajaException.hasErrorCode()) {
+                    span.setAttribute(DarajaTracing.ERROR_CODE, darajaException.getErrorCode());
+                }
+            }
+            span.recordException(error);
+            span.setStatus(StatusCode.ERROR, error.getMessage() == null ? "" : error.getMessage());
+        } else if (response instanceof StkPushResponse stkPushResponse) {
+            if (stkPushResponse.checkoutRequestID() != null) {
+                span.setAttribute(DarajaTracing.CHECKOUT_REQUEST_ID, stkPushResponse.checkoutRequestID());
+                spanContextStore.save(stkPushResponse.checkoutRequestID(), span.getSpanContext());
+            }
+            if (stkPushResponse.merchantRequestID() != null) {
+                span.setAttribute(DarajaTracing.MERCHANT_REQUEST_ID, stkPushResponse.merchantRequestID());
+                spanContextStore.save(stkPushResponse.merchantRequestID(), span.getSpanContext());
+            }
+        }
+        span.end();
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.wmnjuguna.tracing;
+
+import io.github.wmnjuguna.stkpush.StkPushCallback;
+import io.github.wmnjuguna.webhook.StkPushCallbackHandler;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+import java.util.function.Consumer;
+
+/**
+ * StkPushCallbackHandler decorator that processes callbacks in a span continuing the trace of
+ * the STK Push request.
+ *
+ * The request span is looked up by CheckoutRequestID, falling back to MerchantRequestID, and
+ * becomes the parent of the callback span. The span that was current when the callback arrived,
+ * typically the server span of the web framework, is added as a link. Callbacks whose request
+ * is unknown are traced under the current span.
+ *
+ * Call {@link #handle(StkPushCallback)} to process a callback in a single span; calling the
+ * individual methods directly traces each of them separately.
+ */
+public class TracingStkPushCallbackHandler implements StkPushCallbackHandler {
+
+    private final StkPushCallbackHandler delegate;
+    private final Tracer tracer;
+    private final SpanContextStore spanContextStore;
+
+    TracingStkPushCallbackHandler(StkPushCallbackHandler delegate, Tracer tracer, SpanContextStore spanContextStore) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Callback handler cannot be null");
+        }
+        this.delegate = delegate;
+        this.tracer = tracer;
+        this.spanContextStore = spanContextStore;
+    }
+
+    @Override
+    public void handle(StkPushCallback callback) {
+        trace(callback, delegate::handle);
+    }
+
+    @Override
+    public void onPaymentSuccess(StkPushCallback callback) {
+        trace(callback, delegate::onPaymentSuccess);
+    }
+
+    @Override
+    public void onPaymentFailure(StkPushCallback callback) {
+        trace(callback, delegate::onPaymentFailure);
+    }
+
+    @Override
+    public void onCallbackReceived(StkPushCallback callback) {
+        trace(callback, delegate::onCallbackReceived);
+    }
+
+    private void trace(StkPushCallback callback, Consumer<StkPushCallback> action) {
+        Span span = startSpan(callback);
+        try (Scope ignored = span.makeCurrent()) {
+            action.accept(callback);
+        } catch (RuntimeException | Error e) {
+            span.setAttribute(DarajaTracing.ERROR_TYPE, e.getClass().getName());
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR, e.getMessage() == null ? "" : e.getMessage());
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private Span startSpan(StkPushCallback callback) {
+        String checkoutRequestId = callback.getCheckoutRequestID();
+        String merchantRequestId = callback.getMerchantRequestID();
+
+        SpanContext request = spanContextStore.find(checkoutRequestId);
+        if (request == null) {
+            request = spanContextStore.find(merchantRequestId);
+        }
+        boolean linked = request != null && request.isValid();
+
+        SpanBuilder builder = tracer.spanBuilder("Daraja STK_PUSH callback")
+            .setSpanKind(SpanKind.CONSUMER)
+            .setAttribute(DarajaTracing.CALLBACK_LINKED, linked);
+        if (linked) {
+            builder.setParent(Context.root().with(Span.wrap(request)));
+            SpanContext current = Span.current().getSpanContext();
+            if (current.isValid()) {
+                builder.addLink(current);
+            }
+        }
+        if (checkoutRequestId != null) {
+            builder.setAttribute(DarajaTracing.CHECKOUT_REQUEST_ID, checkoutRequestId);
+        }
+        if (merchantRequestId != null) {
+            builder.setAttribute(DarajaTracing.MERCHANT_REQUEST_ID, merchantRequestId);
+        }
+        if (callback.body() != null && callback.body().stkCallback() != null) {
+            builder.setAttribute(DarajaTracing.RESULT_CODE, (long) callback.body().stkCallback().resultCode());
+        }
+        return builder.startSpan();
+    }
+}
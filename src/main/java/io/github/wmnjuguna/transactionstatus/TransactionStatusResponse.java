@@ -1,7 +1,9 @@
 package io.github.wmnjuguna.transactionstatus;
 
+import io.github.wmnjuguna.codec.GenerateJsonCodec;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+@GenerateJsonCodec
 public record TransactionStatusResponse(
     @JsonProperty("ConversationID")
     String conversationID,
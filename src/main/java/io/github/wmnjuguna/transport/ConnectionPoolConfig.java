@@ -0,0 +1,164 @@
+package io.github.wmnjuguna.transport;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the pooled HTTP transport used by the Daraja clients.
+ * Controls how many keep-alive connections are held open to the Daraja host
+ * and how long they may live, so that bursts of requests reuse established
+ * TLS sessions instead of paying for a new handshake on every call.
+ */
+public final class ConnectionPoolConfig {
+
+    private final int maxConnectionsPerRoute;
+    private final int maxConnectionsTotal;
+    private final Duration idleEvictionTimeout;
+    private final Duration connectionTimeToLive;
+    private final Duration validateAfterInactivity;
+
+    private ConnectionPoolConfig(Builder builder) {
+        this.maxConnectionsPerRoute = builder.maxConnectionsPerRoute;
+        this.maxConnectionsTotal = builder.maxConnectionsTotal;
+        this.idleEvictionTimeout = builder.idleEvictionTimeout;
+        this.connectionTimeToLive = builder.connectionTimeToLive;
+        this.validateAfterInactivity = builder.validateAfterInactivity;
+    }
+
+    /**
+     * Creates a configuration with the default pool settings.
+     *
+     * @return the default connection pool configuration
+     */
+    public static ConnectionPoolConfig defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a new connection pool configuration builder.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the maximum number of connections kept per route (host and port).
+     *
+     * @return the per-route connection limit
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Gets the maximum number of connections kept across all routes.
+     *
+     * @return the total connection limit
+     */
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    /**
+     * Gets how long a connection may sit idle in the pool before it is evicted.
+     *
+     * @return the idle eviction timeout
+     */
+    public Duration getIdleEvictionTimeout() {
+        return idleEvictionTimeout;
+    }
+
+    /**
+     * Gets the maximum lifetime of a pooled connection, regardless of activity.
+     *
+     * @return the connection time to live
+     */
+    public Duration getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    /**
+     * Gets the period of inactivity after which a connection is validated before reuse.
+     *
+     * @return the validate-after-inactivity period
+     */
+    public Duration getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolConfig{" +
+               "maxConnectionsPerRoute=" + maxConnectionsPerRoute +
+               ", maxConnectionsTotal=" + maxConnectionsTotal +
+               ", idleEvictionTimeout=" + idleEvictionTimeout +
+               ", connectionTimeToLive=" + connectionTimeToLive +
+               ", validateAfterInactivity=" + validateAfterInactivity +
+               '}';
+    }
+
+    /**
+     * Builder class for creating ConnectionPoolConfig instances.
+     */
+    public static class Builder {
+        private int maxConnectionsPerRoute = 50;
+        private int maxConnectionsTotal = 200;
+        private Duration idleEvictionTimeout = Duration.ofSeconds(30);
+        private Duration connectionTimeToLive = Duration.ofMinutes(5);
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+        private Builder() {}
+
+        public Builder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            if (maxConnectionsPerRoute <= 0) {
+                throw new IllegalArgumentException("Max connections per route must be positive");
+            }
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        public Builder maxConnectionsTotal(int maxConnectionsTotal) {
+            if (maxConnectionsTotal <= 0) {
+                throw new IllegalArgumentException("Max connections total must be positive");
+            }
+            this.maxConnectionsTotal = maxConnectionsTotal;
+            return this;
+        }
+
+        public Builder idleEvictionTimeout(Duration idleEvictionTimeout) {
+            this.idleEvictionTimeout = requirePositive(idleEvictionTimeout, "Idle eviction timeout");
+            return this;
+        }
+
+        public Builder connectionTimeToLive(Duration connectionTimeToLive) {
+            this.connectionTimeToLive = requirePositive(connectionTimeToLive, "Connection time to live");
+            return this;
+        }
+
+        public Builder validateAfterInactivity(Duration validateAfterInactivity) {
+            this.validateAfterInactivity = requirePositive(validateAfterInactivity, "Validate after inactivity");
+            return this;
+        }
+
+        /**
+         * Builds the ConnectionPoolConfig instance.
+         *
+         * @return a new ConnectionPoolConfig
+         * @throws IllegalStateException if the per-route limit exceeds the total limit
+         */
+        public ConnectionPoolConfig build() {
+            if (maxConnectionsPerRoute > maxConnectionsTotal) {
+                throw new IllegalStateException("Max connections per route cannot exceed max connections total");
+            }
+            return new ConnectionPoolConfig(this);
+        }
+
+        private static Duration requirePositive(Duration duration, String name) {
+            if (duration == null || duration.isZero() || duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must be a positive duration");
+            }
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.wmnjuguna.transport;
+
+/**
+ * Snapshot of the connections of a pooled transport.
+ *
+ * @param leased    the number of connections currently executing a request
+ * @param available the number of idle keep-alive connections
+ * @param pending   the number of requests waiting for a connection
+ * @param max       the maximum number of connections
+ */
+public record ConnectionPoolStats(
+    int leased,
+    int available,
+    int pending,
+    int max
+) {
+}
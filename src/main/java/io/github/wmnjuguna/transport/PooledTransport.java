@@ -0,0 +1,107 @@
+package io.github.wmnjuguna.transport;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Pooled HTTP transport backed by an Apache HttpClient 5 connection manager.
+ * Keeps keep-alive connections to the Daraja host open between requests,
+ * bounded per route, evicted when idle and retired after a fixed time to live.
+ *
+ * A single transport is shared by the API and authentication clients of a factory
+ * and must be closed to release its connections and eviction thread.
+ */
+public final class PooledTransport implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledTransport.class);
+
+    private final ConnectionPoolConfig config;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final Client client;
+
+    private PooledTransport(ConnectionPoolConfig config) {
+        this.config = config;
+
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+            .setTimeToLive(TimeValue.ofMilliseconds(config.getConnectionTimeToLive().toMillis()))
+            .setValidateAfterInactivity(TimeValue.ofMilliseconds(config.getValidateAfterInactivity().toMillis()))
+            .build();
+
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnPerRoute(config.getMaxConnectionsPerRoute())
+            .setMaxConnTotal(config.getMaxConnectionsTotal())
+            .setDefaultConnectionConfig(connectionConfig)
+            .build();
+
+        this.httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(config.getIdleEvictionTimeout().toMillis()))
+            .disableAutomaticRetries()
+            .build();
+
+        this.client = new ApacheHttp5Client(httpClient);
+    }
+
+    /**
+     * Creates a new pooled transport with the specified configuration.
+     *
+     * @param config the connection pool configuration
+     * @return a new PooledTransport
+     * @throws IllegalArgumentException if config is null
+     */
+    public static PooledTransport create(ConnectionPoolConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Connection pool configuration cannot be null");
+        }
+        logger.debug("Creating pooled Daraja HTTP transport: {}", config);
+        return new PooledTransport(config);
+    }
+
+    /**
+     * Gets the Feign client that executes requests over this pool.
+     *
+     * @return the pooled Feign client
+     */
+    public Client client() {
+        return client;
+    }
+
+    /**
+     * Gets the configuration this transport was created with.
+     *
+     * @return the connection pool configuration
+     */
+    public ConnectionPoolConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Gets a snapshot of the connections in the pool.
+     *
+     * @return the connection pool statistics
+     */
+    public ConnectionPoolStats getPoolStats() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new ConnectionPoolStats(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    @Override
+    public void close() throws IOException {
+        logger.debug("Closing pooled Daraja HTTP transport");
+        httpClient.close();
+    }
+}
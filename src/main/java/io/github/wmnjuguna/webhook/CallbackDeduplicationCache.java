@@ -0,0 +1,138 @@
+package io.github.wmnjuguna.webhook;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, time-expiring set of callback keys that have already been seen.
+ *
+ * Lookups and inserts are single ConcurrentHashMap operations. Keys are also appended to a
+ * queue in insertion order; since every key lives for the same time to live, the head of the
+ * queue is always the next to expire, so eviction only ever looks at the head. When the cache
+ * is full, the oldest keys are evicted first. Forgotten keys leave their entry in the queue,
+ * so the queue is bounded too: past twice the maximum size, entries are evicted from the head
+ * even before they expire.
+ */
+public final class CallbackDeduplicationCache {
+
+    /** Default number of keys remembered. */
+    public static final int DEFAULT_MAX_SIZE = 100_000;
+
+    /** Default time a key is remembered for. */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(24);
+
+    private final int maxSize;
+    private final int maxQueued;
+    private final long timeToLiveNanos;
+    private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() walks the queue, so its length is tracked separately
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder unique = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache with the default size and time to live.
+     */
+    public CallbackDeduplicationCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Creates a new CallbackDeduplicationCache.
+     *
+     * @param maxSize    the maximum number of keys remembered
+     * @param timeToLive how long a key is remembered for
+     * @throws IllegalArgumentException if maxSize is not positive or timeToLive is not a positive duration
+     */
+    public CallbackDeduplicationCache(int maxSize, Duration timeToLive) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        if (timeToLive == null || timeToLive.isZero() || timeToLive.isNegative()) {
+            throw new IllegalArgumentException("Time to live must be a positive duration");
+        }
+        this.maxSize = maxSize;
+        this.maxQueued = (int) Math.min(Integer.MAX_VALUE, 2L * maxSize);
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    /**
+     * Remembers a key unless it is already remembered.
+     *
+     * @param key the callback key
+     * @return true if the key was not seen within the time to live, false if it is a duplicate
+     */
+    public boolean markIfAbsent(String key) {
+        long now = System.nanoTime();
+        long expiresAt = now + timeToLiveNanos;
+        Long existing = expiries.putIfAbsent(key, expiresAt);
+        if (existing != null && (existing - now > 0 || !expiries.replace(key, existing, expiresAt))) {
+            duplicates.increment();
+            return false;
+        }
+        insertionOrder.add(new Entry(key, expiresAt));
+        queued.incrementAndGet();
+        unique.increment();
+        evict(now);
+        return true;
+    }
+
+    /**
+     * Forgets a key, so that the next callback with it is processed again.
+     * Used when processing a callback failed and Safaricom's redelivery should be handled.
+     *
+     * @param key the callback key
+     */
+    public void forget(String key) {
+        expiries.remove(key);
+    }
+
+    /**
+     * Gets a snapshot of the cache counters.
+     *
+     * @return the deduplication statistics
+     */
+    public DeduplicationStats getStats() {
+        return new DeduplicationStats(duplicates.sum(), unique.sum(), expiries.size(), evictions.sum());
+    }
+
+    /**
+     * Gets the number of entries in the insertion-order queue, including those of forgotten keys.
+     */
+    int queuedEntries() {
+        return queued.get();
+    }
+
+    private void evict(long now) {
+        // One thread evicting at a time keeps peek and poll consistent; the others skip it
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            Entry head;
+            while ((head = insertionOrder.peek()) != null
+                   && (expiries.size() > maxSize || queued.get() > maxQueued || head.expiresAt() - now <= 0)) {
+                insertionOrder.poll();
+                queued.decrementAndGet();
+                // A key renewed after expiring has a newer entry further back in the queue
+                if (expiries.remove(head.key(), head.expiresAt())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private record Entry(String key, long expiresAt) {}
+}
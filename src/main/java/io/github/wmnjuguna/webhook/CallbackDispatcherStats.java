@@ -0,0 +1,20 @@
+package io.github.wmnjuguna.webhook;
+
+/**
+ * Snapshot of the counters of a StkPushCallbackDispatcher.
+ *
+ * @param queued    the number of callbacks waiting in the queue
+ * @param accepted  the number of callbacks accepted for processing
+ * @param processed the number of callbacks the handler completed
+ * @param failed    the number of callbacks the handler threw an exception for
+ * @param rejected  the number of callbacks rejected because the queue was full
+ * @param dropped   the number of queued callbacks discarded to make room for newer ones
+ */
+public record CallbackDispatcherStats(
+    int queued,
+    long accepted,
+    long processed,
+    long failed,
+    long rejected,
+    long dropped
+) {}
@@ -0,0 +1,27 @@
+package io.github.wmnjuguna.webhook;
+
+/**
+ * What StkPushCallbackDispatcher does with a callback when its queue is full.
+ */
+public enum CallbackOverflowPolicy {
+
+    /**
+     * Reject the new callback, so the caller can answer Safaricom with an error.
+     */
+    REJECT,
+
+    /**
+     * Discard the oldest queued callback to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Wait for space in the queue up to the configured timeout, then reject the callback.
+     */
+    BLOCK,
+
+    /**
+     * Process the callback on the submitting thread, slowing down the caller.
+     */
+    CALLER_RUNS
+}
@@ -0,0 +1,103 @@
+package io.github.wmnjuguna.webhook;
+
+import io.github.wmnjuguna.stkpush.StkPushCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * StkPushCallbackHandler decorator that drops callbacks Safaricom has already delivered.
+ *
+ * Callbacks are keyed on CheckoutRequestID and ResultCode, so a redelivery is dropped in memory
+ * before it reaches the handler and its database. If the handler throws, the key is forgotten
+ * so that the next redelivery is processed again. Callbacks without a CheckoutRequestID are
+ * always passed through.
+ *
+ * De-duplication applies to {@link #handle(StkPushCallback)}, which StkPushCallbackDispatcher
+ * calls; the individual handler methods are passed through unchanged. The cache is local to
+ * this process, so keep the database unique constraint as the guarantee across nodes.
+ */
+public class DeduplicatingStkPushCallbackHandler implements StkPushCallbackHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeduplicatingStkPushCallbackHandler.class);
+
+    private final StkPushCallbackHandler delegate;
+    private final CallbackDeduplicationCache cache;
+
+    /**
+     * Creates a new DeduplicatingStkPushCallbackHandler with a default-sized cache.
+     *
+     * @param delegate the handler receiving unique callbacks
+     */
+    public DeduplicatingStkPushCallbackHandler(StkPushCallbackHandler delegate) {
+        this(delegate, new CallbackDeduplicationCache());
+    }
+
+    /**
+     * Creates a new DeduplicatingStkPushCallbackHandler.
+     *
+     * @param delegate the handler receiving unique callbacks
+     * @param cache    the cache of callbacks already seen
+     * @throws IllegalArgumentException if delegate or cache is null
+     */
+    public DeduplicatingStkPushCallbackHandler(StkPushCallbackHandler delegate, CallbackDeduplicationCache cache) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Callback handler cannot be null");
+        }
+        if (cache == null) {
+            throw new IllegalArgumentException("Deduplication cache cannot be null");
+        }
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public void handle(StkPushCallback callback) {
+        String key = key(callback);
+        if (key == null) {
+            delegate.handle(callback);
+            return;
+        }
+        if (!cache.markIfAbsent(key)) {
+            logger.debug("Dropping duplicate STK Push callback for CheckoutRequestID {}", callback.getCheckoutRequestID());
+            return;
+        }
+        try {
+            delegate.handle(callback);
+        } catch (RuntimeException | Error e) {
+            cache.forget(key);
+            throw e;
+        }
+    }
+
+    @Override
+    public void onPaymentSuccess(StkPushCallback callback) {
+        delegate.onPaymentSuccess(callback);
+    }
+
+    @Override
+    public void onPaymentFailure(StkPushCallback callback) {
+        delegate.onPaymentFailure(callback);
+    }
+
+    @Override
+    public void onCallbackReceived(StkPushCallback callback) {
+        delegate.onCallbackReceived(callback);
+    }
+
+    /**
+     * Gets the hit and miss counters of the de-duplication cache.
+     *
+     * @return the deduplication statistics
+     */
+    public DeduplicationStats getStats() {
+        return cache.getStats();
+    }
+
+    private static String key(StkPushCallback callback) {
+        String checkoutRequestId = callback.getCheckoutRequestID();
+        if (checkoutRequestId == null) {
+            return null;
+        }
+        return checkoutRequestId + '|' + callback.body().stkCallback().resultCode();
+    }
+}
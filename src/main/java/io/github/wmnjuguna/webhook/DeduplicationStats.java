@@ -0,0 +1,27 @@
+package io.github.wmnjuguna.webhook;
+
+/**
+ * Snapshot of the counters of a CallbackDeduplicationCache.
+ *
+ * @param duplicates the number of callbacks dropped as duplicates (cache hits)
+ * @param unique     the number of callbacks seen for the first time (cache misses)
+ * @param size       the number of keys currently remembered
+ * @param evictions  the number of keys evicted because they expired or the cache was full
+ */
+public record DeduplicationStats(
+    long duplicates,
+    long unique,
+    int size,
+    long evictions
+) {
+
+    /**
+     * Gets the share of callbacks that were duplicates.
+     *
+     * @return the duplicate ratio between 0 and 1, or 0 if no callback was seen
+     */
+    public double duplicateRatio() {
+        long total = duplicates + unique;
+        return total == 0 ? 0 : (double) duplicates / total;
+    }
+}
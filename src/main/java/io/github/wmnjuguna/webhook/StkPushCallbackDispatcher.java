@@ -0,0 +1,382 @@
+package io.github.wmnjuguna.webhook;
+
+import io.github.wmnjuguna.stkpush.StkPushCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Decouples receiving STK Push callbacks from processing them.
+ *
+ * The web endpoint receiving callbacks passes the raw body to {@link #submit(byte[])}, which
+ * parses it, places it on a bounded queue and returns at once, so the endpoint can acknowledge
+ * Safaricom without waiting for the database. Worker threads, platform or virtual, take
+ * callbacks off the queue and pass them to the {@link StkPushCallbackHandler}.
+ *
+ * When callbacks arrive faster than the handler processes them, for example around salary
+ * day, the queue fills up and the {@link CallbackOverflowPolicy} decides what happens. Callbacks
+ * that are rejected or dropped are passed to the overflow handler, so that they can be
+ * persisted and reconciled later with a transaction status query. Every callback that was
+ * accepted is either processed or passed to the overflow handler, even when the dispatcher is
+ * closed concurrently, and those not processed are also logged.
+ *
+ * <pre>{@code
+ * @PostMapping("/callbacks/stkpush")
+ * ResponseEntity<Void> stkPush(@RequestBody byte[] body) {
+ *     return dispatcher.submit(body) ? ResponseEntity.ok().build() : ResponseEntity.status(503).build();
+ * }
+ * }</pre>
+ */
+public final class StkPushCallbackDispatcher implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StkPushCallbackDispatcher.class);
+
+    private static final long POLL_MILLIS = 100;
+
+    private final StkPushCallbackHandler handler;
+    private final BlockingQueue<StkPushCallback> queue;
+    private final CallbackOverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final Duration shutdownTimeout;
+    private final Consumer<StkPushCallback> overflowHandler;
+    private final List<Thread> workers;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    // Submitters hold the read lock, so no callback is queued once close() has set closed
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    private StkPushCallbackDispatcher(Builder builder) {
+        this.handler = builder.handler;
+        this.queue = new ArrayBlockingQueue<>(builder.queueCapacity);
+        this.overflowPolicy = builder.overflowPolicy;
+        this.blockTimeoutNanos = builder.blockTimeout.toNanos();
+        this.shutdownTimeout = builder.shutdownTimeout;
+        this.overflowHandler = builder.overflowHandler;
+
+        StkPushCallbackParser.warmUp();
+
+        ThreadFactory threadFactory = builder.virtualThreads
+            ? Thread.ofVirtual().name("daraja-callback-", 0).factory()
+            : Thread.ofPlatform().name("daraja-callback-", 0).daemon(true).factory();
+        List<Thread> started = new ArrayList<>(builder.workers);
+        for (int i = 0; i < builder.workers; i++) {
+            Thread worker = threadFactory.newThread(this::work);
+            worker.start();
+            started.add(worker);
+        }
+        this.workers = List.copyOf(started);
+    }
+
+    /**
+     * Creates a new callback dispatcher builder.
+     *
+     * @param handler the handler processing the callbacks
+     * @return a new Builder instance
+     * @throws IllegalArgumentException if handler is null
+     */
+    public static Builder builder(StkPushCallbackHandler handler) {
+        return new Builder(handler);
+    }
+
+    /**
+     * Parses a raw callback body and queues it for processing.
+     *
+     * @param body the raw request body received from Safaricom
+     * @return true if the callback was accepted, false if it was rejected because the queue is full
+     * @throws io.github.wmnjuguna.exception.DarajaException if the body is not a valid STK Push callback
+     * @throws IllegalStateException if the dispatcher is closed
+     */
+    public boolean submit(byte[] body) {
+        return submit(StkPushCallbackParser.parse(body));
+    }
+
+    /**
+     * Queues a callback for processing.
+     *
+     * @param callback the callback received from Safaricom
+     * @return true if the callback was accepted, false if it was rejected because the queue is full
+     * @throws IllegalArgumentException if callback is null
+     * @throws IllegalStateException    if the dispatcher is closed
+     */
+    public boolean submit(StkPushCallback callback) {
+        if (callback == null) {
+            throw new IllegalArgumentException("Callback cannot be null");
+        }
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Callback dispatcher is closed");
+            }
+            if (queue.offer(callback)) {
+                accepted.increment();
+                return true;
+            }
+
+            switch (overflowPolicy) {
+                case REJECT -> {
+                    return reject(callback);
+                }
+                case DROP_OLDEST -> {
+                    while (!queue.offer(callback)) {
+                        StkPushCallback oldest = queue.poll();
+                        if (oldest != null) {
+                            dropped.increment();
+                            logger.warn("STK Push callback queue full, dropping CheckoutRequestID {}",
+                                oldest.getCheckoutRequestID());
+                            overflow(oldest);
+                        }
+                    }
+                    accepted.increment();
+                    return true;
+                }
+                case BLOCK -> {
+                    try {
+                        if (queue.offer(callback, blockTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                            accepted.increment();
+                            return true;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return reject(callback);
+                }
+                case CALLER_RUNS -> accepted.increment();
+                default -> throw new IllegalStateException("Unknown overflow policy " + overflowPolicy);
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+
+        // Only CALLER_RUNS gets here; the callback is processed outside the lock so that
+        // close() does not wait for the handler
+        process(callback);
+        return true;
+    }
+
+    /**
+     * Gets a snapshot of the dispatcher's counters.
+     *
+     * @return the dispatcher statistics
+     */
+    public CallbackDispatcherStats getStats() {
+        return new CallbackDispatcherStats(
+            queue.size(),
+            accepted.sum(),
+            processed.sum(),
+            failed.sum(),
+            rejected.sum(),
+            dropped.sum()
+        );
+    }
+
+    /**
+     * Stops accepting callbacks and waits up to the shutdown timeout for the queued ones to be
+     * processed. Workers still busy after the timeout are interrupted; callbacks still queued
+     * are passed to the overflow handler.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        try {
+            for (Thread worker : workers) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining > 0) {
+                    worker.join(Duration.ofNanos(remaining));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+
+        StkPushCallback callback;
+        while ((callback = queue.poll()) != null) {
+            dropped.increment();
+            logger.warn("STK Push callback dispatcher closed, leaving CheckoutRequestID {} unprocessed",
+                callback.getCheckoutRequestID());
+            overflow(callback);
+        }
+    }
+
+    private void work() {
+        while (!closed || !queue.isEmpty()) {
+            StkPushCallback callback;
+            try {
+                callback = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (callback != null) {
+                process(callback);
+            }
+        }
+    }
+
+    private void process(StkPushCallback callback) {
+        try {
+            handler.handle(callback);
+            processed.increment();
+        } catch (RuntimeException | Error e) {
+            // Errors are caught too, so that a failing handler cannot kill the worker
+            failed.increment();
+            logger.error("STK Push callback handler failed for CheckoutRequestID {}", callback.getCheckoutRequestID(), e);
+        }
+    }
+
+    private boolean reject(StkPushCallback callback) {
+        rejected.increment();
+        logger.warn("STK Push callback queue full, rejecting CheckoutRequestID {}", callback.getCheckoutRequestID());
+        overflow(callback);
+        return false;
+    }
+
+    private void overflow(StkPushCallback callback) {
+        if (overflowHandler == null) {
+            return;
+        }
+        try {
+            overflowHandler.accept(callback);
+        } catch (RuntimeException e) {
+            logger.warn("STK Push callback overflow handler failed", e);
+        }
+    }
+
+    /**
+     * Builder class for creating StkPushCallbackDispatcher instances.
+     */
+    public static class Builder {
+        private final StkPushCallbackHandler handler;
+        private int queueCapacity = 10_000;
+        private int workers = Runtime.getRuntime().availableProcessors();
+        private boolean virtualThreads;
+        private CallbackOverflowPolicy overflowPolicy = CallbackOverflowPolicy.BLOCK;
+        private Duration blockTimeout = Duration.ofSeconds(1);
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+        private Consumer<StkPushCallback> overflowHandler;
+
+        private Builder(StkPushCallbackHandler handler) {
+            if (handler == null) {
+                throw new IllegalArgumentException("Callback handler cannot be null");
+            }
+            this.handler = handler;
+        }
+
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("Queue capacity must be positive");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the number of worker threads, which bounds how many callbacks are processed
+         * concurrently, and so how many database connections the handler can hold at once.
+         *
+         * @param workers the number of worker threads
+         * @return this builder
+         */
+        public Builder workers(int workers) {
+            if (workers <= 0) {
+                throw new IllegalArgumentException("Number of workers must be positive");
+            }
+            this.workers = workers;
+            return this;
+        }
+
+        /**
+         * Runs the workers on virtual threads, so blocking handlers do not each hold a platform thread.
+         *
+         * @return this builder
+         */
+        public Builder virtualThreads() {
+            this.virtualThreads = true;
+            return this;
+        }
+
+        public Builder overflowPolicy(CallbackOverflowPolicy overflowPolicy) {
+            if (overflowPolicy == null) {
+                throw new IllegalArgumentException("Overflow policy cannot be null");
+            }
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Sets how long {@link CallbackOverflowPolicy#BLOCK} waits for space in the queue.
+         * Keep it well below the time Safaricom waits for the callback response.
+         *
+         * @param blockTimeout the maximum wait for space in the queue
+         * @return this builder
+         */
+        public Builder blockTimeout(Duration blockTimeout) {
+            if (blockTimeout == null || blockTimeout.isNegative()) {
+                throw new IllegalArgumentException("Block timeout cannot be null or negative");
+            }
+            this.blockTimeout = blockTimeout;
+            return this;
+        }
+
+        public Builder shutdownTimeout(Duration shutdownTimeout) {
+            if (shutdownTimeout == null || shutdownTimeout.isNegative()) {
+                throw new IllegalArgumentException("Shutdown timeout cannot be null or negative");
+            }
+            this.shutdownTimeout = shutdownTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the handler receiving callbacks that were rejected, dropped or left unprocessed
+         * on close. Called on the submitting or closing thread, so it must be quick.
+         *
+         * @param overflowHandler the overflow handler
+         * @return this builder
+         */
+        public Builder overflowHandler(Consumer<StkPushCallback> overflowHandler) {
+            if (overflowHandler == null) {
+                throw new IllegalArgumentException("Overflow handler cannot be null");
+            }
+            this.overflowHandler = overflowHandler;
+            return this;
+        }
+
+        /**
+         * Builds the dispatcher and starts its workers.
+         *
+         * @return a new StkPushCallbackDispatcher
+         */
+        public StkPushCallbackDispatcher build() {
+            return new StkPushCallbackDispatcher(this);
+        }
+    }
+}
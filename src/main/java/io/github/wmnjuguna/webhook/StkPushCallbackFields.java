@@ -0,0 +1,185 @@
+package io.github.wmnjuguna.webhook;
+
+import io.github.wmnjuguna.stkpush.StkPushCallback;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Flat, mutable view of an STK Push callback, filled by {@link StkPushCallbackStreamParser}.
+ *
+ * Holds only the fields payment processing needs, with the metadata items as primitives.
+ * An instance is meant to be reused for many callbacks by one thread: each parse resets it
+ * first. It is not thread-safe.
+ */
+public final class StkPushCallbackFields {
+
+    private String merchantRequestId;
+    private String checkoutRequestId;
+    private int resultCode;
+    private String resultDesc;
+    private boolean hasMetadata;
+    private long amountMinorUnits;
+    private String receiptNumber;
+    private long transactionDate;
+    private long phoneNumber;
+
+    /**
+     * Clears all fields, so the instance can hold the next callback.
+     */
+    public void reset() {
+        merchantRequestId = null;
+        checkoutRequestId = null;
+        resultCode = 0;
+        resultDesc = null;
+        hasMetadata = false;
+        amountMinorUnits = 0;
+        receiptNumber = null;
+        transactionDate = 0;
+        phoneNumber = 0;
+    }
+
+    /**
+     * Checks if the transaction was successful.
+     *
+     * @return true if result code is 0 (success), false otherwise
+     */
+    public boolean isSuccessful() {
+        return resultCode == 0;
+    }
+
+    public String getMerchantRequestId() {
+        return merchantRequestId;
+    }
+
+    public String getCheckoutRequestId() {
+        return checkoutRequestId;
+    }
+
+    public int getResultCode() {
+        return resultCode;
+    }
+
+    public String getResultDesc() {
+        return resultDesc;
+    }
+
+    /**
+     * Checks if the callback carried CallbackMetadata, which Safaricom only sends for successful payments.
+     *
+     * @return true if metadata was present
+     */
+    public boolean hasMetadata() {
+        return hasMetadata;
+    }
+
+    /**
+     * Gets the transaction amount in cents.
+     *
+     * @return the amount in minor units, or 0 if absent
+     */
+    public long getAmountMinorUnits() {
+        return amountMinorUnits;
+    }
+
+    public String getReceiptNumber() {
+        return receiptNumber;
+    }
+
+    /**
+     * Gets the transaction date.
+     *
+     * @return the transaction date as yyyyMMddHHmmss, or 0 if absent
+     */
+    public long getTransactionDate() {
+        return transactionDate;
+    }
+
+    /**
+     * Gets the phone number that made the payment.
+     *
+     * @return the phone number, or 0 if absent
+     */
+    public long getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    /**
+     * Converts the fields to an StkPushCallback, for handlers written against the record model.
+     * Metadata items other than the four well-known ones are not retained by the streaming parser.
+     *
+     * @return a new StkPushCallback
+     */
+    public StkPushCallback toCallback() {
+        StkPushCallback.CallbackMetadata metadata = null;
+        if (hasMetadata) {
+            List<StkPushCallback.CallbackItem> items = new ArrayList<>(4);
+            if (amountMinorUnits != 0) {
+                items.add(new StkPushCallback.CallbackItem("Amount", BigDecimal.valueOf(amountMinorUnits, 2)));
+            }
+            if (receiptNumber != null) {
+                items.add(new StkPushCallback.CallbackItem("MpesaReceiptNumber", receiptNumber));
+            }
+            if (transactionDate != 0) {
+                items.add(new StkPushCallback.CallbackItem("TransactionDate", transactionDate));
+            }
+            if (phoneNumber != 0) {
+                items.add(new StkPushCallback.CallbackItem("PhoneNumber", phoneNumber));
+            }
+            metadata = new StkPushCallback.CallbackMetadata(items);
+        }
+        return new StkPushCallback(new StkPushCallback.CallbackBody(new StkPushCallback.StkCallback(
+            merchantRequestId, checkoutRequestId, resultCode, resultDesc, metadata
+        )));
+    }
+
+    void setMerchantRequestId(String merchantRequestId) {
+        this.merchantRequestId = merchantRequestId;
+    }
+
+    void setCheckoutRequestId(String checkoutRequestId) {
+        this.checkoutRequestId = checkoutRequestId;
+    }
+
+    void setResultCode(int resultCode) {
+        this.resultCode = resultCode;
+    }
+
+    void setResultDesc(String resultDesc) {
+        this.resultDesc = resultDesc;
+    }
+
+    void setHasMetadata(boolean hasMetadata) {
+        this.hasMetadata = hasMetadata;
+    }
+
+    void setAmountMinorUnits(long amountMinorUnits) {
+        this.amountMinorUnits = amountMinorUnits;
+    }
+
+    void setReceiptNumber(String receiptNumber) {
+        this.receiptNumber = receiptNumber;
+    }
+
+    void setTransactionDate(long transactionDate) {
+        this.transactionDate = transactionDate;
+    }
+
+    void setPhoneNumber(long phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    @Override
+    public String toString() {
+        return "StkPushCallbackFields{" +
+               "merchantRequestId='" + merchantRequestId + '\'' +
+               ", checkoutRequestId='" + checkoutRequestId + '\'' +
+               ", resultCode=" + resultCode +
+               ", resultDesc='" + resultDesc + '\'' +
+               ", amountMinorUnits=" + amountMinorUnits +
+               ", receiptNumber='" + receiptNumber + '\'' +
+               ", transactionDate=" + transactionDate +
+               '}';
+    }
+}
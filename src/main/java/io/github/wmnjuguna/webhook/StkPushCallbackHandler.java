@@ -32,4 +32,19 @@ public interface StkPushCallbackHandler {
         // Default implementation does nothing
         // Override if you need to log or process all callbacks
     }
-}
\ No newline at end of file
+
+    /**
+     * Processes a callback: calls onCallbackReceived, then onPaymentSuccess or onPaymentFailure
+     * depending on the result code.
+     *
+     * @param callback the callback data from Safaricom
+     */
+    default void handle(StkPushCallback callback) {
+        onCallbackReceived(callback);
+        if (callback.isSuccessful()) {
+            onPaymentSuccess(callback);
+        } else {
+            onPaymentFailure(callback);
+        }
+    }
+}
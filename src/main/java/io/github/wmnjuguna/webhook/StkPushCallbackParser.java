@@ -0,0 +1,77 @@
+package io.github.wmnjuguna.webhook;
+
+import io.github.wmnjuguna.codec.DarajaJson;
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.jfr.DarajaCallbackParseEvent;
+import io.github.wmnjuguna.stkpush.StkPushCallback;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Deserializes STK Push callback bodies received from Safaricom.
+ *
+ * Uses the SDK's shared {@link DarajaJson} reader instead of a new ObjectMapper per request,
+ * which ignores fields it does not know so that additions to the callback format do not break
+ * payment processing. Each deserialization is recorded as a {@link DarajaCallbackParseEvent}
+ * when Flight Recorder has it enabled.
+ */
+public final class StkPushCallbackParser {
+
+    private static final ObjectReader READER = DarajaJson.reader(StkPushCallback.class);
+
+    private static final byte[] WARM_UP_CALLBACK = ("{\"Body\":{\"stkCallback\":{\"MerchantRequestID\":\"warm-up\","
+        + "\"CheckoutRequestID\":\"warm-up\",\"ResultCode\":0,\"ResultDesc\":\"warm-up\",\"CallbackMetadata\":"
+        + "{\"Item\":[{\"Name\":\"Amount\",\"Value\":1},{\"Name\":\"MpesaReceiptNumber\",\"Value\":\"warm-up\"}]}}}}")
+        .getBytes(StandardCharsets.UTF_8);
+
+    private StkPushCallbackParser() {}
+
+    /**
+     * Parses a sample callback, so that Jackson builds the callback deserializers before the
+     * first real callback arrives instead of while Safaricom waits for the response.
+     */
+    public static void warmUp() {
+        try {
+            READER.readValue(WARM_UP_CALLBACK);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to warm up STK Push callback parser", e);
+        }
+    }
+
+    /**
+     * Deserializes an STK Push callback body.
+     *
+     * @param body the raw request body
+     * @return the parsed callback
+     * @throws IllegalArgumentException if body is null
+     * @throws DarajaException          if the body is not a valid STK Push callback
+     */
+    public static StkPushCallback parse(byte[] body) {
+        if (body == null) {
+            throw new IllegalArgumentException("Callback body cannot be null");
+        }
+        DarajaCallbackParseEvent event = new DarajaCallbackParseEvent();
+        event.begin();
+        boolean success = false;
+        try {
+            StkPushCallback callback = READER.readValue(body);
+            if (callback == null || callback.body() == null || callback.body().stkCallback() == null) {
+                throw new DarajaException("STK Push callback has no stkCallback");
+            }
+            success = true;
+            return callback;
+        } catch (IOException e) {
+            throw new DarajaException("Failed to parse STK Push callback", e);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setType("STK_PUSH");
+                event.setBodyBytes(body.length);
+                event.setSuccess(success);
+                event.commit();
+            }
+        }
+    }
+}
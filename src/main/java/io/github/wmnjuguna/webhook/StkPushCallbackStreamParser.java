@@ -0,0 +1,364 @@
+package io.github.wmnjuguna.webhook;
+
+import io.github.wmnjuguna.codec.DarajaJson;
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.jfr.DarajaCallbackParseEvent;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Streaming parser for STK Push callback bodies.
+ *
+ * Reads the body token by token straight into a reusable {@link StkPushCallbackFields}, without
+ * building the StkPushCallback records, the item list or boxed item values. Item names are
+ * compared against the parser's character buffer and whole-number items are read as
+ * primitives, so the only allocations per callback are the parser and the strings kept.
+ * Unknown fields and items are skipped. Values are converted the same way as
+ * {@link io.github.wmnjuguna.stkpush.StkPushCallback.CallbackMetadata} converts them.
+ * ResultCode is required and must be an integer, or an integer string; a callback without a
+ * valid one is rejected, since 0 would read as a successful payment.
+ *
+ * Use it on hot ingestion paths; {@link StkPushCallbackParser} remains the simpler choice when
+ * handlers need the full record model.
+ */
+public final class StkPushCallbackStreamParser {
+
+    private static final JsonFactory JSON_FACTORY = DarajaJson.objectMapper().getFactory();
+
+    private StkPushCallbackStreamParser() {}
+
+    /**
+     * Parses an STK Push callback body.
+     *
+     * @param body   the raw request body
+     * @param fields the instance to fill; reset before parsing
+     * @return the filled fields
+     * @throws IllegalArgumentException if body or fields is null
+     * @throws DarajaException          if the body is not a valid STK Push callback
+     */
+    public static StkPushCallbackFields parse(byte[] body, StkPushCallbackFields fields) {
+        if (body == null) {
+            throw new IllegalArgumentException("Callback body cannot be null");
+        }
+        if (fields == null) {
+            throw new IllegalArgumentException("Callback fields cannot be null");
+        }
+        DarajaCallbackParseEvent event = new DarajaCallbackParseEvent();
+        event.begin();
+        boolean success = false;
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            read(parser, fields);
+            success = true;
+            return fields;
+        } catch (IOException e) {
+            throw new DarajaException("Failed to parse STK Push callback", e);
+        } finally {
+            commit(event, body.length, success);
+        }
+    }
+
+    /**
+     * Parses an STK Push callback body from a stream. The stream is not closed.
+     *
+     * @param body   the request body stream
+     * @param fields the instance to fill; reset before parsing
+     * @return the filled fields
+     * @throws IllegalArgumentException if body or fields is null
+     * @throws DarajaException          if the body cannot be read or is not a valid STK Push callback
+     */
+    public static StkPushCallbackFields parse(InputStream body, StkPushCallbackFields fields) {
+        if (body == null) {
+            throw new IllegalArgumentException("Callback body cannot be null");
+        }
+        if (fields == null) {
+            throw new IllegalArgumentException("Callback fields cannot be null");
+        }
+        DarajaCallbackParseEvent event = new DarajaCallbackParseEvent();
+        event.begin();
+        boolean success = false;
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            read(parser, fields);
+            success = true;
+            return fields;
+        } catch (IOException e) {
+            throw new DarajaException("Failed to parse STK Push callback", e);
+        } finally {
+            commit(event, -1, success);
+        }
+    }
+
+    private static void read(JsonParser parser, StkPushCallbackFields fields) throws IOException {
+        fields.reset();
+        expect(parser.nextToken(), JsonToken.START_OBJECT);
+        boolean found = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("Body".equals(name) && value == JsonToken.START_OBJECT) {
+                found |= readBody(parser, fields);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (!found) {
+            throw new DarajaException("STK Push callback has no stkCallback");
+        }
+    }
+
+    private static boolean readBody(JsonParser parser, StkPushCallbackFields fields) throws IOException {
+        boolean found = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("stkCallback".equals(name) && value == JsonToken.START_OBJECT) {
+                readStkCallback(parser, fields);
+                found = true;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return found;
+    }
+
+    private static void readStkCallback(JsonParser parser, StkPushCallbackFields fields) throws IOException {
+        boolean hasResultCode = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            // Field names are canonicalized by the parser, so currentName does not allocate
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (name) {
+                case "MerchantRequestID" -> fields.setMerchantRequestId(text(parser, value));
+                case "CheckoutRequestID" -> fields.setCheckoutRequestId(text(parser, value));
+                case "ResultCode" -> {
+                    fields.setResultCode(resultCode(parser, value));
+                    hasResultCode = true;
+                }
+                case "ResultDesc" -> fields.setResultDesc(text(parser, value));
+                case "CallbackMetadata" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        fields.setHasMetadata(true);
+                        readMetadata(parser, fields);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        // A missing ResultCode must not read as 0, which is a successful payment
+        if (!hasResultCode) {
+            throw new DarajaException("STK Push callback has no ResultCode");
+        }
+    }
+
+    private static void readMetadata(JsonParser parser, StkPushCallbackFields fields) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("Item".equals(name) && value == JsonToken.START_ARRAY) {
+                JsonToken element;
+                while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (element == null) {
+                        throw new DarajaException("STK Push callback ended inside CallbackMetadata");
+                    }
+                    if (element == JsonToken.START_OBJECT) {
+                        readItem(parser, fields);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Reads one {"Name": ..., "Value": ...} item. When Value comes before Name, its text is
+     * kept until the name is known; Safaricom sends Name first, so this is the rare path.
+     */
+    private static void readItem(JsonParser parser, StkPushCallbackFields fields) throws IOException {
+        Item item = null;
+        JsonToken pendingValue = null;
+        String pendingText = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("Name".equals(name)) {
+                item = value == JsonToken.VALUE_STRING ? Item.of(parser) : Item.UNKNOWN;
+                parser.skipChildren();
+                if (pendingValue != null) {
+                    apply(item, fields, pendingValue, pendingText);
+                }
+            } else if ("Value".equals(name) && item != null) {
+                apply(item, fields, parser, value);
+            } else if ("Value".equals(name) && value.isScalarValue()) {
+                pendingValue = value;
+                pendingText = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static void apply(Item item, StkPushCallbackFields fields, JsonParser parser, JsonToken value)
+            throws IOException {
+        switch (item) {
+            case AMOUNT -> fields.setAmountMinorUnits(value == JsonToken.VALUE_NUMBER_INT
+                ? toMinorUnits(parser.getLongValue())
+                : toMinorUnits(value, text(parser, value)));
+            case RECEIPT_NUMBER -> fields.setReceiptNumber(value == JsonToken.VALUE_STRING ? parser.getText() : skip(parser));
+            case TRANSACTION_DATE -> fields.setTransactionDate(number(parser, value));
+            case PHONE_NUMBER -> fields.setPhoneNumber(number(parser, value));
+            default -> parser.skipChildren();
+        }
+    }
+
+    private static void apply(Item item, StkPushCallbackFields fields, JsonToken value, String text) {
+        switch (item) {
+            case AMOUNT -> fields.setAmountMinorUnits(toMinorUnits(value, text));
+            case RECEIPT_NUMBER -> fields.setReceiptNumber(value == JsonToken.VALUE_STRING ? text : null);
+            case TRANSACTION_DATE -> fields.setTransactionDate(toLong(value, text));
+            case PHONE_NUMBER -> fields.setPhoneNumber(toLong(value, text));
+            default -> {
+            }
+        }
+    }
+
+    private static String text(JsonParser parser, JsonToken value) throws IOException {
+        return value.isScalarValue() && value != JsonToken.VALUE_NULL ? parser.getText() : skip(parser);
+    }
+
+    private static String skip(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * Reads ResultCode strictly, as the record parser does: an integer in int range, or one sent
+     * as a JSON string. Anything else is rejected rather than read as 0, which means success.
+     */
+    private static int resultCode(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT) {
+            return parser.getIntValue();
+        }
+        if (value == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.parseInt(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                // Rejected below
+            }
+        }
+        throw new DarajaException("STK Push callback has an invalid ResultCode");
+    }
+
+    /**
+     * Reads an integer value, accepting digits sent as a JSON string.
+     */
+    private static long number(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        return toLong(value, text(parser, value));
+    }
+
+    private static long toLong(JsonToken value, String text) {
+        if (value != JsonToken.VALUE_NUMBER_INT && value != JsonToken.VALUE_STRING) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static long toMinorUnits(long amount) {
+        try {
+            return Math.multiplyExact(amount, 100L);
+        } catch (ArithmeticException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Converts a fractional or textual amount the same way CallbackMetadata does, rounding half up.
+     */
+    private static long toMinorUnits(JsonToken value, String text) {
+        if (text == null || !(value.isNumeric() || value == JsonToken.VALUE_STRING)) {
+            return 0;
+        }
+        try {
+            return new BigDecimal(text.trim()).movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw new DarajaException("STK Push callback is not a JSON object");
+        }
+    }
+
+    private static void commit(DarajaCallbackParseEvent event, long bodyBytes, boolean success) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.setType("STK_PUSH");
+            event.setBodyBytes(bodyBytes);
+            event.setSuccess(success);
+            event.commit();
+        }
+    }
+
+    /**
+     * The metadata items read into fields, matched without allocating the item name.
+     */
+    private enum Item {
+        AMOUNT("Amount"),
+        RECEIPT_NUMBER("MpesaReceiptNumber"),
+        TRANSACTION_DATE("TransactionDate"),
+        PHONE_NUMBER("PhoneNumber"),
+        UNKNOWN("");
+
+        private static final Item[] KNOWN = {AMOUNT, RECEIPT_NUMBER, TRANSACTION_DATE, PHONE_NUMBER};
+
+        private final char[] name;
+
+        Item(String name) {
+            this.name = name.toCharArray();
+        }
+
+        static Item of(JsonParser parser) throws IOException {
+            char[] text = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            int length = parser.getTextLength();
+            for (Item item : KNOWN) {
+                if (item.matches(text, offset, length)) {
+                    return item;
+                }
+            }
+            return UNKNOWN;
+        }
+
+        private boolean matches(char[] text, int offset, int length) {
+            if (length != name.length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (text[offset + i] != name[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
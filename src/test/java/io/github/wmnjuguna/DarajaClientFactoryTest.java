@@ -1,5 +1,11 @@
 package io.github.wmnjuguna;
 
+import io.github.wmnjuguna.exception.DarajaRateLimitException;
+import io.github.wmnjuguna.ratelimit.RateLimitConfig;
+import io.github.wmnjuguna.ratelimit.RateLimitMode;
+import io.github.wmnjuguna.ratelimit.RateLimiterRegistry;
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import io.github.wmnjuguna.transport.ConnectionPoolConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -164,4 +170,118 @@ class DarajaClientFactoryTest {
         assertNotNull(sandboxFactory);
         assertNotNull(productionFactory);
     }
-}
\ No newline at end of file
+
+    @Test
+    void connectionPool_WithNullConfig_ShouldThrowException() {
+        DarajaClientFactory factory = new DarajaClientFactory(
+            DarajaEnvironment.SANDBOX,
+            "consumer_key",
+            "consumer_secret"
+        );
+
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> factory.connectionPool(null)
+        );
+
+        assertEquals("Connection pool configuration cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void createApiClient_WithConnectionPool_ShouldCreateClient() {
+        try (DarajaClientFactory factory = new DarajaClientFactory(
+            DarajaEnvironment.SANDBOX,
+            "consumer_key",
+            "consumer_secret"
+        ).connectionPool(ConnectionPoolConfig.defaults())) {
+
+            DarajaApiClient client = factory.createApiClient();
+
+            assertNotNull(client);
+            assertThrows(IllegalStateException.class,
+                () -> factory.connectionPool(ConnectionPoolConfig.defaults()));
+        }
+    }
+
+    @Test
+    void omitErrorStackTraces_AfterClientsCreated_ShouldThrowException() {
+        try (DarajaClientFactory factory = new DarajaClientFactory(
+            DarajaEnvironment.SANDBOX,
+            "consumer_key",
+            "consumer_secret"
+        ).omitErrorStackTraces()) {
+
+            assertNotNull(factory.createApiClient());
+            assertThrows(IllegalStateException.class, factory::omitErrorStackTraces);
+        }
+    }
+
+    @Test
+    void virtualThreads_ShouldCreateClientsAndExposeExecutor() {
+        try (DarajaClientFactory factory = new DarajaClientFactory(
+            DarajaEnvironment.SANDBOX,
+            "consumer_key",
+            "consumer_secret"
+        ).virtualThreads()) {
+
+            assertNotNull(factory.createApiClient());
+            assertNotNull(factory.createAsyncApiClient());
+            assertNotNull(factory.virtualThreadExecutor());
+        }
+    }
+
+    @Test
+    void virtualThreadExecutor_WithoutVirtualThreadMode_ShouldThrowException() {
+        DarajaClientFactory factory = new DarajaClientFactory(
+            DarajaEnvironment.SANDBOX,
+            "consumer_key",
+            "consumer_secret"
+        );
+
+        assertThrows(IllegalStateException.class, factory::virtualThreadExecutor);
+    }
+
+    @Test
+    void virtualThreads_WithConnectionPool_ShouldThrowException() {
+        DarajaClientFactory factory = new DarajaClientFactory(
+            DarajaEnvironment.SANDBOX,
+            "consumer_key",
+            "consumer_secret"
+        ).connectionPool(ConnectionPoolConfig.defaults());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, factory::virtualThreads);
+
+        assertEquals("Virtual-thread mode cannot be combined with a connection pool", exception.getMessage());
+    }
+
+    @Test
+    void createApiClient_WithExhaustedFailFastRateLimit_ShouldRejectBeforeSending() {
+        RateLimiterRegistry registry = RateLimiterRegistry.builder()
+            .limit(DarajaOperation.STK_PUSH, RateLimitConfig.builder()
+                .permitsPerSecond(0.01)
+                .mode(RateLimitMode.FAIL_FAST)
+                .build())
+            .build();
+        DarajaClientFactory factory = new DarajaClientFactory(
+            DarajaEnvironment.SANDBOX,
+            "consumer_key",
+            "consumer_secret"
+        ).rateLimits(registry);
+        DarajaApiClient client = factory.createApiClient();
+        assertTrue(registry.limiter(DarajaOperation.STK_PUSH).tryAcquire());
+
+        StkPushRequest request = StkPushRequest.builder()
+            .businessShortCode("174379")
+            .password("test_password")
+            .timestamp("20250915100000")
+            .amount(1)
+            .phoneNumber("254708374149")
+            .callBackURL("https://example.com/callback")
+            .accountReference("account")
+            .transactionDesc("description")
+            .build();
+
+        assertThrows(DarajaRateLimitException.class, () -> client.initiateStkPush(request));
+        assertThrows(IllegalStateException.class, () -> factory.rateLimits(registry));
+    }
+}
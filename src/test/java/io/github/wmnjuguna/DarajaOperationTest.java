@@ -0,0 +1,53 @@
+package io.github.wmnjuguna;
+
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DarajaOperationTest {
+
+    @Test
+    void fromPath_WithRelativePath_ShouldResolveOperation() {
+        assertEquals(DarajaOperation.STK_PUSH, DarajaOperation.fromPath("/mpesa/stkpush/v1/processrequest"));
+        assertEquals(DarajaOperation.B2C_PAYMENT, DarajaOperation.fromPath("/mpesa/b2c/v1/paymentrequest"));
+        assertEquals(DarajaOperation.B2B_PAYMENT, DarajaOperation.fromPath("/mpesa/b2b/v1/paymentrequest"));
+    }
+
+    @Test
+    void fromPath_WithAbsoluteUrlAndQuery_ShouldResolveOperation() {
+        assertEquals(DarajaOperation.TRANSACTION_STATUS,
+            DarajaOperation.fromPath("https://sandbox.safaricom.co.ke/mpesa/transactionstatus/v1/query?debug=true"));
+    }
+
+    @Test
+    void fromPath_WithUnknownPath_ShouldReturnNull() {
+        assertNull(DarajaOperation.fromPath("/oauth/v1/generate?grant_type=client_credentials"));
+        assertNull(DarajaOperation.fromPath(null));
+    }
+
+    @Test
+    void getPath_ShouldMatchEveryOperation() {
+        for (DarajaOperation operation : DarajaOperation.values()) {
+            assertEquals(operation, DarajaOperation.fromPath(operation.getPath()));
+        }
+    }
+
+    @Test
+    void fromMethod_ShouldResolveClientInterfaceMethods() throws NoSuchMethodException {
+        assertEquals(DarajaOperation.STK_PUSH,
+            DarajaOperation.fromMethod(DarajaApiClient.class.getMethod("initiateStkPush", StkPushRequest.class)));
+        assertEquals(DarajaOperation.STK_PUSH,
+            DarajaOperation.fromMethod(AsyncDarajaApiClient.class.getMethod("initiateStkPush", StkPushRequest.class)));
+        assertNull(DarajaOperation.fromMethod(Object.class.getMethod("toString")));
+    }
+
+    @Test
+    void isIdempotent_ShouldOnlyHoldForOperationsThatDoNotMoveMoney() {
+        assertTrue(DarajaOperation.TRANSACTION_STATUS.isIdempotent());
+        assertTrue(DarajaOperation.ACCOUNT_BALANCE.isIdempotent());
+        assertFalse(DarajaOperation.STK_PUSH.isIdempotent());
+        assertFalse(DarajaOperation.B2C_PAYMENT.isIdempotent());
+        assertFalse(DarajaOperation.REVERSAL.isIdempotent());
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.wmnjuguna.auth;
+
+import io.github.wmnjuguna.exception.DarajaAuthenticationException;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DarajaAuthInterceptorTest {
+
+    @Test
+    void apply_ShouldAddBearerTokenAndCacheIt() {
+        AtomicInteger calls = new AtomicInteger();
+        DarajaAuthClient authClient = credentials -> {
+            calls.incrementAndGet();
+            return new AuthResponse("token_" + calls.get(), "3600");
+        };
+        DarajaAuthInterceptor interceptor = new DarajaAuthInterceptor(authClient, "key", "secret");
+
+        RequestTemplate first = apiRequest();
+        RequestTemplate second = apiRequest();
+        interceptor.apply(first);
+        interceptor.apply(second);
+
+        assertEquals("Bearer token_1", first.headers().get("Authorization").iterator().next());
+        assertEquals("Bearer token_1", second.headers().get("Authorization").iterator().next());
+        assertEquals(1, calls.get());
+        assertEquals(1, interceptor.getRefreshStats().refreshCount());
+        assertEquals(0, interceptor.getRefreshStats().failureCount());
+    }
+
+    @Test
+    void apply_ToAuthEndpoint_ShouldNotAddToken() {
+        DarajaAuthInterceptor interceptor = new DarajaAuthInterceptor(
+            credentials -> fail("Token should not be requested"), "key", "secret"
+        );
+        RequestTemplate template = new RequestTemplate().uri("/oauth/v1/generate?grant_type=client_credentials");
+
+        interceptor.apply(template);
+
+        assertFalse(template.headers().containsKey("Authorization"));
+    }
+
+    @Test
+    void apply_WhenAuthClientFails_ShouldThrowAndCountFailure() {
+        DarajaAuthInterceptor interceptor = new DarajaAuthInterceptor(
+            credentials -> { throw new IllegalStateException("OAuth endpoint down"); }, "key", "secret"
+        );
+
+        assertThrows(DarajaAuthenticationException.class, () -> interceptor.apply(apiRequest()));
+
+        TokenRefreshStats stats = interceptor.getRefreshStats();
+        assertEquals(0, stats.refreshCount());
+        assertEquals(1, stats.failureCount());
+    }
+
+    @Test
+    void refreshAhead_ShouldRenewTokenInBackgroundBeforeExpiry() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        DarajaAuthClient authClient = credentials -> {
+            calls.incrementAndGet();
+            return new AuthResponse("token_" + calls.get(), "3");
+        };
+        TokenRefreshConfig config = TokenRefreshConfig.builder()
+            .leadTime(Duration.ofSeconds(2))
+            .jitter(Duration.ZERO)
+            .build();
+
+        try (DarajaAuthInterceptor interceptor = new DarajaAuthInterceptor(authClient, "key", "secret", config)) {
+            interceptor.apply(apiRequest());
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (interceptor.getRefreshStats().backgroundRefreshCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+
+            assertTrue(interceptor.getRefreshStats().backgroundRefreshCount() >= 1);
+
+            RequestTemplate template = apiRequest();
+            interceptor.apply(template);
+            assertNotEquals("Bearer token_1", template.headers().get("Authorization").iterator().next());
+        }
+    }
+
+    @Test
+    void refreshAhead_WithLeadTimeLongerThanTokenLifetime_ShouldNotRefreshInLoop() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        DarajaAuthClient authClient = credentials -> {
+            calls.incrementAndGet();
+            return new AuthResponse("token_" + calls.get(), "4");
+        };
+        TokenRefreshConfig config = TokenRefreshConfig.builder()
+            .leadTime(Duration.ofHours(1))
+            .jitter(Duration.ofMinutes(1))
+            .build();
+
+        try (DarajaAuthInterceptor interceptor = new DarajaAuthInterceptor(authClient, "key", "secret", config)) {
+            interceptor.apply(apiRequest());
+            Thread.sleep(900);
+
+            assertEquals(1, calls.get());
+            assertEquals(0, interceptor.getRefreshStats().backgroundRefreshCount());
+        }
+    }
+
+    @Test
+    void refreshAhead_WithTokenInsideLazyBuffer_ShouldNotBlockOnRefresh() {
+        AtomicInteger calls = new AtomicInteger();
+        // Token expires in 30s: inside the lazy 60s buffer but not expired
+        DarajaAuthClient authClient = credentials -> {
+            calls.incrementAndGet();
+            return new AuthResponse("token", "30");
+        };
+        TokenRefreshConfig config = TokenRefreshConfig.builder()
+            .leadTime(Duration.ofSeconds(10))
+            .jitter(Duration.ZERO)
+            .build();
+
+        try (DarajaAuthInterceptor interceptor = new DarajaAuthInterceptor(authClient, "key", "secret", config)) {
+            interceptor.apply(apiRequest());
+            interceptor.apply(apiRequest());
+            interceptor.apply(apiRequest());
+
+            assertEquals(1, calls.get());
+        }
+    }
+
+    @Test
+    void clearCache_ShouldForceRefreshOnNextRequest() {
+        AtomicInteger calls = new AtomicInteger();
+        DarajaAuthInterceptor interceptor = new DarajaAuthInterceptor(credentials -> {
+            calls.incrementAndGet();
+            return new AuthResponse("token", "3600");
+        }, "key", "secret");
+
+        interceptor.apply(apiRequest());
+        interceptor.clearCache();
+        interceptor.apply(apiRequest());
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void clearCache_WithSharedStore_ShouldKeepStoredTokenForOtherInterceptors() {
+        AtomicInteger calls = new AtomicInteger();
+        DarajaAuthClient authClient = credentials -> new AuthResponse("token_" + calls.incrementAndGet(), "3600");
+        InMemoryTokenStore store = new InMemoryTokenStore();
+        DarajaAuthInterceptor interceptor = new DarajaAuthInterceptor(authClient, "key", "secret", null, store);
+
+        interceptor.apply(apiRequest());
+        interceptor.clearCache();
+        RequestTemplate other = apiRequest();
+        new DarajaAuthInterceptor(authClient, "key", "secret", null, store).apply(other);
+
+        assertEquals(1, calls.get());
+        assertEquals("Bearer token_1", other.headers().get("Authorization").iterator().next());
+
+        RequestTemplate refreshed = apiRequest();
+        interceptor.apply(refreshed);
+
+        assertEquals(2, calls.get());
+        assertEquals("Bearer token_2", refreshed.headers().get("Authorization").iterator().next());
+    }
+
+    @Test
+    void getAccessTokenAsync_ShouldShareOneRefreshBetweenConcurrentCallers() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        DarajaAuthClient authClient = credentials -> {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new AuthResponse("token_" + calls.get(), "3600");
+        };
+        DarajaAuthInterceptor interceptor = new DarajaAuthInterceptor(authClient, "key", "secret");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<String> first = interceptor.getAccessTokenAsync(executor);
+            CompletableFuture<String> second = interceptor.getAccessTokenAsync(executor);
+
+            assertFalse(first.isDone());
+            assertSame(first, second);
+
+            release.countDown();
+            assertEquals("token_1", first.join());
+        }
+
+        CompletableFuture<String> cached = interceptor.getAccessTokenAsync(
+            command -> fail("Cached token should not need the executor")
+        );
+        assertTrue(cached.isDone());
+        assertEquals("token_1", cached.join());
+        assertEquals(1, calls.get());
+    }
+
+    private static RequestTemplate apiRequest() {
+        return new RequestTemplate().uri("/mpesa/stkpush/v1/processrequest");
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.wmnjuguna.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTokenStoreTest {
+
+    private final InMemoryTokenStore store = new InMemoryTokenStore();
+
+    @Test
+    void load_WithNoToken_ShouldReturnNull() {
+        assertNull(store.load("key"));
+    }
+
+    @Test
+    void save_ShouldReplaceStoredToken() {
+        store.save("key", new StoredToken("first", 1000L));
+        store.save("key", new StoredToken("second", 2000L));
+
+        assertEquals(new StoredToken("second", 2000L), store.load("key"));
+    }
+
+    @Test
+    void tryAcquireRefreshLease_ShouldBeExclusiveUntilReleased() {
+        assertTrue(store.tryAcquireRefreshLease("key", "node-a", Duration.ofSeconds(30)));
+        assertTrue(store.tryAcquireRefreshLease("key", "node-a", Duration.ofSeconds(30)));
+        assertFalse(store.tryAcquireRefreshLease("key", "node-b", Duration.ofSeconds(30)));
+
+        store.releaseRefreshLease("key", "node-b");
+        assertFalse(store.tryAcquireRefreshLease("key", "node-b", Duration.ofSeconds(30)));
+
+        store.releaseRefreshLease("key", "node-a");
+        assertTrue(store.tryAcquireRefreshLease("key", "node-b", Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void tryAcquireRefreshLease_WithExpiredLease_ShouldSucceed() throws InterruptedException {
+        assertTrue(store.tryAcquireRefreshLease("key", "node-a", Duration.ofMillis(10)));
+        Thread.sleep(20);
+
+        assertTrue(store.tryAcquireRefreshLease("key", "node-b", Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void storedToken_isUsable_ShouldRespectBuffer() {
+        long now = System.currentTimeMillis();
+
+        assertTrue(new StoredToken("token", now + 120_000).isUsable(60_000));
+        assertFalse(new StoredToken("token", now + 30_000).isUsable(60_000));
+        assertFalse(new StoredToken(null, now + 120_000).isUsable(0));
+    }
+}
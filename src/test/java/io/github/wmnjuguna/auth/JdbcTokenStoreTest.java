@@ -0,0 +1,97 @@
+package io.github.wmnjuguna.auth;
+
+import feign.RequestTemplate;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcTokenStoreTest {
+
+    private JdbcTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        store = new JdbcTokenStore(dataSource);
+        store.initializeSchema();
+    }
+
+    @Test
+    void constructor_WithInvalidArguments_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new JdbcTokenStore(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new JdbcTokenStore(new JdbcDataSource(), "tokens; DROP TABLE users"));
+    }
+
+    @Test
+    void initializeSchema_CalledTwice_ShouldNotFail() {
+        assertDoesNotThrow(() -> store.initializeSchema());
+    }
+
+    @Test
+    void saveAndLoad_ShouldRoundTripToken() {
+        assertNull(store.load("key"));
+
+        store.save("key", new StoredToken("token", 1234L));
+        store.save("key", new StoredToken("token_2", 5678L));
+
+        assertEquals(new StoredToken("token_2", 5678L), store.load("key"));
+    }
+
+    @Test
+    void tryAcquireRefreshLease_ShouldAllowOnlyOneOwner() {
+        assertTrue(store.tryAcquireRefreshLease("key", "node-a", Duration.ofSeconds(30)));
+        assertFalse(store.tryAcquireRefreshLease("key", "node-b", Duration.ofSeconds(30)));
+        assertTrue(store.tryAcquireRefreshLease("key", "node-a", Duration.ofSeconds(30)));
+
+        store.releaseRefreshLease("key", "node-a");
+
+        assertTrue(store.tryAcquireRefreshLease("key", "node-b", Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void tryAcquireRefreshLease_WithExpiredLease_ShouldAllowTakeover() throws InterruptedException {
+        assertTrue(store.tryAcquireRefreshLease("key", "node-a", Duration.ofMillis(10)));
+        Thread.sleep(20);
+
+        assertTrue(store.tryAcquireRefreshLease("key", "node-b", Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void tryAcquireRefreshLease_ShouldNotDisturbStoredToken() {
+        store.save("key", new StoredToken("token", 1234L));
+
+        store.tryAcquireRefreshLease("key", "node-a", Duration.ofSeconds(30));
+        store.releaseRefreshLease("key", "node-a");
+
+        assertEquals(new StoredToken("token", 1234L), store.load("key"));
+    }
+
+    @Test
+    void interceptorsSharingStore_ShouldRequestTokenOnlyOnce() {
+        AtomicInteger oauthCalls = new AtomicInteger();
+        DarajaAuthClient authClient = credentials -> {
+            oauthCalls.incrementAndGet();
+            return new AuthResponse("shared_token", "3600");
+        };
+
+        // Two interceptors stand in for two nodes pointing at the same database
+        DarajaAuthInterceptor nodeA = new DarajaAuthInterceptor(authClient, "key", "secret", null, store);
+        DarajaAuthInterceptor nodeB = new DarajaAuthInterceptor(authClient, "key", "secret", null, store);
+
+        RequestTemplate templateA = new RequestTemplate().uri("/mpesa/stkpush/v1/processrequest");
+        RequestTemplate templateB = new RequestTemplate().uri("/mpesa/stkpush/v1/processrequest");
+        nodeA.apply(templateA);
+        nodeB.apply(templateB);
+
+        assertEquals(1, oauthCalls.get());
+        assertEquals("Bearer shared_token", templateB.headers().get("Authorization").iterator().next());
+    }
+}
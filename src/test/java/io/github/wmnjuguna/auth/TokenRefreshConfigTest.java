@@ -0,0 +1,37 @@
+package io.github.wmnjuguna.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRefreshConfigTest {
+
+    @Test
+    void defaults_ShouldRefreshFiveMinutesAhead() {
+        TokenRefreshConfig config = TokenRefreshConfig.defaults();
+
+        assertEquals(Duration.ofMinutes(5), config.getLeadTime());
+        assertEquals(Duration.ofSeconds(30), config.getJitter());
+        assertEquals(Duration.ofSeconds(10), config.getRetryDelay());
+    }
+
+    @Test
+    void builder_WithInvalidValues_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> TokenRefreshConfig.builder().leadTime(null));
+        assertThrows(IllegalArgumentException.class, () -> TokenRefreshConfig.builder().jitter(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> TokenRefreshConfig.builder().retryDelay(Duration.ZERO));
+    }
+
+    @Test
+    void averageRefreshLatency_ShouldDivideTotalByAttempts() {
+        TokenRefreshStats stats = new TokenRefreshStats(
+            3, 1, 1, Duration.ofMillis(100), Duration.ofMillis(300), Duration.ofMillis(800)
+        );
+
+        assertEquals(Duration.ofMillis(200), stats.averageRefreshLatency());
+        assertEquals(Duration.ZERO,
+            new TokenRefreshStats(0, 0, 0, Duration.ZERO, Duration.ZERO, Duration.ZERO).averageRefreshLatency());
+    }
+}
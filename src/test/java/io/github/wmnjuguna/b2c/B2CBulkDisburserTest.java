@@ -0,0 +1,121 @@
+package io.github.wmnjuguna.b2c;
+
+import io.github.wmnjuguna.DarajaApiClient;
+import io.github.wmnjuguna.exception.DarajaApiException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class B2CBulkDisburserTest {
+
+    @Test
+    void disburse_ShouldAggregateAcceptedRejectedAndFailedPayments() throws InterruptedException {
+        DarajaApiClient client = mock(DarajaApiClient.class);
+        when(client.b2cPayment(any())).thenAnswer(invocation -> {
+            B2CRequest request = invocation.getArgument(0);
+            return switch (request.remarks()) {
+                case "reject" -> new B2CResponse("c", "o", "1", "Rejected");
+                case "fail" -> throw new DarajaApiException("Service unavailable", "{}", "503.001", 503);
+                default -> new B2CResponse("c", "o", "0", "Accepted");
+            };
+        });
+        B2CBulkDisburser disburser = B2CBulkDisburser.builder()
+            .client(client)
+            .parallelism(4)
+            .build();
+        CopyOnWriteArrayList<B2CRequest> failedRequests = new CopyOnWriteArrayList<>();
+
+        DisbursementReport report = disburser.disburse(
+            Stream.of(request("100", "ok"), request("250", "ok"), request("10", "reject"), request("10", "fail")),
+            new DisbursementListener() {
+                @Override
+                public void onFailed(B2CRequest request, Throwable error) {
+                    failedRequests.add(request);
+                }
+            }
+        );
+
+        assertEquals(4, report.submitted());
+        assertEquals(2, report.accepted());
+        assertEquals(1, report.rejected());
+        assertEquals(1, report.failed());
+        assertEquals(new BigDecimal("350"), report.acceptedAmount());
+        assertEquals(2, report.failureSample().size());
+        assertTrue(report.failureSample().stream().anyMatch(failure -> "503.001".equals(failure.errorCode())));
+        assertEquals(1, failedRequests.size());
+    }
+
+    @Test
+    void disburse_ShouldNotExceedParallelism() throws InterruptedException {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        DarajaApiClient client = mock(DarajaApiClient.class);
+        when(client.b2cPayment(any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return new B2CResponse("c", "o", "0", "Accepted");
+        });
+        B2CBulkDisburser disburser = B2CBulkDisburser.builder()
+            .client(client)
+            .parallelism(3)
+            .build();
+
+        DisbursementReport report = disburser.disburse(IntStream.range(0, 50).mapToObj(i -> request("1", "ok")));
+
+        assertEquals(50, report.accepted());
+        assertTrue(maxInFlight.get() <= 3, "Max in flight was " + maxInFlight.get());
+    }
+
+    @Test
+    void disburse_WithRateCap_ShouldSpreadSubmissions() throws InterruptedException {
+        DarajaApiClient client = mock(DarajaApiClient.class);
+        when(client.b2cPayment(any())).thenReturn(new B2CResponse("c", "o", "0", "Accepted"));
+        B2CBulkDisburser disburser = B2CBulkDisburser.builder()
+            .client(client)
+            .parallelism(10)
+            .maxRequestsPerSecond(50)
+            .build();
+
+        DisbursementReport report = disburser.disburse(IntStream.range(0, 11).mapToObj(i -> request("1", "ok")));
+
+        assertEquals(11, report.accepted());
+        assertTrue(report.elapsed().toMillis() >= 180, "Elapsed " + report.elapsed());
+    }
+
+    @Test
+    void disburse_ShouldBoundFailureSample() throws InterruptedException {
+        DarajaApiClient client = mock(DarajaApiClient.class);
+        when(client.b2cPayment(any())).thenReturn(new B2CResponse("c", "o", "1", "Rejected"));
+        B2CBulkDisburser disburser = B2CBulkDisburser.builder()
+            .client(client)
+            .maxRecordedFailures(5)
+            .build();
+
+        DisbursementReport report = disburser.disburse(IntStream.range(0, 20).mapToObj(i -> request("1", "reject")));
+
+        assertEquals(20, report.rejected());
+        assertEquals(5, report.failureSample().size());
+    }
+
+    @Test
+    void build_WithoutClient_ShouldThrowException() {
+        assertThrows(IllegalStateException.class, () -> B2CBulkDisburser.builder().build());
+    }
+
+    private static B2CRequest request(String amount, String remarks) {
+        return new B2CRequest(
+            "testuser", "credential", "BusinessPayment", amount, "600988", "254708374149",
+            remarks, "https://example.com/timeout", "https://example.com/result", "occasion"
+        );
+    }
+}
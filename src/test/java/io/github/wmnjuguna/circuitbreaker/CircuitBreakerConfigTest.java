@@ -0,0 +1,63 @@
+package io.github.wmnjuguna.circuitbreaker;
+
+import io.github.wmnjuguna.exception.DarajaApiException;
+import io.github.wmnjuguna.exception.DarajaAuthenticationException;
+import io.github.wmnjuguna.exception.DarajaCircuitOpenException;
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.exception.DarajaRateLimitException;
+import io.github.wmnjuguna.exception.InvalidDarajaRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerConfigTest {
+
+    @Test
+    void defaults_ShouldProvideDefaultSettings() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.defaults();
+
+        assertEquals(50, config.getFailureRateThreshold());
+        assertEquals(100, config.getSlowCallRateThreshold());
+        assertEquals(Duration.ofSeconds(10), config.getSlowCallDuration());
+        assertEquals(20, config.getSlidingWindowSize());
+        assertEquals(10, config.getMinimumNumberOfCalls());
+        assertEquals(Duration.ofSeconds(30), config.getWaitDurationInOpenState());
+        assertEquals(3, config.getPermittedCallsInHalfOpenState());
+    }
+
+    @Test
+    void builder_WithInvalidValues_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.builder().failureRateThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.builder().slowCallRateThreshold(101));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.builder().slowCallDuration(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.builder().slidingWindowSize(0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.builder().minimumNumberOfCalls(-1));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.builder().waitDurationInOpenState(null));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.builder().permittedCallsInHalfOpenState(0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreakerConfig.builder().recordFailure(null));
+    }
+
+    @Test
+    void build_WithMinimumCallsAboveWindowSize_ShouldThrowException() {
+        assertThrows(IllegalStateException.class, () -> CircuitBreakerConfig.builder()
+            .slidingWindowSize(5)
+            .minimumNumberOfCalls(6)
+            .build());
+    }
+
+    @Test
+    void isEndpointFailure_ShouldOnlyCountServerSideFailures() {
+        assertTrue(CircuitBreakerConfig.isEndpointFailure(new DarajaApiException("Unavailable", "{}", "503.001", 503)));
+        assertTrue(CircuitBreakerConfig.isEndpointFailure(new DarajaException("Connection reset", new IOException())));
+        assertTrue(CircuitBreakerConfig.isEndpointFailure(new IllegalStateException()));
+
+        assertFalse(CircuitBreakerConfig.isEndpointFailure(new DarajaApiException("Conflict", "{}", "409.001", 409)));
+        assertFalse(CircuitBreakerConfig.isEndpointFailure(new InvalidDarajaRequestException("Bad request", "400.002.02", 400)));
+        assertFalse(CircuitBreakerConfig.isEndpointFailure(new DarajaAuthenticationException("Unauthorized", "404.001.03", 401)));
+        assertFalse(CircuitBreakerConfig.isEndpointFailure(new DarajaRateLimitException("Throttled")));
+        assertFalse(CircuitBreakerConfig.isEndpointFailure(new DarajaCircuitOpenException("Open")));
+    }
+}
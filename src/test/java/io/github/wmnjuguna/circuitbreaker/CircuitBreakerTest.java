@@ -0,0 +1,153 @@
+package io.github.wmnjuguna.circuitbreaker;
+
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.exception.DarajaApiException;
+import io.github.wmnjuguna.exception.InvalidDarajaRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final DarajaApiException SERVER_ERROR = new DarajaApiException("Unavailable", "{}", "503.001", 503);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final List<String> transitions = new ArrayList<>();
+
+    @Test
+    void onResult_BelowMinimumNumberOfCalls_ShouldStayClosed() {
+        CircuitBreaker circuitBreaker = circuitBreaker(config().build());
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            circuitBreaker.onResult(FAST, SERVER_ERROR);
+        }
+
+        assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+        assertEquals(-1, circuitBreaker.getMetrics().failureRate());
+    }
+
+    @Test
+    void onResult_WhenFailureRateReachesThreshold_ShouldOpenAndRejectCalls() {
+        CircuitBreaker circuitBreaker = circuitBreaker(config().build());
+
+        record(circuitBreaker, 2, null);
+        record(circuitBreaker, 2, SERVER_ERROR);
+
+        assertEquals(CircuitState.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(1, circuitBreaker.getMetrics().notPermittedCalls());
+        assertEquals(List.of("CLOSED->OPEN"), transitions);
+    }
+
+    @Test
+    void onResult_WithIgnoredExceptions_ShouldNotRecordThem() {
+        CircuitBreaker circuitBreaker = circuitBreaker(config().build());
+
+        record(circuitBreaker, 10, new InvalidDarajaRequestException("Bad request", "400.002.02", 400));
+
+        CircuitBreakerMetrics metrics = circuitBreaker.getMetrics();
+        assertEquals(CircuitState.CLOSED, metrics.state());
+        assertEquals(0, metrics.bufferedCalls());
+    }
+
+    @Test
+    void onResult_WhenSlowCallRateReachesThreshold_ShouldOpen() {
+        CircuitBreaker circuitBreaker = circuitBreaker(config()
+            .slowCallRateThreshold(50)
+            .slowCallDuration(Duration.ofMillis(100))
+            .build());
+
+        record(circuitBreaker, 2, null);
+        for (int i = 0; i < 2; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            circuitBreaker.onResult(TimeUnit.MILLISECONDS.toNanos(150), null);
+        }
+
+        assertEquals(CircuitState.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void onResult_ShouldOnlyCountCallsInSlidingWindow() {
+        CircuitBreaker circuitBreaker = circuitBreaker(config().failureRateThreshold(75).build());
+
+        record(circuitBreaker, 2, SERVER_ERROR);
+        record(circuitBreaker, 4, null);
+        record(circuitBreaker, 2, SERVER_ERROR);
+
+        CircuitBreakerMetrics metrics = circuitBreaker.getMetrics();
+        assertEquals(CircuitState.CLOSED, metrics.state());
+        assertEquals(4, metrics.bufferedCalls());
+        assertEquals(2, metrics.failedCalls());
+        assertEquals(50, metrics.failureRate());
+    }
+
+    @Test
+    void tryAcquirePermission_AfterWaitDuration_ShouldPermitLimitedTrialCallsAndClose() throws InterruptedException {
+        CircuitBreaker circuitBreaker = circuitBreaker(config().build());
+        record(circuitBreaker, 4, SERVER_ERROR);
+
+        TimeUnit.MILLISECONDS.sleep(60);
+
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(CircuitState.HALF_OPEN, circuitBreaker.getState());
+
+        circuitBreaker.onResult(FAST, null);
+        circuitBreaker.onResult(FAST, null);
+
+        assertEquals(CircuitState.CLOSED, circuitBreaker.getState());
+        assertEquals(0, circuitBreaker.getMetrics().bufferedCalls());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+    }
+
+    @Test
+    void onResult_WhenTrialCallsFail_ShouldReopen() throws InterruptedException {
+        CircuitBreaker circuitBreaker = circuitBreaker(config().build());
+        record(circuitBreaker, 4, SERVER_ERROR);
+
+        TimeUnit.MILLISECONDS.sleep(60);
+        record(circuitBreaker, 2, SERVER_ERROR);
+
+        assertEquals(CircuitState.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+    }
+
+    @Test
+    void registry_ShouldCreateIndependentBreakerPerOperation() {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.builder()
+            .defaultConfig(config().build())
+            .build();
+
+        record(registry.circuitBreaker(DarajaOperation.B2C_PAYMENT), 4, SERVER_ERROR);
+
+        assertEquals(CircuitState.OPEN, registry.metrics().get(DarajaOperation.B2C_PAYMENT).state());
+        assertEquals(CircuitState.CLOSED, registry.metrics().get(DarajaOperation.STK_PUSH).state());
+    }
+
+    private CircuitBreaker circuitBreaker(CircuitBreakerConfig config) {
+        CircuitBreakerListener listener = (operation, from, to) -> transitions.add(from + "->" + to);
+        return new CircuitBreaker(DarajaOperation.STK_PUSH, config, List.of(listener));
+    }
+
+    private static CircuitBreakerConfig.Builder config() {
+        return CircuitBreakerConfig.builder()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .waitDurationInOpenState(Duration.ofMillis(50))
+            .permittedCallsInHalfOpenState(2);
+    }
+
+    private static void record(CircuitBreaker circuitBreaker, int calls, Exception error) {
+        for (int i = 0; i < calls; i++) {
+            assertTrue(circuitBreaker.tryAcquirePermission());
+            circuitBreaker.onResult(FAST, error);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.wmnjuguna.codec;
+
+import io.github.wmnjuguna.c2b.C2BRegisterUrlRequest;
+import io.github.wmnjuguna.stkpush.StkPushResponse;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DarajaJsonTest {
+
+    private static final String RESPONSE = "{\"MerchantRequestID\":\"m\",\"CheckoutRequestID\":\"c\",\"ResponseCode\":\"0\","
+        + "\"ResponseDescription\":\"Success\",\"CustomerMessage\":\"Success\",\"NewField\":{\"a\":1}}";
+
+    @Test
+    void readerAndWriter_ShouldBeCachedPerType() {
+        assertSame(DarajaJson.reader(StkPushResponse.class), DarajaJson.reader(StkPushResponse.class));
+        assertSame(DarajaJson.writer(StkPushResponse.class), DarajaJson.writer(StkPushResponse.class));
+        assertThrows(IllegalArgumentException.class, () -> DarajaJson.reader(null));
+        assertThrows(IllegalArgumentException.class, () -> DarajaJson.writer(null));
+    }
+
+    @Test
+    void reader_WithUnknownFields_ShouldIgnoreThem() throws IOException {
+        StkPushResponse response = DarajaJson.reader(StkPushResponse.class).readValue(RESPONSE);
+
+        assertEquals("c", response.checkoutRequestID());
+        assertTrue(response.isSuccessful());
+    }
+
+    @Test
+    void encode_ShouldOmitNullFields() {
+        RequestTemplate template = new RequestTemplate();
+
+        new DarajaJsonEncoder().encode(new C2BRegisterUrlRequest("600000", "Completed", null, null),
+            C2BRegisterUrlRequest.class, template);
+
+        assertEquals("{\"ShortCode\":\"600000\",\"ResponseType\":\"Completed\"}",
+            new String(template.body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void encode_WithBodyLargerThanGeneratorBuffer_ShouldWriteWholeBody() throws IOException {
+        StkPushResponse response = new StkPushResponse("m", "c", "0", "x".repeat(20_000), "y".repeat(20_000));
+        RequestTemplate template = new RequestTemplate();
+
+        new DarajaJsonEncoder().encode(response, StkPushResponse.class, template);
+
+        assertEquals(DarajaJson.objectMapper().writeValueAsString(response), new String(template.body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void decode_ShouldReadRecord() throws IOException {
+        Object decoded = new DarajaJsonDecoder().decode(response(200, RESPONSE), StkPushResponse.class);
+
+        assertEquals("m", assertInstanceOf(StkPushResponse.class, decoded).merchantRequestID());
+    }
+
+    @Test
+    void decode_WithEmptyBody_ShouldReturnNull() throws IOException {
+        assertNull(new DarajaJsonDecoder().decode(response(200, ""), StkPushResponse.class));
+        assertNull(new DarajaJsonDecoder().decode(response(200, " \n"), StkPushResponse.class));
+        assertNull(new DarajaJsonDecoder().decode(response(204, ""), StkPushResponse.class));
+    }
+
+    private static Response response(int status, String body) {
+        Request request = Request.create(Request.HttpMethod.POST, "http://example.com", Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+            .status(status)
+            .reason("Test Reason")
+            .request(request)
+            .headers(Collections.emptyMap())
+            .body(body, StandardCharsets.UTF_8)
+            .build();
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.wmnjuguna.codec;
+
+import io.github.wmnjuguna.auth.AuthResponse;
+import io.github.wmnjuguna.b2b.B2BRequest;
+import io.github.wmnjuguna.b2c.B2CRequest;
+import io.github.wmnjuguna.reversal.ReversalRequest;
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import io.github.wmnjuguna.stkpush.StkPushResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneratedJsonCodecTest {
+
+    // Reflection-based mapper with the same settings, as the reference for the generated codecs
+    private final ObjectMapper reflective = new ObjectMapper()
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    @SuppressWarnings("rawtypes")
+    void serviceLoader_ShouldFindGeneratedCodecs() {
+        Set<Class<?>> types = new HashSet<>();
+        for (JsonCodec codec : ServiceLoader.load(JsonCodec.class)) {
+            types.add(codec.type());
+        }
+
+        assertTrue(types.contains(StkPushRequest.class));
+        assertTrue(types.contains(StkPushResponse.class));
+        assertTrue(types.contains(B2CRequest.class));
+        assertTrue(types.contains(AuthResponse.class));
+    }
+
+    @Test
+    void write_ShouldMatchReflectiveSerialization() throws IOException {
+        Object[] requests = {
+            StkPushRequest.builder()
+                .businessShortCode("174379")
+                .password("password")
+                .timestamp("20250915100000")
+                .amount(1)
+                .phoneNumber("254708374149")
+                .callBackURL("https://example.com/callback")
+                .accountReference("account \"quoted\" é")
+                .transactionDesc("description")
+                .build(),
+            new B2CRequest("initiator", "credential", "BusinessPayment", "10", "600000", "254708374149",
+                null, "https://example.com/timeout", "https://example.com/result", null),
+            new B2BRequest("initiator", "credential", "BusinessPayBill", "4", "4", "10", "600000", "600001",
+                "remarks", "https://example.com/timeout", "https://example.com/result", "account"),
+            new ReversalRequest("initiator", "credential", "TransactionReversal", "NLJ7RT61SV", "10", "600000",
+                "11", "https://example.com/result", "https://example.com/timeout", "remarks", null)
+        };
+
+        for (Object request : requests) {
+            assertEquals(reflective.writeValueAsString(request), DarajaJson.objectMapper().writeValueAsString(request),
+                request.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void read_ShouldMatchReflectiveDeserialization() throws IOException {
+        String json = "{\"MerchantRequestID\":\"m\",\"Extra\":{\"a\":[1,{\"b\":null}]},\"CheckoutRequestID\":\"c\","
+            + "\"ResponseCode\":0,\"ResponseDescription\":null,\"CustomerMessage\":\"Success\"}";
+
+        StkPushResponse response = DarajaJson.reader(StkPushResponse.class).readValue(json);
+
+        assertEquals(reflective.readValue(json, StkPushResponse.class), response);
+        assertEquals("0", response.responseCode());
+    }
+
+    @Test
+    void read_WithObjectForStringProperty_ShouldThrowMismatchedInputException() {
+        assertThrows(MismatchedInputException.class,
+            () -> DarajaJson.reader(AuthResponse.class).readValue("{\"access_token\":{\"a\":1}}"));
+        assertThrows(MismatchedInputException.class,
+            () -> DarajaJson.reader(AuthResponse.class).readValue("[\"token\"]"));
+    }
+
+    @Test
+    void readInt_WithWholeNumbers_ShouldAcceptThem() throws IOException {
+        for (String value : new String[] {"42", "42.0", "4.2e1", "\"42\"", "\" 42.00 \""}) {
+            assertEquals(42, readInt(value), value);
+        }
+        assertEquals(0, readInt("null"));
+    }
+
+    @Test
+    void readInt_WithFractionOrOutOfRange_ShouldThrowMismatchedInputException() {
+        for (String value : new String[] {"42.5", "\"42.5\"", "2147483648", "\"2147483648\"", "1e10", "\"abc\"", "true"}) {
+            assertThrows(MismatchedInputException.class, () -> readInt(value), value);
+        }
+    }
+
+    @Test
+    void readLong_WithOutOfRangeValue_ShouldThrowMismatchedInputException() throws IOException {
+        assertEquals(Long.MAX_VALUE, readLong("9223372036854775807"));
+        assertEquals(4294967296L, readLong("4294967296.0"));
+
+        for (String value : new String[] {"9223372036854775808", "\"9223372036854775808\"", "1e19", "0.5"}) {
+            assertThrows(MismatchedInputException.class, () -> readLong(value), value);
+        }
+    }
+
+    private int readInt(String value) throws IOException {
+        try (JsonParser parser = valueParser(value)) {
+            return JsonCodecSupport.readInt(parser, StkPushRequest.class);
+        }
+    }
+
+    private long readLong(String value) throws IOException {
+        try (JsonParser parser = valueParser(value)) {
+            return JsonCodecSupport.readLong(parser, StkPushRequest.class);
+        }
+    }
+
+    private JsonParser valueParser(String value) throws IOException {
+        JsonParser parser = reflective.createParser("{\"Amount\":" + value + "}");
+        parser.nextToken();
+        parser.nextToken();
+        parser.nextToken();
+        return parser;
+    }
+}
@@ -239,6 +239,81 @@ class DarajaErrorDecoderTest {
         assertFalse(exception.getMessage().contains("Secondary error"));
     }
 
+    @Test
+    void decode_WithPreferredFieldsLast_ShouldStillPreferThem() {
+        Response response = createResponse(400,
+            "{\"message\": \"Secondary error\", \"details\": {\"errorCode\": \"nested\"}, "
+                + "\"code\": 7, \"errorMessage\": \"Primary error\", \"errorCode\": \"400.002.02\"}");
+
+        Exception exception = errorDecoder.decode("testMethod", response);
+
+        assertEquals("Bad Request: Primary error", exception.getMessage());
+        assertEquals("400.002.02", ((DarajaException) exception).getErrorCode());
+    }
+
+    @Test
+    void decode_WithBlankPreferredMessage_ShouldUseNextMessageField() {
+        Response response = createResponse(400, "{\"errorMessage\": \"  \", \"error\": null, \"reason\": \"Declined\"}");
+
+        Exception exception = errorDecoder.decode("testMethod", response);
+
+        assertEquals("Bad Request: Declined", exception.getMessage());
+    }
+
+    @Test
+    void decode_WithJsonArrayBody_ShouldUseDefaultMessage() {
+        Response response = createResponse(400, "[{\"errorMessage\": \"Inside array\"}]");
+
+        Exception exception = errorDecoder.decode("testMethod", response);
+
+        assertEquals("Bad Request: API request failed", exception.getMessage());
+    }
+
+    @Test
+    void decode_WithStackTracesDisabled_ShouldNotCaptureStackTrace() {
+        Response response = createResponse(503, "{\"errorCode\": \"503.001.01\", \"errorMessage\": \"Try later\"}");
+
+        DarajaApiException exception = assertInstanceOf(DarajaApiException.class,
+            new DarajaErrorDecoder(DarajaErrorDecoder.DEFAULT_MAX_BODY_BYTES, false).decode("testMethod", response));
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("Service Unavailable: Try later", exception.getMessage());
+        assertEquals("503.001.01", exception.getErrorCode());
+        assertTrue(exception.getResponseBody().contains("Try later"));
+    }
+
+    @Test
+    void decode_WithOversizedHtmlBody_ShouldTruncateIt() {
+        String html = "<html><body>" + "Service temporarily unavailable ".repeat(10_000) + "</body></html>";
+        Response response = createResponse(502, html);
+
+        DarajaApiException exception = assertInstanceOf(DarajaApiException.class,
+            new DarajaErrorDecoder(1024).decode("testMethod", response));
+
+        assertEquals(1024, exception.getResponseBody().length());
+        assertTrue(exception.getMessage().startsWith("Bad Gateway: <html><body>Service temporarily unavailable"));
+        assertTrue(exception.getMessage().endsWith("... [truncated]"));
+        assertTrue(exception.getMessage().length() < 600);
+    }
+
+    @Test
+    void decode_WithOversizedJsonBody_ShouldNotParseIt() {
+        String json = "{\"errorCode\": \"500.001.1001\", \"errorMessage\": \"" + "x".repeat(2048) + "\"}";
+        Response response = createResponse(500, json);
+
+        DarajaApiException exception = assertInstanceOf(DarajaApiException.class,
+            new DarajaErrorDecoder(1024).decode("testMethod", response));
+
+        assertNull(exception.getErrorCode());
+        assertEquals(1024, exception.getResponseBody().length());
+        assertTrue(exception.getMessage().endsWith("... [truncated]"));
+    }
+
+    @Test
+    void constructor_WithNonPositiveMaxBodyBytes_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new DarajaErrorDecoder(0));
+    }
+
     private Response createResponse(int status, String body) {
         return Response.builder()
             .status(status)
@@ -140,4 +140,31 @@ class DarajaExceptionTest {
         assertFalse(toString.contains("Error Code"));
         assertFalse(toString.contains("HTTP Status"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void constructor_WithSummaryAndDetail_ShouldJoinThemInMessage() {
+        DarajaException exception = new DarajaException("Bad Request", "Invalid amount", "400.002.02", 400, true);
+
+        assertEquals("Bad Request: Invalid amount", exception.getMessage());
+        assertSame(exception.getMessage(), exception.getMessage());
+        assertEquals("400.002.02", exception.getErrorCode());
+        assertEquals(400, exception.getHttpStatus());
+        assertTrue(exception.toString().contains("Bad Request: Invalid amount"));
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+
+    @Test
+    void constructor_WithSummaryOnly_ShouldUseSummaryAsMessage() {
+        DarajaException exception = new DarajaException("Bad Request", null, null, 400, true);
+
+        assertEquals("Bad Request", exception.getMessage());
+    }
+
+    @Test
+    void constructor_WithoutWritableStackTrace_ShouldHaveEmptyStackTrace() {
+        DarajaException exception = new DarajaException("Bad Request", "Invalid amount", null, 400, false);
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertNull(exception.getCause());
+    }
+}
@@ -0,0 +1,169 @@
+package io.github.wmnjuguna.integration;
+
+import io.github.wmnjuguna.AsyncDarajaApiClient;
+import io.github.wmnjuguna.DarajaApiClient;
+import io.github.wmnjuguna.DarajaClientFactory;
+import io.github.wmnjuguna.b2c.B2CRequest;
+import io.github.wmnjuguna.b2c.B2CResponse;
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.exception.InvalidDarajaRequestException;
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import io.github.wmnjuguna.stkpush.StkPushResponse;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncDarajaApiClientIntegrationTest {
+
+    private WireMockServer wireMockServer;
+    private DarajaClientFactory clientFactory;
+    private AsyncDarajaApiClient asyncClient;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMockServer.start();
+        configureFor("localhost", wireMockServer.port());
+
+        clientFactory = new DarajaClientFactory(
+                wireMockServer.baseUrl(),
+                "test_consumer_key",
+                "test_consumer_secret"
+        );
+        asyncClient = clientFactory.createAsyncApiClient();
+
+        stubFor(get(urlEqualTo("/oauth/v1/generate?grant_type=client_credentials"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"access_token\":\"test_token\",\"expires_in\":\"3600\"}")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientFactory.close();
+        if (wireMockServer != null && wireMockServer.isRunning()) {
+            wireMockServer.resetAll();
+            wireMockServer.stop();
+        }
+    }
+
+    @Test
+    void initiateStkPush_ShouldCompleteWithResponse() {
+        stubFor(post(urlEqualTo("/mpesa/stkpush/v1/processrequest"))
+                .withHeader("Authorization", equalTo("Bearer test_token"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"MerchantRequestID\":\"test_merchant_id\",\"CheckoutRequestID\":\"test_checkout_id\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\",\"CustomerMessage\":\"Success\"}")));
+
+        CompletableFuture<StkPushResponse> future = asyncClient.initiateStkPush(createStkPushRequest());
+        StkPushResponse response = future.join();
+
+        assertEquals("test_merchant_id", response.merchantRequestID());
+        assertEquals("test_checkout_id", response.checkoutRequestID());
+        assertTrue(response.isSuccessful());
+    }
+
+    @Test
+    void b2cPayment_ShouldCompleteWithResponse() {
+        stubFor(post(urlEqualTo("/mpesa/b2c/v1/paymentrequest"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"ConversationID\":\"test_conversation_id\",\"OriginatorConversationID\":\"test_originator_conversation_id\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\"}")));
+
+        B2CResponse response = asyncClient.b2cPayment(new B2CRequest(
+                "testuser", "credential", "BusinessPayment", "100", "600988", "254708374149",
+                "remarks", "https://example.com/timeout", "https://example.com/result", "occasion"
+        )).join();
+
+        assertEquals("test_conversation_id", response.conversationID());
+        assertEquals("0", response.responseCode());
+    }
+
+    @Test
+    void initiateStkPush_WithBadRequest_ShouldCompleteExceptionallyWithDecodedException() {
+        stubFor(post(urlEqualTo("/mpesa/stkpush/v1/processrequest"))
+                .willReturn(aResponse()
+                        .withStatus(400)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"errorCode\":\"400.002.02\",\"errorMessage\":\"Bad Request - Invalid Amount\"}")));
+
+        CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> asyncClient.initiateStkPush(createStkPushRequest()).join()
+        );
+
+        InvalidDarajaRequestException cause = assertInstanceOf(InvalidDarajaRequestException.class, exception.getCause());
+        assertEquals("400.002.02", cause.getErrorCode());
+        assertEquals(400, cause.getHttpStatus());
+    }
+
+    @Test
+    void initiateStkPush_WithRedirect_ShouldNotFollowIt() {
+        stubFor(post(urlEqualTo("/mpesa/stkpush/v1/processrequest"))
+                .willReturn(aResponse()
+                        .withStatus(302)
+                        .withHeader("Location", wireMockServer.baseUrl() + "/redirected")));
+        stubFor(any(urlEqualTo("/redirected")).willReturn(aResponse().withStatus(200)));
+
+        CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> asyncClient.initiateStkPush(createStkPushRequest()).join()
+        );
+
+        DarajaException cause = assertInstanceOf(DarajaException.class, exception.getCause());
+        assertEquals(302, cause.getHttpStatus());
+        verify(0, anyRequestedFor(urlEqualTo("/redirected")));
+    }
+
+    @Test
+    void initiateStkPush_AfterFactoryClosed_ShouldNotBeSentWithAnotherHttpClient() {
+        stubFor(post(urlEqualTo("/mpesa/stkpush/v1/processrequest"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"MerchantRequestID\":\"test_merchant_id\",\"CheckoutRequestID\":\"test_checkout_id\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\",\"CustomerMessage\":\"Success\"}")));
+        asyncClient.initiateStkPush(createStkPushRequest()).join();
+
+        // Requests only fail once the factory's own HttpClient is closed if that client sends them
+        clientFactory.close();
+
+        assertThrows(RuntimeException.class, () -> asyncClient.initiateStkPush(createStkPushRequest()).join());
+        verify(1, postRequestedFor(urlEqualTo("/mpesa/stkpush/v1/processrequest")));
+    }
+
+    @Test
+    void blockingAndAsyncClients_ShouldShareCachedAccessToken() {
+        stubFor(post(urlEqualTo("/mpesa/stkpush/v1/processrequest"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"MerchantRequestID\":\"m\",\"CheckoutRequestID\":\"c\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\",\"CustomerMessage\":\"Success\"}")));
+
+        DarajaApiClient blockingClient = clientFactory.createApiClient();
+
+        blockingClient.initiateStkPush(createStkPushRequest());
+        asyncClient.initiateStkPush(createStkPushRequest()).join();
+
+        verify(1, getRequestedFor(urlEqualTo("/oauth/v1/generate?grant_type=client_credentials")));
+        verify(2, postRequestedFor(urlEqualTo("/mpesa/stkpush/v1/processrequest")));
+    }
+
+    private static StkPushRequest createStkPushRequest() {
+        return StkPushRequest.builder()
+                .businessShortCode("174379")
+                .password("test_password")
+                .timestamp("20250915100000")
+                .amount(1)
+                .phoneNumber("254708374149")
+                .callBackURL("https://example.com/callback")
+                .accountReference("account")
+                .transactionDesc("description")
+                .build();
+    }
+}
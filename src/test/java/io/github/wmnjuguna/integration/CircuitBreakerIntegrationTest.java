@@ -0,0 +1,152 @@
+package io.github.wmnjuguna.integration;
+
+import io.github.wmnjuguna.AsyncDarajaApiClient;
+import io.github.wmnjuguna.DarajaApiClient;
+import io.github.wmnjuguna.DarajaClientFactory;
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.circuitbreaker.CircuitBreakerConfig;
+import io.github.wmnjuguna.circuitbreaker.CircuitBreakerRegistry;
+import io.github.wmnjuguna.circuitbreaker.CircuitState;
+import io.github.wmnjuguna.exception.DarajaApiException;
+import io.github.wmnjuguna.exception.DarajaCircuitOpenException;
+import io.github.wmnjuguna.exception.InvalidDarajaRequestException;
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import io.github.wmnjuguna.stkpush.StkPushResponse;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerIntegrationTest {
+
+    private static final String STK_PUSH_PATH = "/mpesa/stkpush/v1/processrequest";
+
+    private WireMockServer wireMockServer;
+    private CircuitBreakerRegistry registry;
+    private DarajaClientFactory clientFactory;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMockServer.start();
+        configureFor("localhost", wireMockServer.port());
+
+        registry = CircuitBreakerRegistry.builder()
+                .defaultConfig(CircuitBreakerConfig.builder()
+                        .slidingWindowSize(4)
+                        .minimumNumberOfCalls(4)
+                        .waitDurationInOpenState(Duration.ofMinutes(1))
+                        .build())
+                .build();
+        clientFactory = new DarajaClientFactory(
+                wireMockServer.baseUrl(),
+                "test_consumer_key",
+                "test_consumer_secret"
+        ).circuitBreakers(registry);
+
+        stubFor(get(urlEqualTo("/oauth/v1/generate?grant_type=client_credentials"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"access_token\":\"test_token\",\"expires_in\":\"3600\"}")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientFactory.close();
+        if (wireMockServer != null && wireMockServer.isRunning()) {
+            wireMockServer.resetAll();
+            wireMockServer.stop();
+        }
+    }
+
+    @Test
+    void initiateStkPush_AfterRepeated5xx_ShouldFailFastWithoutCallingDaraja() {
+        stubServiceUnavailable();
+        DarajaApiClient client = clientFactory.createApiClient();
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(DarajaApiException.class, () -> client.initiateStkPush(createStkPushRequest()));
+        }
+        assertThrows(DarajaCircuitOpenException.class, () -> client.initiateStkPush(createStkPushRequest()));
+
+        verify(4, postRequestedFor(urlEqualTo(STK_PUSH_PATH)));
+        assertEquals(CircuitState.OPEN, registry.circuitBreaker(DarajaOperation.STK_PUSH).getState());
+        assertEquals(CircuitState.CLOSED, registry.circuitBreaker(DarajaOperation.B2C_PAYMENT).getState());
+    }
+
+    @Test
+    void initiateStkPush_WithRejectedRequests_ShouldKeepCircuitClosed() {
+        stubFor(post(urlEqualTo(STK_PUSH_PATH))
+                .willReturn(aResponse()
+                        .withStatus(400)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"errorCode\":\"400.002.02\",\"errorMessage\":\"Bad Request - Invalid Amount\"}")));
+        DarajaApiClient client = clientFactory.createApiClient();
+
+        for (int i = 0; i < 6; i++) {
+            assertThrows(InvalidDarajaRequestException.class, () -> client.initiateStkPush(createStkPushRequest()));
+        }
+
+        verify(6, postRequestedFor(urlEqualTo(STK_PUSH_PATH)));
+        assertEquals(CircuitState.CLOSED, registry.circuitBreaker(DarajaOperation.STK_PUSH).getState());
+    }
+
+    @Test
+    void asyncInitiateStkPush_AfterRepeated5xx_ShouldFailFast() {
+        stubServiceUnavailable();
+        AsyncDarajaApiClient client = clientFactory.createAsyncApiClient();
+
+        for (int i = 0; i < 4; i++) {
+            CompletionException exception = assertThrows(CompletionException.class,
+                    () -> client.initiateStkPush(createStkPushRequest()).join());
+            assertInstanceOf(DarajaApiException.class, exception.getCause());
+        }
+
+        CompletableFuture<StkPushResponse> rejected = client.initiateStkPush(createStkPushRequest());
+        CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(DarajaCircuitOpenException.class, exception.getCause());
+        verify(4, postRequestedFor(urlEqualTo(STK_PUSH_PATH)));
+    }
+
+    @Test
+    void initiateStkPush_WhenHealthy_ShouldRecordSuccess() {
+        stubFor(post(urlEqualTo(STK_PUSH_PATH))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"MerchantRequestID\":\"test_merchant_request_id\",\"CheckoutRequestID\":\"test_checkout_request_id\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\",\"CustomerMessage\":\"Success\"}")));
+
+        StkPushResponse response = clientFactory.createApiClient().initiateStkPush(createStkPushRequest());
+
+        assertEquals("test_checkout_request_id", response.checkoutRequestID());
+        assertEquals(1, registry.circuitBreaker(DarajaOperation.STK_PUSH).getMetrics().bufferedCalls());
+    }
+
+    private static void stubServiceUnavailable() {
+        stubFor(post(urlEqualTo(STK_PUSH_PATH))
+                .willReturn(aResponse()
+                        .withStatus(503)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"errorCode\":\"503.001\",\"errorMessage\":\"Service Unavailable\"}")));
+    }
+
+    private static StkPushRequest createStkPushRequest() {
+        return StkPushRequest.builder()
+                .businessShortCode("174379")
+                .password("test_password")
+                .timestamp("20250915100000")
+                .amount(1)
+                .phoneNumber("254708374149")
+                .callBackURL("https://example.com/callback")
+                .accountReference("account")
+                .transactionDesc("description")
+                .build();
+    }
+}
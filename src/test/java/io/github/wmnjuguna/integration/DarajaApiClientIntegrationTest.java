@@ -15,6 +15,7 @@ import io.github.wmnjuguna.b2c.B2CRequest;
 import io.github.wmnjuguna.b2c.B2CResponse;
 import io.github.wmnjuguna.c2b.C2BRegisterUrlRequest;
 import io.github.wmnjuguna.c2b.C2BRegisterUrlResponse;
+import io.github.wmnjuguna.exception.DarajaException;
 import io.github.wmnjuguna.stkpush.StkPushRequest;
 import io.github.wmnjuguna.stkpush.StkPushResponse;
 import com.github.tomakehurst.wiremock.WireMockServer;
@@ -25,6 +26,7 @@ import org.junit.jupiter.api.Test;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DarajaApiClientIntegrationTest {
 
@@ -100,6 +102,55 @@ class DarajaApiClientIntegrationTest {
         assertEquals("0", response.responseCode());
     }
 
+    @Test
+    void testInitiateStkPushFollowsRedirects() {
+        stubAuthAndRedirect();
+
+        StkPushResponse response = darajaApiClient.initiateStkPush(createStkPushRequest());
+
+        assertEquals("redirected_checkout_id", response.checkoutRequestID());
+        verify(1, anyRequestedFor(urlEqualTo("/redirected")));
+    }
+
+    @Test
+    void testInitiateStkPushInVirtualThreadModeDoesNotFollowRedirects() {
+        stubAuthAndRedirect();
+
+        try (DarajaClientFactory factory = new DarajaClientFactory(
+                wireMockServer.baseUrl(), "test_consumer_key", "test_consumer_secret").virtualThreads()) {
+            DarajaApiClient client = factory.createApiClient();
+
+            DarajaException exception = assertThrows(DarajaException.class,
+                    () -> client.initiateStkPush(createStkPushRequest()));
+
+            assertEquals(302, exception.getHttpStatus());
+            verify(0, anyRequestedFor(urlEqualTo("/redirected")));
+        }
+    }
+
+    @Test
+    void testVirtualThreadModeSendsWithFactoryHttpClient() {
+        stubFor(get(urlEqualTo("/oauth/v1/generate?grant_type=client_credentials"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"access_token\":\"test_token\",\"expires_in\":\"3600\"}")));
+        stubFor(post(urlEqualTo("/mpesa/stkpush/v1/processrequest"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"MerchantRequestID\":\"test_merchant_id\",\"CheckoutRequestID\":\"test_checkout_id\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\",\"CustomerMessage\":\"Success\"}")));
+
+        DarajaClientFactory factory = new DarajaClientFactory(
+                wireMockServer.baseUrl(), "test_consumer_key", "test_consumer_secret").virtualThreads();
+        DarajaApiClient client = factory.createApiClient();
+        assertEquals("test_merchant_id", client.initiateStkPush(createStkPushRequest()).merchantRequestID());
+
+        // Requests only fail once the factory's own HttpClient is closed if that client sends them
+        factory.close();
+
+        assertThrows(RuntimeException.class, () -> client.initiateStkPush(createStkPushRequest()));
+        verify(1, postRequestedFor(urlEqualTo("/mpesa/stkpush/v1/processrequest")));
+    }
+
     @Test
     void testRegisterC2BUrls() {
         // Stub the auth endpoint
@@ -321,4 +372,32 @@ class DarajaApiClientIntegrationTest {
         assertEquals("0", response.responseCode());
         assertEquals("Success", response.responseDescription());
     }
+
+    private void stubAuthAndRedirect() {
+        stubFor(get(urlEqualTo("/oauth/v1/generate?grant_type=client_credentials"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"access_token\":\"test_token\",\"expires_in\":\"3600\"}")));
+        stubFor(post(urlEqualTo("/mpesa/stkpush/v1/processrequest"))
+                .willReturn(aResponse()
+                        .withStatus(302)
+                        .withHeader("Location", wireMockServer.baseUrl() + "/redirected")));
+        stubFor(any(urlEqualTo("/redirected"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"MerchantRequestID\":\"test_merchant_id\",\"CheckoutRequestID\":\"redirected_checkout_id\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\",\"CustomerMessage\":\"Success\"}")));
+    }
+
+    private static StkPushRequest createStkPushRequest() {
+        return StkPushRequest.builder()
+                .businessShortCode("174379")
+                .password("test_password")
+                .timestamp("20250915100000")
+                .amount(1)
+                .phoneNumber("254708374149")
+                .callBackURL("https://example.com/callback")
+                .accountReference("account")
+                .transactionDesc("description")
+                .build();
+    }
 }
@@ -0,0 +1,121 @@
+package io.github.wmnjuguna.integration;
+
+import io.github.wmnjuguna.AsyncDarajaApiClient;
+import io.github.wmnjuguna.DarajaApiClient;
+import io.github.wmnjuguna.DarajaClientFactory;
+import io.github.wmnjuguna.exception.InvalidDarajaRequestException;
+import io.github.wmnjuguna.metrics.MicrometerMetricsRecorder;
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import io.github.wmnjuguna.transport.ConnectionPoolConfig;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsIntegrationTest {
+
+    private static final String STK_PUSH_PATH = "/mpesa/stkpush/v1/processrequest";
+
+    private WireMockServer wireMockServer;
+    private SimpleMeterRegistry registry;
+    private DarajaClientFactory clientFactory;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMockServer.start();
+        configureFor("localhost", wireMockServer.port());
+
+        registry = new SimpleMeterRegistry();
+        clientFactory = new DarajaClientFactory(
+                wireMockServer.baseUrl(),
+                "test_consumer_key",
+                "test_consumer_secret"
+        ).connectionPool(ConnectionPoolConfig.defaults()).metrics(new MicrometerMetricsRecorder(registry));
+
+        stubFor(get(urlEqualTo("/oauth/v1/generate?grant_type=client_credentials"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"access_token\":\"test_token\",\"expires_in\":\"3600\"}")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientFactory.close();
+        if (wireMockServer != null && wireMockServer.isRunning()) {
+            wireMockServer.resetAll();
+            wireMockServer.stop();
+        }
+    }
+
+    @Test
+    void initiateStkPush_ShouldRecordCallTokenRefreshAndPoolMetrics() {
+        stubStkPush(200, "{\"MerchantRequestID\":\"m\",\"CheckoutRequestID\":\"c\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\",\"CustomerMessage\":\"Success\"}");
+        DarajaApiClient client = clientFactory.createApiClient();
+
+        client.initiateStkPush(createStkPushRequest());
+        client.initiateStkPush(createStkPushRequest());
+
+        assertEquals(2, registry.get("daraja.client.requests")
+                .tags("operation", "STK_PUSH", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("daraja.auth.token.refresh")
+                .tags("outcome", "success", "mode", "lazy").timer().count());
+        assertEquals(0, registry.get("daraja.pool.connections").tags("state", "leased").gauge().value());
+        assertTrue(registry.get("daraja.pool.connections").tags("state", "available").gauge().value() >= 1);
+    }
+
+    @Test
+    void initiateStkPush_WithRejectedRequest_ShouldCountErrorByCodeAndStatus() {
+        stubStkPush(400, "{\"errorCode\":\"400.002.02\",\"errorMessage\":\"Bad Request - Invalid Amount\"}");
+        DarajaApiClient client = clientFactory.createApiClient();
+
+        assertThrows(InvalidDarajaRequestException.class, () -> client.initiateStkPush(createStkPushRequest()));
+
+        assertEquals(1, registry.get("daraja.client.errors")
+                .tags("operation", "STK_PUSH", "exception", "InvalidDarajaRequestException",
+                        "error.code", "400.002.02", "http.status", "400")
+                .counter().count());
+    }
+
+    @Test
+    void asyncInitiateStkPush_ShouldRecordWhenFutureCompletes() throws InterruptedException {
+        stubStkPush(200, "{\"MerchantRequestID\":\"m\",\"CheckoutRequestID\":\"c\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\",\"CustomerMessage\":\"Success\"}");
+        AsyncDarajaApiClient client = clientFactory.createAsyncApiClient();
+
+        client.initiateStkPush(createStkPushRequest()).join();
+
+        // The timer is recorded by a dependent of the future, which may run just after join returns
+        Timer timer = registry.get("daraja.client.requests").tags("operation", "STK_PUSH", "outcome", "success").timer();
+        for (int i = 0; i < 100 && timer.count() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, timer.count());
+    }
+
+    private static void stubStkPush(int status, String body) {
+        stubFor(post(urlEqualTo(STK_PUSH_PATH))
+                .willReturn(aResponse()
+                        .withStatus(status)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(body)));
+    }
+
+    private static StkPushRequest createStkPushRequest() {
+        return StkPushRequest.builder()
+                .businessShortCode("174379")
+                .password("test_password")
+                .timestamp("20250915100000")
+                .amount(1)
+                .phoneNumber("254708374149")
+                .callBackURL("https://example.com/callback")
+                .accountReference("account")
+                .transactionDesc("description")
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.wmnjuguna.integration;
+
+import io.github.wmnjuguna.DarajaClientFactory;
+import io.github.wmnjuguna.b2c.B2CRequest;
+import io.github.wmnjuguna.b2c.B2CResponse;
+import io.github.wmnjuguna.exception.InvalidDarajaRequestException;
+import io.github.wmnjuguna.reactive.BulkResult;
+import io.github.wmnjuguna.reactive.ReactiveDarajaApiClient;
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import io.github.wmnjuguna.stkpush.StkPushResponse;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveDarajaApiClientIntegrationTest {
+
+    private WireMockServer wireMockServer;
+    private DarajaClientFactory clientFactory;
+    private ReactiveDarajaApiClient reactiveClient;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMockServer.start();
+        configureFor("localhost", wireMockServer.port());
+
+        clientFactory = new DarajaClientFactory(
+                wireMockServer.baseUrl(),
+                "test_consumer_key",
+                "test_consumer_secret"
+        );
+        reactiveClient = clientFactory.createReactiveApiClient();
+
+        stubFor(get(urlEqualTo("/oauth/v1/generate?grant_type=client_credentials"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"access_token\":\"test_token\",\"expires_in\":\"3600\"}")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientFactory.close();
+        if (wireMockServer != null && wireMockServer.isRunning()) {
+            wireMockServer.resetAll();
+            wireMockServer.stop();
+        }
+    }
+
+    @Test
+    void initiateStkPush_ShouldEmitSingleResponseAndComplete() {
+        stubFor(post(urlEqualTo("/mpesa/stkpush/v1/processrequest"))
+                .withHeader("Authorization", equalTo("Bearer test_token"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"MerchantRequestID\":\"test_merchant_id\",\"CheckoutRequestID\":\"test_checkout_id\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\",\"CustomerMessage\":\"Success\"}")));
+
+        List<StkPushResponse> responses = collect(reactiveClient.initiateStkPush(createStkPushRequest())).join();
+
+        assertEquals(1, responses.size());
+        assertEquals("test_checkout_id", responses.get(0).checkoutRequestID());
+    }
+
+    @Test
+    void initiateStkPush_ShouldNotSendRequestUntilSubscribed() {
+        reactiveClient.initiateStkPush(createStkPushRequest());
+
+        verify(0, getRequestedFor(urlEqualTo("/oauth/v1/generate?grant_type=client_credentials")));
+        verify(0, postRequestedFor(urlEqualTo("/mpesa/stkpush/v1/processrequest")));
+    }
+
+    @Test
+    void initiateStkPush_WithBadRequest_ShouldSignalDecodedException() {
+        stubFor(post(urlEqualTo("/mpesa/stkpush/v1/processrequest"))
+                .willReturn(aResponse()
+                        .withStatus(400)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"errorCode\":\"400.002.02\",\"errorMessage\":\"Bad Request - Invalid Amount\"}")));
+
+        CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> collect(reactiveClient.initiateStkPush(createStkPushRequest())).join()
+        );
+
+        InvalidDarajaRequestException cause = assertInstanceOf(InvalidDarajaRequestException.class, exception.getCause());
+        assertEquals("400.002.02", cause.getErrorCode());
+    }
+
+    @Test
+    void b2cPayments_ShouldEmitOneResultPerRequestAndShareToken() {
+        stubFor(post(urlEqualTo("/mpesa/b2c/v1/paymentrequest"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"ConversationID\":\"test_conversation_id\",\"OriginatorConversationID\":\"test_originator_conversation_id\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\"}")));
+
+        CompletableFuture<List<BulkResult<B2CRequest, B2CResponse>>> results;
+        try (SubmissionPublisher<B2CRequest> requests = new SubmissionPublisher<>()) {
+            results = collect(reactiveClient.b2cPayments(requests, 4));
+            for (int i = 0; i < 20; i++) {
+                requests.submit(createB2CRequest());
+            }
+        }
+
+        List<BulkResult<B2CRequest, B2CResponse>> completed = results.join();
+        assertEquals(20, completed.size());
+        assertTrue(completed.stream().allMatch(BulkResult::isSuccess));
+        verify(1, getRequestedFor(urlEqualTo("/oauth/v1/generate?grant_type=client_credentials")));
+        verify(20, postRequestedFor(urlEqualTo("/mpesa/b2c/v1/paymentrequest")));
+    }
+
+    private static <T> CompletableFuture<List<T>> collect(Flow.Publisher<T> publisher) {
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        List<T> items = new CopyOnWriteArrayList<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                items.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(items);
+            }
+        });
+        return result;
+    }
+
+    private static StkPushRequest createStkPushRequest() {
+        return StkPushRequest.builder()
+                .businessShortCode("174379")
+                .password("test_password")
+                .timestamp("20250915100000")
+                .amount(1)
+                .phoneNumber("254708374149")
+                .callBackURL("https://example.com/callback")
+                .accountReference("account")
+                .transactionDesc("description")
+                .build();
+    }
+
+    private static B2CRequest createB2CRequest() {
+        return new B2CRequest(
+                "testuser", "credential", "BusinessPayment", "100", "600988", "254708374149",
+                "remarks", "https://example.com/timeout", "https://example.com/result", "occasion"
+        );
+    }
+}
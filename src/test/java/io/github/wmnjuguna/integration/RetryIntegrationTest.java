@@ -0,0 +1,131 @@
+package io.github.wmnjuguna.integration;
+
+import io.github.wmnjuguna.DarajaApiClient;
+import io.github.wmnjuguna.DarajaClientFactory;
+import io.github.wmnjuguna.b2c.B2CRequest;
+import io.github.wmnjuguna.exception.DarajaApiException;
+import io.github.wmnjuguna.retry.RetryConfig;
+import io.github.wmnjuguna.transactionstatus.TransactionStatusRequest;
+import io.github.wmnjuguna.transactionstatus.TransactionStatusResponse;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryIntegrationTest {
+
+    private static final String SERVICE_UNAVAILABLE = "{\"errorCode\":\"503.001\",\"errorMessage\":\"Service Unavailable\"}";
+
+    private WireMockServer wireMockServer;
+    private DarajaClientFactory clientFactory;
+    private DarajaApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMockServer.start();
+        configureFor("localhost", wireMockServer.port());
+
+        clientFactory = new DarajaClientFactory(
+                wireMockServer.baseUrl(),
+                "test_consumer_key",
+                "test_consumer_secret"
+        ).retry(RetryConfig.builder()
+                .maxAttempts(3)
+                .baseDelay(Duration.ofMillis(10))
+                .maxDelay(Duration.ofMillis(50))
+                .build());
+        client = clientFactory.createApiClient();
+
+        stubFor(get(urlEqualTo("/oauth/v1/generate?grant_type=client_credentials"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"access_token\":\"test_token\",\"expires_in\":\"3600\"}")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientFactory.close();
+        if (wireMockServer != null && wireMockServer.isRunning()) {
+            wireMockServer.resetAll();
+            wireMockServer.stop();
+        }
+    }
+
+    @Test
+    void transactionStatus_AfterTransient503_ShouldSucceedOnRetry() {
+        stubFor(post(urlEqualTo("/mpesa/transactionstatus/v1/query"))
+                .inScenario("transient")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse()
+                        .withStatus(503)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(SERVICE_UNAVAILABLE))
+                .willSetStateTo("recovered"));
+        stubFor(post(urlEqualTo("/mpesa/transactionstatus/v1/query"))
+                .inScenario("transient")
+                .whenScenarioStateIs("recovered")
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"ConversationID\":\"test_conversation_id\",\"OriginatorConversationID\":\"test_originator_conversation_id\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\"}")));
+
+        TransactionStatusResponse response = client.transactionStatus(createTransactionStatusRequest());
+
+        assertEquals("test_conversation_id", response.conversationID());
+        verify(2, postRequestedFor(urlEqualTo("/mpesa/transactionstatus/v1/query")));
+    }
+
+    @Test
+    void transactionStatus_WhenAlways503_ShouldThrowDecodedExceptionAfterMaxAttempts() {
+        stubFor(post(urlEqualTo("/mpesa/transactionstatus/v1/query"))
+                .willReturn(aResponse()
+                        .withStatus(503)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(SERVICE_UNAVAILABLE)));
+
+        DarajaApiException exception = assertThrows(DarajaApiException.class,
+                () -> client.transactionStatus(createTransactionStatusRequest()));
+
+        assertEquals(503, exception.getHttpStatus());
+        verify(3, postRequestedFor(urlEqualTo("/mpesa/transactionstatus/v1/query")));
+    }
+
+    @Test
+    void b2cPayment_With503_ShouldNotBeRetried() {
+        stubFor(post(urlEqualTo("/mpesa/b2c/v1/paymentrequest"))
+                .willReturn(aResponse()
+                        .withStatus(503)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(SERVICE_UNAVAILABLE)));
+
+        DarajaApiException exception = assertThrows(DarajaApiException.class, () -> client.b2cPayment(new B2CRequest(
+                "testuser", "credential", "BusinessPayment", "100", "600988", "254708374149",
+                "remarks", "https://example.com/timeout", "https://example.com/result", "occasion"
+        )));
+
+        assertEquals(503, exception.getHttpStatus());
+        verify(1, postRequestedFor(urlEqualTo("/mpesa/b2c/v1/paymentrequest")));
+    }
+
+    private static TransactionStatusRequest createTransactionStatusRequest() {
+        return new TransactionStatusRequest(
+                "testuser",
+                "credential",
+                "TransactionStatusQuery",
+                "ABCDEFGHI",
+                "600988",
+                "1",
+                "https://example.com/result",
+                "https://example.com/timeout",
+                "remarks",
+                "occasion"
+        );
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.wmnjuguna.integration;
+
+import io.github.wmnjuguna.DarajaApiClient;
+import io.github.wmnjuguna.DarajaClientFactory;
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.accountbalance.AccountBalanceRequest;
+import io.github.wmnjuguna.accountbalance.AccountBalanceResponse;
+import io.github.wmnjuguna.exception.DarajaDeadlineExceededException;
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.retry.RetryConfig;
+import io.github.wmnjuguna.timeout.Deadline;
+import io.github.wmnjuguna.timeout.TimeoutConfig;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeoutIntegrationTest {
+
+    private static final String ACCOUNT_BALANCE_PATH = "/mpesa/accountbalance/v1/query";
+    private static final String OAUTH_PATH = "/oauth/v1/generate?grant_type=client_credentials";
+    private static final String SUCCESS = "{\"ConversationID\":\"test_conversation_id\",\"OriginatorConversationID\":\"test_originator_conversation_id\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\"}";
+
+    private WireMockServer wireMockServer;
+    private DarajaClientFactory clientFactory;
+    private DarajaApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMockServer.start();
+        configureFor("localhost", wireMockServer.port());
+
+        clientFactory = new DarajaClientFactory(
+                wireMockServer.baseUrl(),
+                "test_consumer_key",
+                "test_consumer_secret"
+        ).timeouts(TimeoutConfig.builder()
+                .readTimeout(Duration.ofSeconds(5))
+                .readTimeout(DarajaOperation.ACCOUNT_BALANCE, Duration.ofMillis(200))
+                .build()
+        ).retry(RetryConfig.builder().maxAttempts(1).build());
+        client = clientFactory.createApiClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientFactory.close();
+        if (wireMockServer != null && wireMockServer.isRunning()) {
+            wireMockServer.resetAll();
+            wireMockServer.stop();
+        }
+    }
+
+    @Test
+    void accountBalance_SlowerThanOperationReadTimeout_ShouldTimeOut() {
+        stubOAuth(0);
+        stubAccountBalance(1000);
+
+        DarajaException exception = assertThrows(DarajaException.class, () -> client.accountBalance(createRequest()));
+
+        assertInstanceOf(SocketTimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    void accountBalance_WithinOperationReadTimeout_ShouldSucceed() {
+        stubOAuth(0);
+        stubAccountBalance(0);
+
+        AccountBalanceResponse response = client.accountBalance(createRequest());
+
+        assertEquals("test_conversation_id", response.conversationID());
+    }
+
+    @Test
+    void accountBalance_WhenTokenRefreshExhaustsDeadline_ShouldFailWithinDeadline() {
+        stubOAuth(2000);
+        stubAccountBalance(0);
+
+        long start = System.nanoTime();
+        assertThrows(DarajaException.class,
+                () -> Deadline.after(Duration.ofMillis(300)).call(() -> client.accountBalance(createRequest())));
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertTrue(elapsedMillis < 1500, "took " + elapsedMillis + " ms");
+        verify(0, postRequestedFor(urlEqualTo(ACCOUNT_BALANCE_PATH)));
+    }
+
+    @Test
+    void accountBalance_WithExpiredDeadline_ShouldNotSendRequest() {
+        stubOAuth(0);
+        stubAccountBalance(0);
+
+        assertThrows(DarajaDeadlineExceededException.class,
+                () -> Deadline.after(Duration.ZERO).call(() -> client.accountBalance(createRequest())));
+
+        verify(0, postRequestedFor(urlEqualTo(ACCOUNT_BALANCE_PATH)));
+    }
+
+    private static void stubOAuth(int delayMillis) {
+        stubFor(get(urlEqualTo(OAUTH_PATH))
+                .willReturn(aResponse()
+                        .withFixedDelay(delayMillis)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"access_token\":\"test_token\",\"expires_in\":\"3600\"}")));
+    }
+
+    private static void stubAccountBalance(int delayMillis) {
+        stubFor(post(urlEqualTo(ACCOUNT_BALANCE_PATH))
+                .willReturn(aResponse()
+                        .withFixedDelay(delayMillis)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(SUCCESS)));
+    }
+
+    private static AccountBalanceRequest createRequest() {
+        return new AccountBalanceRequest(
+                "testuser",
+                "credential",
+                "AccountBalance",
+                "600988",
+                "4",
+                "remarks",
+                "https://example.com/timeout",
+                "https://example.com/result"
+        );
+    }
+}
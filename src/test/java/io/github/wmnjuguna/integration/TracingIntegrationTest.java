@@ -0,0 +1,224 @@
+package io.github.wmnjuguna.integration;
+
+import io.github.wmnjuguna.AsyncDarajaApiClient;
+import io.github.wmnjuguna.DarajaApiClient;
+import io.github.wmnjuguna.DarajaClientFactory;
+import io.github.wmnjuguna.exception.InvalidDarajaRequestException;
+import io.github.wmnjuguna.stkpush.StkPushCallback;
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import io.github.wmnjuguna.tracing.DarajaTracing;
+import io.github.wmnjuguna.webhook.StkPushCallbackHandler;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracingIntegrationTest {
+
+    private static final String STK_PUSH_PATH = "/mpesa/stkpush/v1/processrequest";
+    private static final String STK_PUSH_RESPONSE = "{\"MerchantRequestID\":\"29115-34620561-1\",\"CheckoutRequestID\":\"ws_CO_191220191020363925\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\",\"CustomerMessage\":\"Success\"}";
+
+    private WireMockServer wireMockServer;
+    private InMemorySpanExporter spanExporter;
+    private OpenTelemetrySdk openTelemetry;
+    private DarajaTracing tracing;
+    private DarajaClientFactory clientFactory;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMockServer.start();
+        configureFor("localhost", wireMockServer.port());
+
+        spanExporter = InMemorySpanExporter.create();
+        openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                        .build())
+                .build();
+        tracing = DarajaTracing.create(openTelemetry);
+        clientFactory = new DarajaClientFactory(
+                wireMockServer.baseUrl(),
+                "test_consumer_key",
+                "test_consumer_secret"
+        ).tracing(tracing);
+
+        stubFor(get(urlEqualTo("/oauth/v1/generate?grant_type=client_credentials"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"access_token\":\"test_token\",\"expires_in\":\"3600\"}")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clientFactory.close();
+        openTelemetry.close();
+        if (wireMockServer != null && wireMockServer.isRunning()) {
+            wireMockServer.resetAll();
+            wireMockServer.stop();
+        }
+    }
+
+    @Test
+    void initiateStkPush_ShouldRecordTokenRefreshAsChildOfCallSpan() {
+        stubStkPush(200, STK_PUSH_RESPONSE);
+        DarajaApiClient client = clientFactory.createApiClient();
+
+        client.initiateStkPush(createStkPushRequest());
+
+        SpanData call = span("Daraja STK_PUSH");
+        SpanData refresh = span("Daraja token refresh");
+        assertEquals(SpanKind.CLIENT, call.getKind());
+        assertEquals("STK_PUSH", call.getAttributes().get(AttributeKey.stringKey("daraja.operation")));
+        assertEquals("ws_CO_191220191020363925",
+                call.getAttributes().get(AttributeKey.stringKey("daraja.checkout_request_id")));
+        assertEquals(call.getTraceId(), refresh.getTraceId());
+        assertEquals(call.getSpanId(), refresh.getParentSpanId());
+        assertFalse(refresh.getAttributes().get(AttributeKey.booleanKey("daraja.token_refresh.background")));
+    }
+
+    @Test
+    void callbackHandler_ShouldContinueTraceOfStkPushRequest() {
+        stubStkPush(200, STK_PUSH_RESPONSE);
+        clientFactory.createApiClient().initiateStkPush(createStkPushRequest());
+        List<String> handled = new ArrayList<>();
+        StkPushCallbackHandler handler = tracing.callbackHandler(new StkPushCallbackHandler() {
+            @Override
+            public void onPaymentSuccess(StkPushCallback callback) {
+                handled.add("success");
+            }
+
+            @Override
+            public void onPaymentFailure(StkPushCallback callback) {
+                handled.add("failure");
+            }
+        });
+
+        handler.handle(createCallback("29115-34620561-1", "ws_CO_191220191020363925", 0));
+
+        SpanData call = span("Daraja STK_PUSH");
+        SpanData callback = span("Daraja STK_PUSH callback");
+        assertEquals(List.of("success"), handled);
+        assertEquals(SpanKind.CONSUMER, callback.getKind());
+        assertEquals(call.getTraceId(), callback.getTraceId());
+        assertEquals(call.getSpanId(), callback.getParentSpanId());
+        assertTrue(callback.getAttributes().get(AttributeKey.booleanKey("daraja.callback.linked")));
+        assertEquals(0L, callback.getAttributes().get(AttributeKey.longKey("daraja.result_code")));
+    }
+
+    @Test
+    void callbackHandler_WithOnlyMerchantRequestIdKnown_ShouldStillLinkCallback() {
+        stubStkPush(200, STK_PUSH_RESPONSE);
+        clientFactory.createApiClient().initiateStkPush(createStkPushRequest());
+        StkPushCallbackHandler handler = tracing.callbackHandler(new NoOpCallbackHandler());
+
+        handler.handle(createCallback("29115-34620561-1", null, 1032));
+
+        assertEquals(span("Daraja STK_PUSH").getSpanId(), span("Daraja STK_PUSH callback").getParentSpanId());
+    }
+
+    @Test
+    void callbackHandler_WithUnknownRequest_ShouldStartUnlinkedSpan() {
+        StkPushCallbackHandler handler = tracing.callbackHandler(new NoOpCallbackHandler());
+
+        handler.handle(createCallback("unknown", "unknown", 1032));
+
+        SpanData callback = span("Daraja STK_PUSH callback");
+        assertFalse(callback.getParentSpanContext().isValid());
+        assertFalse(callback.getAttributes().get(AttributeKey.booleanKey("daraja.callback.linked")));
+    }
+
+    @Test
+    void initiateStkPush_WithRejectedRequest_ShouldMarkSpanAsError() {
+        stubStkPush(400, "{\"errorCode\":\"400.002.02\",\"errorMessage\":\"Bad Request - Invalid Amount\"}");
+        DarajaApiClient client = clientFactory.createApiClient();
+
+        assertThrows(InvalidDarajaRequestException.class, () -> client.initiateStkPush(createStkPushRequest()));
+
+        SpanData call = span("Daraja STK_PUSH");
+        assertEquals(StatusCode.ERROR, call.getStatus().getStatusCode());
+        assertEquals(400L, call.getAttributes().get(AttributeKey.longKey("http.response.status_code")));
+        assertEquals("400.002.02", call.getAttributes().get(AttributeKey.stringKey("daraja.error_code")));
+        assertNull(tracing.getSpanContextStore().find("ws_CO_191220191020363925"));
+    }
+
+    @Test
+    void asyncInitiateStkPush_ShouldEndSpanWhenFutureCompletes() throws InterruptedException {
+        stubStkPush(200, STK_PUSH_RESPONSE);
+        AsyncDarajaApiClient client = clientFactory.createAsyncApiClient();
+
+        client.initiateStkPush(createStkPushRequest()).join();
+
+        // The span is ended by a dependent of the future, which may run just after join returns
+        for (int i = 0; i < 100 && findSpan("Daraja STK_PUSH") == null; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(SpanKind.CLIENT, span("Daraja STK_PUSH").getKind());
+        assertNotNull(tracing.getSpanContextStore().find("ws_CO_191220191020363925"));
+    }
+
+    private SpanData span(String name) {
+        SpanData span = findSpan(name);
+        assertNotNull(span, "No span named " + name);
+        return span;
+    }
+
+    private SpanData findSpan(String name) {
+        return spanExporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static void stubStkPush(int status, String body) {
+        stubFor(post(urlEqualTo(STK_PUSH_PATH))
+                .willReturn(aResponse()
+                        .withStatus(status)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(body)));
+    }
+
+    private static StkPushCallback createCallback(String merchantRequestId, String checkoutRequestId, int resultCode) {
+        return new StkPushCallback(new StkPushCallback.CallbackBody(
+                new StkPushCallback.StkCallback(merchantRequestId, checkoutRequestId, resultCode, "description", null)
+        ));
+    }
+
+    private static StkPushRequest createStkPushRequest() {
+        return StkPushRequest.builder()
+                .businessShortCode("174379")
+                .password("test_password")
+                .timestamp("20250915100000")
+                .amount(1)
+                .phoneNumber("254708374149")
+                .callBackURL("https://example.com/callback")
+                .accountReference("account")
+                .transactionDesc("description")
+                .build();
+    }
+
+    private static class NoOpCallbackHandler implements StkPushCallbackHandler {
+        @Override
+        public void onPaymentSuccess(StkPushCallback callback) {
+        }
+
+        @Override
+        public void onPaymentFailure(StkPushCallback callback) {
+        }
+    }
+}
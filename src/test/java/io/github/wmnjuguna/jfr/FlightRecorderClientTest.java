@@ -0,0 +1,96 @@
+package io.github.wmnjuguna.jfr;
+
+import io.github.wmnjuguna.DarajaOperation;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FlightRecorderClientTest {
+
+    private static final String EVENT_NAME = "io.github.wmnjuguna.daraja.HttpCall";
+    private static final byte[] REQUEST_BODY = "{\"Amount\":1}".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void execute_WhenRecording_ShouldCommitHttpCallEvent() throws IOException {
+        Client delegate = mock(Client.class);
+        Request request = request(DarajaOperation.STK_PUSH.getPath());
+        when(delegate.execute(any(), any())).thenReturn(Response.builder()
+            .status(200)
+            .request(request)
+            .headers(Collections.emptyMap())
+            .body("{\"ResponseCode\":\"0\"}", StandardCharsets.UTF_8)
+            .build());
+
+        List<RecordedEvent> events = record(() -> new FlightRecorderClient(delegate).execute(request, new Request.Options()));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("STK_PUSH", event.getString("operation"));
+        assertEquals(DarajaOperation.STK_PUSH.getPath(), event.getString("path"));
+        assertEquals(200, event.getInt("status"));
+        assertEquals(REQUEST_BODY.length, event.getLong("requestBytes"));
+        assertEquals(20, event.getLong("responseBytes"));
+        assertNull(event.getString("failure"));
+    }
+
+    @Test
+    void execute_WhenConnectionFails_ShouldCommitEventWithFailure() throws IOException {
+        Client delegate = mock(Client.class);
+        when(delegate.execute(any(), any())).thenThrow(new ConnectException("Connection refused"));
+
+        List<RecordedEvent> events = record(() -> assertThrows(ConnectException.class,
+            () -> new FlightRecorderClient(delegate).execute(request("/oauth/v1/generate?grant_type=client_credentials"),
+                new Request.Options())));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertNull(event.getString("operation"));
+        assertEquals("/oauth/v1/generate", event.getString("path"));
+        assertEquals(0, event.getInt("status"));
+        assertEquals(ConnectException.class.getName(), event.getString("failure"));
+    }
+
+    private List<RecordedEvent> record(RecordedAction action) throws IOException {
+        Path file = tempDir.resolve("daraja.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals(EVENT_NAME))
+            .toList();
+    }
+
+    private static Request request(String path) {
+        return Request.create(Request.HttpMethod.POST, "https://sandbox.safaricom.co.ke" + path,
+            Collections.emptyMap(), REQUEST_BODY, StandardCharsets.UTF_8, null);
+    }
+
+    @FunctionalInterface
+    private interface RecordedAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.wmnjuguna.loadtest;
+
+import io.github.wmnjuguna.DarajaApiClient;
+import io.github.wmnjuguna.DarajaClientFactory;
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.accountbalance.AccountBalanceRequest;
+import io.github.wmnjuguna.b2b.B2BRequest;
+import io.github.wmnjuguna.b2c.B2CRequest;
+import io.github.wmnjuguna.reversal.ReversalRequest;
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import io.github.wmnjuguna.transactionstatus.TransactionStatusRequest;
+import io.github.wmnjuguna.transport.ConnectionPoolConfig;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end load test of the full client stack (authentication, encoding, transport, error
+ * decoding) against the in-process Daraja stub, using an open-model load at a fixed rate.
+ *
+ * Adjust RATE, DURATION and the pool size to size thread and connection pools for a
+ * production workload; the printed percentiles include time spent waiting for a connection.
+ *
+ * Run with: ./gradlew performanceTest --tests '*DarajaLoadTest'
+ */
+@Tag("performance")
+class DarajaLoadTest {
+
+    private static final double RATE = 500;
+    private static final Duration DURATION = Duration.ofSeconds(20);
+    private static final double ERROR_RATE = 0.01;
+
+    @Test
+    void mixedWorkload_WithPooledTransport_ShouldSustainTargetRate() throws Exception {
+        try (DarajaStubServer stub = stubServer();
+             DarajaClientFactory factory = new DarajaClientFactory(stub.baseUrl(), "key", "secret")
+                 .connectionPool(ConnectionPoolConfig.builder().maxConnectionsTotal(200).maxConnectionsPerRoute(200).build())) {
+
+            LoadDriver.Report report = runMixedWorkload(factory.createApiClient());
+
+            System.out.println("Pooled transport: " + report.summary());
+            assertHealthy(report, stub);
+        }
+    }
+
+    @Test
+    void mixedWorkload_WithVirtualThreads_ShouldSustainTargetRate() throws Exception {
+        try (DarajaStubServer stub = stubServer();
+             DarajaClientFactory factory = new DarajaClientFactory(stub.baseUrl(), "key", "secret").virtualThreads()) {
+
+            LoadDriver.Report report = runMixedWorkload(factory.createApiClient());
+
+            System.out.println("Virtual threads: " + report.summary());
+            assertHealthy(report, stub);
+        }
+    }
+
+    /**
+     * Safaricom-like latencies: payments are slower and more variable than queries.
+     */
+    private static DarajaStubServer stubServer() throws Exception {
+        return DarajaStubServer.builder()
+            .latency(LatencyDistribution.logNormal(Duration.ofMillis(40), Duration.ofMillis(200)))
+            .latency(DarajaOperation.STK_PUSH, LatencyDistribution.logNormal(Duration.ofMillis(150), Duration.ofMillis(800)))
+            .latency(DarajaOperation.B2C_PAYMENT, LatencyDistribution.logNormal(Duration.ofMillis(200), Duration.ofSeconds(1)))
+            .latency(DarajaOperation.B2B_PAYMENT, LatencyDistribution.uniform(Duration.ofMillis(100), Duration.ofMillis(400)))
+            .errors(ERROR_RATE, 503)
+            .start();
+    }
+
+    /**
+     * Half STK Push, the rest spread over disbursements, queries and reversals.
+     */
+    private static LoadDriver.Report runMixedWorkload(DarajaApiClient client) throws InterruptedException {
+        return new LoadDriver(RATE, DURATION).run(sequence -> {
+            switch ((int) (sequence % 10)) {
+                case 0, 1, 2, 3, 4 -> client.initiateStkPush(STK_PUSH);
+                case 5, 6 -> client.b2cPayment(B2C);
+                case 7 -> client.transactionStatus(TRANSACTION_STATUS);
+                case 8 -> client.accountBalance(ACCOUNT_BALANCE);
+                default -> {
+                    if (sequence % 20 == 9) {
+                        client.b2bPayment(B2B);
+                    } else {
+                        client.reversal(REVERSAL);
+                    }
+                }
+            }
+        });
+    }
+
+    private static void assertHealthy(LoadDriver.Report report, DarajaStubServer stub) {
+        long expectedFailures = (long) (report.requests() * ERROR_RATE);
+        long failures = report.requests() - report.successes();
+        assertTrue(failures <= expectedFailures * 3 + 10, "Unexpected failures: " + report.failures());
+        assertTrue(report.achievedRps() >= RATE * 0.9, "Fell behind the target rate: " + report.summary());
+        assertEquals(1, stub.tokenRequests(), "Every request should share one access token");
+    }
+
+    private static final StkPushRequest STK_PUSH = StkPushRequest.builder()
+        .businessShortCode("174379")
+        .password("test_password")
+        .timestamp("20250915100000")
+        .amount(1)
+        .phoneNumber("254708374149")
+        .callBackURL("https://example.com/callback")
+        .accountReference("account")
+        .transactionDesc("description")
+        .build();
+
+    private static final B2CRequest B2C = new B2CRequest(
+        "testuser", "credential", "BusinessPayment", "100", "600988", "254708374149",
+        "remarks", "https://example.com/timeout", "https://example.com/result", "occasion");
+
+    private static final B2BRequest B2B = new B2BRequest(
+        "testuser", "credential", "BusinessToBusinessTransfer", "4", "4", "100", "600988", "600000",
+        "remarks", "https://example.com/timeout", "https://example.com/result", "reference");
+
+    private static final TransactionStatusRequest TRANSACTION_STATUS = new TransactionStatusRequest(
+        "testuser", "credential", "TransactionStatusQuery", "ABCDEFGHI", "600988", "1",
+        "https://example.com/result", "https://example.com/timeout", "remarks", "occasion");
+
+    private static final AccountBalanceRequest ACCOUNT_BALANCE = new AccountBalanceRequest(
+        "testuser", "credential", "AccountBalance", "600988", "4", "remarks",
+        "https://example.com/timeout", "https://example.com/result");
+
+    private static final ReversalRequest REVERSAL = new ReversalRequest(
+        "testuser", "credential", "TransactionReversal", "ABCDEFGHI", "100", "600988", "11",
+        "https://example.com/result", "https://example.com/timeout", "remarks", "occasion");
+}
@@ -0,0 +1,220 @@
+package io.github.wmnjuguna.loadtest;
+
+import io.github.wmnjuguna.DarajaOperation;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process Daraja stub for load tests.
+ * Serves the OAuth endpoint and every API operation from virtual threads, so it can hold
+ * thousands of slow responses open at once without a matching number of OS threads.
+ *
+ * Each operation has its own latency distribution and error rate. Injected errors are
+ * answered with the configured status and a Daraja-style error body.
+ */
+final class DarajaStubServer implements AutoCloseable {
+
+    private static final byte[] TOKEN_RESPONSE =
+        "{\"access_token\":\"load_test_token\",\"expires_in\":\"3600\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] STK_PUSH_RESPONSE =
+        ("{\"MerchantRequestID\":\"29115-34620561-1\",\"CheckoutRequestID\":\"ws_CO_191220191020363925\"," +
+         "\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success. Request accepted for processing\"," +
+         "\"CustomerMessage\":\"Success. Request accepted for processing\"}").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] ACCEPTED_RESPONSE =
+        ("{\"ConversationID\":\"AG_20191219_00005797af5d7d75f652\"," +
+         "\"OriginatorConversationID\":\"16740-34861180-1\",\"ResponseCode\":\"0\"," +
+         "\"ResponseDescription\":\"Accept the service request successfully.\"}").getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] REGISTER_URL_RESPONSE =
+        ("{\"OriginatorCoversationID\":\"7619-37765134-1\",\"ResponseCode\":\"0\"," +
+         "\"ResponseDescription\":\"success\"}").getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<DarajaOperation, Endpoint> endpoints;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final LongAdder tokenRequests = new LongAdder();
+
+    DarajaStubServer(Duration latency) throws IOException {
+        this(builder().latency(LatencyDistribution.fixed(latency)));
+    }
+
+    private DarajaStubServer(Builder builder) throws IOException {
+        this.endpoints = new EnumMap<>(DarajaOperation.class);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 16_384);
+        server.createContext("/oauth/v1/generate", exchange -> {
+            tokenRequests.increment();
+            respond(exchange, 200, TOKEN_RESPONSE);
+        });
+        for (DarajaOperation operation : DarajaOperation.values()) {
+            Endpoint endpoint = new Endpoint(
+                builder.latencies.getOrDefault(operation, builder.latency),
+                builder.errorRates.getOrDefault(operation, builder.errorRate),
+                builder.errorStatuses.getOrDefault(operation, builder.errorStatus),
+                successBody(operation)
+            );
+            endpoints.put(operation, endpoint);
+            server.createContext(operation.getPath(), exchange -> handle(exchange, endpoint));
+        }
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    long tokenRequests() {
+        return tokenRequests.sum();
+    }
+
+    long requests(DarajaOperation operation) {
+        return endpoints.get(operation).requests.sum();
+    }
+
+    long injectedErrors(DarajaOperation operation) {
+        return endpoints.get(operation).errors.sum();
+    }
+
+    private void handle(HttpExchange exchange, Endpoint endpoint) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        endpoint.requests.increment();
+        try {
+            Duration latency = endpoint.latency.next();
+            if (latency.isPositive()) {
+                Thread.sleep(latency);
+            }
+            if (endpoint.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < endpoint.errorRate) {
+                endpoint.errors.increment();
+                respond(exchange, endpoint.errorStatus, errorBody(endpoint.errorStatus));
+            } else {
+                respond(exchange, 200, endpoint.body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static byte[] successBody(DarajaOperation operation) {
+        return switch (operation) {
+            case STK_PUSH -> STK_PUSH_RESPONSE;
+            case C2B_REGISTER_URLS -> REGISTER_URL_RESPONSE;
+            default -> ACCEPTED_RESPONSE;
+        };
+    }
+
+    private static byte[] errorBody(int status) {
+        return ("{\"requestId\":\"load-test\",\"errorCode\":\"" + status + ".001\"," +
+                "\"errorMessage\":\"Injected error\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static final class Endpoint {
+        private final LatencyDistribution latency;
+        private final double errorRate;
+        private final int errorStatus;
+        private final byte[] body;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private Endpoint(LatencyDistribution latency, double errorRate, int errorStatus, byte[] body) {
+            this.latency = latency;
+            this.errorRate = errorRate;
+            this.errorStatus = errorStatus;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Builder of stub servers with per-operation latency and error injection.
+     */
+    static final class Builder {
+        private final Map<DarajaOperation, LatencyDistribution> latencies = new EnumMap<>(DarajaOperation.class);
+        private final Map<DarajaOperation, Double> errorRates = new EnumMap<>(DarajaOperation.class);
+        private final Map<DarajaOperation, Integer> errorStatuses = new EnumMap<>(DarajaOperation.class);
+        private LatencyDistribution latency = LatencyDistribution.fixed(Duration.ZERO);
+        private double errorRate;
+        private int errorStatus = 503;
+
+        private Builder() {}
+
+        Builder latency(LatencyDistribution latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        Builder latency(DarajaOperation operation, LatencyDistribution latency) {
+            latencies.put(operation, latency);
+            return this;
+        }
+
+        Builder errors(double rate, int status) {
+            this.errorRate = requireRate(rate);
+            this.errorStatus = status;
+            return this;
+        }
+
+        Builder errors(DarajaOperation operation, double rate, int status) {
+            errorRates.put(operation, requireRate(rate));
+            errorStatuses.put(operation, status);
+            return this;
+        }
+
+        DarajaStubServer start() throws IOException {
+            return new DarajaStubServer(this);
+        }
+
+        private static double requireRate(double rate) {
+            if (!(rate >= 0 && rate <= 1)) {
+                throw new IllegalArgumentException("Error rate must be between 0 and 1");
+            }
+            return rate;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.wmnjuguna.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Distribution from which the Daraja stub draws the latency of each response.
+ */
+@FunctionalInterface
+interface LatencyDistribution {
+
+    /**
+     * Draws the latency of the next response.
+     *
+     * @return the response latency
+     */
+    Duration next();
+
+    /**
+     * Every response takes the same time.
+     */
+    static LatencyDistribution fixed(Duration latency) {
+        return () -> latency;
+    }
+
+    /**
+     * Latencies spread evenly between min and max.
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        return () -> Duration.ofNanos(ThreadLocalRandom.current().nextLong(minNanos, maxNanos + 1));
+    }
+
+    /**
+     * Log-normal latencies with the given median and 99th percentile, the long-tailed shape
+     * typical of a remote API. The p99 must be above the median.
+     */
+    static LatencyDistribution logNormal(Duration median, Duration p99) {
+        double mu = Math.log(median.toNanos());
+        double sigma = (Math.log(p99.toNanos()) - mu) / 2.326;
+        return () -> Duration.ofNanos((long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+}
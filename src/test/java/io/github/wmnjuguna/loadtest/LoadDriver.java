@@ -0,0 +1,111 @@
+package io.github.wmnjuguna.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: starts requests on a fixed schedule at the target rate,
+ * regardless of how long earlier requests take, the way independent M-Pesa customers arrive.
+ *
+ * Each request runs on its own virtual thread. Latency is measured from the request's
+ * scheduled start rather than its actual start, so time spent queued behind a saturated
+ * client or pool shows up in the percentiles instead of being hidden (coordinated omission).
+ */
+final class LoadDriver {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final double requestsPerSecond;
+    private final Duration duration;
+
+    LoadDriver(double requestsPerSecond, Duration duration) {
+        if (!(requestsPerSecond > 0)) {
+            throw new IllegalArgumentException("Requests per second must be positive");
+        }
+        this.requestsPerSecond = requestsPerSecond;
+        this.duration = duration;
+    }
+
+    /**
+     * Runs the load and waits for every started request to finish.
+     *
+     * @param request the request to issue, given its sequence number
+     * @return the latency and outcome report
+     */
+    Report run(Request request) throws InterruptedException {
+        Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        LongAdder successes = new LongAdder();
+        Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        long total = (long) (requestsPerSecond * duration.toNanos() / TimeUnit.SECONDS.toNanos(1));
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long scheduled = start + i * intervalNanos;
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long sequence = i;
+                executor.execute(() -> {
+                    try {
+                        request.execute(sequence);
+                        successes.increment();
+                    } catch (Exception e) {
+                        failures.computeIfAbsent(e.getClass().getSimpleName(), key -> new LongAdder()).increment();
+                    } finally {
+                        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+                        latencies.recordValue(Math.min(micros, MAX_TRACKABLE_MICROS));
+                    }
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<String, Long> failureCounts = new ConcurrentHashMap<>();
+        failures.forEach((type, count) -> failureCounts.put(type, count.sum()));
+        return new Report(requestsPerSecond, total, successes.sum(), failureCounts, elapsed, latencies);
+    }
+
+    /**
+     * One request of the load, e.g. a DarajaApiClient call.
+     */
+    @FunctionalInterface
+    interface Request {
+        void execute(long sequence) throws Exception;
+    }
+
+    /**
+     * Outcome of a load run. Latencies are recorded in microseconds.
+     */
+    record Report(double targetRps, long requests, long successes, Map<String, Long> failures,
+                  Duration elapsed, Histogram latencies) {
+
+        double achievedRps() {
+            return requests * 1000.0 / Math.max(elapsed.toMillis(), 1);
+        }
+
+        double percentileMillis(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        String summary() {
+            return String.format(
+                "target %.0f rps, achieved %.0f rps, %d requests, %d ok, failures %s%n" +
+                "latency ms: p50 %.1f  p90 %.1f  p99 %.1f  p99.9 %.1f  max %.1f",
+                targetRps, achievedRps(), requests, successes, failures,
+                percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(99.9),
+                latencies.getMaxValue() / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.wmnjuguna.loadtest;
+
+import io.github.wmnjuguna.DarajaApiClient;
+import io.github.wmnjuguna.DarajaClientFactory;
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import io.github.wmnjuguna.stkpush.StkPushResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test holding 10k blocking STK Push calls pending at once in virtual-thread mode.
+ * The stub delays every response, so all calls are parked simultaneously; the number of
+ * platform threads must stay bounded by the carrier pool rather than grow with the load.
+ *
+ * Requires an open-file limit above 20k (each call holds a client and a server socket).
+ * Run with: ./gradlew performanceTest --tests '*VirtualThreadLoadTest'
+ */
+@Tag("performance")
+class VirtualThreadLoadTest {
+
+    private static final int PENDING_CALLS = 10_000;
+    private static final Duration STUB_LATENCY = Duration.ofSeconds(5);
+
+    @Test
+    void virtualThreadMode_ShouldSustain10kPendingStkPushesOnBoundedCarrierThreads() throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        try (DarajaStubServer stub = new DarajaStubServer(STUB_LATENCY);
+             DarajaClientFactory factory = new DarajaClientFactory(stub.baseUrl(), "key", "secret").virtualThreads()) {
+
+            DarajaApiClient client = factory.createApiClient();
+            ExecutorService executor = factory.virtualThreadExecutor();
+            StkPushRequest request = createStkPushRequest();
+
+            threads.resetPeakThreadCount();
+            long start = System.nanoTime();
+
+            List<Future<StkPushResponse>> futures = new ArrayList<>(PENDING_CALLS);
+            for (int i = 0; i < PENDING_CALLS; i++) {
+                futures.add(executor.submit(() -> client.initiateStkPush(request)));
+            }
+
+            int succeeded = 0;
+            for (Future<StkPushResponse> future : futures) {
+                if (future.get().isSuccessful()) {
+                    succeeded++;
+                }
+            }
+
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            int peakPlatformThreads = threads.getPeakThreadCount();
+
+            System.out.printf("%d STK pushes in %d ms, max pending at stub %d, peak platform threads %d, processors %d%n",
+                succeeded, elapsedMillis, stub.maxInFlight(), peakPlatformThreads,
+                Runtime.getRuntime().availableProcessors());
+
+            assertEquals(PENDING_CALLS, succeeded);
+            // Nearly all calls were parked on the stub at the same time
+            assertTrue(stub.maxInFlight() >= PENDING_CALLS * 9 / 10,
+                "Expected ~" + PENDING_CALLS + " concurrent calls but peaked at " + stub.maxInFlight());
+            // ... without one platform thread per call
+            assertTrue(peakPlatformThreads < 500,
+                "Platform threads grew with load: " + peakPlatformThreads);
+        }
+    }
+
+    private static StkPushRequest createStkPushRequest() {
+        return StkPushRequest.builder()
+            .businessShortCode("174379")
+            .password("test_password")
+            .timestamp("20250915100000")
+            .amount(1)
+            .phoneNumber("254708374149")
+            .callBackURL("https://example.com/callback")
+            .accountReference("account")
+            .transactionDesc("description")
+            .build();
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.wmnjuguna.metrics;
+
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.exception.DarajaApiException;
+import io.github.wmnjuguna.exception.InvalidDarajaRequestException;
+import io.github.wmnjuguna.transport.ConnectionPoolStats;
+import io.github.wmnjuguna.webhook.DeduplicationStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerMetricsRecorderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerMetricsRecorder recorder = new MicrometerMetricsRecorder(registry);
+
+    @Test
+    void recordCall_ShouldTimeCallsByOperationAndOutcome() {
+        recorder.recordCall(DarajaOperation.STK_PUSH, TimeUnit.MILLISECONDS.toNanos(120), null);
+        recorder.recordCall(DarajaOperation.STK_PUSH, TimeUnit.MILLISECONDS.toNanos(80), null);
+        recorder.recordCall(DarajaOperation.STK_PUSH, TimeUnit.MILLISECONDS.toNanos(30),
+            new InvalidDarajaRequestException("Bad Request", "400.002.02", 400));
+
+        assertEquals(2, registry.get("daraja.client.requests")
+            .tags("operation", "STK_PUSH", "outcome", "success").timer().count());
+        assertEquals(200, registry.get("daraja.client.requests")
+            .tags("operation", "STK_PUSH", "outcome", "success").timer().totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, registry.get("daraja.client.requests")
+            .tags("operation", "STK_PUSH", "outcome", "failure").timer().count());
+    }
+
+    @Test
+    void recordCall_WithError_ShouldCountByExceptionErrorCodeAndStatus() {
+        recorder.recordCall(DarajaOperation.B2C_PAYMENT, 1, new DarajaApiException("Unavailable", "{}", "503.001", 503));
+        recorder.recordCall(DarajaOperation.B2C_PAYMENT, 1, new DarajaApiException("Unavailable", "{}", "503.001", 503));
+
+        assertEquals(2, registry.get("daraja.client.errors")
+            .tags("operation", "B2C_PAYMENT", "exception", "DarajaApiException",
+                "error.code", "503.001", "http.status", "503")
+            .counter().count());
+    }
+
+    @Test
+    void recordCall_WithUnexpectedErrorCode_ShouldKeepTagCardinalityLow() {
+        recorder.recordCall(DarajaOperation.B2C_PAYMENT, 1,
+            new DarajaApiException("Proxy error", "<html>", "upstream connect error 7f3a", 502));
+        recorder.recordCall(DarajaOperation.B2C_PAYMENT, 1, new IllegalStateException());
+
+        assertEquals(1, registry.get("daraja.client.errors").tags("error.code", "other").counter().count());
+        assertEquals(1, registry.get("daraja.client.errors")
+            .tags("exception", "IllegalStateException", "error.code", "none", "http.status", "none")
+            .counter().count());
+    }
+
+    @Test
+    void recordTokenRefresh_ShouldTimeByOutcomeAndMode() {
+        recorder.recordTokenRefresh(TimeUnit.MILLISECONDS.toNanos(300), true, false);
+        recorder.recordTokenRefresh(TimeUnit.MILLISECONDS.toNanos(250), true, true);
+        recorder.recordTokenRefresh(TimeUnit.MILLISECONDS.toNanos(900), false, false);
+
+        assertEquals(1, registry.get("daraja.auth.token.refresh").tags("outcome", "success", "mode", "lazy").timer().count());
+        assertEquals(1, registry.get("daraja.auth.token.refresh").tags("mode", "background").timer().count());
+        assertEquals(1, registry.get("daraja.auth.token.refresh").tags("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void bindConnectionPool_ShouldRegisterPoolGauges() {
+        recorder.bindConnectionPool(() -> new ConnectionPoolStats(3, 5, 1, 20));
+
+        assertEquals(3, registry.get("daraja.pool.connections").tags("state", "leased").gauge().value());
+        assertEquals(5, registry.get("daraja.pool.connections").tags("state", "available").gauge().value());
+        assertEquals(1, registry.get("daraja.pool.connections").tags("state", "pending").gauge().value());
+        assertEquals(20, registry.get("daraja.pool.connections").tags("state", "max").gauge().value());
+    }
+
+    @Test
+    void bindCallbackDeduplication_ShouldRegisterHitAndMissCounters() {
+        recorder.bindCallbackDeduplication(() -> new DeduplicationStats(4, 96, 90, 6));
+
+        assertEquals(4, registry.get("daraja.callback.deduplication").tags("result", "duplicate").functionCounter().count());
+        assertEquals(96, registry.get("daraja.callback.deduplication").tags("result", "unique").functionCounter().count());
+        assertEquals(90, registry.get("daraja.callback.deduplication.size").gauge().value());
+    }
+
+    @Test
+    void bindConnectionPool_WithCollectableSupplier_ShouldKeepReportingAfterGc() {
+        bindCapturingSuppliers(new ConnectionPoolStats(3, 5, 1, 20), new DeduplicationStats(4, 96, 90, 6));
+
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+
+        assertEquals(3, registry.get("daraja.pool.connections").tags("state", "leased").gauge().value());
+        assertEquals(4, registry.get("daraja.callback.deduplication").tags("result", "duplicate").functionCounter().count());
+        assertEquals(90, registry.get("daraja.callback.deduplication.size").gauge().value());
+    }
+
+    /**
+     * Binds suppliers that capture their stats, so no reference to them remains once this returns.
+     */
+    private void bindCapturingSuppliers(ConnectionPoolStats poolStats, DeduplicationStats deduplicationStats) {
+        recorder.bindConnectionPool(() -> poolStats);
+        recorder.bindCallbackDeduplication(() -> deduplicationStats);
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.wmnjuguna.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitConfigTest {
+
+    @Test
+    void perSecond_ShouldBlockWithoutBurst() {
+        RateLimitConfig config = RateLimitConfig.perSecond(5);
+
+        assertEquals(5, config.getPermitsPerSecond());
+        assertEquals(1, config.getBurstCapacity());
+        assertEquals(RateLimitMode.BLOCK, config.getMode());
+        assertEquals(Duration.ofSeconds(5), config.getMaxWait());
+    }
+
+    @Test
+    void builder_WithCustomValues_ShouldApplyThem() {
+        RateLimitConfig config = RateLimitConfig.builder()
+            .permitsPerSecond(0.5)
+            .burstCapacity(10)
+            .mode(RateLimitMode.QUEUE)
+            .maxWait(Duration.ofMillis(250))
+            .build();
+
+        assertEquals(0.5, config.getPermitsPerSecond());
+        assertEquals(10, config.getBurstCapacity());
+        assertEquals(RateLimitMode.QUEUE, config.getMode());
+        assertEquals(Duration.ofMillis(250), config.getMaxWait());
+    }
+
+    @Test
+    void builder_WithInvalidValues_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> RateLimitConfig.builder().permitsPerSecond(0));
+        assertThrows(IllegalArgumentException.class, () -> RateLimitConfig.builder().permitsPerSecond(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> RateLimitConfig.builder().burstCapacity(0));
+        assertThrows(IllegalArgumentException.class, () -> RateLimitConfig.builder().mode(null));
+        assertThrows(IllegalArgumentException.class, () -> RateLimitConfig.builder().maxWait(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void build_WithoutRate_ShouldThrowException() {
+        assertThrows(IllegalStateException.class, () -> RateLimitConfig.builder().build());
+    }
+}
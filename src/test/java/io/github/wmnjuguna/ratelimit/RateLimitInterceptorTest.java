@@ -0,0 +1,82 @@
+package io.github.wmnjuguna.ratelimit;
+
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.exception.DarajaRateLimitException;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitInterceptorTest {
+
+    @Test
+    void apply_InFailFastMode_ShouldRejectOnceBurstIsSpent() {
+        RateLimiterRegistry registry = RateLimiterRegistry.builder()
+            .limit(DarajaOperation.STK_PUSH, RateLimitConfig.builder()
+                .permitsPerSecond(1)
+                .burstCapacity(2)
+                .mode(RateLimitMode.FAIL_FAST)
+                .build())
+            .build();
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(registry);
+
+        interceptor.apply(request(DarajaOperation.STK_PUSH));
+        interceptor.apply(request(DarajaOperation.STK_PUSH));
+
+        assertThrows(DarajaRateLimitException.class, () -> interceptor.apply(request(DarajaOperation.STK_PUSH)));
+        assertEquals(1, registry.stats().get(DarajaOperation.STK_PUSH).rejected());
+    }
+
+    @Test
+    void apply_ShouldKeepSeparateQuotasPerOperation() {
+        RateLimiterRegistry registry = RateLimiterRegistry.builder()
+            .defaultLimit(RateLimitConfig.builder().permitsPerSecond(1).mode(RateLimitMode.FAIL_FAST).build())
+            .build();
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(registry);
+
+        interceptor.apply(request(DarajaOperation.STK_PUSH));
+        interceptor.apply(request(DarajaOperation.B2C_PAYMENT));
+        interceptor.apply(request(DarajaOperation.TRANSACTION_STATUS));
+
+        assertThrows(DarajaRateLimitException.class, () -> interceptor.apply(request(DarajaOperation.B2C_PAYMENT)));
+    }
+
+    @Test
+    void apply_ToUnlimitedOrUnknownEndpoint_ShouldNotThrottle() {
+        RateLimiterRegistry registry = RateLimiterRegistry.builder()
+            .limit(DarajaOperation.STK_PUSH, RateLimitConfig.builder().permitsPerSecond(1).mode(RateLimitMode.FAIL_FAST).build())
+            .build();
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(registry);
+
+        for (int i = 0; i < 10; i++) {
+            interceptor.apply(request(DarajaOperation.ACCOUNT_BALANCE));
+            interceptor.apply(new RequestTemplate().uri("/oauth/v1/generate?grant_type=client_credentials"));
+        }
+
+        assertNull(registry.limiter(DarajaOperation.ACCOUNT_BALANCE));
+    }
+
+    @Test
+    void apply_InQueueMode_ShouldWaitWithinMaxWait() {
+        RateLimiterRegistry registry = RateLimiterRegistry.builder()
+            .limit(DarajaOperation.B2C_PAYMENT, RateLimitConfig.builder()
+                .permitsPerSecond(20)
+                .mode(RateLimitMode.QUEUE)
+                .build())
+            .build();
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(registry);
+
+        for (int i = 0; i < 3; i++) {
+            interceptor.apply(request(DarajaOperation.B2C_PAYMENT));
+        }
+
+        RateLimiterStats stats = registry.stats().get(DarajaOperation.B2C_PAYMENT);
+        assertEquals(3, stats.acquired());
+        assertEquals(2, stats.throttled());
+        assertEquals(0, stats.rejected());
+    }
+
+    private static RequestTemplate request(DarajaOperation operation) {
+        return new RequestTemplate().uri(operation.getPath());
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.wmnjuguna.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    void tryAcquire_ShouldAllowBurstThenReject() {
+        RateLimiter limiter = RateLimiter.create(RateLimitConfig.builder()
+            .permitsPerSecond(1)
+            .burstCapacity(3)
+            .build());
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        RateLimiterStats stats = limiter.getStats();
+        assertEquals(3, stats.acquired());
+        assertEquals(1, stats.rejected());
+        assertEquals(0, stats.throttled());
+    }
+
+    @Test
+    void acquire_ShouldPaceCallersToConfiguredRate() throws InterruptedException {
+        RateLimiter limiter = RateLimiter.create(RateLimitConfig.perSecond(20));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertTrue(elapsed.toMillis() >= 190, "Elapsed " + elapsed);
+        RateLimiterStats stats = limiter.getStats();
+        assertEquals(5, stats.acquired());
+        assertEquals(4, stats.throttled());
+        assertTrue(stats.maxWait().toMillis() >= 40);
+        assertTrue(stats.averageWait().compareTo(Duration.ZERO) > 0);
+    }
+
+    @Test
+    void tryAcquireWithTimeout_ShouldRejectWhenPermitComesTooLate() throws InterruptedException {
+        RateLimiter limiter = RateLimiter.create(RateLimitConfig.perSecond(2));
+
+        assertTrue(limiter.tryAcquire(Duration.ZERO));
+        assertFalse(limiter.tryAcquire(Duration.ofMillis(100)));
+        assertTrue(limiter.tryAcquire(Duration.ofSeconds(1)));
+        assertEquals(1, limiter.getStats().rejected());
+    }
+
+    @Test
+    void create_WithNullConfig_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.create(null));
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.wmnjuguna.reactive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkSubmissionPublisherTest {
+
+    @Test
+    void subscribe_ShouldKeepAtMostMaxConcurrencyRequestsInFlight() {
+        List<CompletableFuture<String>> pending = new CopyOnWriteArrayList<>();
+        BulkSubmissionPublisher<Integer, String> publisher = new BulkSubmissionPublisher<>(
+            range(10), request -> {
+                CompletableFuture<String> future = new CompletableFuture<>();
+                pending.add(future);
+                return future;
+            }, 3
+        );
+        RecordingSubscriber<BulkResult<Integer, String>> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertEquals(3, pending.size());
+
+        pending.get(0).complete("done");
+        assertEquals(4, pending.size());
+        assertEquals(1, subscriber.items.size());
+
+        for (int i = 1; i < 10; i++) {
+            pending.get(i).complete("done");
+        }
+
+        assertEquals(10, subscriber.items.size());
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void subscribe_ShouldNotSubmitMoreRequestsThanDownstreamDemand() {
+        List<Integer> submitted = new ArrayList<>();
+        BulkSubmissionPublisher<Integer, String> publisher = new BulkSubmissionPublisher<>(
+            range(10), request -> {
+                submitted.add(request);
+                return CompletableFuture.completedFuture("ok_" + request);
+            }, 10
+        );
+        RecordingSubscriber<BulkResult<Integer, String>> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        assertEquals(List.of(0, 1), submitted);
+        assertEquals(2, subscriber.items.size());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(8);
+
+        assertEquals(10, submitted.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void subscribe_WhenOneRequestFails_ShouldReportItAndContinue() {
+        BulkSubmissionPublisher<Integer, String> publisher = new BulkSubmissionPublisher<>(
+            range(3), request -> request == 1
+                ? CompletableFuture.failedFuture(new IllegalStateException("failed_" + request))
+                : CompletableFuture.completedFuture("ok_" + request), 2
+        );
+        RecordingSubscriber<BulkResult<Integer, String>> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(3, subscriber.items.size());
+        BulkResult<Integer, String> failed = subscriber.items.stream()
+            .filter(result -> !result.isSuccess())
+            .findFirst()
+            .orElseThrow();
+        assertEquals(1, failed.request());
+        assertEquals("failed_1", failed.error().getMessage());
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void request_WithNonPositiveCount_ShouldSignalError() {
+        BulkSubmissionPublisher<Integer, String> publisher = new BulkSubmissionPublisher<>(
+            range(3), request -> CompletableFuture.completedFuture("ok"), 2
+        );
+        RecordingSubscriber<BulkResult<Integer, String>> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    /**
+     * Synchronous publisher of the integers 0 to count - 1 that honours demand.
+     */
+    private static Flow.Publisher<Integer> range(int count) {
+        return subscriber -> {
+            Iterator<Integer> iterator = IntStream.range(0, count).iterator();
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private long demand;
+                private boolean emitting;
+                private boolean done;
+
+                @Override
+                public void request(long n) {
+                    demand += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && iterator.hasNext() && !done) {
+                        demand--;
+                        subscriber.onNext(iterator.next());
+                    }
+                    if (!iterator.hasNext() && !done) {
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                    emitting = false;
+                }
+
+                @Override
+                public void cancel() {
+                    done = true;
+                }
+            });
+        };
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        private final List<T> items = new CopyOnWriteArrayList<>();
+        private Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
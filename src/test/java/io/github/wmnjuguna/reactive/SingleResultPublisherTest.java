@@ -0,0 +1,107 @@
+package io.github.wmnjuguna.reactive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleResultPublisherTest {
+
+    @Test
+    void request_ShouldStartCallAndEmitResult() {
+        AtomicInteger calls = new AtomicInteger();
+        SingleResultPublisher<String> publisher = new SingleResultPublisher<>(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("ok");
+        });
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        assertEquals(0, calls.get());
+        subscriber.subscription.request(1);
+
+        assertEquals(1, calls.get());
+        assertEquals(List.of("ok"), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void request_AfterCancel_ShouldNotStartCall() {
+        AtomicInteger calls = new AtomicInteger();
+        SingleResultPublisher<String> publisher = new SingleResultPublisher<>(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("ok");
+        });
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+
+        assertEquals(0, calls.get());
+        assertTrue(subscriber.items.isEmpty());
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void request_WithNullResult_ShouldCompleteWithoutItem() {
+        SingleResultPublisher<String> publisher = new SingleResultPublisher<>(() -> CompletableFuture.completedFuture(null));
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertTrue(subscriber.items.isEmpty());
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void cancel_WhilePending_ShouldCancelFutureAndSignalNothing() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        SingleResultPublisher<String> publisher = new SingleResultPublisher<>(() -> pending);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+
+        assertTrue(pending.isCancelled());
+        assertTrue(subscriber.items.isEmpty());
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+        private final List<T> items = new CopyOnWriteArrayList<>();
+        private Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
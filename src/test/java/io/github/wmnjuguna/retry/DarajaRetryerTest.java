@@ -0,0 +1,133 @@
+package io.github.wmnjuguna.retry;
+
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.exception.DarajaApiException;
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.timeout.Deadline;
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DarajaRetryerTest {
+
+    private static final RetryConfig FAST = RetryConfig.builder()
+        .maxAttempts(3)
+        .baseDelay(Duration.ofMillis(1))
+        .maxDelay(Duration.ofMillis(20))
+        .build();
+
+    @Test
+    void continueOrPropagate_IdempotentOperationWith503_ShouldRetryUpToMaxAttempts() {
+        Retryer retryer = new DarajaRetryer(FAST).clone();
+        RetryableException e = httpFailure(DarajaOperation.TRANSACTION_STATUS, 503, null);
+
+        retryer.continueOrPropagate(e);
+        retryer.continueOrPropagate(e);
+        RetryableException thrown = assertThrows(RetryableException.class, () -> retryer.continueOrPropagate(e));
+
+        assertSame(e, thrown);
+    }
+
+    @Test
+    void continueOrPropagate_PaymentWith503_ShouldNotRetry() {
+        Retryer retryer = new DarajaRetryer(FAST).clone();
+        RetryableException e = httpFailure(DarajaOperation.B2C_PAYMENT, 503, null);
+
+        assertThrows(RetryableException.class, () -> retryer.continueOrPropagate(e));
+    }
+
+    @Test
+    void continueOrPropagate_PaymentWith429_ShouldRetry() {
+        Retryer retryer = new DarajaRetryer(FAST).clone();
+
+        assertDoesNotThrow(() -> retryer.continueOrPropagate(httpFailure(DarajaOperation.STK_PUSH, 429, null)));
+    }
+
+    @Test
+    void continueOrPropagate_PaymentWithReadTimeout_ShouldNotRetryAndWrapCause() {
+        Retryer retryer = new DarajaRetryer(FAST).clone();
+        RetryableException e = ioFailure(DarajaOperation.B2C_PAYMENT, new SocketTimeoutException("Read timed out"));
+
+        RetryableException thrown = assertThrows(RetryableException.class, () -> retryer.continueOrPropagate(e));
+
+        DarajaException cause = assertInstanceOf(DarajaException.class, thrown.getCause());
+        assertInstanceOf(SocketTimeoutException.class, cause.getCause());
+    }
+
+    @Test
+    void continueOrPropagate_PaymentWithConnectionRefused_ShouldRetry() {
+        Retryer retryer = new DarajaRetryer(FAST).clone();
+
+        assertDoesNotThrow(() -> retryer.continueOrPropagate(
+            ioFailure(DarajaOperation.B2C_PAYMENT, new ConnectException("Connection refused"))));
+    }
+
+    @Test
+    void continueOrPropagate_WithRetryAfter_ShouldWaitForIt() {
+        Retryer retryer = new DarajaRetryer(RetryConfig.builder()
+            .baseDelay(Duration.ofMillis(1))
+            .maxDelay(Duration.ofSeconds(1))
+            .build()).clone();
+        long start = System.nanoTime();
+
+        retryer.continueOrPropagate(httpFailure(DarajaOperation.ACCOUNT_BALANCE, 429, System.currentTimeMillis() + 150));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 100);
+    }
+
+    @Test
+    void continueOrPropagate_WithRetryAfterBeyondMaxDelay_ShouldNotRetry() {
+        Retryer retryer = new DarajaRetryer(FAST).clone();
+        RetryableException e = httpFailure(DarajaOperation.ACCOUNT_BALANCE, 429, System.currentTimeMillis() + 60_000);
+
+        assertThrows(RetryableException.class, () -> retryer.continueOrPropagate(e));
+    }
+
+    @Test
+    void continueOrPropagate_WhenBudgetIsExhausted_ShouldNotRetry() {
+        RetryBudget budget = new RetryBudget(0, 1);
+        DarajaRetryer prototype = new DarajaRetryer(FAST, budget);
+        RetryableException e = httpFailure(DarajaOperation.TRANSACTION_STATUS, 503, null);
+
+        prototype.clone().continueOrPropagate(e);
+        Retryer second = prototype.clone();
+
+        assertThrows(RetryableException.class, () -> second.continueOrPropagate(e));
+        assertEquals(1, budget.exhaustedCount());
+    }
+
+    @Test
+    void continueOrPropagate_WhenDeadlineExpiresBeforeNextAttempt_ShouldNotRetry() {
+        Retryer retryer = new DarajaRetryer(FAST).clone();
+        RetryableException e = httpFailure(DarajaOperation.TRANSACTION_STATUS, 503, System.currentTimeMillis() + 15);
+
+        assertThrows(RetryableException.class,
+            () -> Deadline.after(Duration.ofMillis(5)).run(() -> retryer.continueOrPropagate(e)));
+    }
+
+    private static RetryableException httpFailure(DarajaOperation operation, int status, Long retryAfter) {
+        Request request = request(operation);
+        return new RetryableException(status, "Failure", request.httpMethod(),
+            new DarajaApiException("Failure", "{}", status + ".001", status), retryAfter, request);
+    }
+
+    private static RetryableException ioFailure(DarajaOperation operation, IOException cause) {
+        Request request = request(operation);
+        return new RetryableException(-1, cause.getMessage(), request.httpMethod(), cause, (Long) null, request);
+    }
+
+    private static Request request(DarajaOperation operation) {
+        return Request.create(Request.HttpMethod.POST, "http://example.com" + operation.getPath(),
+            Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.wmnjuguna.retry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryBudgetTest {
+
+    @Test
+    void tryWithdraw_ShouldStopWhenBalanceIsSpent() {
+        RetryBudget budget = new RetryBudget(0.1, 2);
+
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+        assertEquals(1, budget.exhaustedCount());
+    }
+
+    @Test
+    void deposit_ShouldEarnOneRetryPerTenRequests() {
+        RetryBudget budget = new RetryBudget(0.1, 5);
+        while (budget.tryWithdraw()) {
+            // drain the initial balance
+        }
+
+        for (int i = 0; i < 9; i++) {
+            budget.deposit();
+        }
+        assertFalse(budget.tryWithdraw());
+
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+    }
+
+    @Test
+    void deposit_ShouldNotExceedCapacity() {
+        RetryBudget budget = new RetryBudget(1, 3);
+
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+
+        assertEquals(3, budget.available());
+    }
+
+    @Test
+    void constructor_WithNegativeValues_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new RetryBudget(-0.1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RetryBudget(0.1, -1));
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.wmnjuguna.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryConfigTest {
+
+    @Test
+    void defaults_ShouldProvideConservativeRetrySettings() {
+        RetryConfig config = RetryConfig.defaults();
+
+        assertEquals(3, config.getMaxAttempts());
+        assertEquals(Duration.ofMillis(100), config.getBaseDelay());
+        assertEquals(Duration.ofSeconds(5), config.getMaxDelay());
+        assertEquals(0.1, config.getBudgetRatio());
+        assertEquals(10, config.getBudgetCapacity());
+    }
+
+    @Test
+    void builder_WithInvalidValues_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> RetryConfig.builder().maxAttempts(0));
+        assertThrows(IllegalArgumentException.class, () -> RetryConfig.builder().baseDelay(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> RetryConfig.builder().maxDelay(null));
+        assertThrows(IllegalArgumentException.class, () -> RetryConfig.builder().budgetRatio(-1));
+        assertThrows(IllegalArgumentException.class, () -> RetryConfig.builder().budgetCapacity(-1));
+    }
+
+    @Test
+    void build_WithBaseDelayAboveMaxDelay_ShouldThrowException() {
+        assertThrows(IllegalStateException.class, () -> RetryConfig.builder()
+            .baseDelay(Duration.ofSeconds(10))
+            .maxDelay(Duration.ofSeconds(1))
+            .build());
+    }
+}
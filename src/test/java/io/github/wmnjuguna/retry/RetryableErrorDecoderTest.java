@@ -0,0 +1,75 @@
+package io.github.wmnjuguna.retry;
+
+import io.github.wmnjuguna.error.DarajaErrorDecoder;
+import io.github.wmnjuguna.exception.DarajaApiException;
+import io.github.wmnjuguna.exception.InvalidDarajaRequestException;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryableErrorDecoderTest {
+
+    private final RetryableErrorDecoder errorDecoder = new RetryableErrorDecoder(new DarajaErrorDecoder());
+    private final Request request = Request.create(
+        Request.HttpMethod.POST, "http://example.com/mpesa/transactionstatus/v1/query",
+        Collections.emptyMap(), null, StandardCharsets.UTF_8, null
+    );
+
+    @Test
+    void decode_Status503_ShouldWrapDecodedExceptionAsRetryable() {
+        Exception exception = errorDecoder.decode("testMethod", createResponse(503, Collections.emptyMap()));
+
+        RetryableException retryable = assertInstanceOf(RetryableException.class, exception);
+        DarajaApiException cause = assertInstanceOf(DarajaApiException.class, retryable.getCause());
+        assertEquals(503, cause.getHttpStatus());
+        assertEquals(503, retryable.status());
+        assertNull(retryable.retryAfter());
+    }
+
+    @Test
+    void decode_Status429WithRetryAfterSeconds_ShouldCarryRetryTime() {
+        long before = System.currentTimeMillis();
+
+        Exception exception = errorDecoder.decode("testMethod",
+            createResponse(429, Map.of("Retry-After", List.of("2"))));
+
+        RetryableException retryable = assertInstanceOf(RetryableException.class, exception);
+        assertNotNull(retryable.retryAfter());
+        assertTrue(retryable.retryAfter() >= before + 2000);
+    }
+
+    @Test
+    void decode_Status429WithRetryAfterDate_ShouldCarryRetryTime() {
+        Exception exception = errorDecoder.decode("testMethod",
+            createResponse(429, Map.of("Retry-After", List.of("Wed, 21 Oct 2015 07:28:00 GMT"))));
+
+        RetryableException retryable = assertInstanceOf(RetryableException.class, exception);
+        assertEquals(1445412480000L, retryable.retryAfter());
+    }
+
+    @Test
+    void decode_Status400_ShouldNotBeRetryable() {
+        Exception exception = errorDecoder.decode("testMethod", createResponse(400, Collections.emptyMap()));
+
+        assertInstanceOf(InvalidDarajaRequestException.class, exception);
+    }
+
+    private Response createResponse(int status, Map<String, Collection<String>> headers) {
+        return Response.builder()
+            .status(status)
+            .reason("Reason")
+            .request(request)
+            .headers(headers)
+            .body("{\"errorCode\":\"" + status + ".001\",\"errorMessage\":\"Error\"}", StandardCharsets.UTF_8)
+            .build();
+    }
+}
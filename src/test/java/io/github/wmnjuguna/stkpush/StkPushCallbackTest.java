@@ -1,7 +1,9 @@
 package io.github.wmnjuguna.stkpush;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -127,6 +129,96 @@ class StkPushCallbackTest {
         assertNull(metadata.getPhoneNumber());
     }
 
+    @Test
+    void callbackMetadata_ShouldIndexItemsIntoPrimitiveFields() {
+        StkPushCallback.CallbackMetadata metadata = new StkPushCallback.CallbackMetadata(List.of(
+            new StkPushCallback.CallbackItem("Amount", 1.5),
+            new StkPushCallback.CallbackItem("MpesaReceiptNumber", "NLJ7RT61SV"),
+            new StkPushCallback.CallbackItem("TransactionDate", 20191219102115L),
+            new StkPushCallback.CallbackItem("PhoneNumber", 254708374149L)
+        ));
+
+        assertEquals(150L, metadata.getAmountMinorUnits());
+        assertEquals(1.5, metadata.getAmount());
+        assertEquals(20191219102115L, metadata.getTransactionDate());
+        assertEquals("254708374149", metadata.getPhoneNumber());
+    }
+
+    @Test
+    void callbackMetadata_WithSubCentAmount_ShouldReturnItUnrounded() {
+        StkPushCallback.CallbackMetadata metadata = new StkPushCallback.CallbackMetadata(List.of(
+            new StkPushCallback.CallbackItem("Amount", 1.005)
+        ));
+        StkPushCallback.CallbackMetadata text = new StkPushCallback.CallbackMetadata(List.of(
+            new StkPushCallback.CallbackItem("Amount", "10.125")
+        ));
+
+        assertEquals(1.005, metadata.getAmount());
+        assertEquals(101L, metadata.getAmountMinorUnits());
+        assertEquals(10.125, text.getAmount());
+        assertEquals(1013L, text.getAmountMinorUnits());
+    }
+
+    @Test
+    void callbackMetadata_ShouldKeepItemsAsOnlyComponentAndIndexFromACopy() {
+        List<StkPushCallback.CallbackItem> items = new ArrayList<>(List.of(
+            new StkPushCallback.CallbackItem("Amount", 100),
+            new StkPushCallback.CallbackItem("PhoneNumber", 254708374149L)
+        ));
+        StkPushCallback.CallbackMetadata metadata = new StkPushCallback.CallbackMetadata(items);
+
+        items.set(0, new StkPushCallback.CallbackItem("Amount", 999));
+
+        assertEquals(1, StkPushCallback.CallbackMetadata.class.getRecordComponents().length);
+        assertEquals(10_000L, metadata.getAmountMinorUnits());
+        assertEquals(100, metadata.items().get(0).value());
+        assertThrows(UnsupportedOperationException.class, () -> metadata.items().clear());
+        assertEquals(new StkPushCallback.CallbackMetadata(List.of(
+            new StkPushCallback.CallbackItem("Amount", 100),
+            new StkPushCallback.CallbackItem("PhoneNumber", 254708374149L)
+        )), metadata);
+        assertEquals("CallbackMetadata[items=" + List.of(
+            new StkPushCallback.CallbackItem("Amount", 100),
+            new StkPushCallback.CallbackItem("PhoneNumber", 254708374149L)
+        ) + "]", metadata.toString());
+    }
+
+    @Test
+    void callbackMetadata_WithInvalidValues_ShouldReportThemAsAbsent() {
+        StkPushCallback.CallbackMetadata metadata = new StkPushCallback.CallbackMetadata(List.of(
+            new StkPushCallback.CallbackItem("Amount", "not a number"),
+            new StkPushCallback.CallbackItem("TransactionDate", "yesterday"),
+            new StkPushCallback.CallbackItem("PhoneNumber", "07XX"),
+            new StkPushCallback.CallbackItem("Balance", null)
+        ));
+
+        assertEquals(0.0, metadata.getAmount());
+        assertEquals(0L, metadata.getTransactionDate());
+        assertNull(metadata.getPhoneNumber());
+        assertEquals("default", metadata.getItemValue("Balance", "default"));
+        assertEquals(0L, metadata.getItemValue("TransactionDate", 0L));
+    }
+
+    @Test
+    void deserialize_ShouldIndexCallbackMetadata() throws Exception {
+        String json = "{\"Body\":{\"stkCallback\":{\"MerchantRequestID\":\"29115-34620561-1\","
+            + "\"CheckoutRequestID\":\"ws_CO_191220191020363925\",\"ResultCode\":0,\"ResultDesc\":\"Success\","
+            + "\"CallbackMetadata\":{\"Item\":[{\"Name\":\"Amount\",\"Value\":1.00},"
+            + "{\"Name\":\"MpesaReceiptNumber\",\"Value\":\"NLJ7RT61SV\"},"
+            + "{\"Name\":\"Balance\"},"
+            + "{\"Name\":\"TransactionDate\",\"Value\":20191219102115},"
+            + "{\"Name\":\"PhoneNumber\",\"Value\":254708374149}]}}}}";
+
+        StkPushCallback callback = new ObjectMapper().readValue(json, StkPushCallback.class);
+        StkPushCallback.CallbackMetadata metadata = callback.body().stkCallback().callbackMetadata();
+
+        assertEquals(5, metadata.items().size());
+        assertEquals(100L, metadata.getAmountMinorUnits());
+        assertEquals("NLJ7RT61SV", metadata.getReceiptNumber());
+        assertEquals(20191219102115L, metadata.getTransactionDate());
+        assertEquals("254708374149", metadata.getPhoneNumber());
+    }
+
     @Test
     void getResultDescription_ShouldReturnCorrectValue() {
         StkPushCallback callback = createSuccessfulCallback();
@@ -0,0 +1,57 @@
+package io.github.wmnjuguna.timeout;
+
+import io.github.wmnjuguna.exception.DarajaDeadlineExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineTest {
+
+    @Test
+    void call_ShouldBindDeadlineToCurrentThreadOnlyWhileRunning() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(5));
+
+        assertSame(deadline, deadline.call(Deadline::current));
+        assertNull(Deadline.current());
+    }
+
+    @Test
+    void call_WithinEarlierDeadline_ShouldKeepEarlierDeadline() {
+        Deadline outer = Deadline.after(Duration.ofSeconds(1));
+
+        Deadline effective = outer.call(() -> Deadline.after(Duration.ofMinutes(1)).call(Deadline::current));
+
+        assertSame(outer, effective);
+    }
+
+    @Test
+    void limit_WithoutDeadline_ShouldReturnTimeout() {
+        assertEquals(Duration.ofSeconds(60), Deadline.limit(Duration.ofSeconds(60), "sending"));
+    }
+
+    @Test
+    void limit_WithDeadline_ShouldReturnRemainingTime() {
+        Duration limited = Deadline.after(Duration.ofSeconds(2))
+            .call(() -> Deadline.limit(Duration.ofSeconds(60), "sending"));
+
+        assertTrue(limited.compareTo(Duration.ofSeconds(2)) <= 0);
+        assertTrue(limited.compareTo(Duration.ofSeconds(1)) > 0);
+    }
+
+    @Test
+    void limit_WithExpiredDeadline_ShouldThrowException() {
+        Deadline deadline = Deadline.after(Duration.ZERO);
+
+        assertTrue(deadline.isExpired());
+        assertThrows(DarajaDeadlineExceededException.class,
+            () -> deadline.run(() -> Deadline.limit(Duration.ofSeconds(60), "sending")));
+    }
+
+    @Test
+    void after_WithInvalidTimeout_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> Deadline.after(null));
+        assertThrows(IllegalArgumentException.class, () -> Deadline.after(Duration.ofSeconds(-1)));
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.wmnjuguna.timeout;
+
+import io.github.wmnjuguna.DarajaOperation;
+import io.github.wmnjuguna.exception.DarajaDeadlineExceededException;
+import feign.Client;
+import feign.Request;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class TimeoutClientTest {
+
+    private static final Request.Options FEIGN_DEFAULTS = new Request.Options();
+
+    private final TimeoutConfig config = TimeoutConfig.builder()
+        .connectTimeout(Duration.ofSeconds(2))
+        .readTimeout(Duration.ofSeconds(30))
+        .readTimeout(DarajaOperation.TRANSACTION_STATUS, Duration.ofSeconds(5))
+        .build();
+
+    @Test
+    void execute_ShouldApplyOperationReadTimeout() throws IOException {
+        Client delegate = mock(Client.class);
+
+        new TimeoutClient(delegate, config).execute(request(DarajaOperation.TRANSACTION_STATUS.getPath()), FEIGN_DEFAULTS);
+
+        Request.Options options = capturedOptions(delegate);
+        assertEquals(2000, options.connectTimeoutMillis());
+        assertEquals(5000, options.readTimeoutMillis());
+    }
+
+    @Test
+    void execute_WithoutOperationTimeout_ShouldApplyDefaultReadTimeout() throws IOException {
+        Client delegate = mock(Client.class);
+
+        new TimeoutClient(delegate, config).execute(request("/oauth/v1/generate?grant_type=client_credentials"), FEIGN_DEFAULTS);
+
+        assertEquals(30000, capturedOptions(delegate).readTimeoutMillis());
+    }
+
+    @Test
+    void execute_WithinDeadline_ShouldLimitReadTimeoutToRemainingTime() throws IOException {
+        Client delegate = mock(Client.class);
+        TimeoutClient client = new TimeoutClient(delegate, config);
+
+        Deadline.after(Duration.ofSeconds(1)).run(() -> {
+            try {
+                client.execute(request(DarajaOperation.TRANSACTION_STATUS.getPath()), FEIGN_DEFAULTS);
+            } catch (IOException e) {
+                fail(e);
+            }
+        });
+
+        assertTrue(capturedOptions(delegate).readTimeout(TimeUnit.MILLISECONDS) <= 1000);
+    }
+
+    @Test
+    void execute_WithDeadlineShorterThanConnectTimeout_ShouldLimitConnectTimeout() throws IOException {
+        Client delegate = mock(Client.class);
+        TimeoutClient client = new TimeoutClient(delegate, config);
+
+        Deadline.after(Duration.ofSeconds(1)).run(() -> {
+            try {
+                client.execute(request(DarajaOperation.STK_PUSH.getPath()), FEIGN_DEFAULTS);
+            } catch (IOException e) {
+                fail(e);
+            }
+        });
+
+        long connectTimeout = capturedOptions(delegate).connectTimeout(TimeUnit.MILLISECONDS);
+        assertTrue(connectTimeout > 0 && connectTimeout <= 1000);
+    }
+
+    @Test
+    void execute_WithFixedConnectTimeout_ShouldKeepConfiguredConnectTimeout() throws IOException {
+        Client delegate = mock(Client.class);
+        TimeoutClient client = new TimeoutClient(delegate, config, true);
+
+        Deadline.after(Duration.ofSeconds(1)).run(() -> {
+            try {
+                client.execute(request(DarajaOperation.STK_PUSH.getPath()), FEIGN_DEFAULTS);
+            } catch (IOException e) {
+                fail(e);
+            }
+        });
+
+        Request.Options options = capturedOptions(delegate);
+        assertEquals(2000, options.connectTimeoutMillis());
+        assertTrue(options.readTimeout(TimeUnit.MILLISECONDS) <= 1000);
+    }
+
+    @Test
+    void execute_WithExpiredDeadline_ShouldNotSendRequest() throws IOException {
+        Client delegate = mock(Client.class);
+        TimeoutClient client = new TimeoutClient(delegate, config);
+
+        assertThrows(DarajaDeadlineExceededException.class, () -> Deadline.after(Duration.ZERO).run(() -> {
+            try {
+                client.execute(request(DarajaOperation.STK_PUSH.getPath()), FEIGN_DEFAULTS);
+            } catch (IOException e) {
+                fail(e);
+            }
+        }));
+        verify(delegate, never()).execute(any(), any());
+    }
+
+    private static Request.Options capturedOptions(Client delegate) throws IOException {
+        ArgumentCaptor<Request.Options> options = ArgumentCaptor.forClass(Request.Options.class);
+        verify(delegate).execute(any(), options.capture());
+        return options.getValue();
+    }
+
+    private static Request request(String path) {
+        return Request.create(Request.HttpMethod.POST, "http://example.com" + path,
+            Collections.emptyMap(), null, StandardCharsets.UTF_8, null);
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.wmnjuguna.timeout;
+
+import io.github.wmnjuguna.DarajaOperation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeoutConfigTest {
+
+    @Test
+    void defaults_ShouldMatchFeignDefaults() {
+        TimeoutConfig config = TimeoutConfig.defaults();
+
+        assertEquals(Duration.ofSeconds(10), config.getConnectTimeout());
+        assertEquals(Duration.ofSeconds(60), config.getReadTimeout());
+        assertEquals(Duration.ofSeconds(60), config.getReadTimeout(DarajaOperation.B2C_PAYMENT));
+    }
+
+    @Test
+    void getReadTimeout_ShouldPreferOperationTimeout() {
+        TimeoutConfig config = TimeoutConfig.builder()
+            .readTimeout(Duration.ofSeconds(15))
+            .readTimeout(DarajaOperation.TRANSACTION_STATUS, Duration.ofSeconds(3))
+            .build();
+
+        assertEquals(Duration.ofSeconds(3), config.getReadTimeout(DarajaOperation.TRANSACTION_STATUS));
+        assertEquals(Duration.ofSeconds(15), config.getReadTimeout(DarajaOperation.STK_PUSH));
+        assertEquals(Duration.ofSeconds(15), config.getReadTimeout(null));
+    }
+
+    @Test
+    void builder_WithInvalidValues_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> TimeoutConfig.builder().connectTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> TimeoutConfig.builder().readTimeout(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> TimeoutConfig.builder().readTimeout(null, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class,
+            () -> TimeoutConfig.builder().readTimeout(DarajaOperation.STK_PUSH, Duration.ofSeconds(-1)));
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.wmnjuguna.tracing;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemorySpanContextStoreTest {
+
+    private static final SpanContext SPAN_CONTEXT = SpanContext.create(
+            "0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331", TraceFlags.getSampled(), TraceState.getDefault());
+
+    @Test
+    void find_AfterSave_ShouldReturnSpanContextUntilExpiry() {
+        InMemorySpanContextStore store = new InMemorySpanContextStore();
+
+        store.save("ws_CO_1", SPAN_CONTEXT);
+
+        assertEquals(SPAN_CONTEXT, store.find("ws_CO_1"));
+        assertEquals(SPAN_CONTEXT, store.find("ws_CO_1"));
+        assertNull(store.find("ws_CO_2"));
+        assertNull(store.find(null));
+    }
+
+    @Test
+    void find_AfterTimeToLive_ShouldReturnNullAndEvict() throws InterruptedException {
+        InMemorySpanContextStore store = new InMemorySpanContextStore(10, Duration.ofMillis(1));
+
+        store.save("ws_CO_1", SPAN_CONTEXT);
+        Thread.sleep(5);
+
+        assertNull(store.find("ws_CO_1"));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void save_WhenFull_ShouldEvictOldestEntry() {
+        InMemorySpanContextStore store = new InMemorySpanContextStore(2, Duration.ofMinutes(1));
+
+        store.save("ws_CO_1", SPAN_CONTEXT);
+        store.save("ws_CO_2", SPAN_CONTEXT);
+        store.save("ws_CO_3", SPAN_CONTEXT);
+
+        assertNull(store.find("ws_CO_1"));
+        assertNotNull(store.find("ws_CO_2"));
+        assertNotNull(store.find("ws_CO_3"));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void constructor_WithInvalidArguments_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new InMemorySpanContextStore(0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new InMemorySpanContextStore(10, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new InMemorySpanContextStore(10, null));
+    }
+}
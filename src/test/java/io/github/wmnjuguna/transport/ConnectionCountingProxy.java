@@ -0,0 +1,91 @@
+package io.github.wmnjuguna.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal TCP forwarder that counts accepted connections.
+ * Every accepted connection corresponds to one TCP (and, over HTTPS, one TLS) handshake
+ * against the upstream server, which makes it a cheap handshake counter for benchmarks.
+ */
+final class ConnectionCountingProxy implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final int upstreamPort;
+    private final AtomicInteger acceptedConnections = new AtomicInteger();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    ConnectionCountingProxy(int upstreamPort) throws IOException {
+        this.upstreamPort = upstreamPort;
+        this.serverSocket = new ServerSocket(0, 1024, InetAddress.getLoopbackAddress());
+        executor.submit(this::acceptLoop);
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + port();
+    }
+
+    int acceptedConnections() {
+        return acceptedConnections.get();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket downstream = serverSocket.accept();
+                acceptedConnections.incrementAndGet();
+                Socket upstream = new Socket(InetAddress.getLoopbackAddress(), upstreamPort);
+                executor.submit(() -> pump(downstream, upstream));
+                executor.submit(() -> pump(upstream, downstream));
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void pump(Socket from, Socket to) {
+        try (InputStream in = from.getInputStream(); OutputStream out = to.getOutputStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        } catch (SocketException e) {
+            // Peer closed the connection
+        } catch (IOException e) {
+            // Ignore - the connection is being torn down
+        } finally {
+            closeQuietly(from);
+            closeQuietly(to);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Ignore
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.wmnjuguna.transport;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolConfigTest {
+
+    @Test
+    void defaults_ShouldProvideSensiblePoolSettings() {
+        ConnectionPoolConfig config = ConnectionPoolConfig.defaults();
+
+        assertEquals(50, config.getMaxConnectionsPerRoute());
+        assertEquals(200, config.getMaxConnectionsTotal());
+        assertEquals(Duration.ofSeconds(30), config.getIdleEvictionTimeout());
+        assertEquals(Duration.ofMinutes(5), config.getConnectionTimeToLive());
+    }
+
+    @Test
+    void builder_WithCustomValues_ShouldApplyThem() {
+        ConnectionPoolConfig config = ConnectionPoolConfig.builder()
+            .maxConnectionsPerRoute(20)
+            .maxConnectionsTotal(40)
+            .idleEvictionTimeout(Duration.ofSeconds(10))
+            .connectionTimeToLive(Duration.ofMinutes(1))
+            .validateAfterInactivity(Duration.ofMillis(500))
+            .build();
+
+        assertEquals(20, config.getMaxConnectionsPerRoute());
+        assertEquals(40, config.getMaxConnectionsTotal());
+        assertEquals(Duration.ofSeconds(10), config.getIdleEvictionTimeout());
+        assertEquals(Duration.ofMinutes(1), config.getConnectionTimeToLive());
+        assertEquals(Duration.ofMillis(500), config.getValidateAfterInactivity());
+    }
+
+    @Test
+    void builder_WithNonPositiveConnections_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> ConnectionPoolConfig.builder().maxConnectionsPerRoute(0));
+        assertThrows(IllegalArgumentException.class,
+            () -> ConnectionPoolConfig.builder().maxConnectionsTotal(-1));
+    }
+
+    @Test
+    void builder_WithInvalidDurations_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+            () -> ConnectionPoolConfig.builder().idleEvictionTimeout(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> ConnectionPoolConfig.builder().connectionTimeToLive(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+            () -> ConnectionPoolConfig.builder().validateAfterInactivity(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void build_WithPerRouteLimitAboveTotal_ShouldThrowException() {
+        IllegalStateException exception = assertThrows(
+            IllegalStateException.class,
+            () -> ConnectionPoolConfig.builder()
+                .maxConnectionsPerRoute(100)
+                .maxConnectionsTotal(10)
+                .build()
+        );
+
+        assertEquals("Max connections per route cannot exceed max connections total", exception.getMessage());
+    }
+}
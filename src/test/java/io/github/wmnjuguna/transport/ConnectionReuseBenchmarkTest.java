@@ -0,0 +1,130 @@
+package io.github.wmnjuguna.transport;
+
+import io.github.wmnjuguna.DarajaApiClient;
+import io.github.wmnjuguna.DarajaClientFactory;
+import io.github.wmnjuguna.stkpush.StkPushRequest;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark comparing how many connections (and therefore TLS handshakes against a real
+ * Daraja host) are opened for 10k STK Push requests with Feign's default transport and
+ * with the pooled transport.
+ *
+ * Run with: ./gradlew performanceTest --tests '*ConnectionReuseBenchmarkTest'
+ */
+@Tag("performance")
+class ConnectionReuseBenchmarkTest {
+
+    private static final int REQUESTS = 10_000;
+    private static final int CONCURRENCY = 40;
+
+    private WireMockServer wireMockServer;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.options()
+            .dynamicPort()
+            .containerThreads(CONCURRENCY * 2));
+        wireMockServer.start();
+
+        wireMockServer.stubFor(get(urlEqualTo("/oauth/v1/generate?grant_type=client_credentials"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"access_token\":\"test_token\",\"expires_in\":\"3600\"}")));
+
+        wireMockServer.stubFor(post(urlEqualTo("/mpesa/stkpush/v1/processrequest"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"MerchantRequestID\":\"m\",\"CheckoutRequestID\":\"c\",\"ResponseCode\":\"0\",\"ResponseDescription\":\"Success\",\"CustomerMessage\":\"Success\"}")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (wireMockServer != null && wireMockServer.isRunning()) {
+            wireMockServer.stop();
+        }
+    }
+
+    @Test
+    void handshakesPer10kRequests_DefaultVersusPooledTransport() throws Exception {
+        int defaultConnections;
+        try (ConnectionCountingProxy proxy = new ConnectionCountingProxy(wireMockServer.port());
+             DarajaClientFactory factory = new DarajaClientFactory(proxy.baseUrl(), "key", "secret")) {
+            long elapsed = drive(factory.createApiClient());
+            defaultConnections = proxy.acceptedConnections();
+            report("default (HttpURLConnection)", defaultConnections, elapsed);
+        }
+
+        ConnectionPoolConfig poolConfig = ConnectionPoolConfig.builder()
+            .maxConnectionsPerRoute(CONCURRENCY)
+            .maxConnectionsTotal(CONCURRENCY)
+            .build();
+
+        int pooledConnections;
+        try (ConnectionCountingProxy proxy = new ConnectionCountingProxy(wireMockServer.port());
+             DarajaClientFactory factory = new DarajaClientFactory(proxy.baseUrl(), "key", "secret")
+                 .connectionPool(poolConfig)) {
+            long elapsed = drive(factory.createApiClient());
+            pooledConnections = proxy.acceptedConnections();
+            report("pooled (Apache HttpClient 5)", pooledConnections, elapsed);
+        }
+
+        // The pool never opens more connections than its per-route limit
+        assertTrue(pooledConnections <= CONCURRENCY,
+            "Expected at most " + CONCURRENCY + " connections but saw " + pooledConnections);
+        assertTrue(pooledConnections <= defaultConnections);
+    }
+
+    private static long drive(DarajaApiClient client) throws Exception {
+        StkPushRequest request = StkPushRequest.builder()
+            .businessShortCode("174379")
+            .password("test_password")
+            .timestamp("20250915100000")
+            .amount(1)
+            .phoneNumber("254708374149")
+            .callBackURL("https://example.com/callback")
+            .accountReference("account")
+            .transactionDesc("description")
+            .build();
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<?>> futures = new ArrayList<>(CONCURRENCY);
+            int perWorker = REQUESTS / CONCURRENCY;
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < perWorker; j++) {
+                        assertEquals("0", client.initiateStkPush(request).responseCode());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void report(String transport, int connections, long elapsedNanos) {
+        System.out.printf("%-30s %6d handshakes per %d requests (%d ms)%n",
+            transport, connections, REQUESTS, elapsedNanos / 1_000_000);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.wmnjuguna.webhook;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallbackDeduplicationCacheTest {
+
+    @Test
+    void markIfAbsent_WithRepeatedKey_ShouldReportDuplicate() {
+        CallbackDeduplicationCache cache = new CallbackDeduplicationCache();
+
+        assertTrue(cache.markIfAbsent("ws_CO_1|0"));
+        assertFalse(cache.markIfAbsent("ws_CO_1|0"));
+        assertTrue(cache.markIfAbsent("ws_CO_1|1032"));
+
+        DeduplicationStats stats = cache.getStats();
+        assertEquals(1, stats.duplicates());
+        assertEquals(2, stats.unique());
+        assertEquals(2, stats.size());
+        assertEquals(1.0 / 3, stats.duplicateRatio(), 0.0001);
+    }
+
+    @Test
+    void markIfAbsent_AfterTimeToLive_ShouldTreatKeyAsNew() throws InterruptedException {
+        CallbackDeduplicationCache cache = new CallbackDeduplicationCache(10, Duration.ofMillis(1));
+
+        cache.markIfAbsent("ws_CO_1|0");
+        Thread.sleep(5);
+
+        assertTrue(cache.markIfAbsent("ws_CO_1|0"));
+        assertEquals(1, cache.getStats().size());
+    }
+
+    @Test
+    void markIfAbsent_WhenFull_ShouldEvictOldestKeys() {
+        CallbackDeduplicationCache cache = new CallbackDeduplicationCache(2, Duration.ofMinutes(1));
+
+        cache.markIfAbsent("ws_CO_1|0");
+        cache.markIfAbsent("ws_CO_2|0");
+        cache.markIfAbsent("ws_CO_3|0");
+
+        assertEquals(2, cache.getStats().size());
+        assertEquals(1, cache.getStats().evictions());
+        assertTrue(cache.markIfAbsent("ws_CO_1|0"));
+        assertFalse(cache.markIfAbsent("ws_CO_3|0"));
+    }
+
+    @Test
+    void forget_ShouldAllowKeyAgain() {
+        CallbackDeduplicationCache cache = new CallbackDeduplicationCache();
+        cache.markIfAbsent("ws_CO_1|0");
+
+        cache.forget("ws_CO_1|0");
+
+        assertTrue(cache.markIfAbsent("ws_CO_1|0"));
+    }
+
+    @Test
+    void forget_WithRepeatedRedeliveries_ShouldKeepQueueBounded() {
+        CallbackDeduplicationCache cache = new CallbackDeduplicationCache(10, Duration.ofHours(24));
+
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(cache.markIfAbsent("ws_CO_" + (i % 3)));
+            cache.forget("ws_CO_" + (i % 3));
+        }
+
+        assertTrue(cache.queuedEntries() <= 20, "queued entries: " + cache.queuedEntries());
+        assertEquals(0, cache.getStats().size());
+    }
+
+    @Test
+    void markIfAbsent_WithConcurrentRedeliveries_ShouldAcceptEachKeyOnce() throws Exception {
+        CallbackDeduplicationCache cache = new CallbackDeduplicationCache();
+        AtomicInteger accepted = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        if (cache.markIfAbsent("ws_CO_" + i + "|0")) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(1000, accepted.get());
+        assertEquals(7000, cache.getStats().duplicates());
+    }
+
+    @Test
+    void constructor_WithInvalidArguments_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new CallbackDeduplicationCache(0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CallbackDeduplicationCache(10, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new CallbackDeduplicationCache(10, null));
+    }
+}
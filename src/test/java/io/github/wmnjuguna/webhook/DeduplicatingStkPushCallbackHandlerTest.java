@@ -0,0 +1,78 @@
+package io.github.wmnjuguna.webhook;
+
+import io.github.wmnjuguna.stkpush.StkPushCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeduplicatingStkPushCallbackHandlerTest {
+
+    private final List<String> handled = new ArrayList<>();
+
+    @Test
+    void handle_WithRedeliveredCallback_ShouldProcessItOnce() {
+        DeduplicatingStkPushCallbackHandler handler = new DeduplicatingStkPushCallbackHandler(new RecordingHandler(false));
+
+        handler.handle(callback("ws_CO_1", 0));
+        handler.handle(callback("ws_CO_1", 0));
+        handler.handle(callback("ws_CO_2", 1032));
+
+        assertEquals(List.of("success:ws_CO_1", "failure:ws_CO_2"), handled);
+        assertEquals(1, handler.getStats().duplicates());
+        assertEquals(2, handler.getStats().unique());
+    }
+
+    @Test
+    void handle_WhenDelegateThrows_ShouldProcessRedelivery() {
+        RecordingHandler delegate = new RecordingHandler(true);
+        DeduplicatingStkPushCallbackHandler handler = new DeduplicatingStkPushCallbackHandler(delegate);
+
+        assertThrows(IllegalStateException.class, () -> handler.handle(callback("ws_CO_1", 0)));
+        delegate.failing = false;
+        handler.handle(callback("ws_CO_1", 0));
+
+        assertEquals(List.of("success:ws_CO_1", "success:ws_CO_1"), handled);
+        assertEquals(0, handler.getStats().duplicates());
+    }
+
+    @Test
+    void handle_WithoutCheckoutRequestId_ShouldPassThrough() {
+        DeduplicatingStkPushCallbackHandler handler = new DeduplicatingStkPushCallbackHandler(new RecordingHandler(false));
+
+        handler.handle(callback(null, 0));
+        handler.handle(callback(null, 0));
+
+        assertEquals(2, handled.size());
+        assertEquals(0, handler.getStats().unique());
+    }
+
+    private static StkPushCallback callback(String checkoutRequestId, int resultCode) {
+        return new StkPushCallback(new StkPushCallback.CallbackBody(
+                new StkPushCallback.StkCallback("m", checkoutRequestId, resultCode, "description", null)
+        ));
+    }
+
+    private class RecordingHandler implements StkPushCallbackHandler {
+        private boolean failing;
+
+        RecordingHandler(boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public void onPaymentSuccess(StkPushCallback callback) {
+            handled.add("success:" + callback.getCheckoutRequestID());
+            if (failing) {
+                throw new IllegalStateException("Database unavailable");
+            }
+        }
+
+        @Override
+        public void onPaymentFailure(StkPushCallback callback) {
+            handled.add("failure:" + callback.getCheckoutRequestID());
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package io.github.wmnjuguna.webhook;
+
+import io.github.wmnjuguna.stkpush.StkPushCallback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StkPushCallbackDispatcherTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> handled = new CopyOnWriteArrayList<>();
+    private final List<String> handlerThreads = new CopyOnWriteArrayList<>();
+    private final List<String> overflowed = new CopyOnWriteArrayList<>();
+    private StkPushCallbackDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    @Test
+    void submit_WithRawBody_ShouldParseAndProcessOnWorker() throws InterruptedException {
+        release.countDown();
+        dispatcher = StkPushCallbackDispatcher.builder(new BlockingHandler()).workers(1).build();
+
+        assertTrue(dispatcher.submit(("{\"Body\":{\"stkCallback\":{\"MerchantRequestID\":\"m\",\"CheckoutRequestID\":\"ws_CO_1\","
+                + "\"ResultCode\":0,\"ResultDesc\":\"Success\"}}}").getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        awaitProcessed(1);
+        assertEquals(List.of("success:ws_CO_1"), handled);
+        assertTrue(handlerThreads.get(0).startsWith("daraja-callback-"));
+    }
+
+    @Test
+    void submit_WhenQueueFullWithReject_ShouldRejectAndPassToOverflowHandler() throws InterruptedException {
+        dispatcher = saturatedDispatcher(CallbackOverflowPolicy.REJECT);
+
+        assertFalse(dispatcher.submit(callback("ws_CO_3", 0)));
+
+        assertEquals(List.of("ws_CO_3"), overflowed);
+        assertEquals(1, dispatcher.getStats().rejected());
+        release.countDown();
+        awaitProcessed(2);
+        assertEquals(List.of("success:ws_CO_1", "success:ws_CO_2"), handled);
+    }
+
+    @Test
+    void submit_WhenQueueFullWithDropOldest_ShouldDropOldestQueuedCallback() throws InterruptedException {
+        dispatcher = saturatedDispatcher(CallbackOverflowPolicy.DROP_OLDEST);
+
+        assertTrue(dispatcher.submit(callback("ws_CO_3", 1032)));
+
+        assertEquals(List.of("ws_CO_2"), overflowed);
+        assertEquals(1, dispatcher.getStats().dropped());
+        release.countDown();
+        awaitProcessed(2);
+        assertEquals(List.of("success:ws_CO_1", "failure:ws_CO_3"), handled);
+    }
+
+    @Test
+    void submit_WhenQueueFullWithBlock_ShouldRejectAfterTimeout() throws InterruptedException {
+        dispatcher = StkPushCallbackDispatcher.builder(new BlockingHandler())
+                .workers(1)
+                .queueCapacity(1)
+                .overflowPolicy(CallbackOverflowPolicy.BLOCK)
+                .blockTimeout(Duration.ofMillis(50))
+                .overflowHandler(callback -> overflowed.add(callback.getCheckoutRequestID()))
+                .build();
+        dispatcher.submit(callback("ws_CO_1", 0));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        dispatcher.submit(callback("ws_CO_2", 0));
+
+        long start = System.nanoTime();
+        assertFalse(dispatcher.submit(callback("ws_CO_3", 0)));
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(List.of("ws_CO_3"), overflowed);
+    }
+
+    @Test
+    void submit_WhenQueueFullWithCallerRuns_ShouldProcessOnCallingThread() throws InterruptedException {
+        dispatcher = saturatedDispatcher(CallbackOverflowPolicy.CALLER_RUNS);
+        release.countDown();
+
+        assertTrue(dispatcher.submit(callback("ws_CO_3", 0)));
+
+        assertTrue(handlerThreads.contains(Thread.currentThread().getName()));
+        awaitProcessed(3);
+    }
+
+    @Test
+    void submit_WhenHandlerThrows_ShouldCountFailureAndKeepProcessing() throws InterruptedException {
+        dispatcher = StkPushCallbackDispatcher.builder(new StkPushCallbackHandler() {
+            @Override
+            public void onPaymentSuccess(StkPushCallback callback) {
+                throw new IllegalStateException("Database unavailable");
+            }
+
+            @Override
+            public void onPaymentFailure(StkPushCallback callback) {
+                handled.add(callback.getCheckoutRequestID());
+            }
+        }).workers(1).virtualThreads().build();
+
+        dispatcher.submit(callback("ws_CO_1", 0));
+        dispatcher.submit(callback("ws_CO_2", 1032));
+
+        for (int i = 0; i < 500 && dispatcher.getStats().processed() < 1; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, dispatcher.getStats().failed());
+        assertEquals(List.of("ws_CO_2"), handled);
+    }
+
+    @Test
+    void submit_WhenHandlerThrowsError_ShouldKeepWorkerAlive() throws InterruptedException {
+        dispatcher = StkPushCallbackDispatcher.builder(new StkPushCallbackHandler() {
+            @Override
+            public void onPaymentSuccess(StkPushCallback callback) {
+                throw new NoClassDefFoundError("com/example/PaymentRepository");
+            }
+
+            @Override
+            public void onPaymentFailure(StkPushCallback callback) {
+                handled.add(callback.getCheckoutRequestID());
+            }
+        }).workers(1).build();
+
+        dispatcher.submit(callback("ws_CO_1", 0));
+        dispatcher.submit(callback("ws_CO_2", 1032));
+
+        awaitProcessed(1);
+        assertEquals(1, dispatcher.getStats().failed());
+        assertEquals(List.of("ws_CO_2"), handled);
+    }
+
+    @Test
+    void close_WhileSubmitting_ShouldProcessOrOverflowEveryAcceptedCallback() throws InterruptedException {
+        release.countDown();
+        dispatcher = StkPushCallbackDispatcher.builder(new BlockingHandler())
+                .workers(2)
+                .overflowHandler(callback -> overflowed.add(callback.getCheckoutRequestID()))
+                .build();
+        AtomicInteger acceptedCount = new AtomicInteger();
+        List<Thread> submitters = new CopyOnWriteArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int submitter = t;
+            submitters.add(Thread.ofPlatform().start(() -> {
+                try {
+                    for (int i = 0; ; i++) {
+                        if (dispatcher.submit(callback("ws_CO_" + submitter + "_" + i, 0))) {
+                            acceptedCount.incrementAndGet();
+                        }
+                    }
+                } catch (IllegalStateException closed) {
+                    // Dispatcher closed
+                }
+            }));
+        }
+        Thread.sleep(50);
+
+        dispatcher.close();
+        for (Thread submitter : submitters) {
+            submitter.join(5_000);
+        }
+
+        CallbackDispatcherStats stats = dispatcher.getStats();
+        assertEquals(acceptedCount.get(), stats.accepted());
+        assertEquals(stats.accepted(), stats.processed() + stats.failed() + overflowed.size());
+        assertEquals(overflowed.size(), stats.dropped());
+    }
+
+    @Test
+    void close_ShouldProcessQueuedCallbacksAndRejectNewOnes() {
+        release.countDown();
+        dispatcher = StkPushCallbackDispatcher.builder(new BlockingHandler()).workers(2).build();
+        for (int i = 0; i < 100; i++) {
+            dispatcher.submit(callback("ws_CO_" + i, 0));
+        }
+
+        dispatcher.close();
+
+        assertEquals(100, dispatcher.getStats().processed());
+        assertThrows(IllegalStateException.class, () -> dispatcher.submit(callback("ws_CO_100", 0)));
+    }
+
+    @Test
+    void builder_WithInvalidArguments_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> StkPushCallbackDispatcher.builder(null));
+        StkPushCallbackDispatcher.Builder builder = StkPushCallbackDispatcher.builder(new BlockingHandler());
+        assertThrows(IllegalArgumentException.class, () -> builder.queueCapacity(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.workers(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.overflowPolicy(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.blockTimeout(Duration.ofMillis(-1)));
+    }
+
+    /**
+     * Creates a dispatcher with one worker busy on ws_CO_1 and ws_CO_2 filling its queue.
+     */
+    private StkPushCallbackDispatcher saturatedDispatcher(CallbackOverflowPolicy policy) throws InterruptedException {
+        StkPushCallbackDispatcher saturated = StkPushCallbackDispatcher.builder(new BlockingHandler())
+                .workers(1)
+                .queueCapacity(1)
+                .overflowPolicy(policy)
+                .overflowHandler(callback -> overflowed.add(callback.getCheckoutRequestID()))
+                .build();
+        assertTrue(saturated.submit(callback("ws_CO_1", 0)));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertTrue(saturated.submit(callback("ws_CO_2", 0)));
+        return saturated;
+    }
+
+    private void awaitProcessed(long count) throws InterruptedException {
+        for (int i = 0; i < 500 && dispatcher.getStats().processed() < count; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, dispatcher.getStats().processed());
+    }
+
+    private static StkPushCallback callback(String checkoutRequestId, int resultCode) {
+        return new StkPushCallback(new StkPushCallback.CallbackBody(
+                new StkPushCallback.StkCallback("m", checkoutRequestId, resultCode, "description", null)
+        ));
+    }
+
+    private class BlockingHandler implements StkPushCallbackHandler {
+        @Override
+        public void onCallbackReceived(StkPushCallback callback) {
+            handlerThreads.add(Thread.currentThread().getName());
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void onPaymentSuccess(StkPushCallback callback) {
+            handled.add("success:" + callback.getCheckoutRequestID());
+        }
+
+        @Override
+        public void onPaymentFailure(StkPushCallback callback) {
+            handled.add("failure:" + callback.getCheckoutRequestID());
+        }
+    }
+}
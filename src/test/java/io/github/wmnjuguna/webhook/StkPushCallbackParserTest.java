@@ -0,0 +1,46 @@
+package io.github.wmnjuguna.webhook;
+
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.stkpush.StkPushCallback;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StkPushCallbackParserTest {
+
+    private static final String SUCCESSFUL_CALLBACK = """
+        {"Body":{"stkCallback":{"MerchantRequestID":"29115-34620561-1","CheckoutRequestID":"ws_CO_191220191020363925",
+        "ResultCode":0,"ResultDesc":"The service request is processed successfully.","CallbackMetadata":{"Item":[
+        {"Name":"Amount","Value":1.00},{"Name":"MpesaReceiptNumber","Value":"NLJ7RT61SV"},
+        {"Name":"TransactionDate","Value":20191219102115},{"Name":"PhoneNumber","Value":254708374149}]}}}}
+        """;
+
+    @Test
+    void parse_WithSuccessfulCallback_ShouldReturnCallback() {
+        StkPushCallback callback = StkPushCallbackParser.parse(SUCCESSFUL_CALLBACK.getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(callback.isSuccessful());
+        assertEquals("ws_CO_191220191020363925", callback.getCheckoutRequestID());
+        assertEquals("NLJ7RT61SV", callback.body().stkCallback().callbackMetadata().getReceiptNumber());
+    }
+
+    @Test
+    void parse_WithUnknownFields_ShouldIgnoreThem() {
+        String body = "{\"Body\":{\"stkCallback\":{\"MerchantRequestID\":\"m\",\"CheckoutRequestID\":\"c\","
+            + "\"ResultCode\":1032,\"ResultDesc\":\"Request cancelled by user\",\"NewField\":true}}}";
+
+        StkPushCallback callback = StkPushCallbackParser.parse(body.getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(callback.isSuccessful());
+        assertEquals("c", callback.getCheckoutRequestID());
+    }
+
+    @Test
+    void parse_WithInvalidBody_ShouldThrowDarajaException() {
+        assertThrows(DarajaException.class, () -> StkPushCallbackParser.parse("not json".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(DarajaException.class, () -> StkPushCallbackParser.parse("{}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IllegalArgumentException.class, () -> StkPushCallbackParser.parse(null));
+    }
+}
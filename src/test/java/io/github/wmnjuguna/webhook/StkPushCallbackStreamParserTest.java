@@ -0,0 +1,155 @@
+package io.github.wmnjuguna.webhook;
+
+import io.github.wmnjuguna.exception.DarajaException;
+import io.github.wmnjuguna.stkpush.StkPushCallback;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StkPushCallbackStreamParserTest {
+
+    private static final byte[] SUCCESSFUL_CALLBACK = """
+        {"Body":{"stkCallback":{"MerchantRequestID":"29115-34620561-1","CheckoutRequestID":"ws_CO_191220191020363925",
+        "ResultCode":0,"ResultDesc":"The service request is processed successfully.","CallbackMetadata":{"Item":[
+        {"Name":"Amount","Value":1.00},{"Name":"MpesaReceiptNumber","Value":"NLJ7RT61SV"},{"Name":"Balance"},
+        {"Name":"TransactionDate","Value":20191219102115},{"Name":"PhoneNumber","Value":254708374149}]}}}}
+        """.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] CANCELLED_CALLBACK = """
+        {"Body":{"stkCallback":{"MerchantRequestID":"m","CheckoutRequestID":"c",
+        "ResultCode":1032,"ResultDesc":"Request cancelled by user"}}}
+        """.getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void parse_WithSuccessfulCallback_ShouldFillFields() {
+        StkPushCallbackFields fields = StkPushCallbackStreamParser.parse(SUCCESSFUL_CALLBACK, new StkPushCallbackFields());
+
+        assertTrue(fields.isSuccessful());
+        assertTrue(fields.hasMetadata());
+        assertEquals("29115-34620561-1", fields.getMerchantRequestId());
+        assertEquals("ws_CO_191220191020363925", fields.getCheckoutRequestId());
+        assertEquals("The service request is processed successfully.", fields.getResultDesc());
+        assertEquals(100, fields.getAmountMinorUnits());
+        assertEquals("NLJ7RT61SV", fields.getReceiptNumber());
+        assertEquals(20191219102115L, fields.getTransactionDate());
+        assertEquals(254708374149L, fields.getPhoneNumber());
+    }
+
+    @Test
+    void parse_WithFailedCallback_ShouldHaveNoMetadata() {
+        StkPushCallbackFields fields = StkPushCallbackStreamParser.parse(CANCELLED_CALLBACK, new StkPushCallbackFields());
+
+        assertFalse(fields.isSuccessful());
+        assertFalse(fields.hasMetadata());
+        assertEquals(1032, fields.getResultCode());
+        assertEquals("c", fields.getCheckoutRequestId());
+        assertEquals(0, fields.getAmountMinorUnits());
+        assertNull(fields.getReceiptNumber());
+    }
+
+    @Test
+    void parse_WithReusedFields_ShouldResetPreviousCallback() {
+        StkPushCallbackFields fields = new StkPushCallbackFields();
+
+        StkPushCallbackStreamParser.parse(SUCCESSFUL_CALLBACK, fields);
+        StkPushCallbackStreamParser.parse(CANCELLED_CALLBACK, fields);
+
+        assertEquals("m", fields.getMerchantRequestId());
+        assertFalse(fields.hasMetadata());
+        assertEquals(0, fields.getPhoneNumber());
+        assertNull(fields.getReceiptNumber());
+    }
+
+    @Test
+    void parse_WithReorderedAndUnknownFields_ShouldReadKnownFields() {
+        String body = "{\"Extra\":[1,{\"a\":2}],\"Body\":{\"stkCallback\":{\"CallbackMetadata\":{\"Item\":["
+            + "{\"Value\":\"1500.50\",\"Name\":\"Amount\"},{\"Value\":{\"nested\":true},\"Name\":\"Other\"},"
+            + "{\"Name\":\"PhoneNumber\",\"Value\":\"254708374149\"},{\"Name\":\"TransactionDate\",\"Value\":\"bad\"}]},"
+            + "\"ResultCode\":\"0\",\"NewField\":{\"x\":[1,2]},\"CheckoutRequestID\":\"c\"}}}";
+
+        StkPushCallbackFields fields = StkPushCallbackStreamParser.parse(
+            body.getBytes(StandardCharsets.UTF_8), new StkPushCallbackFields());
+
+        assertTrue(fields.isSuccessful());
+        assertEquals("c", fields.getCheckoutRequestId());
+        assertEquals(150050, fields.getAmountMinorUnits());
+        assertEquals(254708374149L, fields.getPhoneNumber());
+        assertEquals(0, fields.getTransactionDate());
+    }
+
+    @Test
+    void parse_WithInvalidResultCode_ShouldThrowDarajaException() {
+        StkPushCallbackFields fields = new StkPushCallbackFields();
+
+        for (String resultCode : new String[] {"\"abc\"", "4294967296", "0.5", "null", "{\"code\":0}"}) {
+            byte[] body = ("{\"Body\":{\"stkCallback\":{\"CheckoutRequestID\":\"c\",\"ResultCode\":" + resultCode + "}}}")
+                .getBytes(StandardCharsets.UTF_8);
+
+            assertThrows(DarajaException.class, () -> StkPushCallbackStreamParser.parse(body, fields), resultCode);
+        }
+    }
+
+    @Test
+    void parse_WithoutResultCode_ShouldThrowDarajaException() {
+        byte[] body = "{\"Body\":{\"stkCallback\":{\"CheckoutRequestID\":\"c\",\"ResultDesc\":\"Success\"}}}"
+            .getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(DarajaException.class, () -> StkPushCallbackStreamParser.parse(body, new StkPushCallbackFields()));
+    }
+
+    @Test
+    void parse_WithNonObjectItems_ShouldSkipThemAndKeepReading() {
+        String body = "{\"Body\":{\"stkCallback\":{\"CallbackMetadata\":{\"Item\":["
+            + "null,{\"Name\":\"Amount\",\"Value\":10},[1,{\"Name\":\"Amount\",\"Value\":99}],\"x\","
+            + "{\"Name\":\"MpesaReceiptNumber\",\"Value\":\"NLJ7RT61SV\"}]},"
+            + "\"ResultCode\":1032,\"CheckoutRequestID\":\"c\"}}}";
+
+        StkPushCallbackFields fields = StkPushCallbackStreamParser.parse(
+            body.getBytes(StandardCharsets.UTF_8), new StkPushCallbackFields());
+
+        assertFalse(fields.isSuccessful());
+        assertEquals(1032, fields.getResultCode());
+        assertEquals("c", fields.getCheckoutRequestId());
+        assertEquals(1000, fields.getAmountMinorUnits());
+        assertEquals("NLJ7RT61SV", fields.getReceiptNumber());
+    }
+
+    @Test
+    void parse_WithInputStream_ShouldFillFields() {
+        StkPushCallbackFields fields = StkPushCallbackStreamParser.parse(
+            new ByteArrayInputStream(SUCCESSFUL_CALLBACK), new StkPushCallbackFields());
+
+        assertEquals("NLJ7RT61SV", fields.getReceiptNumber());
+    }
+
+    @Test
+    void parse_ShouldMatchRecordParser() {
+        StkPushCallback expected = StkPushCallbackParser.parse(SUCCESSFUL_CALLBACK);
+
+        StkPushCallback actual = StkPushCallbackStreamParser.parse(SUCCESSFUL_CALLBACK, new StkPushCallbackFields()).toCallback();
+
+        StkPushCallback.CallbackMetadata expectedMetadata = expected.body().stkCallback().callbackMetadata();
+        StkPushCallback.CallbackMetadata actualMetadata = actual.body().stkCallback().callbackMetadata();
+        assertEquals(expected.getCheckoutRequestID(), actual.getCheckoutRequestID());
+        assertEquals(expected.body().stkCallback().resultCode(), actual.body().stkCallback().resultCode());
+        assertEquals(expectedMetadata.getAmountMinorUnits(), actualMetadata.getAmountMinorUnits());
+        assertEquals(expectedMetadata.getReceiptNumber(), actualMetadata.getReceiptNumber());
+        assertEquals(expectedMetadata.getTransactionDate(), actualMetadata.getTransactionDate());
+        assertEquals(expectedMetadata.getPhoneNumber(), actualMetadata.getPhoneNumber());
+    }
+
+    @Test
+    void parse_WithInvalidBody_ShouldThrowDarajaException() {
+        StkPushCallbackFields fields = new StkPushCallbackFields();
+
+        assertThrows(DarajaException.class, () -> StkPushCallbackStreamParser.parse("not json".getBytes(StandardCharsets.UTF_8), fields));
+        assertThrows(DarajaException.class, () -> StkPushCallbackStreamParser.parse("{}".getBytes(StandardCharsets.UTF_8), fields));
+        assertThrows(DarajaException.class, () -> StkPushCallbackStreamParser.parse("[]".getBytes(StandardCharsets.UTF_8), fields));
+        assertThrows(DarajaException.class, () -> StkPushCallbackStreamParser.parse("{\"Body\":{\"stkCallback\":{".getBytes(StandardCharsets.UTF_8), fields));
+        assertThrows(IllegalArgumentException.class, () -> StkPushCallbackStreamParser.parse((byte[]) null, fields));
+        assertThrows(IllegalArgumentException.class, () -> StkPushCallbackStreamParser.parse(SUCCESSFUL_CALLBACK, null));
+    }
+}